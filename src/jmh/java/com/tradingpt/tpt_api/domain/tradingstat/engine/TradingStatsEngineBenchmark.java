@@ -0,0 +1,129 @@
+package com.tradingpt.tpt_api.domain.tradingstat.engine;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.EntryPoint;
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
+import com.tradingpt.tpt_api.domain.feedbackrequest.util.TradingCalculationUtil;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatAggregate;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatDelta;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatPeriodKey;
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+
+/**
+ * 지표별 집계 조회 조합(엔티티 목록을 지표마다 걸러 TradingStatDelta 로 합산) vs
+ * 슬라이스 1회 순회({@link TradingStatsEngine#computeWeekly}) 비교
+ *
+ * <p>DB 왕복은 제외하고, 조회 결과가 메모리에 올라온 뒤의 합산 비용만 잰다.
+ * 실제 주간 슬라이스는 고객 1명의 이번 주 DAY 행(최대 7일 x 완강 상태)과 이번 주/이전 주 WEEK 행이라 수십 행 이하이므로
+ * 8~64행에서 두 경로를 비교하고, 10,000행 이상은 순회 비용 차이를 보기 위한 상한 측정이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TradingStatsEngineBenchmark {
+
+	private static final int YEAR = 2025;
+	private static final int MONTH = 3;
+	private static final int WEEK = 2;
+	private static final int PREVIOUS_WEEK = 1;
+	private static final CourseStatus COURSE_STATUS = CourseStatus.AFTER_COMPLETION;
+
+	@Param({"8", "32", "64", "10000", "100000", "1000000"})
+	int rowCount;
+
+	private List<TradingStatAggregate> rows;
+	private TradingStatSlice slice;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(rowCount);
+		StatGranularity[] granularities = {StatGranularity.DAY, StatGranularity.WEEK};
+		CourseStatus[] courseStatuses = CourseStatus.values();
+		EntryPoint[] entryPoints = EntryPoint.values();
+
+		rows = new ArrayList<>(rowCount);
+		slice = new TradingStatSlice(rowCount);
+		for (int i = 0; i < rowCount; i++) {
+			StatGranularity granularity = granularities[random.nextInt(granularities.length)];
+			int week = random.nextBoolean() ? WEEK : PREVIOUS_WEEK;
+			LocalDate tradeDate = LocalDate.of(YEAR, MONTH, (week - 1) * 7 + 1 + random.nextInt(7));
+			TradingStatPeriodKey key = TradingStatPeriodKey.of(
+				granularity, InvestmentType.DAY, courseStatuses[random.nextInt(courseStatuses.length)],
+				tradeDate, YEAR, MONTH, week);
+			TradingStatDelta delta = TradingStatDelta.of(
+				random.nextBoolean() ? Status.N : Status.FN,
+				BigDecimal.valueOf(random.nextInt(200_000) - 100_000, 2),
+				BigDecimal.valueOf(random.nextInt(200_000) - 100_000, 2),
+				BigDecimal.valueOf(random.nextInt(10_000), 2),
+				random.nextDouble() * 5,
+				entryPoints[random.nextInt(entryPoints.length)],
+				random.nextBoolean()
+			);
+
+			rows.add(TradingStatAggregate.create(1L, key, delta));
+			slice.add(key, delta);
+		}
+	}
+
+	/**
+	 * 기존 경로: 일별 목록, 평균 R&R, 이번 주/이전 주 성과, 방향성 통계를 각각 따로 합산
+	 */
+	@Benchmark
+	public void perMetricFold(Blackhole blackhole) {
+		List<BigDecimal> daily = new ArrayList<>();
+		int tradeCount = 0;
+		int winCount = 0;
+		BigDecimal pnl = BigDecimal.ZERO;
+		for (TradingStatAggregate row : rows) {
+			TradingStatPeriodKey key = row.toPeriodKey();
+			if (key.granularity() == StatGranularity.DAY && key.week() == WEEK
+				&& key.courseStatus() == COURSE_STATUS) {
+				TradingStatDelta delta = row.toDelta();
+				daily.add(delta.pnlSum());
+				tradeCount += delta.tradeCount();
+				winCount += delta.winCount();
+				pnl = pnl.add(delta.pnlSum());
+			}
+		}
+		blackhole.consume(daily);
+		blackhole.consume(pnl);
+		blackhole.consume(TradingCalculationUtil.calculateWinRate(tradeCount, winCount));
+
+		blackhole.consume(fold(key -> key.granularity() == StatGranularity.WEEK && key.week() == WEEK
+			&& key.courseStatus() == COURSE_STATUS));
+		blackhole.consume(fold(key -> key.granularity() == StatGranularity.WEEK && key.week() == WEEK));
+		blackhole.consume(fold(key -> key.granularity() == StatGranularity.WEEK && key.week() == PREVIOUS_WEEK));
+		blackhole.consume(fold(key -> key.granularity() == StatGranularity.WEEK && key.week() == WEEK));
+	}
+
+	@Benchmark
+	public WeeklyTradingStats slicePass() {
+		return TradingStatsEngine.computeWeekly(slice, YEAR, MONTH, WEEK, COURSE_STATUS, YEAR, MONTH, PREVIOUS_WEEK);
+	}
+
+	private TradingStatDelta fold(Predicate<TradingStatPeriodKey> filter) {
+		return rows.stream()
+			.filter(row -> filter.test(row.toPeriodKey()))
+			.map(TradingStatAggregate::toDelta)
+			.reduce(TradingStatDelta.ZERO, TradingStatDelta::plus);
+	}
+}
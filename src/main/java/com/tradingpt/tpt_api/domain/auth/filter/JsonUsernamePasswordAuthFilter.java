@@ -79,6 +79,9 @@ public class JsonUsernamePasswordAuthFilter extends UsernamePasswordAuthenticati
         AuthSessionUser sessionUser;
         if (principal instanceof CustomUserDetails cud) {
             sessionUser = new AuthSessionUser(cud.getId(), cud.getUsername(), cud.getRole().name());
+            if (cud.getCustomerSnapshot() != null) {
+                sessionUser = sessionUser.withCustomer(cud.getCustomerSnapshot());
+            }
         } else {
             sessionUser = new AuthSessionUser(null, authResult.getName(), "ROLE_CUSTOMER");
         }
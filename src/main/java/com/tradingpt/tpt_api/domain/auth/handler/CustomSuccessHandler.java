@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 
 import com.tradingpt.tpt_api.domain.auth.security.AuthSessionUser;
 import com.tradingpt.tpt_api.domain.auth.security.CustomOAuth2User;
+import com.tradingpt.tpt_api.domain.user.cache.CustomerSnapshot;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.entity.User;
 import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
@@ -56,12 +57,17 @@ public class CustomSuccessHandler implements AuthenticationSuccessHandler {
 				return;
 			}
 
-			// 정상 로그인 처리
+			Optional<User> userOpt = userRepository.findById(oAuth2User.getUserId());
+
+			// 정상 로그인 처리 (고객이면 고객 스냅샷도 함께 담음)
 			AuthSessionUser sessionUser = new AuthSessionUser(
 					oAuth2User.getUserId(),
 					oAuth2User.getUsername(),
 					oAuth2User.getRole()
 			);
+			if (userOpt.isPresent() && userOpt.get() instanceof Customer c) {
+				sessionUser = sessionUser.withCustomer(CustomerSnapshot.from(c));
+			}
 
 			Authentication safeAuth = new UsernamePasswordAuthenticationToken(
 					sessionUser,
@@ -79,7 +85,6 @@ public class CustomSuccessHandler implements AuthenticationSuccessHandler {
 
 			// 추가 정보 필요 여부(전화번호 등) 체크 후 리다이렉트
 			boolean needExtra = true;
-			Optional<User> userOpt = userRepository.findById(oAuth2User.getUserId());
 			if (userOpt.isPresent() && userOpt.get() instanceof Customer c) {
 				String phone = c.getPhoneNumber();
 				needExtra = (phone == null || phone.trim().isEmpty());
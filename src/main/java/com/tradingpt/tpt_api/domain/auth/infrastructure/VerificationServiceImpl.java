@@ -4,20 +4,15 @@ import static com.tradingpt.tpt_api.domain.auth.util.AuthUtil.normalizeEmail;
 import static com.tradingpt.tpt_api.domain.auth.util.AuthUtil.normalizePhone;
 
 import com.tradingpt.tpt_api.domain.auth.exception.code.AuthErrorStatus;
-import com.tradingpt.tpt_api.domain.auth.infrastructure.sms.SensSmsClient;
 import com.tradingpt.tpt_api.domain.auth.util.AuthUtil;
 import com.tradingpt.tpt_api.global.exception.AuthException;
+import com.tradingpt.tpt_api.global.infrastructure.notification.service.NotificationOutboxService;
 import jakarta.servlet.http.HttpSession;
 import java.security.SecureRandom;
 import java.time.Duration;
-import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -31,17 +26,9 @@ public class VerificationServiceImpl implements VerificationService {
 
 	private static final SecureRandom RND = new SecureRandom();
 
-	private final JavaMailSender mailSender;
-	private final SensSmsClient solapi; // SMS 클라이언트
+	private final NotificationOutboxService notificationOutboxService; // SMS/이메일 발송 Outbox
 	private final StringRedisTemplate redisTemplate; // ✅ 인메모리 대신 Redis 사용
 
-	// 메일 전용 스레드풀
-	@Qualifier("mailExecutor")
-	private final Executor mailExecutor;
-
-	@Value("${app.mail.from}")
-	private String mailFrom;
-
 	// ===== Redis Key 헬퍼 =====
 	private String phoneCodeKey(String phone) {
 		return "verif:phone:code:" + phone;
@@ -84,15 +71,13 @@ public class VerificationServiceImpl implements VerificationService {
 				Duration.ofMillis(CODE_TTL_MS)
 		);
 
-		try {
-			solapi.send(phone, "[TradingPT] 인증번호는 " + code + " 입니다.");
-			log.info("SMS 전송 성공: {} (key={})", phone, key);
-		} catch (Exception ex) {
-			// 발송 실패 시 코드 제거 후 예외
-			redisTemplate.delete(key);
-			log.warn("SMS 전송 실패({}): {}", phone, ex.getMessage(), ex);
-			throw new AuthException(AuthErrorStatus.SMS_SEND_FAILED);
-		}
+		// 발송은 Outbox 디스패처가 비동기로 처리 (인증번호 유효 시간이 지나면 발송하지 않음)
+		notificationOutboxService.enqueueSms(
+				phone,
+				"[TradingPT] 인증번호는 " + code + " 입니다.",
+				Duration.ofMillis(CODE_TTL_MS)
+		);
+		log.info("SMS 발송 등록: {} (key={})", phone, key);
 	}
 
 	@Override
@@ -138,34 +123,14 @@ public class VerificationServiceImpl implements VerificationService {
 				Duration.ofMillis(CODE_TTL_MS)
 		);
 
-		// 2) 메일 전송 (비동기)
-		mailExecutor.execute(() -> {
-			try {
-				// MIME 메일 생성
-				var message = mailSender.createMimeMessage();
-				var helper = new MimeMessageHelper(message, false, "UTF-8");
-
-				/**
-				 * Envelope-From + Header-From 둘 다 Gmail Relay가 인정하는 형식으로 들어감
-				 * (SimpleMailMessage는 Envelope-From을 설정하지 못하기 때문에 550 에러 발생)
-				 */
-				helper.setFrom(mailFrom, "TradingPT"); // mailFrom = no-reply@YOUR_DOMAIN
-
-				helper.setTo(email);
-				helper.setSubject("[TradingPT] 이메일 인증번호");
-				helper.setText("[TradingPT] 인증번호는 " + code + " 입니다.", false);
-
-				mailSender.send(message);
-
-				log.info("이메일 인증번호 전송 성공: {} (key={})", email, key);
-
-			} catch (Exception ex) {
-				redisTemplate.delete(key);
-				log.info("mailFrom='{}'", mailFrom);
-				log.warn("이메일 전송 실패({}): {}", email, ex.getMessage(), ex);
-			}
-		});
-
+		// 2) 메일 발송 등록 (Outbox 디스패처가 비동기로 발송)
+		notificationOutboxService.enqueueEmail(
+				email,
+				"[TradingPT] 이메일 인증번호",
+				"[TradingPT] 인증번호는 " + code + " 입니다.",
+				Duration.ofMillis(CODE_TTL_MS)
+		);
+		log.info("이메일 인증번호 발송 등록: {} (key={})", email, key);
 	}
 
 	@Override
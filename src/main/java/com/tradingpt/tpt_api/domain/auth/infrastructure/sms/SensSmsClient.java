@@ -1,6 +1,7 @@
 package com.tradingpt.tpt_api.domain.auth.infrastructure.sms;
 
 import net.nurigo.sdk.NurigoApp;
+import java.util.List;
 import net.nurigo.sdk.message.model.Message;
 import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
 import net.nurigo.sdk.message.service.DefaultMessageService;
@@ -35,6 +36,32 @@ public class SensSmsClient {
         messageService.sendOne(new SingleMessageSendingRequest(m));
     }
 
+    /**
+     * Solapi 다건 발송 (요청 1회)
+     * 전체 접수 실패 시 SDK 예외를 그대로 던진다.
+     */
+    public void sendMany(List<Sms> messages) {
+        List<Message> requests = messages.stream()
+                .map(sms -> {
+                    Message m = new Message();
+                    m.setFrom(senderNumber);
+                    m.setTo(normalizeKr(sms.to()));
+                    m.setText(sms.text());
+                    return m;
+                })
+                .toList();
+
+        try {
+            // 같은 번호로 여러 건(인증번호 재요청 등)이 묶일 수 있으므로 중복 수신번호 허용
+            messageService.send(requests, true);
+        } catch (Exception e) {
+            throw new IllegalStateException("SMS 다건 발송 실패: " + e.getMessage(), e);
+        }
+    }
+
+    public record Sms(String to, String text) {
+    }
+
     private static String normalizeKr(String raw) {
         if (raw == null) return null;
 
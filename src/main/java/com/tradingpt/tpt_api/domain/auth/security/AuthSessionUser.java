@@ -1,19 +1,164 @@
 package com.tradingpt.tpt_api.domain.auth.security;
 
+import com.tradingpt.tpt_api.domain.user.cache.CustomerSnapshot;
+import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.entity.User;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serial;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Objects;
 
+/**
+ * 세션 Principal
+ *
+ * <p>고객이면 로그인 시점의 고객 스냅샷(멤버십/완강 상태/투자 유형/담당 트레이너)을 함께 담는다.
+ * 값이 바뀌면 {@code UserSnapshotCache} 가 다시 조회하는 시점에 세션의 Principal 도 갱신한다.
+ * 권한 검증 등 서버 판단에는 항상 {@code UserSnapshotCache} 의 값을 사용한다.
+ *
+ * <p>세션 직렬화 시에는 {@link SerializedForm} 으로 바꿔 필드 값만 바이너리로 기록한다.
+ * (레코드/enum 클래스 디스크립터를 매번 기록하지 않도록)
+ */
 public record AuthSessionUser(
         Long id,
         String username,
-        String role
+        String role,
+        MembershipLevel membershipLevel,
+        CourseStatus courseStatus,
+        InvestmentType investmentType,
+        Long trainerId
 ) implements Serializable {
+
+    public AuthSessionUser(Long id, String username, String role) {
+        this(id, username, role, null, null, null, null);
+    }
+
     public static AuthSessionUser fromUser(User user) {
-        return new AuthSessionUser(user.getId(), user.getUsername(), user.getRole().name());
+        AuthSessionUser sessionUser = new AuthSessionUser(user.getId(), user.getUsername(), user.getRole().name());
+        if (user instanceof Customer customer) {
+            return sessionUser.withCustomer(CustomerSnapshot.from(customer));
+        }
+        return sessionUser;
     }
 
     public static AuthSessionUser fromOAuth2User(CustomOAuth2User oAuth2User) {
         return new AuthSessionUser(oAuth2User.getUserId(), oAuth2User.getUsername(), oAuth2User.getRole());
     }
-}
 
+    /**
+     * 고객 스냅샷 값을 반영한 Principal
+     */
+    public AuthSessionUser withCustomer(CustomerSnapshot snapshot) {
+        return new AuthSessionUser(id, username, role, snapshot.membershipLevel(), snapshot.courseStatus(),
+                snapshot.investmentType(), snapshot.assignedTrainerId());
+    }
+
+    /**
+     * Principal 에 담긴 고객 값이 스냅샷과 같은지
+     */
+    public boolean matches(CustomerSnapshot snapshot) {
+        return membershipLevel == snapshot.membershipLevel()
+                && courseStatus == snapshot.courseStatus()
+                && investmentType == snapshot.investmentType()
+                && Objects.equals(trainerId, snapshot.assignedTrainerId());
+    }
+
+    /**
+     * 필드 값만 바이너리로 기록 (세션 직렬화/세션 코덱 공용)
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        writeLong(out, id);
+        writeString(out, username);
+        writeString(out, role);
+        writeString(out, membershipLevel != null ? membershipLevel.name() : null);
+        writeString(out, courseStatus != null ? courseStatus.name() : null);
+        writeString(out, investmentType != null ? investmentType.name() : null);
+        writeLong(out, trainerId);
+    }
+
+    /**
+     * {@link #writeTo} 로 기록한 값 복원
+     */
+    public static AuthSessionUser readFrom(DataInputStream in) throws IOException {
+        Long id = readLong(in);
+        String username = readString(in);
+        String role = readString(in);
+        String membershipLevel = readString(in);
+        String courseStatus = readString(in);
+        String investmentType = readString(in);
+        Long trainerId = readLong(in);
+        return new AuthSessionUser(
+                id,
+                username,
+                role,
+                membershipLevel != null ? MembershipLevel.valueOf(membershipLevel) : null,
+                courseStatus != null ? CourseStatus.valueOf(courseStatus) : null,
+                investmentType != null ? InvestmentType.valueOf(investmentType) : null,
+                trainerId
+        );
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedForm(this);
+    }
+
+    /**
+     * 세션 저장용 압축 형식 (null 여부 플래그 + 값)
+     */
+    private static final class SerializedForm implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] data;
+
+        private SerializedForm(AuthSessionUser user) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                user.writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.data = bytes.toByteArray();
+        }
+
+        @Serial
+        private Object readResolve() {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+                return readFrom(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.tradingpt.tpt_api.domain.user.cache.CustomerSnapshot;
+import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.entity.User;
 import com.tradingpt.tpt_api.domain.user.enums.Role;
 
@@ -21,6 +23,7 @@ public class CustomUserDetails implements UserDetails {
 	private final Role role;
 	private final String name;
 	private final String email;
+	private final CustomerSnapshot customerSnapshot; // 고객이 아니면 null
 
 	private final List<GrantedAuthority> authorities;
 
@@ -29,13 +32,15 @@ public class CustomUserDetails implements UserDetails {
 		String password,
 		Role role,
 		String name,
-		String email) {
+		String email,
+		CustomerSnapshot customerSnapshot) {
 		this.id = id;
 		this.username = username;
 		this.password = password;
 		this.role = role;
 		this.name = name;
 		this.email = email;
+		this.customerSnapshot = customerSnapshot;
 		this.authorities = List.of(new SimpleGrantedAuthority(role.name())); // e.g. ROLE_CUSTOMER
 	}
 
@@ -46,7 +51,8 @@ public class CustomUserDetails implements UserDetails {
 			u.getPassword(),   // 반드시 인코딩된 값이어야 함
 			u.getRole(),
 			u.getName(),
-			u.getEmail()
+			u.getEmail(),
+			u instanceof Customer customer ? CustomerSnapshot.from(customer) : null
 		);
 	}
 
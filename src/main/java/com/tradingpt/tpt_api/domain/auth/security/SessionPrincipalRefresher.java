@@ -0,0 +1,48 @@
+package com.tradingpt.tpt_api.domain.auth.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.tradingpt.tpt_api.domain.user.cache.CustomerSnapshot;
+
+/**
+ * 세션 Principal 의 고객 값 갱신
+ *
+ * <p>현재 요청의 로그인 사용자가 해당 고객이고 Principal 값이 스냅샷과 다를 때만
+ * SecurityContext 를 새 Principal 로 바꿔 세션에 저장한다. (값이 같으면 세션 쓰기 없음)
+ */
+@Component
+public class SessionPrincipalRefresher {
+
+	private final HttpSessionSecurityContextRepository securityContextRepository =
+		new HttpSessionSecurityContextRepository();
+
+	public void refreshIfChanged(CustomerSnapshot snapshot) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null
+			|| !(authentication.getPrincipal() instanceof AuthSessionUser principal)
+			|| !snapshot.customerId().equals(principal.id())
+			|| principal.matches(snapshot)) {
+			return;
+		}
+		if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)
+			|| attributes.getResponse() == null) {
+			return;
+		}
+
+		UsernamePasswordAuthenticationToken refreshed = UsernamePasswordAuthenticationToken.authenticated(
+			principal.withCustomer(snapshot), null, authentication.getAuthorities());
+		refreshed.setDetails(authentication.getDetails());
+
+		SecurityContext context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(refreshed);
+		SecurityContextHolder.setContext(context);
+		securityContextRepository.saveContext(context, attributes.getRequest(), attributes.getResponse());
+	}
+}
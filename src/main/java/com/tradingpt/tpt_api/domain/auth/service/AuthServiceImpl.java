@@ -8,6 +8,7 @@ import com.tradingpt.tpt_api.domain.user.entity.User;
 import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.repository.PasswordHistoryRepository;
 import com.tradingpt.tpt_api.global.aligo.AligoAlimtalkClient;
+import com.tradingpt.tpt_api.global.infrastructure.notification.service.NotificationOutboxService;
 import com.tradingpt.tpt_api.global.web.logout.LogoutHelper;
 import java.time.LocalDate;
 
@@ -49,6 +50,7 @@ public class AuthServiceImpl implements AuthService {
 	private final PasswordHistoryRepository passwordHistoryRepository;
 	private final LogoutHelper logoutHelper;
 	private final AligoAlimtalkClient aligoAlimtalkClient;
+	private final NotificationOutboxService notificationOutboxService;
 
 	/* === 휴대폰 인증 === */
 	@Override
@@ -125,15 +127,10 @@ public class AuthServiceImpl implements AuthService {
 		userRepository.save(customer); // 저장은 한 번 (cascade로 Uid 함께 INSERT)
 		eventTokenService.grantSignupTokens(customer);
 
-		try {
-			aligoAlimtalkClient.sendJoinTalk(
-					customer.getPhoneNumber(),
-					"TPT",
-					customer.getName()
-			);
-		} catch (Exception e) {
-			log.error("회원가입 알림톡 발송 실패: {}", e.getMessage());
-		}
+		// 회원가입 알림톡 (같은 트랜잭션으로 Outbox 기록, 커밋 후 발송)
+		notificationOutboxService.enqueueAlimtalk(
+				aligoAlimtalkClient.joinTalk(customer.getPhoneNumber(), "TPT", customer.getName())
+		);
 
 
 		verificationService.clearPhoneTrace(phone);
@@ -215,15 +212,10 @@ public class AuthServiceImpl implements AuthService {
 		eventTokenService.grantSignupTokens(customer);
 
 
-		try {
-			aligoAlimtalkClient.sendJoinTalk(
-					customer.getPhoneNumber(),
-					"TPT",
-					customer.getName() // 또는 원하는 이름
-			);
-		} catch (Exception e) {
-			log.error("회원가입 알림톡 발송 실패: {}", e.getMessage());
-		}
+		// 회원가입 알림톡 (같은 트랜잭션으로 Outbox 기록, 커밋 후 발송)
+		notificationOutboxService.enqueueAlimtalk(
+				aligoAlimtalkClient.joinTalk(customer.getPhoneNumber(), "TPT", customer.getName())
+		);
 
 
 		verificationService.clearPhoneTrace(phone);
@@ -0,0 +1,48 @@
+package com.tradingpt.tpt_api.domain.column.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.tradingpt.tpt_api.domain.column.entity.Columns;
+
+/**
+ * 칼럼 목록 카탈로그 페이지 (캐시 대상)
+ * 좋아요 수, 댓글 수, 수정일시처럼 사용자 행동으로 바뀌는 값은 제외하고 조회 시점에 합친다.
+ *
+ * @param entries       페이지 내 칼럼
+ * @param totalElements 전체 칼럼 수
+ */
+public record ColumnCatalogPage(
+    List<Entry> entries,
+    long totalElements
+) {
+
+    public record Entry(
+        Long columnId,
+        String categoryName,
+        String categoryColor,
+        String title,
+        String subtitle,
+        String content,
+        String thumbnailImage,
+        String writerName,
+        Boolean isBest,
+        LocalDateTime createdAt
+    ) {
+
+        public static Entry from(Columns c) {
+            return new Entry(
+                c.getId(),
+                c.getCategory() != null ? c.getCategory().getName() : null,
+                c.getCategory().getColor(),
+                c.getTitle(),
+                c.getSubtitle(),
+                c.getContent(),
+                c.getThumbnailImage(),
+                c.getUser() != null ? c.getUser().getName() : null,
+                c.getIsBest(),
+                c.getCreatedAt()
+            );
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.tradingpt.tpt_api.domain.column.dto.response;
 
+import com.tradingpt.tpt_api.domain.column.dto.projection.ColumnCatalogPage;
 import com.tradingpt.tpt_api.domain.column.entity.Columns;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -69,4 +70,24 @@ public class ColumnListResponseDTO {
                 .updatedAt(c.getUpdatedAt())
                 .build();
     }
+
+    /** 캐시된 카탈로그 + 실시간 카운터(좋아요/댓글/수정일시) -> DTO */
+    public static ColumnListResponseDTO of(ColumnCatalogPage.Entry entry, int likeCount, long commentCount,
+            LocalDateTime updatedAt) {
+        return ColumnListResponseDTO.builder()
+                .columnId(entry.columnId())
+                .categoryName(entry.categoryName())
+                .categoryColor(entry.categoryColor())
+                .title(entry.title())
+                .subtitle(entry.subtitle())
+                .content(entry.content())
+                .thumbnailImage(entry.thumbnailImage())
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .writerName(entry.writerName())
+                .isBest(entry.isBest())
+                .createdAt(entry.createdAt())
+                .updatedAt(updatedAt)
+                .build();
+    }
 }
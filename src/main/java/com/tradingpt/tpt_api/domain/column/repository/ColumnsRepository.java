@@ -2,6 +2,7 @@ package com.tradingpt.tpt_api.domain.column.repository;
 
 import com.tradingpt.tpt_api.domain.column.entity.Columns;
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -24,4 +25,17 @@ public interface ColumnsRepository extends JpaRepository<Columns, Long> {
     Page<Columns> findByCategory_Name(String categoryName, Pageable pageable);
 
     long countByCategory_IdAndIsBestTrue(Long categoryId);
+
+    @Query("""
+           select c.id as columnId, c.likeCount as likeCount, c.updatedAt as updatedAt
+           from Columns c
+           where c.id in :columnIds
+           """)
+    List<ColumnCounter> findCountersByIds(@Param("columnIds") List<Long> columnIds);
+
+    interface ColumnCounter {
+        Long getColumnId();
+        Integer getLikeCount();
+        LocalDateTime getUpdatedAt();
+    }
 }
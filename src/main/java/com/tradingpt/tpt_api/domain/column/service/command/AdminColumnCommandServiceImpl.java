@@ -17,6 +17,8 @@ import com.tradingpt.tpt_api.domain.user.entity.User;
 import com.tradingpt.tpt_api.domain.user.repository.AdminRepository;
 import com.tradingpt.tpt_api.domain.user.repository.TrainerRepository;
 import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
+import com.tradingpt.tpt_api.global.infrastructure.cache.CatalogCacheRegion;
+import com.tradingpt.tpt_api.global.infrastructure.cache.TieredCatalogCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,10 +33,13 @@ public class AdminColumnCommandServiceImpl implements AdminColumnCommandService
     private final UserRepository userRepository;
     private final AdminRepository adminRepository;
     private final TrainerRepository trainerRepository;
+    private final TieredCatalogCache catalogCache;
 
     @Override
     @Transactional
     public Long createColumn(Long writerUserId, ColumnCreateRequestDTO request, String role) {
+        catalogCache.evict(CatalogCacheRegion.COLUMN_LIST);
+
         User writer;
 
         if ("ROLE_ADMIN".equals(role)) {
@@ -68,6 +73,8 @@ public class AdminColumnCommandServiceImpl implements AdminColumnCommandService
     @Override
     @Transactional
     public Long updateColumn(Long columnId, Long editorUserId, ColumnUpdateRequestDTO request, String role) {
+        catalogCache.evict(CatalogCacheRegion.COLUMN_LIST);
+
         Columns column = columnsRepository.findById(columnId)
                 .orElseThrow(() -> new ColumnException(ColumnErrorStatus.NOT_FOUND));
 
@@ -96,6 +103,8 @@ public class AdminColumnCommandServiceImpl implements AdminColumnCommandService
     @Override
     @Transactional
     public Long deleteColumn(Long columnId) {
+        catalogCache.evict(CatalogCacheRegion.COLUMN_LIST);
+
         Columns column = columnsRepository.findById(columnId)
                 .orElseThrow(() -> new ColumnException(ColumnErrorStatus.NOT_FOUND));
 
@@ -109,6 +118,8 @@ public class AdminColumnCommandServiceImpl implements AdminColumnCommandService
     @Override
     @Transactional
     public Long createCategory(ColumnCategoryRequestDTO request) {
+        catalogCache.evict(CatalogCacheRegion.COLUMN_CATEGORY);
+
         ColumnCategory category = ColumnCategory.builder()
                 .name(request.getName())
                 .color(request.getColor())
@@ -121,6 +132,8 @@ public class AdminColumnCommandServiceImpl implements AdminColumnCommandService
     @Override
     @Transactional
     public Long updateCategory(Long categoryId, ColumnCategoryRequestDTO request) {
+        catalogCache.evict(CatalogCacheRegion.COLUMN_CATEGORY, CatalogCacheRegion.COLUMN_LIST);
+
         ColumnCategory category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ColumnException(ColumnErrorStatus.CATEGORY_NOT_FOUND));
 
@@ -132,6 +145,8 @@ public class AdminColumnCommandServiceImpl implements AdminColumnCommandService
     @Override
     @Transactional
     public Long deleteCategory(Long categoryId) {
+        catalogCache.evict(CatalogCacheRegion.COLUMN_CATEGORY, CatalogCacheRegion.COLUMN_LIST);
+
         ColumnCategory category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ColumnException(ColumnErrorStatus.CATEGORY_NOT_FOUND));
 
@@ -143,6 +158,8 @@ public class AdminColumnCommandServiceImpl implements AdminColumnCommandService
     @Override
     @Transactional
     public Long markBest(Long columnId) {
+        catalogCache.evict(CatalogCacheRegion.COLUMN_LIST);
+
         Columns column = columnsRepository.findById(columnId)
                 .orElseThrow(() -> new ColumnException(ColumnErrorStatus.NOT_FOUND));
 
@@ -157,6 +174,8 @@ public class AdminColumnCommandServiceImpl implements AdminColumnCommandService
     @Override
     @Transactional
     public Long unmarkBest(Long columnId) {
+        catalogCache.evict(CatalogCacheRegion.COLUMN_LIST);
+
         Columns column = columnsRepository.findById(columnId)
                 .orElseThrow(() -> new ColumnException(ColumnErrorStatus.NOT_FOUND));
 
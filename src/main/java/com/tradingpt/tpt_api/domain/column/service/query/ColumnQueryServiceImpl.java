@@ -1,5 +1,7 @@
 package com.tradingpt.tpt_api.domain.column.service.query;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.tradingpt.tpt_api.domain.column.dto.projection.ColumnCatalogPage;
 import com.tradingpt.tpt_api.domain.column.dto.response.ColumnCategoryResponseDTO;
 import com.tradingpt.tpt_api.domain.column.dto.response.ColumnDetailResponseDTO;
 import com.tradingpt.tpt_api.domain.column.dto.response.ColumnListResponseDTO;
@@ -16,12 +18,16 @@ import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
 import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
 import com.tradingpt.tpt_api.global.exception.AuthException;
-import java.util.Collections;
+import com.tradingpt.tpt_api.global.infrastructure.cache.CatalogCacheRegion;
+import com.tradingpt.tpt_api.global.infrastructure.cache.TieredCatalogCache;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -31,40 +37,91 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ColumnQueryServiceImpl implements  ColumnQueryService{
 
+    private static final TypeReference<List<ColumnCategoryResponseDTO>> CATEGORY_LIST_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<ColumnCatalogPage> COLUMN_PAGE_TYPE = new TypeReference<>() {
+    };
+
+    /** 카탈로그 캐시를 적용할 정렬 기준 (사용자 행동으로 바뀌지 않는 값) */
+    private static final Set<String> CACHEABLE_SORT_PROPERTIES = Set.of("createdAt", "id");
+
     private final ColumnCategoryRepository categoryRepository;
     private final ColumnsRepository columnsRepository;
     private final ColumnCommentRepository commentRepository;
     private final CustomerRepository customerRepository;
+    private final TieredCatalogCache catalogCache;
 
     @Override
     @Transactional(readOnly = true)
     public List<ColumnCategoryResponseDTO> getCategoryList() {
-        return categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))
-                .stream()
-                .map(ColumnCategoryResponseDTO::from)
-                .toList();
+        return catalogCache.get(
+                CatalogCacheRegion.COLUMN_CATEGORY,
+                "all",
+                CATEGORY_LIST_TYPE,
+                () -> categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))
+                        .stream()
+                        .map(ColumnCategoryResponseDTO::from)
+                        .toList()
+        );
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ColumnListResponseDTO> getColumnList(String categoryName, Pageable pageable) {
-        Page<Columns> page;
+        boolean all = categoryName == null || categoryName.equalsIgnoreCase("all");
 
-        if (categoryName == null || categoryName.equalsIgnoreCase("all")) {
-            page = columnsRepository.findAll(pageable);
-        } else {
-            page = columnsRepository.findByCategory_Name(categoryName, pageable);
+        // 1) 공용 카탈로그 페이지 (작성일 기준 정렬일 때만 캐시 - 좋아요 순 등은 값이 자주 바뀜)
+        ColumnCatalogPage catalog = isCacheableSort(pageable.getSort())
+                ? catalogCache.get(
+                        CatalogCacheRegion.COLUMN_LIST,
+                        (all ? "all" : categoryName) + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize()
+                                + ":" + pageable.getSort(),
+                        COLUMN_PAGE_TYPE,
+                        () -> loadCatalogPage(all, categoryName, pageable))
+                : loadCatalogPage(all, categoryName, pageable);
+
+        var ids = catalog.entries().stream().map(ColumnCatalogPage.Entry::columnId).toList();
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, catalog.totalElements());
         }
 
-        var ids = page.stream().map(Columns::getId).toList();
-        Map<Long, Long> counts = ids.isEmpty()
-                ? Collections.emptyMap()
-                : commentRepository.countByColumnIds(ids).stream()
-                        .collect(Collectors.toMap(
-                                ColumnCommentRepository.ColumnCommentCount::getColumnId,
-                                ColumnCommentRepository.ColumnCommentCount::getCnt));
+        // 2) 자주 바뀌는 값(좋아요/댓글/수정일시)은 PK 조회로 합친다
+        Map<Long, ColumnsRepository.ColumnCounter> counters = columnsRepository.findCountersByIds(ids).stream()
+                .collect(Collectors.toMap(ColumnsRepository.ColumnCounter::getColumnId, Function.identity()));
+        Map<Long, Long> counts = commentRepository.countByColumnIds(ids).stream()
+                .collect(Collectors.toMap(
+                        ColumnCommentRepository.ColumnCommentCount::getColumnId,
+                        ColumnCommentRepository.ColumnCommentCount::getCnt));
+
+        List<ColumnListResponseDTO> content = catalog.entries().stream()
+                // 캐시 이후 삭제된 칼럼은 제외
+                .filter(entry -> counters.containsKey(entry.columnId()))
+                .map(entry -> {
+                    ColumnsRepository.ColumnCounter counter = counters.get(entry.columnId());
+                    return ColumnListResponseDTO.of(
+                            entry,
+                            counter.getLikeCount() != null ? counter.getLikeCount() : 0,
+                            counts.getOrDefault(entry.columnId(), 0L),
+                            counter.getUpdatedAt());
+                })
+                .toList();
+
+        return new PageImpl<>(content, pageable, catalog.totalElements());
+    }
+
+    private ColumnCatalogPage loadCatalogPage(boolean all, String categoryName, Pageable pageable) {
+        Page<Columns> page = all
+                ? columnsRepository.findAll(pageable)
+                : columnsRepository.findByCategory_Name(categoryName, pageable);
+
+        return new ColumnCatalogPage(
+                page.stream().map(ColumnCatalogPage.Entry::from).toList(),
+                page.getTotalElements()
+        );
+    }
 
-        return page.map(c -> ColumnListResponseDTO.from(c, counts.getOrDefault(c.getId(), 0L)));
+    private boolean isCacheableSort(Sort sort) {
+        return sort.stream().allMatch(order -> CACHEABLE_SORT_PROPERTIES.contains(order.getProperty()));
     }
 
     @Override
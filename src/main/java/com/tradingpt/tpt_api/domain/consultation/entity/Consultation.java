@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -28,7 +29,13 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "consultation")
+@Table(
+	name = "consultation",
+	indexes = {
+		// 날짜별 예약 현황/정원 확인 (consultation_date = ? GROUP BY consultation_time)
+		@Index(name = "idx_consultation_date_time", columnList = "consultation_date, consultation_time")
+	}
+)
 public class Consultation extends BaseEntity {
 
 	/**
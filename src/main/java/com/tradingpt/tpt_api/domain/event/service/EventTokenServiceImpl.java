@@ -2,6 +2,8 @@ package com.tradingpt.tpt_api.domain.event.service;
 
 import com.tradingpt.tpt_api.domain.event.entity.Event;
 import com.tradingpt.tpt_api.domain.event.repository.EventRepository;
+import com.tradingpt.tpt_api.domain.token.enums.TokenTransactionType;
+import com.tradingpt.tpt_api.domain.token.service.TokenLedgerService;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,6 +17,7 @@ import java.util.List;
 public class EventTokenServiceImpl implements EventTokenService {
 
     private final EventRepository eventRepository;
+    private final TokenLedgerService tokenLedgerService;
 
     @Override
     @Transactional
@@ -35,7 +38,13 @@ public class EventTokenServiceImpl implements EventTokenService {
                 .mapToInt(Event::getTokenAmount)
                 .sum();
 
-        // 4) 고객 토큰 증가
-        customer.addToken(totalTokenAmount);
+        // 4) 고객 토큰 증가 (가입 이벤트 토큰은 고객당 1회만 지급)
+        tokenLedgerService.credit(
+                customer.getId(),
+                totalTokenAmount,
+                TokenTransactionType.SIGNUP_EVENT,
+                null,
+                "signup-event:" + customer.getId()
+        );
     }
 }
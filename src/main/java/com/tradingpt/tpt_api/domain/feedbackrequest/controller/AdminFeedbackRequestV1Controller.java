@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.request.UpdateBestFeedbacksRequestDTO;
@@ -56,6 +57,26 @@ public class AdminFeedbackRequestV1Controller {
 		return BaseResponse.onSuccess(feedbackRequestQueryService.getAdminFeedbackListSlice(pageable));
 	}
 
+	@Operation(
+		summary = "베스트 피드백 관리 (어드민, 커서 기반)",
+		description = """
+			모든 피드백 요청 목록을 커서 기반으로 조회합니다.
+			- 현재 선정된 베스트 피드백은 첫 요청(cursor 없음)에서만 포함됩니다
+			- 다음 요청: 이전 응답 sliceInfo.nextCursor 값을 cursor로 전달
+			- size: 페이지 크기 (기본값: 20, 최대 100)
+			"""
+	)
+	@GetMapping("/cursor")
+	@PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_TRAINER')")
+	public BaseResponse<AdminFeedbackResponseDTO> getAllAdminFeedbackRequestsByCursor(
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)")
+		@RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기", example = "20")
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return BaseResponse.onSuccess(feedbackRequestQueryService.getAdminFeedbackListByCursor(cursor, size));
+	}
+
 	@Operation(
 		summary = "베스트 피드백 일괄 업데이트 (어드민)",
 		description = """
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.tradingpt.tpt_api.domain.auth.security.AuthSessionUser;
@@ -88,6 +89,26 @@ public class FeedbackRequestV1Controller {
 		return BaseResponse.onSuccess(feedbackRequestQueryService.getFeedbackListSlice(pageable));
 	}
 
+	@Operation(
+		summary = "실시간 트레이딩 목록 조회 (무한 스크롤 - 커서 기반)",
+		description = """
+			모든 고객의 피드백 요청 목록을 커서 기반으로 조회합니다.
+			- 첫 요청(cursor 없음): 베스트 피드백 + 최신 피드백
+			- 다음 요청: 이전 응답 sliceInfo.nextCursor 값을 cursor로 전달
+			- 페이지가 깊어져도 조회 비용이 일정합니다 (offset 미사용)
+			- size: 페이지 크기 (기본값: 12, 최대 100)
+			"""
+	)
+	@GetMapping("/cursor")
+	public BaseResponse<FeedbackListResponseDTO> getFeedbackListByCursor(
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)")
+		@RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기", example = "12")
+		@RequestParam(defaultValue = "12") int size
+	) {
+		return BaseResponse.onSuccess(feedbackRequestQueryService.getFeedbackListByCursor(cursor, size));
+	}
+
 	@Operation(
 		summary = "피드백 요청 상세 조회",
 		description = """
@@ -0,0 +1,37 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStat;
+
+/**
+ * feedback_request 원천 데이터로 계산한 고객별 피드백 통계 (정합성 검증용)
+ */
+public record CustomerFeedbackStatSnapshot(
+	Long customerId,
+	Long totalCount,
+	Long unansweredCount,
+	Long unreadResponseCount,
+	Long tokenUsedCount,
+	LocalDate lastFeedbackRequestDate
+) {
+
+	public static CustomerFeedbackStatSnapshot empty(Long customerId) {
+		return new CustomerFeedbackStatSnapshot(customerId, 0L, 0L, 0L, 0L, null);
+	}
+
+	/**
+	 * 저장된 통계 행과 일치하는지 (행이 없으면 피드백이 없을 때만 일치)
+	 */
+	public boolean matches(CustomerFeedbackStat stat) {
+		if (stat == null) {
+			return totalCount == 0L;
+		}
+		return totalCount.equals(stat.getTotalCount())
+			&& unansweredCount.equals(stat.getUnansweredCount())
+			&& unreadResponseCount.equals(stat.getUnreadResponseCount())
+			&& tokenUsedCount.equals(stat.getTokenUsedCount())
+			&& Objects.equals(lastFeedbackRequestDate, stat.getLastFeedbackRequestDate());
+	}
+}
@@ -0,0 +1,31 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.EntryPoint;
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+
+/**
+ * 매매 통계 집계 재계산용 Projection DTO
+ * 엔티티 전체 대신 통계에 필요한 컬럼만 조회한다.
+ */
+public record TradeStatSource(
+	Long customerId,
+	InvestmentType investmentType,
+	CourseStatus courseStatus,
+	LocalDate feedbackRequestDate,
+	Integer feedbackYear,
+	Integer feedbackMonth,
+	Integer feedbackWeek,
+	Status status,
+	BigDecimal pnl,
+	BigDecimal totalAssetPnl,
+	BigDecimal riskTaking,
+	Double rnr,
+	EntryPoint entryPoint,
+	Boolean directionFrameExists
+) {
+}
@@ -0,0 +1,52 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.entity;
+
+import java.time.LocalDate;
+
+import com.tradingpt.tpt_api.global.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객별 피드백 요청 통계 (고객당 1행)
+ *
+ * <p>어드민/트레이너 고객 목록이 행마다 feedback_request 를 COUNT 하지 않고 이 행을 조인해 읽는다.
+ * 피드백 요청 생성/삭제, 답변 등록, 답변 읽음 처리와 같은 트랜잭션에서 원자적 UPDATE 로 증분 갱신되며,
+ * 행이 없거나 어긋나면 정합성 검증 스케줄러가 feedback_request 원천 데이터로 다시 계산한다.
+ *
+ * <p>customer_id 는 FK 없이 보관하고, 고객 삭제 시 함께 정리된다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "customer_feedback_stat")
+public class CustomerFeedbackStat extends BaseEntity {
+
+	@Id
+	@Column(name = "customer_id")
+	private Long customerId;
+
+	@Column(name = "total_count", nullable = false)
+	private Long totalCount; // 피드백 요청 총 개수
+
+	@Column(name = "unanswered_count", nullable = false)
+	private Long unansweredCount; // 답변 미완료 (Status.N)
+
+	@Column(name = "unread_response_count", nullable = false)
+	private Long unreadResponseCount; // 답변 완료 + 미읽음 (Status.FN)
+
+	@Column(name = "token_used_count", nullable = false)
+	private Long tokenUsedCount; // 토큰을 사용한 피드백 요청 개수
+
+	@Column(name = "last_feedback_request_date")
+	private LocalDate lastFeedbackRequestDate; // 가장 최근 피드백 요청 일자 (없으면 null)
+}
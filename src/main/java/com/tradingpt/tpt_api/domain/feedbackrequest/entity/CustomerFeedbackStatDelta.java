@@ -0,0 +1,42 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.entity;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
+
+/**
+ * 피드백 요청 1건이 고객별 피드백 통계에 기여하는 양
+ * 변경 전 값을 캡처해 두고 변경 후 값과의 차이만 반영한다.
+ */
+public record CustomerFeedbackStatDelta(
+	long total,
+	long unanswered,
+	long unreadResponse,
+	long tokenUsed
+) {
+
+	public static CustomerFeedbackStatDelta from(FeedbackRequest feedbackRequest) {
+		Status status = feedbackRequest.getStatus();
+		return new CustomerFeedbackStatDelta(
+			1,
+			status == Status.N ? 1 : 0,
+			status == Status.FN ? 1 : 0,
+			Boolean.TRUE.equals(feedbackRequest.getIsTokenUsed()) ? 1 : 0
+		);
+	}
+
+	public CustomerFeedbackStatDelta minus(CustomerFeedbackStatDelta other) {
+		return new CustomerFeedbackStatDelta(
+			total - other.total,
+			unanswered - other.unanswered,
+			unreadResponse - other.unreadResponse,
+			tokenUsed - other.tokenUsed
+		);
+	}
+
+	public CustomerFeedbackStatDelta negate() {
+		return new CustomerFeedbackStatDelta(-total, -unanswered, -unreadResponse, -tokenUsed);
+	}
+
+	public boolean isZero() {
+		return total == 0 && unanswered == 0 && unreadResponse == 0 && tokenUsed == 0;
+	}
+}
@@ -31,6 +31,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -54,7 +55,21 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "feedback_request")
+@Table(
+	name = "feedback_request",
+	indexes = {
+		// 주간/월간 매매 통계, 주차/일자 목록 조회 (고객 + 연/월/주차 prefix)
+		@Index(name = "idx_feedback_request_customer_period",
+			columnList = "customer_id, feedback_year, feedback_month, feedback_week, investment_type, course_status"),
+		// 고객 + 일자 조회 (일별 피드백 목록, 월간 PnL 캘린더)
+		@Index(name = "idx_feedback_request_customer_date", columnList = "customer_id, feedback_request_date"),
+		// 실시간 트레이딩/어드민 피드백 목록 커서 조회 (createdAt DESC, id DESC seek)
+		@Index(name = "idx_feedback_request_created_at_id", columnList = "created_at, feedback_request_id"),
+		// 베스트 피드백 조회 (is_best_feedback = true, createdAt DESC)
+		@Index(name = "idx_feedback_request_best_created_at_id",
+			columnList = "is_best_feedback, created_at, feedback_request_id")
+	}
+)
 public class FeedbackRequest extends BaseEntity {
 
 	/**
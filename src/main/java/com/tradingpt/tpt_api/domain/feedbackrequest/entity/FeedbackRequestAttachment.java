@@ -1,6 +1,7 @@
 package com.tradingpt.tpt_api.domain.feedbackrequest.entity;
 
 import com.tradingpt.tpt_api.global.common.BaseEntity;
+import com.tradingpt.tpt_api.global.common.id.PooledIds;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -26,7 +28,15 @@ import lombok.experimental.SuperBuilder;
 public class FeedbackRequestAttachment extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIds.FEEDBACK_REQUEST_ATTACHMENT)
+	@TableGenerator(
+		name = PooledIds.FEEDBACK_REQUEST_ATTACHMENT,
+		table = PooledIds.TABLE,
+		pkColumnName = PooledIds.PK_COLUMN,
+		valueColumnName = PooledIds.VALUE_COLUMN,
+		pkColumnValue = PooledIds.FEEDBACK_REQUEST_ATTACHMENT,
+		allocationSize = PooledIds.ALLOCATION_SIZE
+	)
 	@Column(name = "feedback_reqeust_attachment_id")
 	private Long id;
 
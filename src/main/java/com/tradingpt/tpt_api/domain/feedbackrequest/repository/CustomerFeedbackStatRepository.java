@@ -0,0 +1,156 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.CustomerFeedbackStatSnapshot;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStat;
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
+
+public interface CustomerFeedbackStatRepository extends JpaRepository<CustomerFeedbackStat, Long> {
+
+	/**
+	 * 통계 증분 반영 (원자적 UPDATE)
+	 * requestDate 가 있으면 최근 피드백 요청 일자를 더 늦은 값으로 올린다.
+	 *
+	 * @return 갱신된 행 수 (통계 행이 없으면 0)
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE customer_feedback_stat
+		SET total_count = total_count + :total,
+		    unanswered_count = unanswered_count + :unanswered,
+		    unread_response_count = unread_response_count + :unreadResponse,
+		    token_used_count = token_used_count + :tokenUsed,
+		    last_feedback_request_date = CASE
+		        WHEN :requestDate IS NULL THEN last_feedback_request_date
+		        WHEN last_feedback_request_date IS NULL OR last_feedback_request_date < :requestDate THEN :requestDate
+		        ELSE last_feedback_request_date
+		    END,
+		    updated_at = NOW(6)
+		WHERE customer_id = :customerId
+		""", nativeQuery = true)
+	int applyDelta(
+		@Param("customerId") Long customerId,
+		@Param("total") long total,
+		@Param("unanswered") long unanswered,
+		@Param("unreadResponse") long unreadResponse,
+		@Param("tokenUsed") long tokenUsed,
+		@Param("requestDate") LocalDate requestDate
+	);
+
+	/**
+	 * 삭제 반영 (원자적 UPDATE)
+	 * 최근 피드백 요청 일자는 남은 피드백 요청에서 다시 구한다. (삭제 DELETE 를 먼저 flush)
+	 *
+	 * @return 갱신된 행 수 (통계 행이 없으면 0)
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		UPDATE customer_feedback_stat
+		SET total_count = total_count + :total,
+		    unanswered_count = unanswered_count + :unanswered,
+		    unread_response_count = unread_response_count + :unreadResponse,
+		    token_used_count = token_used_count + :tokenUsed,
+		    last_feedback_request_date = (
+		        SELECT MAX(fr.feedback_request_date)
+		        FROM feedback_request fr
+		        WHERE fr.customer_id = :customerId
+		    ),
+		    updated_at = NOW(6)
+		WHERE customer_id = :customerId
+		""", nativeQuery = true)
+	int applyRemoval(
+		@Param("customerId") Long customerId,
+		@Param("total") long total,
+		@Param("unanswered") long unanswered,
+		@Param("unreadResponse") long unreadResponse,
+		@Param("tokenUsed") long tokenUsed
+	);
+
+	/**
+	 * 통계 행 재계산 1단계: 대상 고객 통계를 0 으로 초기화 (피드백이 모두 삭제된 고객 포함)
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		UPDATE customer_feedback_stat
+		SET total_count = 0,
+		    unanswered_count = 0,
+		    unread_response_count = 0,
+		    token_used_count = 0,
+		    last_feedback_request_date = NULL,
+		    updated_at = NOW(6)
+		WHERE customer_id IN (:customerIds)
+		""", nativeQuery = true)
+	int resetAll(@Param("customerIds") Collection<Long> customerIds);
+
+	/**
+	 * 통계 행 재계산 2단계: feedback_request 원천 데이터로 통계 행 생성/덮어쓰기 (idx_feedback_request_customer_date)
+	 * 같은 트랜잭션에서 저장한 피드백 요청도 포함되도록 먼저 flush 한다.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		INSERT INTO customer_feedback_stat
+		    (customer_id, total_count, unanswered_count, unread_response_count, token_used_count,
+		     last_feedback_request_date, created_at, updated_at)
+		SELECT fr.customer_id,
+		       COUNT(*),
+		       SUM(CASE WHEN fr.status = 'N' THEN 1 ELSE 0 END),
+		       SUM(CASE WHEN fr.status = 'FN' THEN 1 ELSE 0 END),
+		       SUM(CASE WHEN fr.is_token_used = TRUE THEN 1 ELSE 0 END),
+		       MAX(fr.feedback_request_date),
+		       NOW(6),
+		       NOW(6)
+		FROM feedback_request fr
+		WHERE fr.customer_id IN (:customerIds)
+		GROUP BY fr.customer_id
+		ON DUPLICATE KEY UPDATE
+		    total_count = VALUES(total_count),
+		    unanswered_count = VALUES(unanswered_count),
+		    unread_response_count = VALUES(unread_response_count),
+		    token_used_count = VALUES(token_used_count),
+		    last_feedback_request_date = VALUES(last_feedback_request_date),
+		    updated_at = VALUES(updated_at)
+		""", nativeQuery = true)
+	int rebuildAll(@Param("customerIds") Collection<Long> customerIds);
+
+	/**
+	 * feedback_request 원천 데이터로 계산한 고객별 통계 (피드백이 없는 고객은 결과에 없음)
+	 */
+	@Query("""
+		SELECT new com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.CustomerFeedbackStatSnapshot(
+		    fr.customer.id,
+		    COUNT(fr),
+		    SUM(CASE WHEN fr.status = :unanswered THEN 1L ELSE 0L END),
+		    SUM(CASE WHEN fr.status = :unreadResponse THEN 1L ELSE 0L END),
+		    SUM(CASE WHEN fr.isTokenUsed = true THEN 1L ELSE 0L END),
+		    MAX(fr.feedbackRequestDate)
+		)
+		FROM FeedbackRequest fr
+		WHERE fr.customer.id IN :customerIds
+		GROUP BY fr.customer.id
+		""")
+	List<CustomerFeedbackStatSnapshot> computeSnapshots(
+		@Param("customerIds") Collection<Long> customerIds,
+		@Param("unanswered") Status unanswered,
+		@Param("unreadResponse") Status unreadResponse
+	);
+
+	/**
+	 * 정합성 검증 대상 고객 ID 청크 조회 (keyset)
+	 */
+	@Query(value = """
+		SELECT c.user_id
+		FROM customer c
+		WHERE c.user_id > :lastCustomerId
+		ORDER BY c.user_id
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<Long> findCustomerIdsAfter(@Param("lastCustomerId") Long lastCustomerId, @Param("limit") int limit);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.DailyPnlProjection;
+import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.TradeStatSource;
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.YearMonthProjection;
 import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
 import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
@@ -21,6 +22,7 @@ import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
 import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DailyRawData;
 import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DirectionStatistics;
 import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.WeeklyPerformanceSnapshot;
+import com.tradingpt.tpt_api.global.common.dto.CreatedAtCursor;
 
 /**
  * FeedbackRequest 커스텀 Repository 인터페이스
@@ -46,6 +48,28 @@ public interface FeedbackRequestRepositoryCustom {
 	 */
 	Slice<FeedbackRequest> findAllFeedbacksByCreatedAtDesc(Pageable pageable);
 
+	/**
+	 * 모든 피드백 요청 목록 조회 (무한 스크롤 - 커서 기반)
+	 * - 첫 페이지(cursor == null): 베스트 피드백(최대 size - 1 개) + 일반 피드백, 합쳐서 size 개
+	 * - 이후 페이지: 커서 이후의 일반 피드백만
+	 * 정렬: createdAt DESC, id DESC (offset 없이 인덱스 seek)
+	 *
+	 * @param cursor 마지막으로 받은 일반 피드백 위치 (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 * @return 피드백 요청 Slice
+	 */
+	Slice<FeedbackRequest> findAllFeedbackRequestsByCursor(CreatedAtCursor cursor, int size);
+
+	/**
+	 * 모든 피드백 조회 (무한 스크롤 - 단순 최신순, 커서 기반)
+	 * 정렬: createdAt DESC, id DESC (offset 없이 인덱스 seek)
+	 *
+	 * @param cursor 마지막으로 받은 피드백 위치 (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 * @return 피드백 Slice
+	 */
+	Slice<FeedbackRequest> findAllFeedbacksByCursor(CreatedAtCursor cursor, int size);
+
 	/**
 	 * 특정 고객이 특정 날짜에 생성한 모든 피드백 요청을 조회한다.
 	 *
@@ -398,4 +422,23 @@ public interface FeedbackRequestRepositoryCustom {
 	 */
 	List<YearMonthProjection> findDistinctYearMonthsByCustomerId(Long customerId);
 
+	/**
+	 * 매매 통계 집계 재계산용 원천 데이터 조회
+	 * - 통계 계산에 필요한 컬럼만 Projection으로 조회
+	 *
+	 * @param customerId 고객 ID
+	 * @return 고객의 전체 피드백 요청 통계 원천 데이터
+	 */
+	List<TradeStatSource> findTradeStatSourcesByCustomerId(Long customerId);
+
+	/**
+	 * 피드백 요청이 존재하는 고객 ID를 커서 기반으로 조회
+	 * - 매매 통계 정합성 검증 배치에서 고객 단위로 순회할 때 사용
+	 *
+	 * @param lastCustomerId 이전 청크의 마지막 고객 ID (최초 조회 시 null)
+	 * @param limit 조회 개수
+	 * @return 고객 ID 오름차순 목록
+	 */
+	List<Long> findCustomerIdsWithFeedbackAfter(Long lastCustomerId, int limit);
+
 }
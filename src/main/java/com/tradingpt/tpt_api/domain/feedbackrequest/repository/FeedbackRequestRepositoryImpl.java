@@ -17,10 +17,12 @@ import org.springframework.data.domain.SliceImpl;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.DailyPnlProjection;
+import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.TradeStatSource;
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.YearMonthProjection;
 import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
 import com.tradingpt.tpt_api.domain.feedbackrequest.enums.EntryPoint;
@@ -38,6 +40,7 @@ import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
 import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DailyRawData;
 import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DirectionStatistics;
 import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.WeeklyPerformanceSnapshot;
+import com.tradingpt.tpt_api.global.common.dto.CreatedAtCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -52,18 +55,18 @@ public class FeedbackRequestRepositoryImpl implements FeedbackRequestRepositoryC
 
 	@Override
 	public Slice<FeedbackRequest> findAllFeedbackRequestsSlice(Pageable pageable) {
-		// 1단계: 베스트 피드백 조회 (최대 4개, 고정 수량이므로 전체 로드 OK)
+		// 1단계: 베스트 피드백 조회 (최대 4개)
 		// @ManyToOne(customer)만 fetch join - @OneToMany 컬렉션은 batch_size로 지연 로딩
-		List<FeedbackRequest> bestFeedbacks = queryFactory
+		List<FeedbackRequest> limitedBestFeedbacks = queryFactory
 			.selectFrom(feedbackRequest)
 			.leftJoin(feedbackRequest.customer).fetchJoin()
 			.where(feedbackRequest.isBestFeedback.isTrue())
 			.orderBy(feedbackRequest.createdAt.desc())
+			.limit(MAX_BEST_FEEDBACK_COUNT)
 			.fetch();
 
-		// 실제 베스트 피드백 수 (최대 4개까지만 사용)
-		int actualBestCount = Math.min(bestFeedbacks.size(), MAX_BEST_FEEDBACK_COUNT);
-		List<FeedbackRequest> limitedBestFeedbacks = bestFeedbacks.subList(0, actualBestCount);
+		// 실제 베스트 피드백 수 (최대 4개)
+		int actualBestCount = limitedBestFeedbacks.size();
 
 		int pageNumber = pageable.getPageNumber();
 		int pageSize = pageable.getPageSize();
@@ -172,6 +175,81 @@ public class FeedbackRequestRepositoryImpl implements FeedbackRequestRepositoryC
 		return new SliceImpl<>(content, pageable, hasNext);
 	}
 
+	@Override
+	public Slice<FeedbackRequest> findAllFeedbackRequestsByCursor(CreatedAtCursor cursor, int size) {
+		BooleanBuilder regularPredicate = new BooleanBuilder()
+			.and(feedbackRequest.isBestFeedback.isNull().or(feedbackRequest.isBestFeedback.isFalse()))
+			.and(afterCursor(cursor));
+
+		if (cursor != null) {
+			// 2페이지 이후: 커서 이후의 일반 피드백만 (베스트 피드백 제외)
+			List<FeedbackRequest> regularFeedbacks = fetchByCursor(regularPredicate, size);
+			return toCursorSlice(regularFeedbacks, size);
+		}
+
+		// 첫 페이지: 베스트 피드백 (최대 4개) + 일반 피드백, 합쳐서 size 개
+		// 다음 커서는 일반 피드백에서 만들어지므로 베스트 피드백은 size - 1 개까지만 채운다
+		int bestLimit = Math.min(MAX_BEST_FEEDBACK_COUNT, size - 1);
+		List<FeedbackRequest> bestFeedbacks = bestLimit <= 0 ? List.of() : queryFactory
+			.selectFrom(feedbackRequest)
+			.leftJoin(feedbackRequest.customer).fetchJoin()
+			.where(feedbackRequest.isBestFeedback.isTrue())
+			.orderBy(feedbackRequest.createdAt.desc(), feedbackRequest.id.desc())
+			.limit(bestLimit)
+			.fetch();
+
+		int regularNeeded = size - bestFeedbacks.size();
+		List<FeedbackRequest> regularFeedbacks = fetchByCursor(regularPredicate, regularNeeded);
+
+		boolean hasNext = regularFeedbacks.size() > regularNeeded;
+		if (hasNext) {
+			regularFeedbacks = regularFeedbacks.subList(0, regularNeeded);
+		}
+
+		List<FeedbackRequest> combined = new ArrayList<>(bestFeedbacks);
+		combined.addAll(regularFeedbacks);
+
+		return new SliceImpl<>(combined, Pageable.ofSize(size), hasNext);
+	}
+
+	@Override
+	public Slice<FeedbackRequest> findAllFeedbacksByCursor(CreatedAtCursor cursor, int size) {
+		List<FeedbackRequest> content = fetchByCursor(new BooleanBuilder(afterCursor(cursor)), size);
+		return toCursorSlice(content, size);
+	}
+
+	/**
+	 * 커서 조건 (createdAt, id) < (cursor.createdAt, cursor.id)
+	 * idx_feedback_request_created_at_id 인덱스를 역방향 range scan 한다.
+	 */
+	private BooleanExpression afterCursor(CreatedAtCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		return feedbackRequest.createdAt.lt(cursor.createdAt())
+			.or(feedbackRequest.createdAt.eq(cursor.createdAt())
+				.and(feedbackRequest.id.lt(cursor.id())));
+	}
+
+	private List<FeedbackRequest> fetchByCursor(BooleanBuilder predicate, int size) {
+		// @ManyToOne(customer)만 fetch join - @OneToMany 컬렉션은 batch_size로 지연 로딩
+		return queryFactory
+			.selectFrom(feedbackRequest)
+			.leftJoin(feedbackRequest.customer).fetchJoin()
+			.where(predicate)
+			.orderBy(feedbackRequest.createdAt.desc(), feedbackRequest.id.desc())
+			.limit(size + 1)  // hasNext 확인용 +1
+			.fetch();
+	}
+
+	private Slice<FeedbackRequest> toCursorSlice(List<FeedbackRequest> content, int size) {
+		boolean hasNext = content.size() > size;
+		if (hasNext) {
+			content = content.subList(0, size);
+		}
+		return new SliceImpl<>(content, Pageable.ofSize(size), hasNext);
+	}
+
 	@Override
 	public List<FeedbackRequest> findFeedbackRequestsByCustomerAndDate(Long customerId, LocalDate feedbackDate) {
 		return queryFactory
@@ -1063,4 +1141,46 @@ public class FeedbackRequestRepositoryImpl implements FeedbackRequestRepositoryC
 			.fetch();
 	}
 
+	@Override
+	public List<TradeStatSource> findTradeStatSourcesByCustomerId(Long customerId) {
+		return queryFactory
+			.select(Projections.constructor(
+				TradeStatSource.class,
+				feedbackRequest.customer.id,
+				feedbackRequest.investmentType,
+				feedbackRequest.courseStatus,
+				feedbackRequest.feedbackRequestDate,
+				feedbackRequest.feedbackYear,
+				feedbackRequest.feedbackMonth,
+				feedbackRequest.feedbackWeek,
+				feedbackRequest.status,
+				feedbackRequest.pnl,
+				feedbackRequest.totalAssetPnl,
+				feedbackRequest.riskTaking,
+				feedbackRequest.rnr,
+				feedbackRequest.entryPoint,
+				feedbackRequest.directionFrameExists
+			))
+			.from(feedbackRequest)
+			.where(feedbackRequest.customer.id.eq(customerId))
+			.fetch();
+	}
+
+	@Override
+	public List<Long> findCustomerIdsWithFeedbackAfter(Long lastCustomerId, int limit) {
+		BooleanBuilder predicate = new BooleanBuilder();
+		if (lastCustomerId != null) {
+			predicate.and(feedbackRequest.customer.id.gt(lastCustomerId));
+		}
+
+		return queryFactory
+			.select(feedbackRequest.customer.id)
+			.distinct()
+			.from(feedbackRequest)
+			.where(predicate)
+			.orderBy(feedbackRequest.customer.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
 }
@@ -0,0 +1,53 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.repository.CustomerFeedbackStatRepository;
+import com.tradingpt.tpt_api.domain.feedbackrequest.service.command.CustomerFeedbackStatCommandService;
+import com.tradingpt.tpt_api.global.batch.BatchJobResult;
+import com.tradingpt.tpt_api.global.batch.KeysetBatchRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * 고객별 피드백 통계 정합성 검증 스케줄러
+ * 매일 새벽 통계 행을 feedback_request 원천 데이터와 비교하고, 어긋난 고객만 다시 계산 (통계 행이 없던 고객은 생성)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerFeedbackStatReconcileScheduler {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final CustomerFeedbackStatRepository customerFeedbackStatRepository;
+	private final CustomerFeedbackStatCommandService customerFeedbackStatCommandService;
+	private final KeysetBatchRunner keysetBatchRunner;
+
+	/**
+	 * 매일 04:15:00에 실행 (매매 통계 정합성 검증과 시간 분산)
+	 * 고객 ID 500건 단위로 원천 집계 1회 + 통계 행 조회 1회 → 어긋난 고객만 재계산 → 커밋
+	 */
+	@Scheduled(cron = "0 15 4 * * *")
+	@SchedulerLock(
+		name = "customerFeedbackStatReconcileScheduler",
+		lockAtMostFor = "PT1H",  // 최대 1시간
+		lockAtLeastFor = "PT5M"  // 인스턴스 간 시계 오차 대비 (하루 1회는 cron이 보장)
+	)
+	public void reconcile() {
+		log.info("고객별 피드백 통계 정합성 검증 시작");
+
+		BatchJobResult result = keysetBatchRunner.run(
+			"customer-feedback-stat-reconcile",
+			CHUNK_SIZE,
+			customerFeedbackStatRepository::findCustomerIdsAfter,
+			customerFeedbackStatCommandService::reconcile
+		);
+
+		log.info("고객별 피드백 통계 정합성 검증 완료: 검사={}, 재계산={}, 청크={}, 소요={}ms",
+			result.selectedRows(), result.affectedRows(), result.chunks(), result.elapsed().toMillis());
+	}
+}
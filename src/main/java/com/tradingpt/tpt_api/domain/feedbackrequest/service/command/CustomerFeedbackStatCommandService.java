@@ -0,0 +1,41 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.service.command;
+
+import java.util.List;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStatDelta;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
+
+/**
+ * 고객별 피드백 통계 갱신 서비스
+ * FeedbackRequest 변경과 같은 트랜잭션 안에서 호출된다.
+ */
+public interface CustomerFeedbackStatCommandService {
+
+	/**
+	 * 신규 피드백 요청을 통계에 반영 (저장 이후 호출)
+	 */
+	void applyCreated(FeedbackRequest feedbackRequest);
+
+	/**
+	 * 상태 변경(답변 등록, 읽음 처리)된 피드백 요청을 통계에 반영
+	 *
+	 * @param before 변경 전에 캡처한 기여분
+	 * @param after  변경 후 엔티티
+	 */
+	void applyChanged(CustomerFeedbackStatDelta before, FeedbackRequest after);
+
+	/**
+	 * 삭제된 피드백 요청을 통계에서 제거 (삭제 이후 호출)
+	 *
+	 * @param customerId 고객 ID
+	 * @param removed    삭제 전에 캡처한 기여분
+	 */
+	void applyRemoved(Long customerId, CustomerFeedbackStatDelta removed);
+
+	/**
+	 * 통계 행을 feedback_request 원천 데이터와 비교하고 어긋난 고객만 다시 계산
+	 *
+	 * @return 다시 계산한 고객 수
+	 */
+	int reconcile(List<Long> customerIds);
+}
@@ -0,0 +1,101 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.service.command;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.CustomerFeedbackStatSnapshot;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStat;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStatDelta;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
+import com.tradingpt.tpt_api.domain.feedbackrequest.repository.CustomerFeedbackStatRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CustomerFeedbackStatCommandServiceImpl implements CustomerFeedbackStatCommandService {
+
+	private final CustomerFeedbackStatRepository customerFeedbackStatRepository;
+
+	@Override
+	public void applyCreated(FeedbackRequest feedbackRequest) {
+		Long customerId = feedbackRequest.getCustomer().getId();
+		CustomerFeedbackStatDelta delta = CustomerFeedbackStatDelta.from(feedbackRequest);
+
+		int updated = applyDelta(customerId, delta, feedbackRequest.getFeedbackRequestDate());
+		if (updated == 0) {
+			// 통계 도입 이전 고객 등 행이 없으면 원천 데이터(방금 저장한 요청 포함)로 만든다
+			// 동시에 두 요청이 여기로 오면 중복 키 upsert(ON DUPLICATE KEY UPDATE)의 행 잠금으로 한쪽이 대기하고,
+			// 원천 데이터로 다시 계산한 값으로 덮어쓰므로 중복 반영되지 않는다.
+			// 같은 고객의 Customer @Version 갱신이 충돌한 쪽은 낙관적 락 실패로 통계 변경까지 함께 롤백된다.
+			customerFeedbackStatRepository.rebuildAll(List.of(customerId));
+		}
+	}
+
+	@Override
+	public void applyChanged(CustomerFeedbackStatDelta before, FeedbackRequest after) {
+		CustomerFeedbackStatDelta diff = CustomerFeedbackStatDelta.from(after).minus(before);
+		if (diff.isZero()) {
+			return;
+		}
+
+		Long customerId = after.getCustomer().getId();
+		if (applyDelta(customerId, diff, null) == 0) {
+			// 정합성 검증 스케줄러가 보정한다
+			log.warn("Customer feedback stat row missing on change: customerId={}", customerId);
+		}
+	}
+
+	@Override
+	public void applyRemoved(Long customerId, CustomerFeedbackStatDelta removed) {
+		CustomerFeedbackStatDelta delta = removed.negate();
+		int updated = customerFeedbackStatRepository.applyRemoval(
+			customerId, delta.total(), delta.unanswered(), delta.unreadResponse(), delta.tokenUsed());
+		if (updated == 0) {
+			log.warn("Customer feedback stat row missing on removal: customerId={}", customerId);
+		}
+	}
+
+	@Override
+	public int reconcile(List<Long> customerIds) {
+		if (customerIds.isEmpty()) {
+			return 0;
+		}
+
+		Map<Long, CustomerFeedbackStatSnapshot> expected = customerFeedbackStatRepository
+			.computeSnapshots(customerIds, Status.N, Status.FN)
+			.stream()
+			.collect(Collectors.toMap(CustomerFeedbackStatSnapshot::customerId, Function.identity()));
+		Map<Long, CustomerFeedbackStat> actual = customerFeedbackStatRepository.findAllById(customerIds)
+			.stream()
+			.collect(Collectors.toMap(CustomerFeedbackStat::getCustomerId, Function.identity()));
+
+		List<Long> drifted = customerIds.stream()
+			.filter(customerId -> !expected.getOrDefault(customerId, CustomerFeedbackStatSnapshot.empty(customerId))
+				.matches(actual.get(customerId)))
+			.toList();
+		if (drifted.isEmpty()) {
+			return 0;
+		}
+
+		log.warn("Customer feedback stat drift detected: customers={}", drifted);
+		customerFeedbackStatRepository.resetAll(drifted);
+		customerFeedbackStatRepository.rebuildAll(drifted);
+		return drifted.size();
+	}
+
+	private int applyDelta(Long customerId, CustomerFeedbackStatDelta delta, LocalDate requestDate) {
+		return customerFeedbackStatRepository.applyDelta(
+			customerId, delta.total(), delta.unanswered(), delta.unreadResponse(), delta.tokenUsed(), requestDate);
+	}
+}
@@ -3,25 +3,33 @@ package com.tradingpt.tpt_api.domain.feedbackrequest.service.command;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.request.CreateFeedbackRequestDTO;
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.request.UpdateFeedbackRequestDTO;
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.response.FeedbackRequestDetailResponseDTO;
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.response.UpdateTrainerWrittenResponseDTO;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStatDelta;
 import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
 import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequestAttachment;
 import com.tradingpt.tpt_api.domain.feedbackrequest.exception.FeedbackRequestErrorStatus;
 import com.tradingpt.tpt_api.domain.feedbackrequest.exception.FeedbackRequestException;
 import com.tradingpt.tpt_api.domain.feedbackrequest.repository.FeedbackRequestRepository;
+import com.tradingpt.tpt_api.domain.token.enums.TokenTransactionType;
+import com.tradingpt.tpt_api.domain.token.service.TokenLedgerService;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatContribution;
+import com.tradingpt.tpt_api.domain.tradingstat.service.command.TradingStatCommandService;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
 import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
 import com.tradingpt.tpt_api.global.common.RewardConstants;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PrecomputedFeedCache;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PublicFeed;
 import com.tradingpt.tpt_api.global.infrastructure.s3.response.S3UploadResult;
-import com.tradingpt.tpt_api.global.infrastructure.s3.service.S3FileService;
+import com.tradingpt.tpt_api.global.infrastructure.s3.service.S3ParallelUploader;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,12 +40,50 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommandService {
 
+	private static final String SCREENSHOT_DIRECTORY = "feedback-requests/screenshots";
+
 	private final FeedbackRequestRepository feedbackRequestRepository;
 	private final UserRepository userRepository;
-	private final S3FileService s3FileService;
+	private final S3ParallelUploader s3ParallelUploader;
+	private final TradingStatCommandService tradingStatCommandService;
+	private final CustomerFeedbackStatCommandService customerFeedbackStatCommandService;
+	private final TransactionTemplate transactionTemplate;
+	private final TokenLedgerService tokenLedgerService;
+	private final PrecomputedFeedCache precomputedFeedCache;
 
+	/**
+	 * 피드백 요청 생성
+	 *
+	 * <p>스크린샷은 트랜잭션 밖에서 병렬 업로드하고, 트랜잭션은 업로드 결과(key/url) 저장만 담당한다.
+	 * 업로드 동안 DB 커넥션을 잡지 않으며, DB 저장이 실패하면 업로드된 객체를 삭제한다.
+	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public FeedbackRequestDetailResponseDTO createFeedbackRequest(CreateFeedbackRequestDTO request, Long customerId) {
+		// ✅ 업로드 전에 빠르게 실패할 수 있는 검증 (트랜잭션 안에서 다시 검증)
+		Customer snapshot = getCustomerById(customerId);
+		snapshot.checkTradingType(request.getInvestmentType());
+		snapshot.validateCourseStatusCompatibility(request.getCourseStatus());
+		if (snapshot.isTokenDebitRequiredForFeedback(request.getUseToken())
+			&& tokenLedgerService.getBalance(customerId) < RewardConstants.DEFAULT_TOKEN_CONSUMPTION) {
+			throw new FeedbackRequestException(FeedbackRequestErrorStatus.INSUFFICIENT_TOKEN);
+		}
+
+		// ⭐ 스크린샷 병렬 업로드 (트랜잭션 밖)
+		List<S3UploadResult> screenshots = s3ParallelUploader.uploadAll(
+			request.getScreenshotFiles(), SCREENSHOT_DIRECTORY);
+
+		try {
+			return transactionTemplate.execute(status -> saveFeedbackRequest(request, customerId, screenshots));
+		} catch (RuntimeException e) {
+			// DB 저장(커밋 포함) 실패 시 고아 객체 보상 삭제
+			s3ParallelUploader.deleteQuietly(screenshots.stream().map(S3UploadResult::key).toList());
+			throw e;
+		}
+	}
+
+	private FeedbackRequestDetailResponseDTO saveFeedbackRequest(CreateFeedbackRequestDTO request, Long customerId,
+		List<S3UploadResult> screenshots) {
 		Customer customer = getCustomerById(customerId);
 
 		// ✅ 사용자의 트레이딩 타입 체크 (DDD: Entity에서 검증)
@@ -46,17 +92,14 @@ public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommand
 		// ✅ courseStatus 검증 (DDD: Entity에서 검증)
 		customer.validateCourseStatusCompatibility(request.getCourseStatus());
 
-		// ✅ 토큰 검증 및 차감 (DDD: Entity에서 검증 및 상태 변경)
-		boolean tokenConsumed = customer.validateAndConsumeTokenForFeedback(
-			request.getUseToken(),
-			RewardConstants.DEFAULT_TOKEN_CONSUMPTION
-		);
+		// ✅ 토큰 사용 여부 판별 (DDD: Entity에서 멤버십별 분기, 실제 차감은 저장 후 원장에서 처리)
+		boolean tokenConsumed = customer.usesTokenForFeedback(request.getUseToken());
 
 		// ✅ FeedbackRequest 생성 (DDD: Entity Factory Method 활용)
 		FeedbackRequest feedbackRequest = FeedbackRequest.createFrom(request, customer);
 
-		// ⭐ 스크린샷 업로드 (공통 메서드 사용)
-		uploadScreenshots(request.getScreenshotFiles(), feedbackRequest);
+		// ⭐ 업로드된 스크린샷 연결
+		attachScreenshots(screenshots, feedbackRequest);
 
 		// ✅ 토큰 사용 여부 설정
 		if (tokenConsumed) {
@@ -70,23 +113,45 @@ public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommand
 		// CASCADE 설정으로 FeedbackRequest 저장 시 attachment도 자동 저장됨
 		FeedbackRequest saved = feedbackRequestRepository.save(feedbackRequest);
 
+		// ✅ BASIC 멤버십 토큰 조건부 차감 + 원장 기록 (잔액 부족 시 트랜잭션 롤백)
+		if (customer.isTokenDebitRequiredForFeedback(request.getUseToken())) {
+			boolean debited = tokenLedgerService.debit(
+				customerId,
+				RewardConstants.DEFAULT_TOKEN_CONSUMPTION,
+				TokenTransactionType.FEEDBACK_REQUEST,
+				saved.getId(),
+				"feedback-request:" + saved.getId()
+			);
+			if (!debited) {
+				throw new FeedbackRequestException(FeedbackRequestErrorStatus.INSUFFICIENT_TOKEN);
+			}
+		}
+
+		// ⭐ 매매 통계 집계 / 고객별 피드백 통계 반영 (같은 트랜잭션)
+		tradingStatCommandService.applyCreated(saved);
+		customerFeedbackStatCommandService.applyCreated(saved);
+
 		// ⭐ 피드백 카운트 증가 및 토큰 보상 (DDD 패턴)
 		customer.incrementFeedbackCount();
-		boolean rewarded = customer.rewardTokensIfEligible(
-			RewardConstants.FEEDBACK_THRESHOLD,
-			RewardConstants.TOKEN_REWARD_AMOUNT
-		);
-
-		if (rewarded) {
-			log.info("🎉 Token reward milestone reached! customerId={}, feedbackCount={}, tokensEarned={}, totalTokens={}",
+		if (customer.isTokenRewardDue(RewardConstants.FEEDBACK_THRESHOLD)) {
+			tokenLedgerService.credit(
 				customerId,
-				customer.getFeedbackRequestCount(),
 				RewardConstants.TOKEN_REWARD_AMOUNT,
-				customer.getToken());
+				TokenTransactionType.FEEDBACK_REWARD,
+				saved.getId(),
+				"feedback-reward:" + customerId + ":" + customer.getFeedbackRequestCount()
+			);
+			log.info("🎉 Token reward milestone reached! customerId={}, feedbackCount={}, tokensEarned={}",
+				customerId,
+				customer.getFeedbackRequestCount(),
+				RewardConstants.TOKEN_REWARD_AMOUNT);
 		}
 
 		// JPA Dirty Checking이 자동으로 Customer UPDATE (save() 불필요)
 
+		// 공개 피드 재생성 (커밋 이후)
+		precomputedFeedCache.refresh(PublicFeed.FEEDBACK);
+
 		return FeedbackRequestDetailResponseDTO.from(saved);
 	}
 
@@ -106,6 +171,9 @@ public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommand
 		// 3. 수정 가능 상태 검증 (DDD: Entity에서 검증)
 		feedbackRequest.validateUpdatable();
 
+		// 매매 통계 집계 갱신을 위해 변경 전 값 캡처
+		TradingStatContribution before = TradingStatContribution.from(feedbackRequest);
+
 		// 4. 매매 기본 정보 업데이트 (DDD: Entity 비즈니스 메서드)
 		feedbackRequest.updateTradingData(
 			request.getCategory(),
@@ -146,9 +214,14 @@ public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommand
 			request.getPositionEndDate()
 		);
 
+		// 7. 매매 통계 집계 반영 (변경 전 기여분 제거 + 변경 후 기여분 추가)
+		tradingStatCommandService.applyChanged(before, feedbackRequest);
+
 		log.info("Feedback request updated: feedbackRequestId={}, customerId={}",
 			feedbackRequestId, customerId);
 
+		precomputedFeedCache.refresh(PublicFeed.FEEDBACK);
+
 		// JPA Dirty Checking이 자동으로 UPDATE 처리 (save() 불필요)
 		return FeedbackRequestDetailResponseDTO.from(feedbackRequest);
 	}
@@ -166,11 +239,16 @@ public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommand
 		// ✅ 누적 작성 횟수는 삭제 시에도 감소하지 않음 (총 몇 개를 작성했는지만 카운트)
 		// 피드백 카운트는 단조증가하므로 decrementFeedbackCount() 호출 제거
 
+		tradingStatCommandService.applyRemoved(TradingStatContribution.from(feedbackRequest));
+		CustomerFeedbackStatDelta removed = CustomerFeedbackStatDelta.from(feedbackRequest);
 		feedbackRequestRepository.delete(feedbackRequest);
+		customerFeedbackStatCommandService.applyRemoved(customerId, removed);
 
 		log.info("Feedback deleted: feedbackRequestId={}, customerId={}",
 			feedbackRequestId, customerId);
 
+		precomputedFeedCache.refresh(PublicFeed.FEEDBACK);
+
 		return null;
 	}
 
@@ -180,10 +258,16 @@ public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommand
 			.orElseThrow(() -> new FeedbackRequestException(FeedbackRequestErrorStatus.FEEDBACK_REQUEST_NOT_FOUND));
 
 		// Admin은 소유권 검증 없이 모든 피드백 삭제 가능
+		Long customerId = feedbackRequest.getCustomer().getId();
+		tradingStatCommandService.applyRemoved(TradingStatContribution.from(feedbackRequest));
+		CustomerFeedbackStatDelta removed = CustomerFeedbackStatDelta.from(feedbackRequest);
 		feedbackRequestRepository.delete(feedbackRequest);
+		customerFeedbackStatCommandService.applyRemoved(customerId, removed);
 
 		log.info("Feedback deleted by admin: feedbackRequestId={}, customerId={}",
-			feedbackRequestId, feedbackRequest.getCustomer().getId());
+			feedbackRequestId, customerId);
+
+		precomputedFeedCache.refresh(PublicFeed.FEEDBACK);
 
 		return null;
 	}
@@ -204,6 +288,7 @@ public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommand
 		currentBestFeedbacks.forEach(feedback ->
 			feedback.updateIsBestFeedback(false)
 		);
+		precomputedFeedCache.refresh(PublicFeed.FEEDBACK);
 
 		// 3. 빈 배열이면 여기서 종료 (모든 베스트 해제만)
 		if (feedbackIds.isEmpty()) {
@@ -252,6 +337,8 @@ public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommand
 
 		log.info("Trainer-written feedbacks updated: {} feedbacks marked", updatedIds.size());
 
+		precomputedFeedCache.refresh(PublicFeed.FEEDBACK);
+
 		// JPA Dirty Checking이 자동으로 UPDATE 처리 (save() 불필요)
 		return UpdateTrainerWrittenResponseDTO.from(updatedIds);
 	}
@@ -261,25 +348,17 @@ public class FeedbackRequestCommandServiceImpl implements FeedbackRequestCommand
 	// ========================================
 
 	/**
-	 * 스크린샷 파일들을 S3에 업로드하고 FeedbackRequestAttachment를 생성한다.
+	 * 업로드된 스크린샷으로 FeedbackRequestAttachment를 생성한다.
 	 *
-	 * @param screenshotFiles 업로드할 스크린샷 파일 리스트
+	 * @param screenshots     S3 업로드 결과 리스트
 	 * @param feedbackRequest 첨부될 피드백 요청 엔티티
 	 */
-	private void uploadScreenshots(List<MultipartFile> screenshotFiles, FeedbackRequest feedbackRequest) {
-		if (screenshotFiles == null || screenshotFiles.isEmpty()) {
-			return;
-		}
-
-		for (MultipartFile screenshotFile : screenshotFiles) {
-			if (screenshotFile != null && !screenshotFile.isEmpty()) {
-				S3UploadResult uploadResult = s3FileService.upload(screenshotFile, "feedback-requests/screenshots");
-				FeedbackRequestAttachment.createFrom(feedbackRequest, uploadResult.url(), uploadResult.key());
-			}
+	private void attachScreenshots(List<S3UploadResult> screenshots, FeedbackRequest feedbackRequest) {
+		for (S3UploadResult uploadResult : screenshots) {
+			FeedbackRequestAttachment.createFrom(feedbackRequest, uploadResult.url(), uploadResult.key());
 		}
 	}
 
-
 	/**
 	 * Customer ID로 Customer 엔티티를 조회한다.
 	 *
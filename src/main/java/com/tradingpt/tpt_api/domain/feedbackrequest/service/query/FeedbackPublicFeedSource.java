@@ -0,0 +1,60 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.service.query;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.dto.response.FeedbackCardResponseDTO;
+import com.tradingpt.tpt_api.domain.feedbackrequest.dto.response.FeedbackListResponseDTO;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
+import com.tradingpt.tpt_api.domain.feedbackrequest.repository.FeedbackRequestRepository;
+import com.tradingpt.tpt_api.global.common.dto.SliceInfo;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PublicFeed;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PublicFeedSource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드백 목록 공개 피드 (베스트 피드백 + 최신 피드백 카드)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedbackPublicFeedSource implements PublicFeedSource<FeedbackListResponseDTO> {
+
+	/** 컨트롤러 기본 페이지 크기 (@PageableDefault(size = 12)) */
+	private static final int PAGE_SIZE = 12;
+
+	private final FeedbackRequestRepository feedbackRequestRepository;
+
+	@Override
+	public PublicFeed feed() {
+		return PublicFeed.FEEDBACK;
+	}
+
+	@Override
+	public Class<FeedbackListResponseDTO> pageType() {
+		return FeedbackListResponseDTO.class;
+	}
+
+	@Override
+	public Pageable pageRequest(int page) {
+		return PageRequest.of(page, PAGE_SIZE);
+	}
+
+	@Override
+	public FeedbackListResponseDTO loadPage(Pageable pageable) {
+		Slice<FeedbackRequest> feedbackSlice = feedbackRequestRepository
+			.findAllFeedbackRequestsSlice(pageable);
+
+		Slice<FeedbackCardResponseDTO> cardSlice = feedbackSlice
+			.map(FeedbackCardResponseDTO::from);
+
+		return FeedbackListResponseDTO.of(
+			cardSlice.getContent(),
+			SliceInfo.of(cardSlice)
+		);
+	}
+}
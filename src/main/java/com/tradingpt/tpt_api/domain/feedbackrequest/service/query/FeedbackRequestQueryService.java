@@ -40,6 +40,26 @@ public interface FeedbackRequestQueryService {
 	 */
 	AdminFeedbackResponseDTO getAdminFeedbackListSlice(Pageable pageable);
 
+	/**
+	 * 모든 피드백 요청 목록 조회 (커서 기반)
+	 *
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 * @return 피드백 리스트
+	 */
+	FeedbackListResponseDTO getFeedbackListByCursor(String cursor, int size);
+
+	/**
+	 * 어드민 페이지 (커서 기반)
+	 * 1. 현재 선정된 베스트 피드백 (첫 페이지에서만 조회)
+	 * 2. 전체 피드백 요청 목록
+	 *
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 * @return 어드민 피드백 목록
+	 */
+	AdminFeedbackResponseDTO getAdminFeedbackListByCursor(String cursor, int size);
+
 	/**
 	 * 특정 날짜의 피드백 요청 목록 조회
 	 *
@@ -9,6 +9,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.DailyPnlProjection;
@@ -28,13 +29,17 @@ import com.tradingpt.tpt_api.domain.feedbackrequest.dto.response.TokenUsedFeedba
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.response.TotalFeedbackListResponseDTO;
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.response.TrainerWrittenFeedbackItemDTO;
 import com.tradingpt.tpt_api.domain.feedbackrequest.dto.response.TrainerWrittenFeedbackListResponseDTO;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStatDelta;
 import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
 import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
 import com.tradingpt.tpt_api.domain.feedbackrequest.exception.FeedbackRequestErrorStatus;
 import com.tradingpt.tpt_api.domain.feedbackrequest.exception.FeedbackRequestException;
 import com.tradingpt.tpt_api.domain.feedbackrequest.repository.FeedbackRequestRepository;
+import com.tradingpt.tpt_api.domain.feedbackrequest.service.command.CustomerFeedbackStatCommandService;
 import com.tradingpt.tpt_api.domain.feedbackrequest.util.DateValidationUtil;
 import com.tradingpt.tpt_api.domain.feedbackresponse.entity.FeedbackResponse;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatContribution;
+import com.tradingpt.tpt_api.domain.tradingstat.service.command.TradingStatCommandService;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.entity.User;
 import com.tradingpt.tpt_api.domain.user.enums.Role;
@@ -43,7 +48,10 @@ import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
 import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
 import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
+import com.tradingpt.tpt_api.global.common.dto.CreatedAtCursor;
 import com.tradingpt.tpt_api.global.common.dto.SliceInfo;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PrecomputedFeedCache;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PublicFeed;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -54,22 +62,23 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class FeedbackRequestQueryServiceImpl implements FeedbackRequestQueryService {
 
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
 	private final FeedbackRequestRepository feedbackRequestRepository;
 	private final UserRepository userRepository;
 	private final CustomerRepository customerRepository;
+	private final TradingStatCommandService tradingStatCommandService;
+	private final CustomerFeedbackStatCommandService customerFeedbackStatCommandService;
+	private final FeedbackPublicFeedSource feedbackPublicFeedSource;
+	private final PrecomputedFeedCache precomputedFeedCache;
 
+	/**
+	 * 앞쪽 페이지는 미리 계산된 피드에서 반환 (캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행)
+	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public FeedbackListResponseDTO getFeedbackListSlice(Pageable pageable) {
-		Slice<FeedbackRequest> feedbackSlice = feedbackRequestRepository
-			.findAllFeedbackRequestsSlice(pageable);
-
-		Slice<FeedbackCardResponseDTO> cardSlice = feedbackSlice
-			.map(FeedbackCardResponseDTO::from);
-
-		return FeedbackListResponseDTO.of(
-			cardSlice.getContent(),
-			SliceInfo.of(cardSlice)
-		);
+		return precomputedFeedCache.getPage(feedbackPublicFeedSource, pageable);
 	}
 
 	@Override
@@ -102,6 +111,69 @@ public class FeedbackRequestQueryServiceImpl implements FeedbackRequestQueryServ
 		return AdminFeedbackResponseDTO.of(selectedBestFeedbacks, totalFeedbacks);
 	}
 
+	@Override
+	public FeedbackListResponseDTO getFeedbackListByCursor(String cursor, int size) {
+		CreatedAtCursor decodedCursor = CreatedAtCursor.decode(cursor);
+
+		Slice<FeedbackRequest> feedbackSlice = feedbackRequestRepository
+			.findAllFeedbackRequestsByCursor(decodedCursor, clampPageSize(size));
+
+		List<FeedbackCardResponseDTO> cards = feedbackSlice.getContent().stream()
+			.map(FeedbackCardResponseDTO::from)
+			.toList();
+
+		return FeedbackListResponseDTO.of(
+			cards,
+			SliceInfo.ofCursor(feedbackSlice, decodedCursor == null, nextCursorOf(feedbackSlice))
+		);
+	}
+
+	@Override
+	public AdminFeedbackResponseDTO getAdminFeedbackListByCursor(String cursor, int size) {
+		CreatedAtCursor decodedCursor = CreatedAtCursor.decode(cursor);
+
+		// 1. 베스트 피드백은 첫 페이지에서만 조회 (이후 페이지는 null)
+		SelectedBestFeedbackListResponseDTO selectedBestFeedbacks = null;
+		if (decodedCursor == null) {
+			List<AdminFeedbackCardResponseDTO> bestFeedbackCards = feedbackRequestRepository
+				.findByIsBestFeedbackTrueOrderByCreatedAtDesc(
+					PageRequest.of(0, FeedbackRequest.MAX_BEST_FEEDBACK_COUNT))
+				.stream()
+				.map(this::toAdminFeedbackCardDTO)
+				.toList();
+			selectedBestFeedbacks = SelectedBestFeedbackListResponseDTO.from(bestFeedbackCards);
+		}
+
+		// 2. 전체 피드백 조회 및 변환
+		Slice<FeedbackRequest> allFeedbackSlice = feedbackRequestRepository
+			.findAllFeedbacksByCursor(decodedCursor, clampPageSize(size));
+
+		TotalFeedbackListResponseDTO totalFeedbacks = TotalFeedbackListResponseDTO.builder()
+			.adminFeedbackCardResponseDTOS(allFeedbackSlice.getContent().stream()
+				.map(this::toAdminFeedbackCardDTO)
+				.toList())
+			.sliceInfo(SliceInfo.ofCursor(allFeedbackSlice, decodedCursor == null, nextCursorOf(allFeedbackSlice)))
+			.build();
+
+		return AdminFeedbackResponseDTO.of(selectedBestFeedbacks, totalFeedbacks);
+	}
+
+	private int clampPageSize(int size) {
+		return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+	}
+
+	/**
+	 * 슬라이스 마지막 항목으로 다음 페이지 커서 생성
+	 */
+	private String nextCursorOf(Slice<FeedbackRequest> slice) {
+		if (!slice.hasContent()) {
+			return null;
+		}
+		List<FeedbackRequest> content = slice.getContent();
+		FeedbackRequest last = content.get(content.size() - 1);
+		return CreatedAtCursor.of(last.getCreatedAt(), last.getId()).encode();
+	}
+
 	@Override
 	public List<FeedbackRequestListItemResponseDTO> getDailyFeedbackRequests(
 		Long customerId,
@@ -317,8 +389,13 @@ public class FeedbackRequestQueryServiceImpl implements FeedbackRequestQueryServ
 		// 3. ✅ 읽음 처리 (FeedbackResponse가 있고 아직 읽지 않은 경우)
 		FeedbackResponse feedbackResponse = feedbackRequest.getFeedbackResponse();
 		if (feedbackResponse != null && feedbackRequest.getStatus() == Status.FN) {
+			TradingStatContribution before = TradingStatContribution.from(feedbackRequest);
+			CustomerFeedbackStatDelta statBefore = CustomerFeedbackStatDelta.from(feedbackRequest);
 			feedbackRequest.setStatus(Status.FR);
+			tradingStatCommandService.applyChanged(before, feedbackRequest);
+			customerFeedbackStatCommandService.applyChanged(statBefore, feedbackRequest);
 			log.info("Feedback request marked as read: id={}", feedbackRequestId);
+			precomputedFeedCache.refresh(PublicFeed.FEEDBACK);  // 카드의 읽음 상태 반영
 		}
 
 		// 4. 통합 DTO 사용하여 응답 생성 (Single Table 전략)
@@ -52,17 +52,49 @@ public final class TradingCalculationUtil {
 	 * }</pre>
 	 */
 	public static Double calculateWinRate(Integer totalCount, Integer winCount) {
+		if (totalCount == null) {
+			throw new FeedbackRequestException(FeedbackRequestErrorStatus.INVALID_WIN_RATE_TOTAL_COUNT_NULL);
+		}
+		if (winCount == null) {
+			throw new FeedbackRequestException(FeedbackRequestErrorStatus.INVALID_WIN_RATE_WIN_COUNT_NULL);
+		}
+		return calculateWinRate(totalCount.intValue(), winCount.intValue());
+	}
+
+	/**
+	 * 승률을 계산합니다. (primitive 버전)
+	 *
+	 * <p>승리 횟수 / 매매 횟수를 소수점 넷째 자리(= 0.01% 단위)에서 HALF_UP 반올림한 뒤 백분율로 바꾼다.
+	 * BigDecimal 나눗셈과 같은 결과를 정수 연산만으로 얻는다.</p>
+	 *
+	 * @param totalCount 전체 매매 횟수
+	 * @param winCount 승리 횟수
+	 * @return 승률 (0.00 ~ 100.00), 매매 횟수가 0이면 0.0 반환
+	 */
+	public static double calculateWinRate(int totalCount, int winCount) {
 		validateWinRateInputs(totalCount, winCount);
 
 		if (totalCount == 0) {
 			return 0.0;
 		}
 
-		return BigDecimal.valueOf(winCount)
-			.divide(BigDecimal.valueOf(totalCount), 4, RoundingMode.HALF_UP)
-			.multiply(BigDecimal.valueOf(100))
-			.setScale(2, RoundingMode.HALF_UP)
-			.doubleValue();
+		// 0.01% 단위 승률, HALF_UP: floor((win * 10000 * 2 + total) / (total * 2))
+		long basisPoints = (winCount * 20_000L + totalCount) / (totalCount * 2L);
+		return basisPoints / 100.0;
+	}
+
+	/**
+	 * 수익 매매들의 평균 R&R 을 합계로부터 계산합니다. (집계 테이블용)
+	 *
+	 * @param winningRnrSum 수익 매매 R&R 합계
+	 * @param winCount 수익 매매 횟수
+	 * @return 평균 R&R (소수점 둘째 자리 반올림), 수익 매매가 없으면 0.0 반환
+	 */
+	public static double calculateAverageWinningRnr(double winningRnrSum, int winCount) {
+		if (winCount == 0) {
+			return 0.0;
+		}
+		return Math.round((winningRnrSum / winCount) * 100.0) / 100.0;
 	}
 
 	/**
@@ -178,13 +210,7 @@ public final class TradingCalculationUtil {
 	 * @param winCount 승리 횟수
 	 * @throws FeedbackRequestException 유효하지 않은 입력인 경우
 	 */
-	private static void validateWinRateInputs(Integer totalCount, Integer winCount) {
-		if (totalCount == null) {
-			throw new FeedbackRequestException(FeedbackRequestErrorStatus.INVALID_WIN_RATE_TOTAL_COUNT_NULL);
-		}
-		if (winCount == null) {
-			throw new FeedbackRequestException(FeedbackRequestErrorStatus.INVALID_WIN_RATE_WIN_COUNT_NULL);
-		}
+	private static void validateWinRateInputs(int totalCount, int winCount) {
 		if (totalCount < 0) {
 			throw new FeedbackRequestException(FeedbackRequestErrorStatus.INVALID_WIN_RATE_TOTAL_COUNT_NEGATIVE);
 		}
@@ -9,15 +9,19 @@ import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStatDelta;
 import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
 import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
 import com.tradingpt.tpt_api.domain.feedbackrequest.exception.FeedbackRequestErrorStatus;
 import com.tradingpt.tpt_api.domain.feedbackrequest.exception.FeedbackRequestException;
 import com.tradingpt.tpt_api.domain.feedbackrequest.repository.FeedbackRequestRepository;
+import com.tradingpt.tpt_api.domain.feedbackrequest.service.command.CustomerFeedbackStatCommandService;
 import com.tradingpt.tpt_api.domain.feedbackresponse.dto.request.CreateFeedbackResponseRequestDTO;
 import com.tradingpt.tpt_api.domain.feedbackresponse.dto.request.UpdateFeedbackResponseRequestDTO;
 import com.tradingpt.tpt_api.domain.feedbackresponse.dto.response.FeedbackResponseDTO;
 import com.tradingpt.tpt_api.domain.feedbackresponse.entity.FeedbackResponse;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatContribution;
+import com.tradingpt.tpt_api.domain.tradingstat.service.command.TradingStatCommandService;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.entity.User;
 import com.tradingpt.tpt_api.domain.user.enums.Role;
@@ -25,6 +29,8 @@ import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
 import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
 import com.tradingpt.tpt_api.global.infrastructure.content.ContentImageUploader;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PrecomputedFeedCache;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PublicFeed;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +50,9 @@ public class FeedbackResponseCommandServiceImpl implements FeedbackResponseComma
 	private final FeedbackRequestRepository feedbackRequestRepository;
 	private final UserRepository userRepository;
 	private final ContentImageUploader contentImageUploader;
+	private final TradingStatCommandService tradingStatCommandService;
+	private final CustomerFeedbackStatCommandService customerFeedbackStatCommandService;
+	private final PrecomputedFeedCache precomputedFeedCache;
 
 	@Override
 	public FeedbackResponseDTO createFeedbackResponse(
@@ -88,14 +97,21 @@ public class FeedbackResponseCommandServiceImpl implements FeedbackResponseComma
 		// 6. 이미지 첨부파일 추출 및 저장
 		extractAndSaveAttachments(feedbackResponse, processedContent);
 
-		// 7. 피드백 상태 업데이트 (FN: 응답 완료, 아직 읽지 않음)
+		// 7. 피드백 상태 업데이트 (FN: 응답 완료, 아직 읽지 않음) + 매매 통계 집계/고객별 피드백 통계의 N/FN 개수 반영
+		TradingStatContribution before = TradingStatContribution.from(feedbackRequest);
+		CustomerFeedbackStatDelta statBefore = CustomerFeedbackStatDelta.from(feedbackRequest);
 		feedbackRequest.setStatus(Status.FN);
+		tradingStatCommandService.applyChanged(before, feedbackRequest);
+		customerFeedbackStatCommandService.applyChanged(statBefore, feedbackRequest);
 
 		// 8. 저장 (cascade로 FeedbackResponse와 Attachment도 함께 저장됨)
 		feedbackRequestRepository.save(feedbackRequest);
 
 		log.info("Feedback response created successfully for feedbackRequestId={}", feedbackRequestId);
 
+		// 공개 피드 재생성 (카드의 응답 상태 반영, 커밋 이후)
+		precomputedFeedCache.refresh(PublicFeed.FEEDBACK);
+
 		return FeedbackResponseDTO.of(feedbackResponse, writer);
 	}
 
@@ -5,9 +5,11 @@ import com.tradingpt.tpt_api.domain.lecture.dto.request.ChapterCreateRequestDTO;
 import com.tradingpt.tpt_api.domain.lecture.dto.response.ChapterListResponseDTO;
 import com.tradingpt.tpt_api.domain.lecture.dto.response.CustomerHomeworkSummaryResponseDTO;
 import com.tradingpt.tpt_api.domain.lecture.dto.response.LectureDetailResponseDTO;
+import com.tradingpt.tpt_api.domain.lecture.dto.response.LectureOpenResultResponseDTO;
 import com.tradingpt.tpt_api.domain.lecture.dto.request.LectureRequestDTO;
 import com.tradingpt.tpt_api.domain.lecture.service.command.AdminChapterCommandService;
 import com.tradingpt.tpt_api.domain.lecture.service.command.AdminLectureCommandService;
+import com.tradingpt.tpt_api.domain.lecture.service.command.LectureOpenService;
 import com.tradingpt.tpt_api.domain.lecture.service.query.AdminLectureQueryService;
 import com.tradingpt.tpt_api.global.common.BaseResponse;
 
@@ -43,6 +45,7 @@ public class AdminLectureV1Controller {
     private final AdminChapterCommandService adminChapterCommandService;
     private final AdminLectureCommandService adminLectureCommandService;
     private final AdminLectureQueryService adminLectureQueryService;
+    private final LectureOpenService lectureOpenService;
     private final S3FileService s3FileService;
 
     @Operation(summary = "챕터 생성(어드민)",
@@ -165,6 +168,15 @@ public class AdminLectureV1Controller {
         return ResponseEntity.ok(BaseResponse.onSuccess(openedLectureId));
     }
 
+    @Operation(summary = "주차별 강의 오픈 dry-run(어드민)",
+            description = "다음 주차별 강의 오픈 배치가 몇 명의 고객에게 몇 개의 강의를 열지 계산합니다. 실제 변경은 없습니다.")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/open/dry-run")
+    public ResponseEntity<BaseResponse<LectureOpenResultResponseDTO>> dryRunWeeklyLectureOpen() {
+        LectureOpenResultResponseDTO result = lectureOpenService.openWeeklyForActiveSubscriptions(true);
+        return ResponseEntity.ok(BaseResponse.onSuccess(result));
+    }
+
     @Operation(
             summary = "특정 회원 과제 현황 조회(어드민)",
             description = " 내 담당 고객 관리 > 과제 관리 화면에 필요한 데이터를 반환합니다."
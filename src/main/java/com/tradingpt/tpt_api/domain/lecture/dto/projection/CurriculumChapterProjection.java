@@ -0,0 +1,33 @@
+package com.tradingpt.tpt_api.domain.lecture.dto.projection;
+
+import java.util.List;
+
+import com.tradingpt.tpt_api.domain.lecture.enums.ChapterType;
+
+/**
+ * 커리큘럼 카탈로그 Projection (사용자 진도 제외, 캐시 대상)
+ *
+ * @param chapterId   챕터 ID
+ * @param title       챕터 이름
+ * @param description 챕터 설명
+ * @param chapterType 챕터 타입
+ * @param lectures    강의 순서대로 정렬된 강의 목록
+ */
+public record CurriculumChapterProjection(
+    Long chapterId,
+    String title,
+    String description,
+    ChapterType chapterType,
+    List<Lecture> lectures
+) {
+
+    public record Lecture(
+        Long lectureId,
+        String title,
+        String content,
+        String thumbnailUrl,
+        Integer durationSeconds,
+        Integer requiredTokens
+    ) {
+    }
+}
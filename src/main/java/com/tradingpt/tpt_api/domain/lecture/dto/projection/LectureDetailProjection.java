@@ -0,0 +1,43 @@
+package com.tradingpt.tpt_api.domain.lecture.dto.projection;
+
+import java.util.List;
+
+import com.tradingpt.tpt_api.domain.lecture.entity.Lecture;
+
+/**
+ * 강의 상세 카탈로그 Projection (사용자 진도 제외, 캐시 대상)
+ */
+public record LectureDetailProjection(
+    Long lectureId,
+    Long chapterId,
+    String title,
+    String content,
+    Integer durationSeconds,
+    Integer lectureOrder,
+    Integer requiredTokens,
+    String thumbnailUrl,
+    List<Attachment> attachments
+) {
+
+    public static LectureDetailProjection from(Lecture lecture) {
+        return new LectureDetailProjection(
+            lecture.getId(),
+            lecture.getChapter().getId(),
+            lecture.getTitle(),
+            lecture.getContent(),
+            lecture.getDurationSeconds(),
+            lecture.getLectureOrder(),
+            lecture.getRequiredTokens(),
+            lecture.getThumbnailUrl(),
+            lecture.getAttachments().stream()
+                .map(attachment -> new Attachment(attachment.getId(), attachment.getFileKey()))
+                .toList()
+        );
+    }
+
+    public record Attachment(
+        Long id,
+        String fileKey
+    ) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.tradingpt.tpt_api.domain.lecture.dto.projection;
+
+/**
+ * 주차별 강의 오픈 대상 Projection
+ *
+ * @param customerId        고객 ID
+ * @param openChapterNumber 현재 열린 PRO 강의 수 (null 이면 0)
+ */
+public record LectureOpenTarget(
+    Long customerId,
+    Integer openChapterNumber
+) {
+
+    public int openedCount() {
+        return openChapterNumber != null ? openChapterNumber : 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.tradingpt.tpt_api.domain.lecture.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 버퍼에서 (고객, 강의) 단위로 합쳐진 시청 진행도
+ *
+ * <p>여러 heartbeat 를 순서대로 적용한 결과와 같아지도록 다음 값을 보관한다.
+ * <ul>
+ *   <li>firstPosition: 구간 첫 heartbeat 위치 (DB 의 마지막 위치와 비교해 누적 시간 계산)</li>
+ *   <li>additionalWatchedSeconds: 이후 heartbeat 들 사이에서 앞으로 진행한 시간의 합</li>
+ *   <li>lastPosition: 마지막 heartbeat 위치</li>
+ * </ul>
+ *
+ * @param customerId               고객 ID
+ * @param lectureId                강의 ID
+ * @param firstPosition            구간 첫 재생 위치(초, 강의 길이로 클램프됨)
+ * @param additionalWatchedSeconds 구간 내 추가 누적 시청 시간(초)
+ * @param lastPosition             마지막 재생 위치(초, 강의 길이로 클램프됨)
+ * @param lastWatchedAt            마지막 heartbeat 시각
+ * @param durationSeconds          강의 길이(초) - 완강 판정용
+ */
+public record LectureProgressHeartbeat(
+    Long customerId,
+    Long lectureId,
+    int firstPosition,
+    int additionalWatchedSeconds,
+    int lastPosition,
+    LocalDateTime lastWatchedAt,
+    int durationSeconds
+) {
+
+    /** 완강 기준 누적 시청 시간 (강의 길이의 90%) */
+    public double completionThresholdSeconds() {
+        return durationSeconds * 0.9;
+    }
+}
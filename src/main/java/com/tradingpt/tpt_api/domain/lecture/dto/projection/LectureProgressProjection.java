@@ -0,0 +1,21 @@
+package com.tradingpt.tpt_api.domain.lecture.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커리큘럼에 합칠 사용자별 강의 진도 Projection
+ *
+ * @param lectureId      강의 ID
+ * @param watchedSeconds 누적 시청 시간(초)
+ * @param isCompleted    완강 여부
+ * @param lastWatchedAt  마지막 시청 시각
+ * @param dueDate        수강 만료일
+ */
+public record LectureProgressProjection(
+    Long lectureId,
+    Integer watchedSeconds,
+    Boolean isCompleted,
+    LocalDateTime lastWatchedAt,
+    LocalDateTime dueDate
+) {
+}
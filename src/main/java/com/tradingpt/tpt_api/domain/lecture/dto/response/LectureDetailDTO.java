@@ -1,7 +1,6 @@
 package com.tradingpt.tpt_api.domain.lecture.dto.response;
 
-import com.tradingpt.tpt_api.domain.lecture.entity.Lecture;
-import com.tradingpt.tpt_api.domain.lecture.entity.LectureAttachment;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureDetailProjection;
 import com.tradingpt.tpt_api.domain.lecture.entity.LectureProgress;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -58,23 +57,23 @@ public class LectureDetailDTO {
     @Schema(description = "마지막 재생 위치(초)", example = "45", nullable = true)
     private Integer lastPositionedSeconds;
 
-    /** Lecture + LectureProgress -> DTO */
-    public static LectureDetailDTO from(Lecture lecture, LectureProgress progress) {
+    /** 강의 카탈로그(캐시) + LectureProgress -> DTO */
+    public static LectureDetailDTO from(LectureDetailProjection lecture, LectureProgress progress) {
 
-        List<AttachmentInfo> attachmentInfos = lecture.getAttachments().stream()
+        List<AttachmentInfo> attachmentInfos = lecture.attachments().stream()
                 .map(AttachmentInfo::from)
                 .collect(Collectors.toList());
 
         return LectureDetailDTO.builder()
                 // --- lecture ---
-                .lectureId(lecture.getId())
-                .chapterId(lecture.getChapter().getId())
-                .title(lecture.getTitle())
-                .content(lecture.getContent())
-                .durationSeconds(lecture.getDurationSeconds())
-                .lectureOrder(lecture.getLectureOrder())
-                .requiredTokens(lecture.getRequiredTokens())
-                .thumbnailUrl(lecture.getThumbnailUrl())
+                .lectureId(lecture.lectureId())
+                .chapterId(lecture.chapterId())
+                .title(lecture.title())
+                .content(lecture.content())
+                .durationSeconds(lecture.durationSeconds())
+                .lectureOrder(lecture.lectureOrder())
+                .requiredTokens(lecture.requiredTokens())
+                .thumbnailUrl(lecture.thumbnailUrl())
                 .attachments(attachmentInfos)
                 // --- progress (null이면 전부 null) ---
                 .watchedSeconds(progress != null ? progress.getWatchedSeconds() : null)
@@ -95,10 +94,10 @@ public class LectureDetailDTO {
         @Schema(description = "S3 파일 key", example = "lectures/101/file.pdf")
         private String fileKey;
 
-        public static AttachmentInfo from(LectureAttachment attachment) {
+        public static AttachmentInfo from(LectureDetailProjection.Attachment attachment) {
             return AttachmentInfo.builder()
-                    .id(attachment.getId())
-                    .fileKey(attachment.getFileKey())
+                    .id(attachment.id())
+                    .fileKey(attachment.fileKey())
                     .build();
         }
     }
@@ -0,0 +1,44 @@
+package com.tradingpt.tpt_api.domain.lecture.dto.response;
+
+import com.tradingpt.tpt_api.global.batch.BatchJobResult;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "주차별 강의 오픈 실행 결과 DTO")
+public class LectureOpenResultResponseDTO {
+
+    @Schema(description = "dry-run 여부 (true 면 실제 변경 없음)", example = "true")
+    private final boolean dryRun;
+
+    @Schema(description = "오픈 대상 고객 수", example = "120")
+    private final long targetCustomerCount;
+
+    @Schema(description = "새로 생성된(dry-run 이면 생성될) 수강 기록 수", example = "118")
+    private final long openedProgressCount;
+
+    @Schema(description = "처리한 청크 수", example = "1")
+    private final int chunkCount;
+
+    @Schema(description = "소요 시간(ms)", example = "85")
+    private final long elapsedMillis;
+
+    public static LectureOpenResultResponseDTO of(BatchJobResult result, boolean dryRun) {
+        return LectureOpenResultResponseDTO.builder()
+                .dryRun(dryRun)
+                .targetCustomerCount(result.selectedRows())
+                .openedProgressCount(result.affectedRows())
+                .chunkCount(result.chunks())
+                .elapsedMillis(result.elapsed().toMillis())
+                .build();
+    }
+
+    public static LectureOpenResultResponseDTO empty(boolean dryRun) {
+        return LectureOpenResultResponseDTO.builder()
+                .dryRun(dryRun)
+                .build();
+    }
+}
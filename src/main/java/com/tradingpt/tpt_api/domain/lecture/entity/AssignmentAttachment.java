@@ -45,5 +45,13 @@ public class AssignmentAttachment extends BaseEntity {
 
     @Column(nullable = false)
     private int attemptNo;
+
+    /**
+     * 과제 제출 파일 저장 디렉터리 (고객별 강의 과제 단위)
+     * CloudFront 서명 범위(prefix)로도 사용하므로 다른 고객/강의의 파일이 섞이지 않아야 한다.
+     */
+    public static String directoryOf(Long lectureId, Long customerId) {
+        return "assignments/" + lectureId + "/" + customerId + "/";
+    }
 }
 
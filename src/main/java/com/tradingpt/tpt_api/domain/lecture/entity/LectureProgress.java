@@ -12,7 +12,14 @@ import java.time.LocalDateTime;
 @Getter @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "lecture_progress")
+@Table(
+        name = "lecture_progress",
+        indexes = {
+                // 강의 목록의 최신 수강 기록 조회 (lecture + customer의 MAX(due_date))
+                @Index(name = "idx_lecture_progress_lecture_customer_due",
+                        columnList = "lecture_id, customer_id, due_date")
+        }
+)
 public class LectureProgress extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
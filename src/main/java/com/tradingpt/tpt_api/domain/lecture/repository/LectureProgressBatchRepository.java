@@ -0,0 +1,95 @@
+package com.tradingpt.tpt_api.domain.lecture.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureProgressHeartbeat;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시청 진행도 JDBC 배치 저장소
+ * write-behind 버퍼에서 합쳐진 진행도를 엔티티 로딩 없이 배치 UPDATE 로 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LectureProgressBatchRepository {
+
+    /**
+     * MySQL 은 SET 절을 왼쪽부터 평가하므로 is_completed 판정은 갱신된 watched_seconds 를 사용한다.
+     * (LectureProgress.updateProgress 와 동일한 규칙: 앞으로 진행한 만큼만 누적, 90% 이상이면 완강)
+     */
+    private static final String APPLY_SQL = """
+        UPDATE lecture_progress
+        SET watched_seconds = watched_seconds + GREATEST(? - last_position_seconds, 0) + ?,
+            last_position_seconds = ?,
+            last_watched_at = ?,
+            is_completed = (is_completed OR watched_seconds >= ?),
+            updated_at = ?
+        WHERE lecture_id = ? AND customer_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 진행도 배치 반영
+     *
+     * @return 반영된 행 수 (수강 권한이 없는 heartbeat 는 0건)
+     */
+    public int applyAll(List<LectureProgressHeartbeat> heartbeats, LocalDateTime now) {
+        int[][] results = jdbcTemplate.batchUpdate(APPLY_SQL, heartbeats, heartbeats.size(), (ps, hb) -> {
+            ps.setInt(1, hb.firstPosition());
+            ps.setInt(2, hb.additionalWatchedSeconds());
+            ps.setInt(3, hb.lastPosition());
+            ps.setTimestamp(4, Timestamp.valueOf(hb.lastWatchedAt()));
+            ps.setDouble(5, hb.completionThresholdSeconds());
+            ps.setTimestamp(6, Timestamp.valueOf(now));
+            ps.setLong(7, hb.lectureId());
+            ps.setLong(8, hb.customerId());
+        });
+
+        int updated = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // rewriteBatchedStatements 사용 시 건별 결과 대신 SUCCESS_NO_INFO(-2)가 올 수 있음
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 주어진 (고객, 강의) 중 완강 여부가 completed 와 같은 진행도의 키 조회
+     *
+     * @return "customerId:lectureId" 목록
+     */
+    public List<String> findKeysByCompleted(List<LectureProgressHeartbeat> heartbeats, boolean completed) {
+        if (heartbeats.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = heartbeats.stream()
+            .map(hb -> "(?, ?)")
+            .collect(Collectors.joining(", "));
+        List<Object> params = new ArrayList<>(heartbeats.size() * 2 + 1);
+        for (LectureProgressHeartbeat hb : heartbeats) {
+            params.add(hb.lectureId());
+            params.add(hb.customerId());
+        }
+        params.add(completed);
+
+        return jdbcTemplate.query(
+            "SELECT customer_id, lecture_id FROM lecture_progress"
+                + " WHERE (lecture_id, customer_id) IN (" + placeholders + ")"
+                + " AND is_completed = ?",
+            (rs, rowNum) -> rs.getLong("customer_id") + ":" + rs.getLong("lecture_id"),
+            params.toArray()
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.tradingpt.tpt_api.domain.lecture.repository;
 import com.tradingpt.tpt_api.domain.lecture.entity.Lecture;
 import com.tradingpt.tpt_api.domain.lecture.entity.LectureProgress;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,6 +21,43 @@ public interface LectureProgressRepository extends JpaRepository<LectureProgress
 
     List<LectureProgress> findByCustomerId(Long customerId);
 
+    /** 주어진 고객들 중 해당 강의가 이미 열려 있는 고객 수 (주차별 오픈 dry-run) */
+    @Query("""
+        SELECT COUNT(lp)
+        FROM LectureProgress lp
+        WHERE lp.lecture.id = :lectureId
+          AND lp.customer.id IN :customerIds
+        """)
+    long countByLectureIdAndCustomerIdIn(
+            @Param("lectureId") Long lectureId,
+            @Param("customerIds") List<Long> customerIds
+    );
+
+    /**
+     * 주어진 고객들에게 강의 수강 기록을 한 번에 생성 (이미 열린 고객은 제외)
+     * 주차별 강의 오픈 배치에서 청크 단위 INSERT ... SELECT 로 사용
+     *
+     * @return 생성된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO lecture_progress
+            (lecture_id, customer_id, watched_seconds, last_position_seconds, is_completed, created_at, updated_at)
+        SELECT :lectureId, c.user_id, 0, 0, false, :now, :now
+        FROM customer c
+        WHERE c.user_id IN (:customerIds)
+          AND NOT EXISTS (
+              SELECT 1 FROM lecture_progress lp
+              WHERE lp.lecture_id = :lectureId
+                AND lp.customer_id = c.user_id
+          )
+        """, nativeQuery = true)
+    int insertMissingProgress(
+            @Param("lectureId") Long lectureId,
+            @Param("customerIds") List<Long> customerIds,
+            @Param("now") LocalDateTime now
+    );
+
     Optional<LectureProgress> findByLecture_IdAndCustomer_Id(Long lectureId, Long customerId);
 
     @Query("""
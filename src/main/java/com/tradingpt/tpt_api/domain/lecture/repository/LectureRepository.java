@@ -26,6 +26,15 @@ public interface LectureRepository extends JpaRepository<Lecture, Long>, Lecture
     """)
     List<Lecture> findAllOrderByChapterAndLectureOrder();
 
+    /** 챕터 타입별 강의 ID를 챕터 순서 + 강의 순서 기준으로 조회 (주차별 강의 오픈 순서) */
+    @Query("""
+        SELECT l.id FROM Lecture l
+        JOIN l.chapter c
+        WHERE c.chapterType = :chapterType
+        ORDER BY c.chapterOrder ASC, l.lectureOrder ASC
+    """)
+    List<Long> findIdsByChapterTypeOrderByChapterAndLectureOrder(@Param("chapterType") ChapterType chapterType);
+
     @Query("select distinct l from Lecture l " +
             "left join fetch l.attachments " +
             "where l.id = :id")
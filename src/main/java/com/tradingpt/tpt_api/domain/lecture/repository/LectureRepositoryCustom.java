@@ -1,9 +1,19 @@
 package com.tradingpt.tpt_api.domain.lecture.repository;
 
-import com.tradingpt.tpt_api.domain.lecture.dto.response.ChapterBlockDTO;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.CurriculumChapterProjection;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureProgressProjection;
 import java.util.List;
 
 public interface LectureRepositoryCustom {
 
-    List<ChapterBlockDTO> findCurriculum(Long userId, int page, int size);
+    /**
+     * 커리큘럼 카탈로그 조회 (챕터 순서 기준 페이징, 강의가 없는 챕터 제외)
+     */
+    List<CurriculumChapterProjection> findCurriculumCatalog(int page, int size);
+
+    /**
+     * 강의별 최신(수강 만료일이 가장 늦은) 진도 조회
+     * 수강 만료일이 없는 진도는 제외한다.
+     */
+    List<LectureProgressProjection> findLatestProgress(Long userId, List<Long> lectureIds);
 }
@@ -5,15 +5,13 @@ import static com.tradingpt.tpt_api.domain.lecture.entity.QLecture.lecture;
 import static com.tradingpt.tpt_api.domain.lecture.entity.QLectureProgress.lectureProgress;
 
 import com.querydsl.core.Tuple;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.tradingpt.tpt_api.domain.lecture.dto.response.ChapterBlockDTO;
-import com.tradingpt.tpt_api.domain.lecture.dto.response.LectureResponseDTO;
-import com.tradingpt.tpt_api.domain.lecture.entity.QLectureProgress;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.CurriculumChapterProjection;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureProgressProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -26,7 +24,7 @@ public class LectureRepositoryImpl implements LectureRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<ChapterBlockDTO> findCurriculum(Long userId, int page, int size) {
+    public List<CurriculumChapterProjection> findCurriculumCatalog(int page, int size) {
 
         long offset = (long) page * size;
 
@@ -43,10 +41,7 @@ public class LectureRepositoryImpl implements LectureRepositoryCustom {
             return List.of();
         }
 
-        // 2) 최신 LectureProgress만 가져오도록 서브쿼리 생성
-        QLectureProgress lpSub = new QLectureProgress("lpSub");
-
-        // 3) 챕터 + 강의 + 최신 Progress 함께 조회
+        // 2) 챕터 + 강의 조회 (사용자 진도는 조회 시점에 별도로 합친다)
         List<Tuple> rows = queryFactory
                 .select(
                         chapter.id,
@@ -59,31 +54,10 @@ public class LectureRepositoryImpl implements LectureRepositoryCustom {
                         lecture.content,
                         lecture.thumbnailUrl,
                         lecture.durationSeconds,
-                        lecture.requiredTokens,
-
-                        lectureProgress.watchedSeconds,
-                        lectureProgress.isCompleted,
-                        lectureProgress.lastWatchedAt,
-                        lectureProgress.dueDate
+                        lecture.requiredTokens
                 )
                 .from(chapter)
                 .join(lecture).on(lecture.chapter.eq(chapter))
-                .leftJoin(lectureProgress)
-                .on(
-                        lectureProgress.lecture.eq(lecture)
-                                .and(lectureProgress.customer.id.eq(userId))
-                                .and(
-                                        lectureProgress.dueDate.eq(
-                                                JPAExpressions
-                                                        .select(lpSub.dueDate.max())
-                                                        .from(lpSub)
-                                                        .where(
-                                                                lpSub.lecture.eq(lecture)
-                                                                        .and(lpSub.customer.id.eq(userId))
-                                                        )
-                                        )
-                                )
-                )
                 .where(chapter.id.in(chapterIds))
                 .orderBy(
                         chapter.chapterOrder.asc(),
@@ -91,84 +65,63 @@ public class LectureRepositoryImpl implements LectureRepositoryCustom {
                 )
                 .fetch();
 
-        // 4) ChapterId 기준으로 묶어서 ChapterBlockDTO 구성
-        Map<Long, ChapterBlockDTO> chapterMap = new LinkedHashMap<>();
-
-        int totalProLectures = 0;   // PRO 전체 강의 수
-        int completedProCount = 0;  // 완강한 PRO 강의 수
+        // 3) ChapterId 기준으로 묶기
+        Map<Long, List<CurriculumChapterProjection.Lecture>> lecturesByChapter = new LinkedHashMap<>();
+        Map<Long, Tuple> chapterRows = new LinkedHashMap<>();
 
         for (Tuple t : rows) {
             Long chapterId = t.get(chapter.id);
-
-            // ChapterBlockDTO 생성 (없을 때만)
-            chapterMap.putIfAbsent(
-                    chapterId,
-                    ChapterBlockDTO.builder()
-                            .chapterId(chapterId)
-                            .chapterTitle(t.get(chapter.title))
-                            .description(t.get(chapter.description))
-                            .chapterType(
-                                    t.get(chapter.chapterType) != null
-                                            ? t.get(chapter.chapterType).name()
-                                            : null
-                            )
-                            .lectures(new ArrayList<>())
-                            .build()
-            );
-
-            ChapterBlockDTO chapterDTO = chapterMap.get(chapterId);
-
-            // 토큰 정보
-            Integer requiredTokens = t.get(lecture.requiredTokens);
-
-            // 유료/무료 판별 - ChapterType 기준 (REGULAR=무료, PRO=유료)
-            var chapterType = t.get(chapter.chapterType);
-            boolean isPaid = chapterType != null && chapterType.isPaid();
-
-            // Progress 정보
-            Integer watchedSeconds = t.get(lectureProgress.watchedSeconds);
-            Boolean completed = t.get(lectureProgress.isCompleted);
-            LocalDateTime lastWatchedAt = t.get(lectureProgress.lastWatchedAt);
-            LocalDateTime dueDate = t.get(lectureProgress.dueDate);
-
-            // PRO 강의 여부 - ChapterType 기준
-            boolean isProLecture = chapterType != null && chapterType.isPaid();
-            if (isProLecture) {
-                totalProLectures += 1;
-                if (Boolean.TRUE.equals(completed)) {
-                    completedProCount += 1;
-                }
-            }
-
-            // LectureResponseDTO 구성
-            LectureResponseDTO lectureDTO = LectureResponseDTO.builder()
-                    .lectureId(t.get(lecture.id))
-                    .chapterId(chapterId)
-                    .title(t.get(lecture.title))
-                    .content(t.get(lecture.content))
-                    .thumbnailUrl(t.get(lecture.thumbnailUrl))
-                    .durationSeconds(t.get(lecture.durationSeconds))
-                    .requiredTokens(requiredTokens != null ? requiredTokens : 0)
-                    .paid(isPaid)
-                    .watchedSeconds(watchedSeconds)
-                    .completed(completed)
-                    .lastWatchedAt(lastWatchedAt)
-                    .dueDate(dueDate)              // ⭐ 최신 LectureProgress의 dueDate
-                    .build();
-
-            chapterDTO.getLectures().add(lectureDTO);
+            chapterRows.putIfAbsent(chapterId, t);
+            lecturesByChapter.computeIfAbsent(chapterId, id -> new ArrayList<>())
+                    .add(new CurriculumChapterProjection.Lecture(
+                            t.get(lecture.id),
+                            t.get(lecture.title),
+                            t.get(lecture.content),
+                            t.get(lecture.thumbnailUrl),
+                            t.get(lecture.durationSeconds),
+                            t.get(lecture.requiredTokens)
+                    ));
         }
 
-        // 5) 전체 PRO 기준 진도율 계산
-        int finalProgressPercent =
-                totalProLectures == 0 ? 0 :
-                        (int) ((completedProCount * 100.0) / totalProLectures);
+        return chapterRows.entrySet().stream()
+                .map(entry -> new CurriculumChapterProjection(
+                        entry.getKey(),
+                        entry.getValue().get(chapter.title),
+                        entry.getValue().get(chapter.description),
+                        entry.getValue().get(chapter.chapterType),
+                        List.copyOf(lecturesByChapter.get(entry.getKey()))
+                ))
+                .toList();
+    }
 
-        // 모든 챕터에 동일하게 적용
-        for (ChapterBlockDTO dto : chapterMap.values()) {
-            dto.setProgressPercent(finalProgressPercent);
+    @Override
+    public List<LectureProgressProjection> findLatestProgress(Long userId, List<Long> lectureIds) {
+        if (lectureIds.isEmpty()) {
+            return List.of();
         }
 
-        return new ArrayList<>(chapterMap.values());
+        List<LectureProgressProjection> rows = queryFactory
+                .select(Projections.constructor(LectureProgressProjection.class,
+                        lectureProgress.lecture.id,
+                        lectureProgress.watchedSeconds,
+                        lectureProgress.isCompleted,
+                        lectureProgress.lastWatchedAt,
+                        lectureProgress.dueDate
+                ))
+                .from(lectureProgress)
+                .where(
+                        lectureProgress.lecture.id.in(lectureIds),
+                        lectureProgress.customer.id.eq(userId),
+                        lectureProgress.dueDate.isNotNull()
+                )
+                .orderBy(lectureProgress.dueDate.desc())
+                .fetch();
+
+        // 강의별로 만료일이 가장 늦은 진도 하나만 남긴다
+        Map<Long, LectureProgressProjection> latest = new LinkedHashMap<>();
+        for (LectureProgressProjection row : rows) {
+            latest.putIfAbsent(row.lectureId(), row);
+        }
+        return new ArrayList<>(latest.values());
     }
 }
@@ -1,25 +1,31 @@
 package com.tradingpt.tpt_api.domain.lecture.scheduler;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
-import com.tradingpt.tpt_api.domain.user.entity.Customer;
+import com.tradingpt.tpt_api.domain.user.cache.UserSnapshotCache;
 import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.global.batch.BatchJobResult;
+import com.tradingpt.tpt_api.global.batch.KeysetBatchRunner;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class CourseStatusScheduler {
 
+	private static final int CHUNK_SIZE = 500;
+
 	private final CustomerRepository customerRepository;
+	private final KeysetBatchRunner keysetBatchRunner;
+	private final UserSnapshotCache userSnapshotCache;
 
 	// 매달 1일 00:10 (다른 스케줄러와 시간 분산)
 	@Scheduled(cron = "0 10 0 1 * *")
@@ -31,16 +37,24 @@ public class CourseStatusScheduler {
 	/**
 	 * 매달 1일 새벽 1시에 PENDING_COMPLETION 상태인 고객을 AFTER_COMPLETION으로 전환
 	 * 완강 시점(completedAt)도 함께 기록하여 평가 대상 기간 판별에 활용
+	 * 고객 ID 500건 단위로 조회 → 벌크 UPDATE → 커밋 (엔티티 로딩 없음)
 	 */
-	@Transactional
 	public void updateCompletedUsers() {
-		List<Customer> pendingUsers =
-			customerRepository.findAllByCourseStatus(CourseStatus.PENDING_COMPLETION);
-
 		LocalDateTime completedAt = LocalDateTime.now();  // 완강 시점 기록
-		for (Customer user : pendingUsers) {
-			user.completeTraining(completedAt);  // ✅ completedAt도 함께 설정
-		}
+
+		BatchJobResult result = keysetBatchRunner.run(
+			"course-completion",
+			CHUNK_SIZE,
+			(lastId, size) -> customerRepository.findCustomerIdsByCourseStatusAfter(
+				CourseStatus.PENDING_COMPLETION, lastId, size),
+			customerIds -> {
+				int changed = customerRepository.completeTrainingByIds(customerIds, completedAt);
+				userSnapshotCache.evict(customerIds);  // 벌크 UPDATE 는 엔티티 리스너를 거치지 않음
+				return changed;
+			}
+		);
+
+		log.info("완강 처리 완료: 대상={}, 변경={}, 청크={}, 소요={}ms",
+			result.selectedRows(), result.affectedRows(), result.chunks(), result.elapsed().toMillis());
 	}
 }
-
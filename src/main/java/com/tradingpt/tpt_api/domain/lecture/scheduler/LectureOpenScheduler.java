@@ -17,9 +17,9 @@ public class LectureOpenScheduler {
     @SchedulerLock(
             name = "weeklyLectureOpenJob",
             lockAtLeastFor = "PT5S",
-            lockAtMostFor = "PT30S"
+            lockAtMostFor = "PT10M"
     )
     public void openWeeklyLectures() {
-        lectureOpenService.openWeeklyForActiveSubscriptions();
+        lectureOpenService.openWeeklyForActiveSubscriptions(false);
     }
 }
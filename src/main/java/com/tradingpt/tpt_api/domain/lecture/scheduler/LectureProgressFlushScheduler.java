@@ -0,0 +1,34 @@
+package com.tradingpt.tpt_api.domain.lecture.scheduler;
+
+import com.tradingpt.tpt_api.domain.lecture.service.command.LectureProgressFlushService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureProgressFlushScheduler {
+
+    private final LectureProgressFlushService lectureProgressFlushService;
+
+    // 시청 진행도 버퍼를 주기적으로 DB 에 반영 (한 인스턴스에서만 실행)
+    @Scheduled(fixedDelayString = "${lecture.progress.flush-interval:PT5S}")
+    @SchedulerLock(
+            name = "lectureProgressFlush",
+            lockAtMostFor = "PT1M"
+    )
+    public void flush() {
+        try {
+            int updated = lectureProgressFlushService.flush();
+            if (updated > 0) {
+                log.debug("시청 진행도 반영: {}건", updated);
+            }
+        } catch (Exception e) {
+            // 처리용 키가 남아 있으므로 다음 주기에 다시 반영된다
+            log.error("시청 진행도 플러시 실패", e);
+        }
+    }
+}
@@ -11,6 +11,8 @@ import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
 import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.global.infrastructure.cache.CatalogCacheRegion;
+import com.tradingpt.tpt_api.global.infrastructure.cache.TieredCatalogCache;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,10 +25,14 @@ public class AdminChapterCommandServiceImpl implements AdminChapterCommandServic
     private final ChapterRepository chapterRepository;
     private final LectureRepository lectureRepository;              // 👈 추가
     private final AdminLectureCommandService adminLectureCommandService;
+    private final TieredCatalogCache catalogCache;
 
     @Override
     @Transactional
     public Long createChapter(ChapterCreateRequestDTO req) {
+        catalogCache.evict(CatalogCacheRegion.CURRICULUM, CatalogCacheRegion.LECTURE_DETAIL,
+            CatalogCacheRegion.PRO_LECTURE_COUNT);
+
         Chapter chapter = Chapter.builder()
                 .title(req.getTitle())
                 .description(req.getDescription())
@@ -39,6 +45,9 @@ public class AdminChapterCommandServiceImpl implements AdminChapterCommandServic
 
     @Transactional
     public Long updateChapter(Long chapterId, ChapterCreateRequestDTO request) {
+        catalogCache.evict(CatalogCacheRegion.CURRICULUM, CatalogCacheRegion.LECTURE_DETAIL,
+            CatalogCacheRegion.PRO_LECTURE_COUNT);
+
         Chapter chapter = chapterRepository.findById(chapterId)
                 .orElseThrow(() -> new LectureException(LectureErrorStatus.NOT_FOUND));
 
@@ -55,6 +64,8 @@ public class AdminChapterCommandServiceImpl implements AdminChapterCommandServic
     @Override
     @Transactional
     public void deleteChapter(Long chapterId) {
+        catalogCache.evict(CatalogCacheRegion.CURRICULUM, CatalogCacheRegion.LECTURE_DETAIL,
+            CatalogCacheRegion.PRO_LECTURE_COUNT);
 
         // 1) 챕터 존재 여부 체크
         Chapter chapter = chapterRepository.findById(chapterId)
@@ -21,6 +21,8 @@ import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
 import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
 import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
+import com.tradingpt.tpt_api.global.infrastructure.cache.CatalogCacheRegion;
+import com.tradingpt.tpt_api.global.infrastructure.cache.TieredCatalogCache;
 import com.tradingpt.tpt_api.global.infrastructure.s3.service.S3FileService;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
@@ -44,6 +46,7 @@ public class AdminLectureCommandServiceImpl implements AdminLectureCommandServic
     private final CustomerRepository customerRepository;
     private final UserRepository userRepository;
     private final S3FileService s3FileService;
+    private final TieredCatalogCache catalogCache;
 
     /**
      * 강의 생성
@@ -51,6 +54,9 @@ public class AdminLectureCommandServiceImpl implements AdminLectureCommandServic
     @Override
     @Transactional
     public Long createLecture(LectureRequestDTO req, Long trainerId) {
+        catalogCache.evict(CatalogCacheRegion.CURRICULUM, CatalogCacheRegion.LECTURE_DETAIL,
+            CatalogCacheRegion.PRO_LECTURE_COUNT);
+
         // 1. 챕터 조회
         Chapter chapter = chapterRepository.findById(req.getChapterId())
                 .orElseThrow(() -> new LectureException(LectureErrorStatus.NOT_FOUND));
@@ -107,6 +113,8 @@ public class AdminLectureCommandServiceImpl implements AdminLectureCommandServic
     @Override
     @Transactional
     public void deleteLecture(Long lectureId) {
+        catalogCache.evict(CatalogCacheRegion.CURRICULUM, CatalogCacheRegion.LECTURE_DETAIL,
+            CatalogCacheRegion.PRO_LECTURE_COUNT);
 
         // 0) 강의 + videoKey 조회 (존재 확인 + S3 삭제용)
         Lecture lecture = lectureRepository.findByIdForDelete(lectureId)
@@ -153,6 +161,9 @@ public class AdminLectureCommandServiceImpl implements AdminLectureCommandServic
     @Override
     @Transactional
     public Long updateLecture(Long lectureId, LectureRequestDTO req, Long trainerId) {
+        catalogCache.evict(CatalogCacheRegion.CURRICULUM, CatalogCacheRegion.LECTURE_DETAIL,
+            CatalogCacheRegion.PRO_LECTURE_COUNT);
+
         // 1. 기존 강의 조회
         Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new LectureException(LectureErrorStatus.NOT_FOUND));
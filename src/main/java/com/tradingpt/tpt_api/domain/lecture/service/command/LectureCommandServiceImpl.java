@@ -1,5 +1,8 @@
 package com.tradingpt.tpt_api.domain.lecture.service.command;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureDetailProjection;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureProgressHeartbeat;
 import com.tradingpt.tpt_api.domain.lecture.entity.AssignmentAttachment;
 import com.tradingpt.tpt_api.domain.lecture.entity.CustomerAssignment;
 import com.tradingpt.tpt_api.domain.lecture.entity.Lecture;
@@ -10,29 +13,45 @@ import com.tradingpt.tpt_api.domain.lecture.repository.AssignmentAttachmentRepos
 import com.tradingpt.tpt_api.domain.lecture.repository.CustomerAssignmentRepository;
 import com.tradingpt.tpt_api.domain.lecture.repository.LectureProgressRepository;
 import com.tradingpt.tpt_api.domain.lecture.repository.LectureRepository;
+import com.tradingpt.tpt_api.domain.token.enums.TokenTransactionType;
+import com.tradingpt.tpt_api.domain.token.service.TokenLedgerService;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
-import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
 import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
 import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
-import com.tradingpt.tpt_api.global.infrastructure.s3.service.S3FileService;
+import com.tradingpt.tpt_api.global.infrastructure.cache.CatalogCacheRegion;
+import com.tradingpt.tpt_api.global.infrastructure.cache.TieredCatalogCache;
+import com.tradingpt.tpt_api.global.infrastructure.s3.service.S3ParallelUploader;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LectureCommandServiceImpl implements LectureCommandService {
 
+    private static final TypeReference<LectureDetailProjection> LECTURE_DETAIL_TYPE = new TypeReference<>() {
+    };
+
     private final LectureRepository lectureRepository;
     private final LectureProgressRepository lectureProgressRepository;
     private final CustomerRepository customerRepository;
     private final CustomerAssignmentRepository customerAssignmentRepository;
     private final AssignmentAttachmentRepository assignmentAttachmentRepository;
-    private final S3FileService s3FileService;
+    private final S3ParallelUploader s3ParallelUploader;
+    private final LectureProgressBuffer lectureProgressBuffer;
+    private final LectureProgressFlushService lectureProgressFlushService;
+    private final TieredCatalogCache catalogCache;
+    private final TokenLedgerService tokenLedgerService;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
@@ -75,15 +94,23 @@ public class LectureCommandServiceImpl implements LectureCommandService {
             return customer.getId();
         }
 
-        // 5) 유저 토큰 보유량 체크
-        if (customer.getToken() < lecture.getRequiredTokens()) {
+        // 5) 토큰 조건부 차감 + 원장 기록 (잔액 부족 시 실패)
+        //    멱등 키에 구매 회차를 넣어, 같은 회차의 동시 구매는 유니크 제약으로 한 건만 반영되고
+        //    수강 기록이 삭제된 뒤 다시 구매하면 이전 구매로 처리되지 않고 새 회차로 차감된다
+        long purchaseCount = tokenLedgerService.countTransactions(
+                userId, TokenTransactionType.LECTURE_PURCHASE, lectureId);
+        boolean debited = tokenLedgerService.debit(
+                userId,
+                lecture.getRequiredTokens(),
+                TokenTransactionType.LECTURE_PURCHASE,
+                lectureId,
+                "lecture-purchase:" + userId + ":" + lectureId + ":" + (purchaseCount + 1)
+        );
+        if (!debited) {
             throw new LectureException(LectureErrorStatus.NOT_ENOUGH_TOKENS);
         }
 
-        // 6) 토큰 차감
-        customer.useTokens(lecture.getRequiredTokens());
-
-        // 7) LectureProgress 생성 (구매 완료)
+        // 6) LectureProgress 생성 (구매 완료)
         LectureProgress progress = LectureProgress.builder()
                 .lecture(lecture)
                 .customer(customer)
@@ -98,36 +125,39 @@ public class LectureCommandServiceImpl implements LectureCommandService {
         return customer.getId();
     }
 
+    /**
+     * 시청 진행도 heartbeat 기록
+     * DB 에는 바로 쓰지 않고 버퍼에 합쳐 두었다가 {@link LectureProgressFlushService} 가 주기적으로 반영한다.
+     * (완강 판정/수강 완료 상태 전환도 반영 시점에 처리)
+     * 수강 중이 아닌 강의의 heartbeat 는 버퍼에 쌓지 않고 거절한다.
+     */
     @Override
-    @Transactional
     public void updateLectureProgress(Long userId, Long lectureId, int currentSeconds) {
 
-        Customer customer = customerRepository.findById(userId)
-                .orElseThrow(() -> new UserException(UserErrorStatus.USER_NOT_FOUND));
-
-        Lecture lecture = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new LectureException(LectureErrorStatus.NOT_FOUND));
-
-        int duration = lecture.getDurationSeconds();
-
-        LectureProgress progress = lectureProgressRepository
-                .findByLecture_IdAndCustomer_Id(lectureId, customer.getId())
-                .orElseThrow(() -> new LectureException(LectureErrorStatus.NOT_FOUND));
-
-        // 1) 개별 강의 진도 업데이트
-        progress.updateProgress(currentSeconds, duration);
-
-
-        //  2) PRO 전체 강의 중 몇 개가 completed인지 체크
-        int completedCount = lectureProgressRepository.countCompletedProLectures(customer.getId());
-        int totalProLectures = lectureRepository.countProLectures();
-
-
-        //  3) 전체 완강했으면 Customer 상태를 BEFORE → PENDING 으로 변경
-        if (completedCount == totalProLectures &&
-                customer.getCourseStatus() == CourseStatus.BEFORE_COMPLETION) {
+        if (!lectureProgressRepository.existsByLectureIdAndCustomerId(lectureId, userId)) {
+            throw new LectureException(LectureErrorStatus.PROGRESS_NOT_FOUND);
+        }
 
-            customer.updateCourseStatus(CourseStatus.PENDING_COMPLETION);
+        LectureDetailProjection lecture = catalogCache.get(
+                CatalogCacheRegion.LECTURE_DETAIL,
+                String.valueOf(lectureId),
+                LECTURE_DETAIL_TYPE,
+                () -> lectureRepository.findByIdWithAttachments(lectureId)
+                        .map(LectureDetailProjection::from)
+                        .orElseThrow(() -> new LectureException(LectureErrorStatus.NOT_FOUND))
+        );
+
+        int duration = lecture.durationSeconds();
+        int position = Math.max(0, Math.min(currentSeconds, duration));
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            lectureProgressBuffer.record(userId, lectureId, position, now, duration);
+        } catch (DataAccessException e) {
+            // Redis 장애 시 즉시 DB 반영
+            log.warn("진행도 버퍼 기록 실패, 즉시 반영: userId={}, lectureId={}", userId, lectureId, e);
+            lectureProgressFlushService.applyNow(
+                    new LectureProgressHeartbeat(userId, lectureId, position, 0, position, now, duration));
         }
     }
 
@@ -136,18 +166,37 @@ public class LectureCommandServiceImpl implements LectureCommandService {
      * 과제 제출
      */
     @Override
-    @Transactional
     public Long submitAssignment(Long userId, Long lectureId, MultipartFile file) {
 
-        // 1. 강의 조회
+        // 1. 강의/고객 존재 확인 (업로드 전에 검증해 고아 파일을 만들지 않는다)
+        if (!lectureRepository.existsById(lectureId)) {
+            throw new LectureException(LectureErrorStatus.NOT_FOUND);
+        }
+        if (!customerRepository.existsById(userId)) {
+            throw new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND);
+        }
+
+        // 2. S3 업로드 (과제 PDF) - 트랜잭션 밖에서 TransferManager로 업로드해 커넥션을 점유하지 않는다
+        String directory = AssignmentAttachment.directoryOf(lectureId, userId);
+        var uploadResult = s3ParallelUploader.uploadToPrivate(file, directory);
+
+        // 3. 제출 기록 저장, 실패하면 업로드한 파일을 정리한다
+        try {
+            return transactionTemplate.execute(
+                    status -> saveAssignmentSubmission(userId, lectureId, uploadResult.key()));
+        } catch (RuntimeException e) {
+            s3ParallelUploader.deleteQuietlyFromPrivate(List.of(uploadResult.key()));
+            throw e;
+        }
+    }
+
+    private Long saveAssignmentSubmission(Long userId, Long lectureId, String fileKey) {
         Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new LectureException(LectureErrorStatus.NOT_FOUND));
-
-        // 2. 고객 조회
         Customer customer = customerRepository.findById(userId)
                 .orElseThrow(() -> new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND));
 
-        // 3. (lecture, customer) 기준 과제 엔티티 조회 or 생성
+        // (lecture, customer) 기준 과제 엔티티 조회 or 생성
         CustomerAssignment assignment = customerAssignmentRepository
                 .findByLectureIdAndCustomerId(lectureId, userId)
                 .orElseGet(() -> CustomerAssignment.builder()
@@ -157,11 +206,7 @@ public class LectureCommandServiceImpl implements LectureCommandService {
                         .build()
                 );
 
-        // 4. S3 업로드 (과제 PDF)
-        String directory = "assignments/" + lectureId + "/" + userId;
-        var uploadResult = s3FileService.uploadToPrivate(file, directory);
-
-        // 5. 과제 상태 갱신 (최신 제출 시각 등)
+        // 과제 상태 갱신 (최신 제출 시각 등)
         assignment.markSubmitted();
         CustomerAssignment saved = customerAssignmentRepository.save(assignment);
 
@@ -171,7 +216,7 @@ public class LectureCommandServiceImpl implements LectureCommandService {
 
         AssignmentAttachment attachment = AssignmentAttachment.builder()
                 .customerAssignment(saved)
-                .fileKey(uploadResult.key())
+                .fileKey(fileKey)
                 .attemptNo(nextAttemptNo)
                 .build();
 
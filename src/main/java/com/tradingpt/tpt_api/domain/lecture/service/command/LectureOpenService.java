@@ -1,117 +1,112 @@
 package com.tradingpt.tpt_api.domain.lecture.service.command;
 
-import com.tradingpt.tpt_api.domain.lecture.entity.Lecture;
-import com.tradingpt.tpt_api.domain.lecture.entity.LectureProgress;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureOpenTarget;
+import com.tradingpt.tpt_api.domain.lecture.dto.response.LectureOpenResultResponseDTO;
 import com.tradingpt.tpt_api.domain.lecture.enums.ChapterType;
 import com.tradingpt.tpt_api.domain.lecture.repository.LectureProgressRepository;
 import com.tradingpt.tpt_api.domain.lecture.repository.LectureRepository;
-import com.tradingpt.tpt_api.domain.subscription.entity.Subscription;
-import com.tradingpt.tpt_api.domain.subscription.enums.Status;
-import com.tradingpt.tpt_api.domain.subscription.repository.SubscriptionRepository;
-import com.tradingpt.tpt_api.domain.user.entity.Customer;
+import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.global.batch.BatchJobResult;
+import com.tradingpt.tpt_api.global.batch.KeysetBatchRunner;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 주차별 PRO 강의 오픈
+ *
+ * 실행할 때마다 ACTIVE 구독자에게 다음 PRO 강의(openChapterNumber 번째)를 1개씩 연다.
+ * 고객 ID 500건 단위 청크로 처리하며, 청크마다 "현재 열린 강의 수"별로 묶어서
+ * lecture_progress INSERT ... SELECT 1회 + open_chapter_number UPDATE 1회를 실행한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LectureOpenService {
 
-    private final SubscriptionRepository subscriptionRepository;
+    private static final int CHUNK_SIZE = 500;
+
     private final LectureRepository lectureRepository;
     private final LectureProgressRepository lectureProgressRepository;
+    private final CustomerRepository customerRepository;
+    private final KeysetBatchRunner keysetBatchRunner;
 
     /**
      * 스케줄러(예: 0시)에 돌면서 ACTIVE 구독자들의 주차를 채워주는 메서드
+     *
+     * @param dryRun true 면 변경 없이 오픈될 수강 기록 수만 계산
+     * @return 실행 결과
      */
-    @Transactional
-    public void openWeeklyForActiveSubscriptions() {
-
-        // (A) PRO 강의 목록을 한 번만 조회해서 재사용
-        List<Lecture> allLectures = lectureRepository.findAllOrderByChapterAndLectureOrder();
-        List<Lecture> proLectures = new ArrayList<>();
-
-        for (Lecture l : allLectures) {
-            if (l.getChapter().getChapterType() == ChapterType.PRO) {
-                proLectures.add(l);
-            }
-        }
+    public LectureOpenResultResponseDTO openWeeklyForActiveSubscriptions(boolean dryRun) {
 
-        if (proLectures.isEmpty()) {
-            return;
+        // (A) PRO 강의 ID 목록 (오픈 순서) 을 한 번만 조회해서 재사용
+        List<Long> proLectureIds = lectureRepository.findIdsByChapterTypeOrderByChapterAndLectureOrder(ChapterType.PRO);
+        if (proLectureIds.isEmpty()) {
+            return LectureOpenResultResponseDTO.empty(dryRun);
         }
 
-        // (B) ACTIVE 구독자 목록 조회
-        //     👉 SubscriptionRepository에서 Customer까지 join fetch 하도록 구현하면 N+1 방지 가능
-        List<Subscription> actives = subscriptionRepository.findAllByStatus(Status.ACTIVE);
-
-        for (Subscription sub : actives) {
-            openWeeklyForSubscription(sub, proLectures);
-        }
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        // (B) 구독 시작일이 지났고 아직 열 강의가 남은 ACTIVE 구독자를 청크 단위로 처리
+        BatchJobResult result = keysetBatchRunner.run(
+                dryRun ? "lecture-open-dry-run" : "lecture-open",
+                CHUNK_SIZE,
+                (lastId, size) -> customerRepository.findLectureOpenCustomerIdsAfter(
+                        today, proLectureIds.size(), lastId, size),
+                customerIds -> openChunk(customerIds, proLectureIds, now, dryRun)
+        );
+
+        log.info("주차별 강의 오픈 {}: 대상 고객={}, 오픈 수강기록={}, 청크={}, 소요={}ms",
+                dryRun ? "dry-run" : "완료",
+                result.selectedRows(), result.affectedRows(), result.chunks(), result.elapsed().toMillis());
+
+        return LectureOpenResultResponseDTO.of(result, dryRun);
     }
 
-    @Transactional
-    public void openWeeklyForSubscription(Subscription sub, List<Lecture> proLectures) {
-
-        Customer customer = sub.getCustomer();
-        Long customerId = customer.getId();
-
-        // (0) 구독 시작 날짜
-        LocalDate start = sub.getCurrentPeriodStart();
-        LocalDate today = LocalDate.now();
-        if (today.isBefore(start)) {
-            return;
-        }
+    /**
+     * 청크 내 고객을 현재 열린 강의 수별로 묶어서 다음 강의를 한 번에 오픈
+     *
+     * @return 생성된(dry-run 이면 생성될) 수강 기록 수
+     */
+    private int openChunk(List<Long> customerIds, List<Long> proLectureIds, LocalDateTime now, boolean dryRun) {
+
+        Map<Integer, List<Long>> customerIdsByOpenedCount = customerRepository.findLectureOpenTargets(customerIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        LectureOpenTarget::openedCount,
+                        TreeMap::new,
+                        Collectors.mapping(LectureOpenTarget::customerId, Collectors.toList())
+                ));
+
+        int opened = 0;
+        for (Map.Entry<Integer, List<Long>> entry : customerIdsByOpenedCount.entrySet()) {
+            int openedCount = entry.getKey();
+            List<Long> groupIds = entry.getValue();
+
+            // 이미 모든 PRO 강의가 열린 고객
+            if (openedCount >= proLectureIds.size()) {
+                continue;
+            }
 
-        // (1) 경과 일수
-        long days = ChronoUnit.DAYS.between(start, today);
-//
-//        // (2) 경과 주차
-//        int weeksPassed = (int) (days / 7);
-//
-//        // (3) 열려 있어야 하는 총 강의 개수 = 주차 + 1
-//        int shouldOpenCount = weeksPassed + 1;
-//        int shouldOpenCount = (int) days + 1;
-
-        // 👉 스케줄러 실행 시마다 딱 1개씩만 열리게 강제
-        int openedCount = (customer.getOpenChapterNumber() == null)
-                ? 0
-                : customer.getOpenChapterNumber();
-
-        int shouldOpenCount = openedCount + 1;  // 딱 1개만 증가
-
-        if (proLectures.isEmpty()) {
-            return;
-        }
+            Long nextLectureId = proLectureIds.get(openedCount);
 
-        // (5) 현재 열린 개수 (다시 한 번 방어적으로 계산)
-        openedCount = (customer.getOpenChapterNumber() == null)
-                ? 0
-                : customer.getOpenChapterNumber();
-
-        // (6) 열려야 하는 것이 더 많을 때만 오픈
-        while (openedCount < shouldOpenCount && openedCount < proLectures.size()) {
-
-            Lecture next = proLectures.get(openedCount);
-
-            boolean exists = lectureProgressRepository.existsByLectureIdAndCustomerId(next.getId(), customerId);
-            if (!exists) {
-                lectureProgressRepository.save(
-                        LectureProgress.builder()
-                                .lecture(next)
-                                .customer(customer)
-                                .watchedSeconds(0)
-                                .isCompleted(false)
-                                .build()
-                );
+            if (dryRun) {
+                long alreadyOpened = lectureProgressRepository.countByLectureIdAndCustomerIdIn(nextLectureId, groupIds);
+                opened += groupIds.size() - (int) alreadyOpened;
+                continue;
             }
 
-            openedCount++;
-            customer.updateOpenChapterNumber(openedCount);
+            // 이미 수강 기록이 있는 고객은 건너뛰고, 열린 강의 수는 모두 1 증가 (기존 동작과 동일)
+            opened += lectureProgressRepository.insertMissingProgress(nextLectureId, groupIds, now);
+            customerRepository.advanceOpenChapterNumber(groupIds, openedCount, now);
         }
+        return opened;
     }
 }
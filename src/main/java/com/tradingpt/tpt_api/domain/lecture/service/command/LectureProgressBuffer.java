@@ -0,0 +1,163 @@
+package com.tradingpt.tpt_api.domain.lecture.service.command;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureProgressHeartbeat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시청 진행도 write-behind 버퍼 (Redis Hash)
+ *
+ * <p>heartbeat 는 (고객, 강의) 필드 하나에 Lua 스크립트로 원자적으로 합쳐진다.
+ * 여러 인스턴스가 같은 버퍼를 공유하므로 한 사용자의 heartbeat 가 다른 서버로 가도 순서대로 합쳐진다.
+ *
+ * <p>플러시는 버퍼 키를 처리용 키로 RENAME 하여 가져가고, 청크가 커밋될 때마다 해당 필드를 처리용 키에서 지운다.
+ * 처리 도중 서버가 죽으면 다음 플러시가 남아 있는 (아직 커밋되지 않은) 필드만 다시 반영하므로
+ * 누적 시청 시간이 두 번 더해지지 않는다.
+ * 같은 처리용 키가 {@value #MAX_FLUSH_ATTEMPTS}번 연속 실패하면 dead-letter 키로 옮겨 버퍼 플러시가 막히지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureProgressBuffer {
+
+    private static final String BUFFER_KEY = "lecture-progress:buffer";
+    private static final String FLUSHING_KEY = "lecture-progress:flushing";
+    private static final String FLUSH_ATTEMPTS_KEY = "lecture-progress:flushing:attempts";
+    private static final String DEAD_LETTER_KEY_PREFIX = "lecture-progress:dead-letter:";
+
+    private static final int MAX_FLUSH_ATTEMPTS = 5;
+    private static final Duration DEAD_LETTER_TTL = Duration.ofDays(7);
+
+    /**
+     * 값 형식: firstPosition|additionalWatched|lastPosition|lastWatchedEpochMillis|durationSeconds
+     * 첫 heartbeat 는 위치를 그대로 기록하고, 이후에는 앞으로 진행한 만큼만 additionalWatched 에 더한다.
+     */
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('HGET', KEYS[1], ARGV[1])
+        local position = tonumber(ARGV[2])
+        if not current then
+          redis.call('HSET', KEYS[1], ARGV[1], position .. '|0|' .. position .. '|' .. ARGV[3] .. '|' .. ARGV[4])
+          return 1
+        end
+        local first, added, last = string.match(current, '^(%d+)|(%d+)|(%d+)|')
+        local delta = position - tonumber(last)
+        if delta < 0 then delta = 0 end
+        redis.call('HSET', KEYS[1], ARGV[1],
+          first .. '|' .. (tonumber(added) + delta) .. '|' .. position .. '|' .. ARGV[3] .. '|' .. ARGV[4])
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * heartbeat 기록
+     *
+     * @param position        재생 위치(초, 강의 길이로 클램프된 값)
+     * @param durationSeconds 강의 길이(초)
+     */
+    public void record(Long customerId, Long lectureId, int position, LocalDateTime watchedAt, int durationSeconds) {
+        long watchedAtMillis = watchedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        redisTemplate.execute(
+            MERGE_SCRIPT,
+            List.of(BUFFER_KEY),
+            customerId + ":" + lectureId,
+            String.valueOf(position),
+            String.valueOf(watchedAtMillis),
+            String.valueOf(durationSeconds)
+        );
+    }
+
+    /**
+     * 플러시할 진행도 가져오기
+     * 이전 플러시가 끝나지 못한 처리용 키가 있으면 남은 필드를 먼저 반환한다.
+     * 같은 처리용 키가 계속 실패하면 dead-letter 로 옮기고 새 버퍼를 가져온다.
+     */
+    public List<LectureProgressHeartbeat> drain() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+            Long attempts = redisTemplate.opsForValue().increment(FLUSH_ATTEMPTS_KEY);
+            if (attempts != null && attempts > MAX_FLUSH_ATTEMPTS) {
+                deadLetter();
+            } else {
+                log.warn("이전 진행도 플러시가 완료되지 않아 남은 항목을 다시 반영합니다. attempts={}", attempts);
+                return readFlushing();
+            }
+        }
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(BUFFER_KEY))) {
+            return List.of();
+        }
+        redisTemplate.rename(BUFFER_KEY, FLUSHING_KEY);
+        redisTemplate.opsForValue().set(FLUSH_ATTEMPTS_KEY, "1");
+        return readFlushing();
+    }
+
+    /**
+     * 커밋된 청크의 필드를 처리용 키에서 삭제 (재시도 시 다시 더해지지 않도록)
+     */
+    public void acknowledge(List<LectureProgressHeartbeat> applied) {
+        if (applied.isEmpty()) {
+            return;
+        }
+        Object[] fields = applied.stream()
+            .map(hb -> hb.customerId() + ":" + hb.lectureId())
+            .toArray();
+        redisTemplate.opsForHash().delete(FLUSHING_KEY, fields);
+    }
+
+    /**
+     * 플러시 완료 - 처리용 키와 시도 횟수 삭제
+     */
+    public void complete() {
+        redisTemplate.delete(List.of(FLUSHING_KEY, FLUSH_ATTEMPTS_KEY));
+    }
+
+    private List<LectureProgressHeartbeat> readFlushing() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+        List<LectureProgressHeartbeat> heartbeats = new ArrayList<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            heartbeats.add(parse((String)entry.getKey(), (String)entry.getValue()));
+        }
+        return heartbeats;
+    }
+
+    /**
+     * 반복 실패한 처리용 키를 dead-letter 로 이동 (보관 기간 후 만료, 원인 확인 후 수동 재처리)
+     */
+    private void deadLetter() {
+        String deadLetterKey = DEAD_LETTER_KEY_PREFIX + System.currentTimeMillis();
+        Long size = redisTemplate.opsForHash().size(FLUSHING_KEY);
+        redisTemplate.rename(FLUSHING_KEY, deadLetterKey);
+        redisTemplate.expire(deadLetterKey, DEAD_LETTER_TTL);
+        redisTemplate.delete(FLUSH_ATTEMPTS_KEY);
+        log.error("진행도 플러시가 {}회 연속 실패하여 dead-letter 로 이동했습니다. key={}, entries={}",
+            MAX_FLUSH_ATTEMPTS, deadLetterKey, size);
+    }
+
+    private LectureProgressHeartbeat parse(String field, String value) {
+        String[] ids = field.split(":");
+        String[] parts = value.split("\\|");
+        return new LectureProgressHeartbeat(
+            Long.parseLong(ids[0]),
+            Long.parseLong(ids[1]),
+            Integer.parseInt(parts[0]),
+            Integer.parseInt(parts[1]),
+            Integer.parseInt(parts[2]),
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[3])), ZoneId.systemDefault()),
+            Integer.parseInt(parts[4])
+        );
+    }
+}
@@ -0,0 +1,182 @@
+package com.tradingpt.tpt_api.domain.lecture.service.command;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureProgressHeartbeat;
+import com.tradingpt.tpt_api.domain.lecture.repository.LectureProgressBatchRepository;
+import com.tradingpt.tpt_api.domain.lecture.repository.LectureProgressRepository;
+import com.tradingpt.tpt_api.domain.lecture.repository.LectureRepository;
+import com.tradingpt.tpt_api.domain.user.entity.Customer;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.global.infrastructure.cache.CatalogCacheRegion;
+import com.tradingpt.tpt_api.global.infrastructure.cache.TieredCatalogCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시청 진행도 반영 서비스
+ *
+ * <p>버퍼에서 합쳐진 진행도를 청크 단위 JDBC 배치로 반영하고,
+ * 이번 반영으로 완강(false → true)으로 바뀐 강의가 있는 고객만 전체 완강 여부를 확인한다.
+ * PRO 강의 수는 카탈로그 캐시에서 읽는다. (강의/챕터 변경 시 무효화)
+ */
+@Slf4j
+@Service
+public class LectureProgressFlushService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final TypeReference<Integer> COUNT_TYPE = new TypeReference<>() {
+    };
+
+    private final LectureProgressBuffer progressBuffer;
+    private final LectureProgressBatchRepository progressBatchRepository;
+    private final LectureProgressRepository lectureProgressRepository;
+    private final LectureRepository lectureRepository;
+    private final CustomerRepository customerRepository;
+    private final TieredCatalogCache catalogCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter flushedRows;
+    private final Counter completedLectures;
+    private final Timer flushDuration;
+
+    public LectureProgressFlushService(
+        LectureProgressBuffer progressBuffer,
+        LectureProgressBatchRepository progressBatchRepository,
+        LectureProgressRepository lectureProgressRepository,
+        LectureRepository lectureRepository,
+        CustomerRepository customerRepository,
+        TieredCatalogCache catalogCache,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.progressBuffer = progressBuffer;
+        this.progressBatchRepository = progressBatchRepository;
+        this.lectureProgressRepository = lectureProgressRepository;
+        this.lectureRepository = lectureRepository;
+        this.customerRepository = customerRepository;
+        this.catalogCache = catalogCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.flushedRows = Counter.builder("lecture.progress.flushed.rows")
+            .description("DB 에 반영된 시청 진행도 행 수")
+            .register(meterRegistry);
+        this.completedLectures = Counter.builder("lecture.progress.completed")
+            .description("진행도 반영으로 완강 처리된 강의 수")
+            .register(meterRegistry);
+        this.flushDuration = Timer.builder("lecture.progress.flush.duration")
+            .description("진행도 버퍼 1회 플러시 소요 시간")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 버퍼에 쌓인 진행도 반영
+     *
+     * @return 반영된 행 수
+     */
+    public int flush() {
+        Timer.Sample sample = Timer.start();
+
+        List<LectureProgressHeartbeat> heartbeats = progressBuffer.drain();
+        int updated = 0;
+        for (int from = 0; from < heartbeats.size(); from += CHUNK_SIZE) {
+            List<LectureProgressHeartbeat> chunk =
+                heartbeats.subList(from, Math.min(from + CHUNK_SIZE, heartbeats.size()));
+
+            AppliedChunk applied = applyChunk(chunk);
+            // 반영이 누적식이므로 커밋된 청크는 바로 버퍼에서 지워 재시도 시 중복 반영을 막는다
+            progressBuffer.acknowledge(chunk);
+
+            applied.customersWithNewCompletion().forEach(this::promoteIfAllProLecturesCompleted);
+            updated += applied.rows();
+        }
+        if (!heartbeats.isEmpty()) {
+            progressBuffer.complete();
+        }
+
+        sample.stop(flushDuration);
+        return updated;
+    }
+
+    /**
+     * 진행도 즉시 반영 (버퍼를 사용할 수 없을 때의 대체 경로)
+     */
+    public void applyNow(LectureProgressHeartbeat heartbeat) {
+        AppliedChunk applied = applyChunk(List.of(heartbeat));
+        applied.customersWithNewCompletion().forEach(this::promoteIfAllProLecturesCompleted);
+    }
+
+    /**
+     * 청크 1개를 한 트랜잭션으로 반영
+     *
+     * @return 반영된 행 수와 이번 반영으로 완강한 강의가 생긴 고객
+     */
+    private AppliedChunk applyChunk(List<LectureProgressHeartbeat> heartbeats) {
+        Set<Long> customersWithNewCompletion = new HashSet<>();
+
+        Integer updated = transactionTemplate.execute(status -> {
+            // 반영 전 미완강이던 진행도 중 반영 후 완강된 것만 골라낸다
+            List<LectureProgressHeartbeat> incomplete = filterByKeys(heartbeats,
+                progressBatchRepository.findKeysByCompleted(heartbeats, false));
+
+            int rows = progressBatchRepository.applyAll(heartbeats, LocalDateTime.now());
+
+            for (String key : progressBatchRepository.findKeysByCompleted(incomplete, true)) {
+                customersWithNewCompletion.add(Long.parseLong(key.substring(0, key.indexOf(':'))));
+                completedLectures.increment();
+            }
+            return rows;
+        });
+
+        int rows = updated != null ? updated : 0;
+        flushedRows.increment(rows);
+        return new AppliedChunk(rows, customersWithNewCompletion);
+    }
+
+    /**
+     * PRO 강의를 모두 완강했으면 BEFORE_COMPLETION → PENDING_COMPLETION
+     */
+    private void promoteIfAllProLecturesCompleted(Long customerId) {
+        int totalProLectures = catalogCache.get(
+            CatalogCacheRegion.PRO_LECTURE_COUNT,
+            "all",
+            COUNT_TYPE,
+            lectureRepository::countProLectures
+        );
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Customer customer = customerRepository.findById(customerId).orElse(null);
+            if (customer == null || customer.getCourseStatus() != CourseStatus.BEFORE_COMPLETION) {
+                return;
+            }
+            if (lectureProgressRepository.countCompletedProLectures(customerId) == totalProLectures) {
+                customer.updateCourseStatus(CourseStatus.PENDING_COMPLETION);
+                log.info("PRO 강의 전체 완강: customerId={}", customerId);
+            }
+        });
+    }
+
+    private List<LectureProgressHeartbeat> filterByKeys(List<LectureProgressHeartbeat> heartbeats,
+        List<String> keys) {
+        Set<String> keySet = new HashSet<>(keys);
+        return heartbeats.stream()
+            .filter(hb -> keySet.contains(hb.customerId() + ":" + hb.lectureId()))
+            .toList();
+    }
+
+    private record AppliedChunk(int rows, Set<Long> customersWithNewCompletion) {
+    }
+}
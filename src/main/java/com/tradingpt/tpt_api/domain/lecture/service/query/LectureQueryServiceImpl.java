@@ -1,10 +1,15 @@
 package com.tradingpt.tpt_api.domain.lecture.service.query;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.CurriculumChapterProjection;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureDetailProjection;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureProgressProjection;
 import com.tradingpt.tpt_api.domain.lecture.dto.response.AssignmentSubmissionHistoryItemDTO;
 import com.tradingpt.tpt_api.domain.lecture.dto.response.ChapterBlockDTO;
 import com.tradingpt.tpt_api.domain.lecture.dto.response.LectureAttachmentDownloadResponseDTO;
 import com.tradingpt.tpt_api.domain.lecture.dto.response.LectureDetailDTO;
 import com.tradingpt.tpt_api.domain.lecture.dto.response.LecturePlayResponseDTO;
+import com.tradingpt.tpt_api.domain.lecture.dto.response.LectureResponseDTO;
 import com.tradingpt.tpt_api.domain.lecture.entity.AssignmentAttachment;
 import com.tradingpt.tpt_api.domain.lecture.entity.CustomerAssignment;
 import com.tradingpt.tpt_api.domain.lecture.entity.Lecture;
@@ -23,6 +28,8 @@ import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
 import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.global.infrastructure.cache.CatalogCacheRegion;
+import com.tradingpt.tpt_api.global.infrastructure.cache.TieredCatalogCache;
 import com.tradingpt.tpt_api.global.infrastructure.s3.service.CloudFrontService;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.Duration;
@@ -30,13 +37,22 @@ import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class LectureQueryServiceImpl implements LectureQueryService {
 
+    private static final TypeReference<List<CurriculumChapterProjection>> CURRICULUM_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<LectureDetailProjection> LECTURE_DETAIL_TYPE = new TypeReference<>() {
+    };
+
     private final LectureRepository lectureRepository;
     private final LectureProgressRepository lectureProgressRepository;
     private final LectureAttachmentRepository lectureAttachmentRepository;
@@ -45,17 +61,99 @@ public class LectureQueryServiceImpl implements LectureQueryService {
     private final LectureAttachmentDownloadHistoryRepository downloadHistoryRepository;
     private final CustomerRepository customerRepository;
     private final CloudFrontService cloudFrontService;
+    private final TieredCatalogCache catalogCache;
 
     @Override
     public List<ChapterBlockDTO> getCurriculum(Long userId, int page, int size) {
-        return lectureRepository.findCurriculum(userId, page, size);
+
+        // 1) 공용 카탈로그 (캐시)
+        List<CurriculumChapterProjection> catalog = catalogCache.get(
+                CatalogCacheRegion.CURRICULUM,
+                page + ":" + size,
+                CURRICULUM_TYPE,
+                () -> lectureRepository.findCurriculumCatalog(page, size)
+        );
+
+        if (catalog.isEmpty()) {
+            return List.of();
+        }
+
+        // 2) 사용자 진도 (페이지 내 강의만, 인덱스 lecture_id + customer_id 조회)
+        List<Long> lectureIds = catalog.stream()
+                .flatMap(chapter -> chapter.lectures().stream())
+                .map(CurriculumChapterProjection.Lecture::lectureId)
+                .toList();
+
+        Map<Long, LectureProgressProjection> progressByLecture = lectureRepository
+                .findLatestProgress(userId, lectureIds).stream()
+                .collect(Collectors.toMap(LectureProgressProjection::lectureId, Function.identity()));
+
+        // 3) 카탈로그 + 진도 합치기
+        int totalProLectures = 0;   // PRO 전체 강의 수
+        int completedProCount = 0;  // 완강한 PRO 강의 수
+
+        List<ChapterBlockDTO> result = new ArrayList<>();
+        for (CurriculumChapterProjection chapter : catalog) {
+            // 유료/무료 판별 - ChapterType 기준 (REGULAR=무료, PRO=유료)
+            boolean isPaid = chapter.chapterType() != null && chapter.chapterType().isPaid();
+
+            List<LectureResponseDTO> lectures = new ArrayList<>();
+            for (CurriculumChapterProjection.Lecture lecture : chapter.lectures()) {
+                LectureProgressProjection progress = progressByLecture.get(lecture.lectureId());
+                Boolean completed = progress != null ? progress.isCompleted() : null;
+
+                if (isPaid) {
+                    totalProLectures += 1;
+                    if (Boolean.TRUE.equals(completed)) {
+                        completedProCount += 1;
+                    }
+                }
+
+                lectures.add(LectureResponseDTO.builder()
+                        .lectureId(lecture.lectureId())
+                        .chapterId(chapter.chapterId())
+                        .title(lecture.title())
+                        .content(lecture.content())
+                        .thumbnailUrl(lecture.thumbnailUrl())
+                        .durationSeconds(lecture.durationSeconds())
+                        .requiredTokens(lecture.requiredTokens() != null ? lecture.requiredTokens() : 0)
+                        .paid(isPaid)
+                        .watchedSeconds(progress != null ? progress.watchedSeconds() : null)
+                        .completed(completed)
+                        .lastWatchedAt(progress != null ? progress.lastWatchedAt() : null)
+                        .dueDate(progress != null ? progress.dueDate() : null)   // ⭐ 최신 LectureProgress의 dueDate
+                        .build());
+            }
+
+            result.add(ChapterBlockDTO.builder()
+                    .chapterId(chapter.chapterId())
+                    .chapterTitle(chapter.title())
+                    .description(chapter.description())
+                    .chapterType(chapter.chapterType() != null ? chapter.chapterType().name() : null)
+                    .lectures(lectures)
+                    .build());
+        }
+
+        // 4) 전체 PRO 기준 진도율 계산 - 모든 챕터에 동일하게 적용
+        int finalProgressPercent =
+                totalProLectures == 0 ? 0 :
+                        (int) ((completedProCount * 100.0) / totalProLectures);
+        result.forEach(dto -> dto.setProgressPercent(finalProgressPercent));
+
+        return result;
     }
 
     @Override
     public LectureDetailDTO getLectureDetail(Long userId, Long lectureId) {
 
-        Lecture lecture = lectureRepository.findByIdWithAttachments(lectureId)
-                .orElseThrow(() -> new LectureException(LectureErrorStatus.NOT_FOUND));
+        LectureDetailProjection lecture = catalogCache.get(
+                CatalogCacheRegion.LECTURE_DETAIL,
+                String.valueOf(lectureId),
+                LECTURE_DETAIL_TYPE,
+                () -> lectureRepository.findByIdWithAttachments(lectureId)
+                        .map(LectureDetailProjection::from)
+                        .orElseThrow(() -> new LectureException(LectureErrorStatus.NOT_FOUND))
+        );
 
         LectureProgress progress = lectureProgressRepository
                 .findByLecture_IdAndCustomer_Id(lectureId, userId)
@@ -84,11 +182,12 @@ public class LectureQueryServiceImpl implements LectureQueryService {
 
         Duration duration = Duration.ofHours(3);
 
-        String signedUrl = cloudFrontService.createSignedUrl(
-                lecture.getVideoKey(),
-                duration,
-                clientIp
-        );
+        // HLS 재생목록은 같은 디렉터리의 세그먼트도 같은 서명으로 받아야 하므로 디렉터리 단위로 서명
+        String videoKey = lecture.getVideoKey();
+        String signedUrl = isHlsPlaylist(videoKey)
+                ? cloudFrontService.createPrefixSignedUrl(
+                        videoKey.substring(0, videoKey.lastIndexOf('/') + 1), videoKey, duration, clientIp)
+                : cloudFrontService.createSignedUrl(videoKey, duration, clientIp);
 
         return LecturePlayResponseDTO.builder()
                 .playUrl(signedUrl)
@@ -115,16 +214,16 @@ public class LectureQueryServiceImpl implements LectureQueryService {
 
         String clientIp = extractClientIp(request); // 이미 있던 util 메서드 사용
 
-        // 3) 각 제출마다 서명 URL 만들어서 DTO 로 변환
+        // 3) 제출 파일 서명 URL 일괄 생성 후 DTO 로 변환
+        //    모든 파일이 이 고객의 과제 디렉터리 아래에 있으면 디렉터리 와일드카드로 한 번만 서명
+        String directory = AssignmentAttachment.directoryOf(lectureId, userId);
+        List<String> fileKeys = attachments.stream().map(AssignmentAttachment::getFileKey).toList();
+        Map<String, String> signedUrls = fileKeys.stream().allMatch(key -> key.startsWith(directory))
+                ? cloudFrontService.createPrefixSignedUrls(directory, fileKeys, Duration.ofMinutes(10), clientIp)
+                : cloudFrontService.createSignedUrls(fileKeys, Duration.ofMinutes(10), clientIp);
+
         return attachments.stream()
-                .map(att -> {
-                    String signedUrl = cloudFrontService.createSignedUrl(
-                            att.getFileKey(),
-                            Duration.ofMinutes(10),
-                            clientIp
-                    );
-                    return AssignmentSubmissionHistoryItemDTO.of(assignment, att, signedUrl);
-                })
+                .map(att -> AssignmentSubmissionHistoryItemDTO.of(assignment, att, signedUrls.get(att.getFileKey())))
                 .toList();
     }
 
@@ -172,6 +271,10 @@ public class LectureQueryServiceImpl implements LectureQueryService {
                 .build();
     }
 
+    private boolean isHlsPlaylist(String videoKey) {
+        return videoKey != null && videoKey.endsWith(".m3u8") && videoKey.indexOf('/') > 0;
+    }
+
     private String extractClientIp(HttpServletRequest request) {
         String xff = request.getHeader("X-Forwarded-For");
         if (xff != null && !xff.isBlank()) {
@@ -0,0 +1,41 @@
+package com.tradingpt.tpt_api.domain.leveltest.cache;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 레벨테스트 문제은행 스냅샷 (불변)
+ *
+ * <p>문항이 수정되면 새 스냅샷으로 통째로 교체되며, 교체 전에 꺼낸 스냅샷은 그대로 유지된다.
+ * 한 번의 제출은 하나의 스냅샷으로 검증과 채점을 모두 처리한다.
+ *
+ * @param version  인스턴스 안에서 적재할 때마다 1씩 증가하는 버전
+ * @param loadedAt 적재 시각
+ */
+public record QuestionBank(
+	long version,
+	Instant loadedAt,
+	Map<Long, QuestionGradingKey> questions
+) {
+
+	public static QuestionBank of(long version, List<QuestionGradingKey> questions) {
+		return new QuestionBank(version, Instant.now(), questions.stream()
+			.collect(Collectors.toUnmodifiableMap(QuestionGradingKey::questionId, Function.identity())));
+	}
+
+	public QuestionGradingKey get(Long questionId) {
+		return questions.get(questionId);
+	}
+
+	public boolean containsAll(Collection<Long> questionIds) {
+		return questions.keySet().containsAll(questionIds);
+	}
+
+	public int size() {
+		return questions.size();
+	}
+}
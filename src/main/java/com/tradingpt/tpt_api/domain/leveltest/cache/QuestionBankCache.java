@@ -0,0 +1,141 @@
+package com.tradingpt.tpt_api.domain.leveltest.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tradingpt.tpt_api.domain.leveltest.repository.LevelTestQuestionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레벨테스트 문제은행 스냅샷 보관소 (인스턴스 로컬)
+ *
+ * <p>문항 수가 적고 거의 바뀌지 않으므로 채점 키 전체를 메모리에 올려두고,
+ * 제출 시 문항별 조회 없이 검증/채점한다.
+ * <ul>
+ *   <li>첫 조회 시 적재, 이후에는 문항 생성/수정/삭제 커밋 이후에만 다시 적재</li>
+ *   <li>다시 적재하면 Pub/Sub 으로 다른 인스턴스도 다시 적재하도록 알린다</li>
+ *   <li>메시지를 놓친 인스턴스도 모르는 문항 ID 가 제출되면 한 번 다시 적재하고, 최대 보관 시간이 지나면 다시 적재한다</li>
+ *   <li>모르는 문항 ID 로 인한 재적재는 최소 간격({@code leveltest.question-bank.miss-reload-interval})을 두어
+ *   존재하지 않는 ID 를 반복 제출해도 전체 조회가 반복되지 않게 한다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class QuestionBankCache {
+
+	public static final String REFRESH_CHANNEL = "leveltest-question-bank:refresh";
+
+	private final LevelTestQuestionRepository questionRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final Duration maxAge;
+	private final Duration missReloadInterval;
+
+	private final AtomicLong versions = new AtomicLong();
+	private volatile QuestionBank current;
+
+	public QuestionBankCache(
+		LevelTestQuestionRepository questionRepository,
+		StringRedisTemplate redisTemplate,
+		@Value("${leveltest.question-bank.max-age:PT10M}") Duration maxAge,
+		@Value("${leveltest.question-bank.miss-reload-interval:PT5S}") Duration missReloadInterval
+	) {
+		this.questionRepository = questionRepository;
+		this.redisTemplate = redisTemplate;
+		this.maxAge = maxAge;
+		this.missReloadInterval = missReloadInterval;
+	}
+
+	/**
+	 * 현재 스냅샷 (없거나 최대 보관 시간이 지났으면 적재)
+	 */
+	public QuestionBank get() {
+		QuestionBank bank = current;
+		if (isStale(bank)) {
+			return reloadIfStale();
+		}
+		return bank;
+	}
+
+	/**
+	 * 주어진 문항을 모두 포함하는 스냅샷
+	 * 모르는 문항이 있으면 한 번 다시 적재한다. (다시 적재해도 없으면 그대로 반환)
+	 * 마지막 적재 후 최소 간격이 지나지 않았으면 다시 적재하지 않고 현재 스냅샷을 반환한다.
+	 */
+	public QuestionBank getContaining(Collection<Long> questionIds) {
+		QuestionBank bank = get();
+		return bank.containsAll(questionIds) ? bank : reloadOnMiss(questionIds);
+	}
+
+	/**
+	 * 문항 변경 후 스냅샷 갱신
+	 * 트랜잭션 안이면 커밋 이후에 수행한다. (커밋 전 적재 → 변경 전 값을 다시 읽는 것을 방지)
+	 */
+	public void refresh() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					refreshNow();
+				}
+			});
+			return;
+		}
+		refreshNow();
+	}
+
+	/**
+	 * 다른 인스턴스의 갱신 메시지 수신 시 이 인스턴스만 다시 적재한다.
+	 */
+	public void refreshLocal() {
+		reload();
+	}
+
+	private void refreshNow() {
+		reload();
+		try {
+			redisTemplate.convertAndSend(REFRESH_CHANNEL, Long.toString(current.version()));
+		} catch (RuntimeException e) {
+			// 다른 인스턴스는 모르는 문항 ID 가 제출될 때 다시 적재한다
+			log.error("문제은행 갱신 전파 실패", e);
+		}
+	}
+
+	private synchronized QuestionBank reloadOnMiss(Collection<Long> questionIds) {
+		// 동시에 들어온 요청이 먼저 다시 적재했을 수 있으므로 잠금 안에서 다시 확인한다
+		QuestionBank bank = current;
+		if (bank.containsAll(questionIds)) {
+			return bank;
+		}
+		if (bank.loadedAt().plus(missReloadInterval).isAfter(Instant.now())) {
+			log.debug("모르는 문항 ID 재적재 생략 (최소 간격 이내): version={}", bank.version());
+			return bank;
+		}
+		return reload();
+	}
+
+	private synchronized QuestionBank reloadIfStale() {
+		// 동시에 만료를 본 요청이 먼저 다시 적재했을 수 있으므로 잠금 안에서 다시 확인한다
+		QuestionBank bank = current;
+		return isStale(bank) ? reload() : bank;
+	}
+
+	private boolean isStale(QuestionBank bank) {
+		return bank == null || bank.loadedAt().plus(maxAge).isBefore(Instant.now());
+	}
+
+	private synchronized QuestionBank reload() {
+		QuestionBank bank = QuestionBank.of(versions.incrementAndGet(), questionRepository.findAllGradingKeys());
+		current = bank;
+		log.info("Level test question bank loaded: version={}, questions={}", bank.version(), bank.size());
+		return bank;
+	}
+}
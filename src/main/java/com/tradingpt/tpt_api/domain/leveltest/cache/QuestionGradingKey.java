@@ -0,0 +1,25 @@
+package com.tradingpt.tpt_api.domain.leveltest.cache;
+
+import com.tradingpt.tpt_api.domain.leveltest.enums.ProblemType;
+
+/**
+ * 채점에 필요한 문항 정보 (정답 번호, 배점, 문제 유형)
+ */
+public record QuestionGradingKey(
+	Long questionId,
+	ProblemType problemType,
+	String correctChoiceNum,
+	Integer score
+) {
+
+	public boolean isMultipleChoice() {
+		return problemType == ProblemType.MULTIPLE_CHOICE;
+	}
+
+	/**
+	 * 객관식 자동 채점 (정답 번호와 같으면 배점, 아니면 0)
+	 */
+	public int grade(String choiceNumber) {
+		return correctChoiceNum != null && correctChoiceNum.equals(choiceNumber) ? score : 0;
+	}
+}
@@ -1,6 +1,7 @@
 package com.tradingpt.tpt_api.domain.leveltest.entity;
 
 import com.tradingpt.tpt_api.global.common.BaseEntity;
+import com.tradingpt.tpt_api.global.common.id.PooledIds;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -40,7 +42,15 @@ public class LevelTestResponse extends BaseEntity {
 	private LevelTestAttempt leveltestAttempt;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIds.LEVEL_TEST_RESPONSE)
+	@TableGenerator(
+		name = PooledIds.LEVEL_TEST_RESPONSE,
+		table = PooledIds.TABLE,
+		pkColumnName = PooledIds.PK_COLUMN,
+		valueColumnName = PooledIds.VALUE_COLUMN,
+		pkColumnValue = PooledIds.LEVEL_TEST_RESPONSE,
+		allocationSize = PooledIds.ALLOCATION_SIZE
+	)
 	@Column(name = "leveltest_response_id")
 	private Long id;
 
@@ -1,11 +1,23 @@
 package com.tradingpt.tpt_api.domain.leveltest.repository;
 
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import com.tradingpt.tpt_api.domain.leveltest.cache.QuestionGradingKey;
 import com.tradingpt.tpt_api.domain.leveltest.entity.LevelTestQuestion;
 
 public interface LevelTestQuestionRepository extends JpaRepository<LevelTestQuestion, Long> {
 	Slice<LevelTestQuestion> findAllBy(Pageable pageable);
+
+	/** 문제은행 스냅샷 적재용 채점 키 전체 조회 (본문/선택지/이미지 제외) */
+	@Query("""
+		select new com.tradingpt.tpt_api.domain.leveltest.cache.QuestionGradingKey(
+		    q.id, q.problemType, q.correctChoiceNum, q.score)
+		from LevelTestQuestion q
+		""")
+	List<QuestionGradingKey> findAllGradingKeys();
 }
@@ -1,10 +1,11 @@
 package com.tradingpt.tpt_api.domain.leveltest.service.async;
 
+import com.tradingpt.tpt_api.domain.leveltest.cache.QuestionBank;
+import com.tradingpt.tpt_api.domain.leveltest.cache.QuestionBankCache;
+import com.tradingpt.tpt_api.domain.leveltest.cache.QuestionGradingKey;
 import com.tradingpt.tpt_api.domain.leveltest.entity.LevelTestAttempt;
-import com.tradingpt.tpt_api.domain.leveltest.entity.LevelTestQuestion;
 import com.tradingpt.tpt_api.domain.leveltest.entity.LevelTestResponse;
 import com.tradingpt.tpt_api.domain.leveltest.enums.LevelTestStaus;
-import com.tradingpt.tpt_api.domain.leveltest.enums.ProblemType;
 import com.tradingpt.tpt_api.domain.leveltest.exception.LevelTestErrorStatus;
 import com.tradingpt.tpt_api.domain.leveltest.exception.LevelTestException;
 import com.tradingpt.tpt_api.domain.leveltest.repository.LeveltestAttemptRepository;
@@ -22,6 +23,7 @@ public class GradingService {
 
 	private final LeveltestAttemptRepository attemptRepository;
 	private final LeveltestResponseRepository responseRepository;
+	private final QuestionBankCache questionBankCache;
 
 	/**
 	 * 여러 서버/스레드에서 동시에 들어와도 "원자적 선점"으로 한쪽만 채점 수행.
@@ -51,16 +53,19 @@ public class GradingService {
 		List<LevelTestResponse> responses =
 				responseRepository.findAllByLeveltestAttempt_Id(attemptId);
 
+		// 문항은 문제은행 스냅샷에서 조회 (응답마다 문항 지연 로딩 없음)
+		QuestionBank questionBank = questionBankCache.getContaining(
+				responses.stream().map(r -> r.getLeveltestQuestion().getId()).toList());
+
 		int total = 0;
 		for (LevelTestResponse r : responses) {
-			LevelTestQuestion q = r.getLeveltestQuestion();
-
-			if (q.getProblemType() == ProblemType.MULTIPLE_CHOICE) {
-				boolean correct =
-						q.getCorrectChoiceNum() != null &&
-								q.getCorrectChoiceNum().equals(r.getChoiceNumber());
+			QuestionGradingKey q = questionBank.get(r.getLeveltestQuestion().getId());
+			if (q == null) {
+				throw new LevelTestException(LevelTestErrorStatus.QUESTION_NOT_FOUND);
+			}
 
-				int awarded = correct ? q.getScore() : 0;
+			if (q.isMultipleChoice()) {
+				int awarded = q.grade(r.getChoiceNumber());
 				r.updateScore(awarded);
 				total += awarded;
 
@@ -0,0 +1,33 @@
+package com.tradingpt.tpt_api.domain.leveltest.service.async;
+
+import org.springframework.stereotype.Component;
+
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobType;
+import com.tradingpt.tpt_api.global.infrastructure.job.handler.AsyncJobHandler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레벨테스트 채점 작업 실행기 (payload: 시도 ID)
+ * 채점은 SUBMITTED → GRADING 선점으로 한 번만 수행되므로 다시 실행되어도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LevelTestGradingJobHandler implements AsyncJobHandler {
+
+	private final GradingService gradingService;
+
+	@Override
+	public AsyncJobType type() {
+		return AsyncJobType.LEVEL_TEST_GRADING;
+	}
+
+	@Override
+	public void handle(String payload) {
+		Long attemptId = Long.valueOf(payload);
+		gradingService.gradeAttemptSafely(attemptId);
+		log.info("레벨테스트 채점 완료 - attemptId={}", attemptId);
+	}
+}
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.tradingpt.tpt_api.domain.leveltest.cache.QuestionBankCache;
 import com.tradingpt.tpt_api.domain.leveltest.dto.request.LeveltestGradeRequestDTO;
 import com.tradingpt.tpt_api.domain.leveltest.dto.request.LeveltestMultipleChoiceRequestDTO;
 import com.tradingpt.tpt_api.domain.leveltest.dto.request.LeveltestSubjectiveRequestDTO;
@@ -32,6 +33,7 @@ public class AdminLevelTestCommandServiceImpl implements AdminLevelTestCommandSe
 	private final LeveltestAttemptRepository leveltestAttemptRepository;
 	private final LeveltestResponseRepository leveltestResponseRepository;
 	private final S3FileService s3FileService;
+	private final QuestionBankCache questionBankCache;
 
 	@Override
 	@Transactional
@@ -62,6 +64,7 @@ public class AdminLevelTestCommandServiceImpl implements AdminLevelTestCommandSe
 			.build();
 
 		LevelTestQuestion saved = leveltestQuestionRepository.save(entity);
+		questionBankCache.refresh();
 
 		return LeveltestQuestionResponseDTO.builder()
 			.questionId(saved.getId())
@@ -94,6 +97,7 @@ public class AdminLevelTestCommandServiceImpl implements AdminLevelTestCommandSe
 			.build();
 
 		LevelTestQuestion saved = leveltestQuestionRepository.save(entity);
+		questionBankCache.refresh();
 
 		return LeveltestQuestionResponseDTO.builder()
 			.questionId(saved.getId())
@@ -134,6 +138,7 @@ public class AdminLevelTestCommandServiceImpl implements AdminLevelTestCommandSe
 		question.changeChoices(req.getChoice1(), req.getChoice2(), req.getChoice3(), req.getChoice4(),
 			req.getChoice5());
 		question.changeCorrectChoiceNum(req.getCorrectChoiceNum());
+		questionBankCache.refresh();
 
 		return LeveltestQuestionResponseDTO.builder()
 			.questionId(question.getId())
@@ -173,6 +178,7 @@ public class AdminLevelTestCommandServiceImpl implements AdminLevelTestCommandSe
 		question.changeScore(req.getScore());
 		question.changeProblemType(req.getProblemType()); // SHORT_ANSWER or SUBJECTIVE
 		question.changeAnswerText(req.getAnswerText());
+		questionBankCache.refresh();
 
 		return LeveltestQuestionResponseDTO.builder()
 			.questionId(question.getId())
@@ -194,6 +200,7 @@ public class AdminLevelTestCommandServiceImpl implements AdminLevelTestCommandSe
 			s3FileService.delete(question.getImageKey());
 		}
 		leveltestQuestionRepository.delete(question);
+		questionBankCache.refresh();
 
 		return LeveltestQuestionResponseDTO.builder()
 			.questionId(questionId)
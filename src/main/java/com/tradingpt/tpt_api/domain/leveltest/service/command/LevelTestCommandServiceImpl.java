@@ -1,11 +1,16 @@
 package com.tradingpt.tpt_api.domain.leveltest.service.command;
 
 import com.tradingpt.tpt_api.domain.user.enums.LeveltestStatus;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tradingpt.tpt_api.domain.leveltest.cache.QuestionBank;
+import com.tradingpt.tpt_api.domain.leveltest.cache.QuestionBankCache;
 import com.tradingpt.tpt_api.domain.leveltest.dto.request.LeveltestSubmitRequestDTO;
 import com.tradingpt.tpt_api.domain.leveltest.dto.response.LeveltestAttemptSubmitResponseDTO;
 import com.tradingpt.tpt_api.domain.leveltest.entity.LevelTestAttempt;
@@ -16,13 +21,14 @@ import com.tradingpt.tpt_api.domain.leveltest.exception.LevelTestException;
 import com.tradingpt.tpt_api.domain.leveltest.repository.LevelTestQuestionRepository;
 import com.tradingpt.tpt_api.domain.leveltest.repository.LeveltestAttemptRepository;
 import com.tradingpt.tpt_api.domain.leveltest.repository.LeveltestResponseRepository;
-import com.tradingpt.tpt_api.domain.leveltest.service.async.GradingAsyncInvoker;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.enums.UserStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
 import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobType;
+import com.tradingpt.tpt_api.global.infrastructure.job.service.AsyncJobService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,7 +40,8 @@ public class LevelTestCommandServiceImpl implements LevelTestCommandService {
 	private final LeveltestAttemptRepository attemptRepository;
 	private final LevelTestQuestionRepository questionRepository;
 	private final LeveltestResponseRepository responseRepository;
-	private final GradingAsyncInvoker gradingAsyncInvoker;
+	private final AsyncJobService asyncJobService;
+	private final QuestionBankCache questionBankCache;
 
 	@Override
 	@Transactional
@@ -51,36 +58,61 @@ public class LevelTestCommandServiceImpl implements LevelTestCommandService {
 			throw new LevelTestException(LevelTestErrorStatus.ATTEMPT_NOT_ALLOWED);
 		}
 
-		// 3) 시도 생성 (SUBMITTED)
+		// 3) 문제은행 스냅샷으로 문항 검증 (문항별 조회 없음)
+		List<LeveltestSubmitRequestDTO.QuestionAnswer> answers = request.getAnswers();
+		Set<Long> questionIds = new HashSet<>();
+		for (LeveltestSubmitRequestDTO.QuestionAnswer answer : answers) {
+			if (!questionIds.add(answer.getQuestionId())) {
+				throw new LevelTestException(LevelTestErrorStatus.INVALID_REQUEST);
+			}
+		}
+		QuestionBank questionBank = questionBankCache.getContaining(questionIds);
+		if (!questionBank.containsAll(questionIds)) {
+			throw new LevelTestException(LevelTestErrorStatus.QUESTION_NOT_FOUND);
+		}
+
+		// 4) 객관식만 있으면 제출 시점에 바로 채점 (비동기 채점 결과와 같은 상태로 저장)
+		boolean autoGradable = questionIds.stream()
+			.allMatch(questionId -> questionBank.get(questionId).isMultipleChoice());
+		int total = autoGradable
+			? answers.stream()
+				.mapToInt(answer -> questionBank.get(answer.getQuestionId()).grade(answer.getChoiceNumber()))
+				.sum()
+			: 0;
+
+		// 5) 시도 생성
 		LevelTestAttempt attempt = LevelTestAttempt.builder()
 			.customer(customer)
-			.status(LevelTestStaus.SUBMITTED)
-			.totalScore(0)
+			.status(autoGradable ? LevelTestStaus.GRADING : LevelTestStaus.SUBMITTED)
+			.totalScore(total)
 			.build();
 		attemptRepository.save(attempt);
 
-		// 4) 응답 벌크 저장
-		List<LevelTestResponse> responses = request.getAnswers().stream()
-			.map(a -> LevelTestResponse.builder()
+		// 6) 응답 일괄 저장 (풀링 ID 로 배치 INSERT, 문항은 프록시 참조)
+		List<LevelTestResponse> responses = new ArrayList<>(answers.size());
+		for (LeveltestSubmitRequestDTO.QuestionAnswer answer : answers) {
+			Integer awarded = autoGradable
+				? questionBank.get(answer.getQuestionId()).grade(answer.getChoiceNumber())
+				: null;
+			responses.add(LevelTestResponse.builder()
 				.leveltestAttempt(attempt)
-				.leveltestQuestion(
-					questionRepository.findById(a.getQuestionId())
-						.orElseThrow(() -> new LevelTestException(LevelTestErrorStatus.QUESTION_NOT_FOUND))
-				)
-				.choiceNumber(a.getChoiceNumber())
-				.answerText(a.getAnswerText())
-				.scoredAwarded(null)
-				.build())
-			.toList();
+				.leveltestQuestion(questionRepository.getReferenceById(answer.getQuestionId()))
+				.choiceNumber(answer.getChoiceNumber())
+				.answerText(answer.getAnswerText())
+				.scoredAwarded(awarded)
+				.build());
+		}
 		responseRepository.saveAll(responses);
 
-		// 5) 비동기 채점
-		gradingAsyncInvoker.trigger(attempt.getId(), customer);
-
-		// 6) 사용자 상태 갱신
-		customer.setLeveltestStatus(LeveltestStatus.BEFORE_GRADE);
+		if (autoGradable) {
+			customer.setLeveltestStatus(LeveltestStatus.COMPLETED);
+		} else {
+			// 7) 주관식/단답형이 있으면 채점 작업을 같은 트랜잭션으로 등록 (커밋 이후 워커가 실행, 재기동에도 유실 없음)
+			asyncJobService.enqueue(AsyncJobType.LEVEL_TEST_GRADING, attempt.getId().toString());
+			customer.setLeveltestStatus(LeveltestStatus.BEFORE_GRADE);
+		}
 
-		// 7) 응답 반환
+		// 8) 응답 반환
 		return LeveltestAttemptSubmitResponseDTO.builder()
 			.attemptId(attempt.getId())
 			.build();
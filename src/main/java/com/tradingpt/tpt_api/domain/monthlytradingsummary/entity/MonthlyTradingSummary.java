@@ -21,6 +21,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -38,7 +39,13 @@ import lombok.experimental.SuperBuilder;
 @DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "monthly_trading_summary")
+@Table(
+	name = "monthly_trading_summary",
+	indexes = {
+		// 고객 + 연/월 조회 (월간 요약/평가, 미작성 평가 NOT EXISTS)
+		@Index(name = "idx_monthly_summary_customer_period", columnList = "customer_id, summary_year, summary_month")
+	}
+)
 public class MonthlyTradingSummary extends BaseEntity {
 
 	@Id
@@ -1,7 +1,5 @@
 package com.tradingpt.tpt_api.domain.monthlytradingsummary.service.query;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -18,7 +16,6 @@ import com.tradingpt.tpt_api.domain.feedbackrequest.repository.FeedbackRequestRe
 import com.tradingpt.tpt_api.domain.feedbackrequest.util.DateValidationUtil;
 import com.tradingpt.tpt_api.domain.feedbackrequest.util.FeedbackPeriodUtil;
 import com.tradingpt.tpt_api.domain.feedbackrequest.util.FeedbackStatusUtil;
-import com.tradingpt.tpt_api.domain.feedbackrequest.util.TradingCalculationUtil;
 import com.tradingpt.tpt_api.domain.investmenttypehistory.exception.InvestmentHistoryErrorStatus;
 import com.tradingpt.tpt_api.domain.investmenttypehistory.exception.InvestmentHistoryException;
 import com.tradingpt.tpt_api.domain.investmenttypehistory.repository.InvestmentTypeHistoryRepository;
@@ -36,18 +33,16 @@ import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.response.MonthlyWe
 import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.response.PerformanceComparison;
 import com.tradingpt.tpt_api.domain.monthlytradingsummary.entity.MonthlyTradingSummary;
 import com.tradingpt.tpt_api.domain.monthlytradingsummary.repository.MonthlyTradingSummaryRepository;
-import com.tradingpt.tpt_api.domain.user.entity.Customer;
-import com.tradingpt.tpt_api.domain.user.entity.Trainer;
-import com.tradingpt.tpt_api.domain.user.entity.User;
+import com.tradingpt.tpt_api.domain.tradingstat.engine.MonthlyTradingStats;
+import com.tradingpt.tpt_api.domain.tradingstat.engine.TradingStatsEngine;
+import com.tradingpt.tpt_api.domain.user.cache.CustomerSnapshot;
+import com.tradingpt.tpt_api.domain.user.cache.UserSnapshotCache;
 import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
 import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
 import com.tradingpt.tpt_api.domain.user.enums.Role;
 import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
-import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
-import com.tradingpt.tpt_api.domain.user.repository.TrainerRepository;
-import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -58,12 +53,11 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class MonthlyTradingSummaryQueryServiceImpl implements MonthlyTradingSummaryQueryService {
 
-	private final CustomerRepository customerRepository;
+	private final UserSnapshotCache userSnapshotCache;
 	private final FeedbackRequestRepository feedbackRequestRepository;
+	private final TradingStatsEngine tradingStatsEngine;
 	private final InvestmentTypeHistoryRepository investmentTypeHistoryRepository;
 	private final MonthlyTradingSummaryRepository monthlyTradingSummaryRepository;
-	private final TrainerRepository trainerRepository;
-	private final UserRepository userRepository;
 
 	@Override
 	public YearlySummaryResponseDTO getYearlySummaryResponse(Integer year, Long customerId) {
@@ -86,8 +80,7 @@ public class MonthlyTradingSummaryQueryServiceImpl implements MonthlyTradingSumm
 		// 연도/월 검증
 		DateValidationUtil.validatePastOrPresentYearMonth(year, month);
 
-		Customer customer = customerRepository.findById(customerId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND));
+		CustomerSnapshot customer = userSnapshotCache.getCustomer(customerId);
 
 		// 1. 해당 월의 CourseStatus 조회
 		CourseStatus courseStatus = feedbackRequestRepository
@@ -103,7 +96,7 @@ public class MonthlyTradingSummaryQueryServiceImpl implements MonthlyTradingSumm
 			.getInvestmentType();
 
 		// 3. MembershipLevel 기준 분기 (null은 BASIC과 동일 처리)
-		MembershipLevel membershipLevel = customer.getMembershipLevel();
+		MembershipLevel membershipLevel = customer.membershipLevel();
 
 		if (membershipLevel == MembershipLevel.PREMIUM) {
 			// PREMIUM: 트레이너 평가 포함
@@ -122,29 +115,23 @@ public class MonthlyTradingSummaryQueryServiceImpl implements MonthlyTradingSumm
 		DateValidationUtil.validatePastOrPresentYearMonth(year, month);
 
 		// 고객 조회
-		Customer customer = customerRepository.findById(customerId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND));
+		CustomerSnapshot customer = userSnapshotCache.getCustomer(customerId);
 
-		// 사용자 조회 및 역할 확인
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.USER_NOT_FOUND));
+		// 사용자 역할 확인
+		Role role = userSnapshotCache.getRole(userId);
 
 		// ADMIN이 아닌 경우 (TRAINER인 경우) 담당 고객 검증
-		if (user.getRole() != Role.ROLE_ADMIN) {
-			// 트레이너 조회
-			Trainer trainer = trainerRepository.findById(userId)
-				.orElseThrow(() -> new UserException(UserErrorStatus.TRAINER_NOT_FOUND));
-
-			// 해당 트레이너의 고객이 아니라면 접근할 수 없다.
-			if (customer.getAssignedTrainer() == null) {
-				throw new UserException(UserErrorStatus.TRAINER_NOT_ASSIGNED);
+		if (role != Role.ROLE_ADMIN) {
+			if (role != Role.ROLE_TRAINER) {
+				throw new UserException(UserErrorStatus.TRAINER_NOT_FOUND);
 			}
 
-			if (!customer.getAssignedTrainer().getId().equals(trainer.getId())) {
+			// 해당 트레이너의 고객이 아니라면 접근할 수 없다.
+			if (customer.assignedTrainerId() != null && !customer.assignedTrainerId().equals(userId)) {
 				log.warn("Trainer {} tried to access customer {} who is assigned to user {}",
-					trainer.getId(), customer.getId(), customer.getAssignedTrainer().getId());
-				throw new UserException(UserErrorStatus.NOT_TRAINERS_CUSTOMER);
+					userId, customerId, customer.assignedTrainerId());
 			}
+			customer.validateAssignedTo(userId);
 		} else {
 			log.info("Admin user (ID: {}) accessing customer {} monthly week feedback", userId, customerId);
 		}
@@ -167,46 +154,27 @@ public class MonthlyTradingSummaryQueryServiceImpl implements MonthlyTradingSumm
 		CourseStatus courseStatus,
 		InvestmentType investmentType
 	) {
-		// 1. 주차별 통계 조회
-		List<WeeklyRawData> weeklyStats = feedbackRequestRepository.findWeeklyStatistics(
+		// 1. 월간 통계 일괄 계산 (주차별 통계, 승률, 평균 R&R, 이전 달 비교)
+		MonthlyTradingStats stats = tradingStatsEngine.monthly(
 			customerId, year, month, courseStatus, investmentType
 		);
 
 		// 2. ✅ 모든 주차에 대한 DTO 생성 (빈 주차 포함)
 		List<MonthlyWeekFeedbackSummaryResponseDTO> weekDTOs = fillAllWeeksWithData(
-			weeklyStats, year, month
-		);
-
-		// 3. 월간 집계 계산 (기존과 동일)
-		Integer totalTradingCount = weeklyStats.stream()
-			.mapToInt(WeeklyRawData::getTradingCount)
-			.sum();
-
-		Integer totalWinCount = weeklyStats.stream()
-			.mapToInt(WeeklyRawData::getWinCount)
-			.sum();
-
-		BigDecimal monthlyPnl = weeklyStats.stream()
-			.map(WeeklyRawData::getWeeklyPnl)
-			.reduce(BigDecimal.ZERO, BigDecimal::add);
-
-		Double winningRate = TradingCalculationUtil.calculateWinRate(totalTradingCount, totalWinCount);
-
-		// ✅ 수익 매매들의 평균 R&R 계산 (pnl > 0인 매매의 rnr 컬럼 평균)
-		Double monthlyAverageRnr = feedbackRequestRepository.findAverageRnRForMonthlySummary(
-			customerId, year, month, investmentType
+			stats.weeklyStatistics(), year, month
 		);
 
+		// 3. 월간 집계 (✅ 평균 R&R 은 수익 매매(pnl > 0)의 rnr 평균)
 		MonthlyFeedbackSummaryResponseDTO monthlyFeedback = MonthlyFeedbackSummaryResponseDTO.of(
 			weekDTOs,
-			winningRate,
-			monthlyAverageRnr,
-			monthlyPnl
+			stats.winningRate(),
+			stats.averageRnr(),
+			stats.pnl()
 		);
 
 		// 4. 이전 달과 현재 달 성과 비교
 		PerformanceComparison<PerformanceComparison.MonthSnapshot> performanceComparison =
-			buildMonthlyPerformanceComparison(customerId, year, month, investmentType);
+			buildMonthlyPerformanceComparison(stats, month);
 
 		return BeforeCompletedCourseMonthlySummaryDTO.of(
 			courseStatus,
@@ -228,47 +196,25 @@ public class MonthlyTradingSummaryQueryServiceImpl implements MonthlyTradingSumm
 		CourseStatus courseStatus,
 		InvestmentType investmentType
 	) {
-		List<WeeklyRawData> weeklyStats = feedbackRequestRepository.findWeeklyStatistics(
+		MonthlyTradingStats stats = tradingStatsEngine.monthly(
 			customerId, year, month, courseStatus, investmentType
 		);
 
 		// ✅ 모든 주차에 대한 DTO 생성 (빈 주차 포함)
 		List<MonthlyWeekFeedbackSummaryResponseDTO> weekDTOs = fillAllWeeksWithData(
-			weeklyStats, year, month
-		);
-
-		// ... 나머지 코드 동일 ...
-
-		Integer totalTradingCount = weeklyStats.stream()
-			.mapToInt(WeeklyRawData::getTradingCount)
-			.sum();
-
-		Integer totalWinCount = weeklyStats.stream()
-			.mapToInt(WeeklyRawData::getWinCount)
-			.sum();
-
-		BigDecimal monthlyPnl = weeklyStats.stream()
-			.map(WeeklyRawData::getWeeklyPnl)
-			.reduce(BigDecimal.ZERO, BigDecimal::add);
-
-		Double winningRate = TradingCalculationUtil.calculateWinRate(totalTradingCount, totalWinCount);
-
-		// ✅ 수익 매매들의 평균 R&R 계산 (pnl > 0인 매매의 rnr 컬럼 평균)
-		Double monthlyAverageRnr = feedbackRequestRepository.findAverageRnRForMonthlySummary(
-			customerId, year, month, investmentType
+			stats.weeklyStatistics(), year, month
 		);
 
+		// ✅ 평균 R&R 은 수익 매매(pnl > 0)의 rnr 평균
 		MonthlyFeedbackSummaryResponseDTO monthlyFeedback = MonthlyFeedbackSummaryResponseDTO.of(
 			weekDTOs,
-			winningRate,
-			monthlyAverageRnr,
-			monthlyPnl
+			stats.winningRate(),
+			stats.averageRnr(),
+			stats.pnl()
 		);
 
 		// 진입 타점 통계, 트레이너 평가 등 나머지 코드...
-		EntryPointStatistics entryPointStats = feedbackRequestRepository.findEntryPointStatistics(
-			customerId, year, month, investmentType
-		);
+		EntryPointStatistics entryPointStats = stats.entryPointStatistics();
 
 		EntryPointStatisticsResponseDTO entryPointDTO = EntryPointStatisticsResponseDTO.of(
 			EntryPointStatisticsResponseDTO.PositionDetail.of(
@@ -296,7 +242,7 @@ public class MonthlyTradingSummaryQueryServiceImpl implements MonthlyTradingSumm
 		String nextMonthGoal = evaluation.map(MonthlyTradingSummary::getNextMonthGoal).orElse(null);
 
 		PerformanceComparison<PerformanceComparison.MonthSnapshot> performanceComparison =
-			buildMonthlyPerformanceComparison(customerId, year, month, investmentType);
+			buildMonthlyPerformanceComparison(stats, month);
 
 		return AfterCompletedCourseMonthlySummaryDTO.of(
 			courseStatus,
@@ -316,29 +262,14 @@ public class MonthlyTradingSummaryQueryServiceImpl implements MonthlyTradingSumm
 	 * 월별 성과 비교 생성 (이전 달 vs 현재 달)
 	 */
 	private PerformanceComparison<PerformanceComparison.MonthSnapshot> buildMonthlyPerformanceComparison(
-		Long customerId,
-		Integer year,
-		Integer month,
-		InvestmentType investmentType
+		MonthlyTradingStats stats,
+		Integer month
 	) {
-		// 현재 달 성과
-		MonthlyPerformanceSnapshot currentSnapshot = feedbackRequestRepository.findMonthlyPerformance(
-			customerId, year, month, investmentType
-		);
-
-		// 이전 달 계산
-		LocalDate currentDate = LocalDate.of(year, month, 1);
-		LocalDate previousDate = currentDate.minusMonths(1);
-		Integer previousYear = previousDate.getYear();
-		Integer previousMonth = previousDate.getMonthValue();
-
-		// 이전 달 성과
-		MonthlyPerformanceSnapshot previousSnapshot = feedbackRequestRepository.findMonthlyPerformance(
-			customerId, previousYear, previousMonth, investmentType
-		);
+		MonthlyPerformanceSnapshot currentSnapshot = stats.currentPerformance();
+		MonthlyPerformanceSnapshot previousSnapshot = stats.previousPerformance();
 
 		PerformanceComparison.MonthSnapshot beforeMonth = PerformanceComparison.MonthSnapshot.of(
-			previousMonth,
+			stats.previousMonth(),
 			previousSnapshot.getFinalWinRate(),
 			previousSnapshot.getAverageRnr(),
 			previousSnapshot.getFinalPnl()
@@ -13,6 +13,7 @@ import com.tradingpt.tpt_api.domain.paymentmethod.entity.PaymentMethod;
 import com.tradingpt.tpt_api.domain.subscription.entity.Subscription;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.global.common.BaseEntity;
+import com.tradingpt.tpt_api.global.common.id.PooledIds;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -26,6 +27,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -44,7 +46,15 @@ import lombok.experimental.SuperBuilder;
 public class Payment extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIds.PAYMENT)
+	@TableGenerator(
+		name = PooledIds.PAYMENT,
+		table = PooledIds.TABLE,
+		pkColumnName = PooledIds.PK_COLUMN,
+		valueColumnName = PooledIds.VALUE_COLUMN,
+		pkColumnValue = PooledIds.PAYMENT,
+		allocationSize = PooledIds.ALLOCATION_SIZE
+	)
 	@Column(name = "payment_id")
 	private Long id;
 
@@ -149,6 +159,14 @@ public class Payment extends BaseEntity {
 	 * 비즈니스 메서드
 	 */
 
+	/**
+	 * PG 거래 고유번호 사전 발급
+	 * PG 호출 전에 저장해 두어, 결과를 기록하기 전에 중단되어도 거래 상태를 조회할 수 있도록 함
+	 */
+	public void assignPgTid(String pgTid) {
+		this.pgTid = pgTid;
+	}
+
 	/**
 	 * 결제 성공 처리
 	 * JPA dirty checking을 활용하여 변경 사항 자동 반영
@@ -1,6 +1,7 @@
 package com.tradingpt.tpt_api.domain.payment.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,23 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     List<Payment> findBySubscription_IdAndStatus(Long subscriptionId, PaymentStatus status);
 
+    /**
+     * 구독의 특정 청구 기간 결제를 상태로 조회
+     */
+    Optional<Payment> findFirstBySubscription_IdAndStatusAndBillingPeriodStart(
+        Long subscriptionId, PaymentStatus status, LocalDate billingPeriodStart);
+
+    /**
+     * 요청 시각이 기준 시각 이전인 결제 ID 조회 (결과가 기록되지 않은 결제 대사용)
+     */
+    @Query("SELECT p.id FROM Payment p WHERE p.paymentType = :paymentType " +
+           "AND p.status = :status AND p.requestedAt < :requestedBefore ORDER BY p.id")
+    List<Long> findIdsRequestedBefore(
+        @Param("paymentType") PaymentType paymentType,
+        @Param("status") PaymentStatus status,
+        @Param("requestedBefore") LocalDateTime requestedBefore
+    );
+
     /**
      * 고객 ID로 결제 내역 조회 (최신순)
      */
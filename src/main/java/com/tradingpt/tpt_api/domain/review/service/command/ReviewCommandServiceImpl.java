@@ -30,6 +30,8 @@ import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
 import com.tradingpt.tpt_api.domain.user.repository.TrainerRepository;
 import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
 import com.tradingpt.tpt_api.global.infrastructure.content.ContentImageUploader;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PrecomputedFeedCache;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PublicFeed;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +51,7 @@ public class ReviewCommandServiceImpl implements ReviewCommandService {
 	private final CustomerRepository customerRepository;
 	private final SubscriptionRepository subscriptionRepository;
 	private final UserRepository userRepository;
+	private final PrecomputedFeedCache precomputedFeedCache;
 
 	@Override
 	public Void createReview(Long customerId, CreateReviewRequestDTO request) {
@@ -79,6 +82,9 @@ public class ReviewCommandServiceImpl implements ReviewCommandService {
 			newReview.addTags(tags);
 		}
 
+		// 공개 리뷰 피드 재생성 (커밋 이후)
+		precomputedFeedCache.refresh(PublicFeed.REVIEW);
+
 		return null;
 	}
 
@@ -140,6 +146,9 @@ public class ReviewCommandServiceImpl implements ReviewCommandService {
 		// 더티 체킹을 통한 리뷰 응답 저장
 		review.addReply(admin, processedContent);
 
+		// 공개 리뷰 피드 재생성 (커밋 이후)
+		precomputedFeedCache.refresh(PublicFeed.REVIEW);
+
 		return null;
 	}
 
@@ -151,6 +160,9 @@ public class ReviewCommandServiceImpl implements ReviewCommandService {
 
 		review.updateVisibility(request.getIsPublic() == true ? Status.PUBLIC : Status.PRIVATE);
 
+		// 공개 리뷰 피드 재생성 (커밋 이후)
+		precomputedFeedCache.refresh(PublicFeed.REVIEW);
+
 		return null;
 	}
 
@@ -178,6 +190,9 @@ public class ReviewCommandServiceImpl implements ReviewCommandService {
 		// 더티 체킹을 통한 리뷰 응답 저장
 		review.addReply(user, processedContent);
 
+		// 공개 리뷰 피드 재생성 (커밋 이후)
+		precomputedFeedCache.refresh(PublicFeed.REVIEW);
+
 		return null;
 	}
 
@@ -190,6 +205,9 @@ public class ReviewCommandServiceImpl implements ReviewCommandService {
 		// 리뷰 삭제
 		reviewRepository.delete(review);
 
+		// 공개 리뷰 피드 재생성 (커밋 이후)
+		precomputedFeedCache.refresh(PublicFeed.REVIEW);
+
 		return null;
 	}
 
@@ -207,6 +225,9 @@ public class ReviewCommandServiceImpl implements ReviewCommandService {
 		// 리뷰의 content 및 답변을 단 trainer을 모두 null로 변경
 		review.addReply(null, null);
 
+		// 공개 리뷰 피드 재생성 (커밋 이후)
+		precomputedFeedCache.refresh(PublicFeed.REVIEW);
+
 		return null;
 	}
 }
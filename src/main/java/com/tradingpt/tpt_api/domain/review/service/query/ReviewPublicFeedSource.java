@@ -0,0 +1,65 @@
+package com.tradingpt.tpt_api.domain.review.service.query;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.domain.review.dto.response.PublicReviewListResponseDTO;
+import com.tradingpt.tpt_api.domain.review.dto.response.ReviewResponseDTO;
+import com.tradingpt.tpt_api.domain.review.entity.Review;
+import com.tradingpt.tpt_api.domain.review.enums.Status;
+import com.tradingpt.tpt_api.domain.review.repository.ReviewRepository;
+import com.tradingpt.tpt_api.global.common.dto.SliceInfo;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PublicFeed;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PublicFeedSource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공개 리뷰 목록 공개 피드
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewPublicFeedSource implements PublicFeedSource<PublicReviewListResponseDTO> {
+
+	/** 컨트롤러 기본 페이지 크기/정렬 (@PageableDefault(size = 12, sort = "submittedAt", direction = DESC)) */
+	private static final int PAGE_SIZE = 12;
+	private static final Sort SORT = Sort.by(Sort.Direction.DESC, "submittedAt");
+
+	private final ReviewRepository reviewRepository;
+
+	@Override
+	public PublicFeed feed() {
+		return PublicFeed.REVIEW;
+	}
+
+	@Override
+	public Class<PublicReviewListResponseDTO> pageType() {
+		return PublicReviewListResponseDTO.class;
+	}
+
+	@Override
+	public Pageable pageRequest(int page) {
+		return PageRequest.of(page, PAGE_SIZE, SORT);
+	}
+
+	@Override
+	public PublicReviewListResponseDTO loadPage(Pageable pageable) {
+		Slice<Review> reviewSlice = reviewRepository.findByStatusSlice(Status.PUBLIC, pageable);
+
+		List<ReviewResponseDTO> reviews = reviewSlice.getContent()
+			.stream()
+			.map(ReviewResponseDTO::from)
+			.toList();
+
+		SliceInfo sliceInfo = SliceInfo.of(reviewSlice);
+
+		return PublicReviewListResponseDTO.of(reviews, sliceInfo);
+	}
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tradingpt.tpt_api.domain.review.dto.response.AdminReviewListResponseDTO;
@@ -21,6 +22,7 @@ import com.tradingpt.tpt_api.domain.review.repository.ReviewRepository;
 import com.tradingpt.tpt_api.domain.review.repository.ReviewTagMappingRepository;
 import com.tradingpt.tpt_api.domain.review.repository.ReviewTagRepository;
 import com.tradingpt.tpt_api.global.common.dto.SliceInfo;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PrecomputedFeedCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +36,8 @@ public class ReviewQueryServiceImpl implements ReviewQueryService {
 	private final ReviewRepository reviewRepository;
 	private final ReviewTagRepository reviewTagRepository;
 	private final ReviewTagMappingRepository reviewTagMappingRepository;
+	private final ReviewPublicFeedSource reviewPublicFeedSource;
+	private final PrecomputedFeedCache precomputedFeedCache;
 
 	@Override
 	public List<ReviewResponseDTO> getMyReviews(Long customerId) {
@@ -60,19 +64,13 @@ public class ReviewQueryServiceImpl implements ReviewQueryService {
 		return ReviewResponseDTO.from(review);
 	}
 
+	/**
+	 * 앞쪽 페이지는 미리 계산된 피드에서 반환 (캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행)
+	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public PublicReviewListResponseDTO getPublicReviews(Pageable pageable) {
-
-		Slice<Review> reviewSlice = reviewRepository.findByStatusSlice(Status.PUBLIC, pageable);
-
-		List<ReviewResponseDTO> reviews = reviewSlice.getContent()
-			.stream()
-			.map(ReviewResponseDTO::from)
-			.toList();
-
-		SliceInfo sliceInfo = SliceInfo.of(reviewSlice);
-
-		return PublicReviewListResponseDTO.of(reviews, sliceInfo);
+		return precomputedFeedCache.getPage(reviewPublicFeedSource, pageable);
 	}
 
 	@Override
@@ -1,5 +1,7 @@
 package com.tradingpt.tpt_api.domain.subscription.dto.response;
 
+import java.time.LocalDate;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,4 +36,10 @@ public class SubscriptionCustomerResponseDTO {
 
 	@Schema(description = "작성한 피드백 요청 총 개수")
 	private Long feedbackRequestCount;
+
+	@Schema(description = "답변 미완료 피드백 요청 개수")
+	private Long unansweredFeedbackCount;
+
+	@Schema(description = "최근 피드백 요청 일자 (없으면 null)")
+	private LocalDate lastFeedbackRequestDate;
 }
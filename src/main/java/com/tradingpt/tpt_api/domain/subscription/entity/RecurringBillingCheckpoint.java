@@ -0,0 +1,97 @@
+package com.tradingpt.tpt_api.domain.subscription.entity;
+
+import java.time.LocalDate;
+
+import com.tradingpt.tpt_api.domain.subscription.enums.BillingRunStatus;
+import com.tradingpt.tpt_api.global.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정기 결제 실행 체크포인트
+ *
+ * <p>결제일(billingDate)마다 1행. 청크(구독 ID 구간) 처리가 끝날 때마다
+ * 마지막으로 처리한 구독 ID와 누적 결과를 기록한다.
+ * 실행 도중 인스턴스가 죽으면 재개 스케줄러가 lastSubscriptionId 이후부터 이어서 처리한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+	name = "recurring_billing_checkpoint",
+	uniqueConstraints = @UniqueConstraint(name = "uk_recurring_billing_checkpoint_date", columnNames = "billing_date")
+)
+public class RecurringBillingCheckpoint extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "recurring_billing_checkpoint_id")
+	private Long id;
+
+	@Column(name = "billing_date", nullable = false)
+	private LocalDate billingDate;
+
+	@Column(name = "last_subscription_id", nullable = false)
+	private Long lastSubscriptionId; // 0 = 아직 처리한 청크 없음
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private BillingRunStatus status;
+
+	@Column(name = "success_count", nullable = false)
+	private Integer successCount;
+
+	@Column(name = "failure_count", nullable = false)
+	private Integer failureCount;
+
+	@Column(name = "skipped_count", nullable = false)
+	private Integer skippedCount;
+
+	// ===== Static Factory Methods =====
+
+	public static RecurringBillingCheckpoint start(LocalDate billingDate) {
+		return RecurringBillingCheckpoint.builder()
+			.billingDate(billingDate)
+			.lastSubscriptionId(0L)
+			.status(BillingRunStatus.RUNNING)
+			.successCount(0)
+			.failureCount(0)
+			.skippedCount(0)
+			.build();
+	}
+
+	// ===== 비즈니스 메서드 =====
+
+	/**
+	 * 청크 처리 완료 기록
+	 */
+	public void advance(Long lastSubscriptionId, int success, int failure, int skipped) {
+		this.lastSubscriptionId = lastSubscriptionId;
+		this.successCount += success;
+		this.failureCount += failure;
+		this.skippedCount += skipped;
+	}
+
+	public void complete() {
+		this.status = BillingRunStatus.COMPLETED;
+	}
+
+	public boolean isCompleted() {
+		return this.status == BillingRunStatus.COMPLETED;
+	}
+}
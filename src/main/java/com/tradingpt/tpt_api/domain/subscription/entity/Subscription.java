@@ -22,6 +22,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -40,7 +41,13 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "subscription")
+@Table(
+	name = "subscription",
+	indexes = {
+		// 정기 결제 대상 조회 (status = ACTIVE AND next_billing_date <= ?)
+		@Index(name = "idx_subscription_status_next_billing", columnList = "status, next_billing_date")
+	}
+)
 public class Subscription extends BaseEntity {
 
 	@Id
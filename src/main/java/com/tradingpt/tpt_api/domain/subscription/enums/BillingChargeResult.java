@@ -0,0 +1,20 @@
+package com.tradingpt.tpt_api.domain.subscription.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 정기 결제 단건 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+public enum BillingChargeResult {
+
+	SUCCESS("결제 성공 (0원 결제 포함)"),
+	FAILED("결제 실패"),
+	SKIPPED("결제 대상 아님 (이미 처리됨/상태 변경)"),
+	UNRESOLVED("PG 승인 여부 미확인 (이번 청구 기간의 PENDING 결제 대사 대기)"),
+	;
+
+	private final String description;
+}
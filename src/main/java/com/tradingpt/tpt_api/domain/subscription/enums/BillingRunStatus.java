@@ -0,0 +1,15 @@
+package com.tradingpt.tpt_api.domain.subscription.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum BillingRunStatus {
+
+	RUNNING("진행 중"),
+	COMPLETED("완료"),
+	;
+
+	private final String description;
+}
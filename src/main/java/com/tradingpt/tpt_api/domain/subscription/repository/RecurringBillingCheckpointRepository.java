@@ -0,0 +1,16 @@
+package com.tradingpt.tpt_api.domain.subscription.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.tradingpt.tpt_api.domain.subscription.entity.RecurringBillingCheckpoint;
+
+public interface RecurringBillingCheckpointRepository extends JpaRepository<RecurringBillingCheckpoint, Long> {
+
+	/**
+	 * 결제일 기준 체크포인트 조회
+	 */
+	Optional<RecurringBillingCheckpoint> findByBillingDate(LocalDate billingDate);
+}
@@ -39,16 +39,19 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     List<Subscription> findAllByCustomerIdOrderByCreatedAtDesc(@Param("customerId") Long customerId);
 
     /**
-     * 다음 결제일이 오늘 이전인 활성 구독 조회 (정기 결제 대상)
-     * N+1 쿼리 방지를 위해 customer, paymentMethod를 fetch join
+     * 정기 결제 대상 단건 조회 (청크 처리 시 구독별 트랜잭션에서 사용)
+     * 청크 조회 이후 상태/결제일이 바뀐 구독은 제외되어 중복 결제를 막는다.
      */
     @Query("SELECT s FROM Subscription s " +
            "JOIN FETCH s.customer " +
            "JOIN FETCH s.paymentMethod " +
-           "WHERE s.status = 'ACTIVE' " +
-           "AND s.nextBillingDate <= :targetDate " +
-           "AND s.paymentMethod IS NOT NULL")
-    List<Subscription> findSubscriptionsDueForPayment(@Param("targetDate") LocalDate targetDate);
+           "WHERE s.id = :subscriptionId " +
+           "AND s.status = 'ACTIVE' " +
+           "AND s.nextBillingDate <= :targetDate")
+    Optional<Subscription> findDueSubscriptionById(
+        @Param("subscriptionId") Long subscriptionId,
+        @Param("targetDate") LocalDate targetDate
+    );
 
     /**
      * 결제 실패 횟수가 특정 값 이상인 활성 구독 조회
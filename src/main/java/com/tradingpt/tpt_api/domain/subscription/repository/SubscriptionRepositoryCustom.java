@@ -1,5 +1,8 @@
 package com.tradingpt.tpt_api.domain.subscription.repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -27,4 +30,14 @@ public interface SubscriptionRepositoryCustom {
      * @return 활성 구독 고객 총 인원 수
      */
     Long countActiveSubscriptionCustomers(Long trainerId);
+
+    /**
+     * 정기 결제 대상 구독 ID 청크 조회 (id 오름차순 keyset)
+     *
+     * @param targetDate 결제 기준일 (nextBillingDate <= targetDate)
+     * @param lastSubscriptionId 직전 청크의 마지막 구독 ID (첫 청크는 0)
+     * @param limit 청크 크기
+     * @return 구독 ID 목록
+     */
+    List<Long> findDueSubscriptionIdsAfter(LocalDate targetDate, Long lastSubscriptionId, int limit);
 }
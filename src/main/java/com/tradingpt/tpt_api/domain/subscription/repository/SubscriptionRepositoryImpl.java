@@ -1,11 +1,12 @@
 package com.tradingpt.tpt_api.domain.subscription.repository;
 
-import static com.tradingpt.tpt_api.domain.feedbackrequest.entity.QFeedbackRequest.*;
+import static com.tradingpt.tpt_api.domain.feedbackrequest.entity.QCustomerFeedbackStat.*;
 import static com.tradingpt.tpt_api.domain.subscription.entity.QSubscription.*;
 import static com.tradingpt.tpt_api.domain.user.entity.QCustomer.*;
 
 import com.tradingpt.tpt_api.domain.user.entity.QUid;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -16,7 +17,6 @@ import org.springframework.stereotype.Repository;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tradingpt.tpt_api.domain.subscription.dto.response.SubscriptionCustomerResponseDTO;
 import com.tradingpt.tpt_api.domain.subscription.enums.Status;
@@ -40,6 +40,7 @@ public class SubscriptionRepositoryImpl implements SubscriptionRepositoryCustom
 	 * 조회 항목:
 	 * - 고객 ID, 이름, 전화번호
 	 * - 배정된 트레이너 이름
+	 * - 피드백 요청 총 개수 / 답변 미완료 개수 / 최근 피드백 요청 일자 (고객별 피드백 통계 행 조인, 행마다 COUNT 없음)
 	 *
 	 * 정렬: 구독 생성일 최신순
 	 * 필터: status = ACTIVE, trainerId 옵션
@@ -67,15 +68,15 @@ public class SubscriptionRepositoryImpl implements SubscriptionRepositoryCustom
 				customer.phoneNumber,
 				customerUid.uid,  // 고객 UID 추가
 				trainer.name,
-				JPAExpressions
-					.select(feedbackRequest.count())
-					.from(feedbackRequest)
-					.where(feedbackRequest.customer.id.eq(customer.id))
+				customerFeedbackStat.totalCount.coalesce(0L),
+				customerFeedbackStat.unansweredCount.coalesce(0L),
+				customerFeedbackStat.lastFeedbackRequestDate
 			))
 			.from(subscription)
 			.innerJoin(subscription.customer, customer)
 			.leftJoin(customer.uid, customerUid)  // UID 조인 추가
 			.leftJoin(customer.assignedTrainer, trainer)
+			.leftJoin(customerFeedbackStat).on(customerFeedbackStat.customerId.eq(customer.id))
 			.where(
 				subscription.status.eq(Status.ACTIVE),
 				trainerIdFilter(trainerId)
@@ -125,6 +126,33 @@ public class SubscriptionRepositoryImpl implements SubscriptionRepositoryCustom
 		return count != null ? count : 0L;
 	}
 
+	/**
+	 * 정기 결제 대상 구독 ID 청크 조회 (keyset)
+	 *
+	 * 조건: status = ACTIVE, nextBillingDate <= targetDate, 결제수단 존재, id > lastSubscriptionId
+	 * 정렬: id 오름차순 (청크 체크포인트 기준)
+	 *
+	 * @param targetDate 결제 기준일
+	 * @param lastSubscriptionId 직전 청크의 마지막 구독 ID (첫 청크는 0)
+	 * @param limit 청크 크기
+	 * @return 구독 ID 목록
+	 */
+	@Override
+	public List<Long> findDueSubscriptionIdsAfter(LocalDate targetDate, Long lastSubscriptionId, int limit) {
+		return queryFactory
+			.select(subscription.id)
+			.from(subscription)
+			.where(
+				subscription.status.eq(Status.ACTIVE),
+				subscription.nextBillingDate.loe(targetDate),
+				subscription.paymentMethod.isNotNull(),
+				subscription.id.gt(lastSubscriptionId)
+			)
+			.orderBy(subscription.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
 	/**
 	 * 트레이너 필터 조건
 	 * trainerId가 null이면 전체 조회
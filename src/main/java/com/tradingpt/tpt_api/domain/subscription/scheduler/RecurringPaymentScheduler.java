@@ -1,11 +1,12 @@
 package com.tradingpt.tpt_api.domain.subscription.scheduler;
 
-import java.time.Duration;
+import java.time.LocalDate;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.tradingpt.tpt_api.domain.subscription.service.RecurringPaymentService;
+import com.tradingpt.tpt_api.domain.subscription.entity.RecurringBillingCheckpoint;
+import com.tradingpt.tpt_api.domain.subscription.service.RecurringBillingEngine;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,35 +16,59 @@ import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
  * 정기 결제 스케줄러
  * 매일 자정(00:00)에 실행되어 결제 예정일이 도래한 구독에 대해 자동 결제를 수행합니다.
  * ShedLock을 사용하여 분산 환경에서 중복 실행을 방지합니다.
+ * 실행이 중간에 중단되면 재개 스케줄러가 체크포인트 이후부터 이어서 처리합니다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RecurringPaymentScheduler {
 
-    private final RecurringPaymentService recurringPaymentService;
+    private final RecurringBillingEngine recurringBillingEngine;
 
     /**
      * 정기 결제 자동 실행
      *
      * - 실행 시간: 매일 자정 (00:00:00)
-     * - ShedLock: 최대 30분 동안 잠금 유지 (다른 인스턴스의 중복 실행 방지)
-     * - 최소 실행 간격: 23시간 (같은 인스턴스의 중복 실행 방지)
+     * - ShedLock: 최대 2시간 동안 잠금 유지 (다른 인스턴스의 중복 실행 방지)
+     * - 최소 잠금 유지: 5분 (인스턴스 간 시계 오차로 인한 중복 실행 방지, 하루 1회는 cron이 보장)
      */
     @Scheduled(cron = "0 0 0 * * *")  // 매일 자정 실행
     @SchedulerLock(
         name = "recurringPaymentScheduler",
-        lockAtMostFor = "PT30M",  // 최대 30분 동안 락 유지
-        lockAtLeastFor = "PT23H"  // 최소 23시간 동안 락 유지 (하루에 한 번만 실행)
+        lockAtMostFor = "PT2H",   // 최대 2시간 동안 락 유지
+        lockAtLeastFor = "PT5M"   // lockAtMostFor 이하여야 함
     )
     public void executeRecurringPayments() {
         log.info("=== 정기 결제 스케줄러 시작 ===");
 
         try {
-            int processedCount = recurringPaymentService.processRecurringPayments();
-            log.info("=== 정기 결제 스케줄러 완료: 처리된 구독 수={} ===", processedCount);
+            RecurringBillingCheckpoint result = recurringBillingEngine.run(LocalDate.now());
+            log.info("=== 정기 결제 스케줄러 완료: 성공={}, 실패={}, 건너뜀={} ===",
+                result.getSuccessCount(), result.getFailureCount(), result.getSkippedCount());
         } catch (Exception e) {
             log.error("=== 정기 결제 스케줄러 실행 중 오류 발생 ===", e);
         }
     }
+
+    /**
+     * 중단된 정기 결제 재개
+     *
+     * - 실행 시간: 매일 00:30 ~ 05:30, 1시간 간격
+     * - 당일 체크포인트가 RUNNING 상태로 일정 시간 이상 멈춰 있는 경우에만 재개
+     */
+    @Scheduled(cron = "0 30 0-5 * * *")
+    @SchedulerLock(
+        name = "recurringPaymentResumeScheduler",
+        lockAtMostFor = "PT2H",
+        lockAtLeastFor = "PT1M"
+    )
+    public void resumeRecurringPayments() {
+        try {
+            if (recurringBillingEngine.resumeIfStale(LocalDate.now())) {
+                log.info("=== 중단된 정기 결제 재개 완료 ===");
+            }
+        } catch (Exception e) {
+            log.error("=== 정기 결제 재개 중 오류 발생 ===", e);
+        }
+    }
 }
@@ -0,0 +1,318 @@
+package com.tradingpt.tpt_api.domain.subscription.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.tradingpt.tpt_api.domain.subscription.entity.RecurringBillingCheckpoint;
+import com.tradingpt.tpt_api.domain.subscription.enums.BillingChargeResult;
+import com.tradingpt.tpt_api.domain.subscription.exception.SubscriptionErrorStatus;
+import com.tradingpt.tpt_api.domain.subscription.exception.SubscriptionException;
+import com.tradingpt.tpt_api.domain.subscription.repository.RecurringBillingCheckpointRepository;
+import com.tradingpt.tpt_api.domain.subscription.repository.SubscriptionRepository;
+import com.tradingpt.tpt_api.domain.subscriptionplan.entity.SubscriptionPlan;
+import com.tradingpt.tpt_api.domain.subscriptionplan.repository.SubscriptionPlanRepository;
+import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.RecurringPaymentResponseDTO;
+import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.TransactionStatusResponseDTO;
+import com.tradingpt.tpt_api.global.util.IntervalRateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정기 결제 청크 처리 엔진
+ *
+ * <p>결제 대상 구독을 ID 구간(청크) 단위로 읽어 billingExecutor 에서 병렬로 결제한다.
+ * <ul>
+ *   <li>구독 1건 = 결제 준비 트랜잭션 → 트랜잭션 밖 PG 호출 → 결과 기록 트랜잭션</li>
+ *   <li>동시 PG 호출 수는 billingExecutor 크기로, 초당 호출 수는 Rate Limiter 로 제한</li>
+ *   <li>청크가 끝날 때마다 체크포인트를 기록하여, 중단된 실행은 마지막 청크 이후부터 재개</li>
+ *   <li>실행 시작 시 결과가 기록되지 않은 오래된 PENDING 결제를 PG 거래 상태 조회로 대사</li>
+ * </ul>
+ *
+ * <p>엔진 자체는 트랜잭션을 열지 않는다. (PG 호출 동안 커넥션/락을 잡고 있지 않도록)
+ */
+@Slf4j
+@Service
+public class RecurringBillingEngine {
+
+	private static final String METRIC_CHARGES = "billing.recurring.charges";
+	private static final String METRIC_CHARGE_LATENCY = "billing.recurring.charge.latency";
+	private static final String METRIC_CHUNK_DURATION = "billing.recurring.chunk.duration";
+	private static final String METRIC_RECONCILED = "billing.recurring.reconciled";
+
+	/**
+	 * 체크포인트가 이 시간 이상 갱신되지 않으면 중단된 실행으로 간주
+	 */
+	private static final Duration STALE_THRESHOLD = Duration.ofMinutes(20);
+
+	private final SubscriptionRepository subscriptionRepository;
+	private final SubscriptionPlanRepository subscriptionPlanRepository;
+	private final RecurringBillingCheckpointRepository checkpointRepository;
+	private final RecurringPaymentService recurringPaymentService;
+	private final Executor billingExecutor;
+	private final IntervalRateLimiter rateLimiter;
+	private final int chunkSize;
+	private final Duration reconcileAfter;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<BillingChargeResult, Counter> chargeCounters = new EnumMap<>(BillingChargeResult.class);
+	private final Timer chargeLatency;
+	private final Timer chunkDuration;
+
+	public RecurringBillingEngine(
+		SubscriptionRepository subscriptionRepository,
+		SubscriptionPlanRepository subscriptionPlanRepository,
+		RecurringBillingCheckpointRepository checkpointRepository,
+		RecurringPaymentService recurringPaymentService,
+		@Qualifier("billingExecutor") Executor billingExecutor,
+		MeterRegistry meterRegistry,
+		@Value("${billing.recurring.chunk-size:200}") int chunkSize,
+		@Value("${billing.recurring.permits-per-second:10}") double permitsPerSecond,
+		@Value("${billing.recurring.pending-reconcile-after:PT10M}") Duration reconcileAfter
+	) {
+		this.subscriptionRepository = subscriptionRepository;
+		this.subscriptionPlanRepository = subscriptionPlanRepository;
+		this.checkpointRepository = checkpointRepository;
+		this.recurringPaymentService = recurringPaymentService;
+		this.billingExecutor = billingExecutor;
+		this.rateLimiter = new IntervalRateLimiter(permitsPerSecond);
+		this.chunkSize = chunkSize;
+		this.reconcileAfter = reconcileAfter;
+		this.meterRegistry = meterRegistry;
+
+		for (BillingChargeResult result : BillingChargeResult.values()) {
+			chargeCounters.put(result, Counter.builder(METRIC_CHARGES)
+				.description("정기 결제 처리 건수")
+				.tag("result", result.name().toLowerCase(Locale.ROOT))
+				.register(meterRegistry));
+		}
+		this.chargeLatency = Timer.builder(METRIC_CHARGE_LATENCY)
+			.description("구독 1건 결제 소요 시간 (PG 호출 포함)")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		this.chunkDuration = Timer.builder(METRIC_CHUNK_DURATION)
+			.description("청크 1개 처리 소요 시간")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 결제일 기준 정기 결제 실행
+	 * 같은 결제일의 체크포인트가 이미 있으면 마지막 청크 이후부터 이어서 처리한다.
+	 *
+	 * @param billingDate 결제 기준일
+	 * @return 실행 결과가 기록된 체크포인트
+	 */
+	public RecurringBillingCheckpoint run(LocalDate billingDate) {
+		RecurringBillingCheckpoint checkpoint = checkpointRepository.findByBillingDate(billingDate)
+			.orElseGet(() -> checkpointRepository.save(RecurringBillingCheckpoint.start(billingDate)));
+
+		if (checkpoint.isCompleted()) {
+			log.info("이미 완료된 정기 결제 실행: billingDate={}", billingDate);
+			return checkpoint;
+		}
+
+		return process(checkpoint);
+	}
+
+	/**
+	 * 중단된 정기 결제 실행 재개
+	 * 체크포인트가 RUNNING 이면서 일정 시간 이상 갱신되지 않은 경우에만 재개한다.
+	 * (다른 인스턴스에서 아직 진행 중인 실행과 겹치지 않도록)
+	 *
+	 * @param billingDate 결제 기준일
+	 * @return 재개했다면 true
+	 */
+	public boolean resumeIfStale(LocalDate billingDate) {
+		RecurringBillingCheckpoint checkpoint = checkpointRepository.findByBillingDate(billingDate).orElse(null);
+		if (checkpoint == null || checkpoint.isCompleted()) {
+			return false;
+		}
+		if (checkpoint.getUpdatedAt().isAfter(LocalDateTime.now().minus(STALE_THRESHOLD))) {
+			log.info("정기 결제 실행이 진행 중으로 보여 재개하지 않음: billingDate={}, lastSubscriptionId={}",
+				billingDate, checkpoint.getLastSubscriptionId());
+			return false;
+		}
+
+		log.warn("중단된 정기 결제 재개: billingDate={}, lastSubscriptionId={}",
+			billingDate, checkpoint.getLastSubscriptionId());
+		process(checkpoint);
+		return true;
+	}
+
+	private RecurringBillingCheckpoint process(RecurringBillingCheckpoint checkpoint) {
+		LocalDate billingDate = checkpoint.getBillingDate();
+
+		// 활성 플랜은 실행 단위로 1회만 조회 (가격/이름만 사용)
+		SubscriptionPlan activePlan = subscriptionPlanRepository.findByIsActiveTrue()
+			.orElseThrow(() -> new SubscriptionException(SubscriptionErrorStatus.ACTIVE_SUBSCRIPTION_PLAN_NOT_FOUND));
+
+		log.info("정기 결제 처리 시작: billingDate={}, 시작 구독ID={}", billingDate, checkpoint.getLastSubscriptionId());
+
+		// 미승인으로 확인된 결제는 실패 처리되어 아래 청크에서 새 결제로 다시 청구된다
+		reconcileStalePayments();
+
+		while (true) {
+			List<Long> subscriptionIds = subscriptionRepository.findDueSubscriptionIdsAfter(
+				billingDate, checkpoint.getLastSubscriptionId(), chunkSize);
+			if (subscriptionIds.isEmpty()) {
+				break;
+			}
+
+			Timer.Sample chunkSample = Timer.start();
+			Map<BillingChargeResult, Integer> tally = chargeChunk(subscriptionIds, billingDate, activePlan);
+			chunkSample.stop(chunkDuration);
+
+			checkpoint.advance(
+				subscriptionIds.get(subscriptionIds.size() - 1),
+				tally.get(BillingChargeResult.SUCCESS),
+				// PG 승인 여부를 확인하지 못해 청구하지 못한 건은 실패로 집계 (메트릭은 unresolved 로 구분)
+				tally.get(BillingChargeResult.FAILED) + tally.get(BillingChargeResult.UNRESOLVED),
+				tally.get(BillingChargeResult.SKIPPED)
+			);
+			checkpoint = checkpointRepository.save(checkpoint);
+
+			log.info("정기 결제 청크 완료: lastSubscriptionId={}, 성공={}, 실패={}, 승인미확인={}, 건너뜀={}",
+				checkpoint.getLastSubscriptionId(), tally.get(BillingChargeResult.SUCCESS),
+				tally.get(BillingChargeResult.FAILED), tally.get(BillingChargeResult.UNRESOLVED),
+				tally.get(BillingChargeResult.SKIPPED));
+		}
+
+		checkpoint.complete();
+		checkpoint = checkpointRepository.save(checkpoint);
+
+		log.info("정기 결제 처리 완료: billingDate={}, 성공={}, 실패={}, 건너뜀={}",
+			billingDate, checkpoint.getSuccessCount(), checkpoint.getFailureCount(), checkpoint.getSkippedCount());
+		return checkpoint;
+	}
+
+	/**
+	 * 결과가 기록되지 않은 채 일정 시간이 지난 PENDING 결제 대사
+	 * PG 호출 후 결과 기록 전에 중단된 결제를 사전 발급한 TID로 조회하여 승인이면 성공, 미승인이면 실패로 기록한다.
+	 * (PG 응답 대기 중일 수 있는 최근 결제는 billing.recurring.pending-reconcile-after 가 지나기 전까지 건드리지 않음)
+	 */
+	private void reconcileStalePayments() {
+		List<Long> paymentIds = recurringPaymentService.findStalePendingPaymentIds(
+			LocalDateTime.now().minus(reconcileAfter));
+		if (paymentIds.isEmpty()) {
+			return;
+		}
+
+		log.warn("결과가 기록되지 않은 PENDING 결제 대사 시작: 건수={}", paymentIds.size());
+		for (Long paymentId : paymentIds) {
+			String result;
+			try {
+				result = reconcile(paymentId);
+			} catch (Exception e) {
+				// 조회/기록 실패 - PENDING으로 남겨 다음 실행에서 다시 대사
+				log.error("PENDING 결제 대사 실패: paymentId={}", paymentId, e);
+				result = "unresolved";
+			}
+			Counter.builder(METRIC_RECONCILED)
+				.description("PENDING 결제 대사 결과 건수")
+				.tag("result", result)
+				.register(meterRegistry)
+				.increment();
+		}
+	}
+
+	/**
+	 * @return 대사 결과 메트릭 태그 (approved, not_approved, unresolved, skipped)
+	 */
+	private String reconcile(Long paymentId) {
+		RecurringCharge charge = recurringPaymentService.loadPendingCharge(paymentId);
+		if (charge.isSettled()) {
+			return "skipped";
+		}
+		if (charge.pgTid() == null) {
+			// TID를 미리 저장하지 않던 때 만들어진 결제 - 조회할 수 없으므로 수동 확인
+			log.error("TID가 없어 대사할 수 없는 PENDING 결제 (PG 승인 내역 수동 확인 필요): paymentId={}, orderId={}",
+				paymentId, charge.orderId());
+			return "unresolved";
+		}
+
+		rateLimiter.acquire();
+		TransactionStatusResponseDTO status = recurringPaymentService.inquireCharge(charge);
+		if (status.isApproved()) {
+			recurringPaymentService.recordReconciledSuccess(charge, status);
+			return "approved";
+		}
+		recurringPaymentService.recordReconciledNotApproved(charge,
+			"PG 미승인 (Status=" + status.getStatus() + ", " + status.getResultMsg() + ")");
+		return "not_approved";
+	}
+
+	/**
+	 * 청크 내 구독들을 billingExecutor 에서 병렬 결제하고 결과를 집계
+	 * 청크의 모든 결제가 끝나야 반환한다. (체크포인트는 청크 경계에서만 전진)
+	 */
+	private Map<BillingChargeResult, Integer> chargeChunk(List<Long> subscriptionIds, LocalDate billingDate,
+		SubscriptionPlan activePlan) {
+		List<CompletableFuture<BillingChargeResult>> futures = subscriptionIds.stream()
+			.map(subscriptionId -> CompletableFuture.supplyAsync(
+				() -> chargeOne(subscriptionId, billingDate, activePlan), billingExecutor))
+			.toList();
+
+		Map<BillingChargeResult, Integer> tally = new EnumMap<>(BillingChargeResult.class);
+		for (BillingChargeResult result : BillingChargeResult.values()) {
+			tally.put(result, 0);
+		}
+		for (CompletableFuture<BillingChargeResult> future : futures) {
+			tally.merge(future.join(), 1, Integer::sum);
+		}
+		return tally;
+	}
+
+	private BillingChargeResult chargeOne(Long subscriptionId, LocalDate billingDate, SubscriptionPlan activePlan) {
+		rateLimiter.acquire();
+
+		Timer.Sample sample = Timer.start();
+		BillingChargeResult result;
+		try {
+			result = charge(subscriptionId, billingDate, activePlan);
+		} catch (Exception e) {
+			// 준비/기록 트랜잭션 실패 포함 - 다른 구독 처리는 계속 진행
+			log.error("구독 결제 처리 실패: subscriptionId={}", subscriptionId, e);
+			result = BillingChargeResult.FAILED;
+		}
+		sample.stop(chargeLatency);
+		chargeCounters.get(result).increment();
+		return result;
+	}
+
+	/**
+	 * 구독 1건 결제
+	 * PG 응답을 기다리는 동안 DB 트랜잭션을 열어두지 않도록 준비/호출/기록을 나눈다.
+	 * PG 승인 후 기록에 실패하면 결제는 PENDING으로 남고, 다음 실행 시작 시 대사되기 전까지 같은 청구 기간은 재결제하지 않는다.
+	 */
+	private BillingChargeResult charge(Long subscriptionId, LocalDate billingDate, SubscriptionPlan activePlan) {
+		RecurringCharge charge = recurringPaymentService.prepareDueCharge(subscriptionId, billingDate, activePlan);
+		if (charge.isSettled()) {
+			return charge.settledResult();
+		}
+
+		RecurringPaymentResponseDTO response;
+		try {
+			response = recurringPaymentService.requestCharge(charge);
+		} catch (Exception e) {
+			log.error("결제 실패: subscriptionId={}, paymentId={}", subscriptionId, charge.paymentId(), e);
+			recurringPaymentService.recordChargeFailure(charge, e.getMessage());
+			return BillingChargeResult.FAILED;
+		}
+
+		recurringPaymentService.recordChargeSuccess(charge, response);
+		return BillingChargeResult.SUCCESS;
+	}
+}
@@ -0,0 +1,56 @@
+package com.tradingpt.tpt_api.domain.subscription.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+import com.tradingpt.tpt_api.domain.subscription.enums.BillingChargeResult;
+
+/**
+ * 정기 결제 1건의 PG 호출 정보
+ *
+ * <p>결제 준비 트랜잭션에서 만들어져 트랜잭션 밖의 PG 호출과 결과 기록 트랜잭션으로 전달된다.
+ * 엔티티 대신 식별자와 값만 담아 트랜잭션 경계를 넘겨도 지연 로딩이 일어나지 않도록 한다.
+ *
+ * @param settledResult PG 호출 없이 처리가 끝난 경우의 결과 (건너뜀, 결제수단 없음 만료, 0원 결제), 아니면 null
+ * @param pgTid PG 호출 전에 발급해 Payment에 저장한 거래 ID (결과 기록 전 중단 시 승인 여부 조회용)
+ */
+public record RecurringCharge(
+	BillingChargeResult settledResult,
+	Long subscriptionId,
+	Long customerId,
+	Long paymentId,
+	String billingKey,
+	BigDecimal amount,
+	String pgGoodsName,
+	String orderId,
+	String pgTid,
+	boolean firstPayment,
+	LocalDate nextBillingDate,
+	LocalDate billingPeriodStart,
+	LocalDate billingPeriodEnd
+) {
+
+	/**
+	 * PG 호출 없이 처리가 끝난 결제
+	 */
+	public static RecurringCharge settled(BillingChargeResult result) {
+		return new RecurringCharge(result, null, null, null, null, null, null, null, null, false, null, null, null);
+	}
+
+	public boolean isSettled() {
+		return settledResult != null;
+	}
+
+	public boolean isZeroAmount() {
+		return amount.compareTo(BigDecimal.ZERO) == 0;
+	}
+
+	/**
+	 * NicePay API는 금액을 정수 문자열로 요구함 (예: "3500", "50000")
+	 * BigDecimal.toString()은 "3500.00" 형식이므로 정수로 변환
+	 */
+	public String pgAmount() {
+		return amount.setScale(0, RoundingMode.DOWN).toPlainString();
+	}
+}
@@ -1,21 +1,25 @@
 package com.tradingpt.tpt_api.domain.subscription.service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tradingpt.tpt_api.domain.payment.entity.Payment;
+import com.tradingpt.tpt_api.domain.payment.enums.PaymentStatus;
+import com.tradingpt.tpt_api.domain.payment.enums.PaymentType;
+import com.tradingpt.tpt_api.domain.payment.repository.PaymentRepository;
 import com.tradingpt.tpt_api.domain.payment.service.command.PaymentCommandService;
 import com.tradingpt.tpt_api.domain.paymentmethod.entity.PaymentMethod;
 import com.tradingpt.tpt_api.domain.paymentmethod.repository.PaymentMethodRepository;
 import com.tradingpt.tpt_api.domain.subscription.config.PromotionConfig;
 import com.tradingpt.tpt_api.domain.subscription.entity.Subscription;
+import com.tradingpt.tpt_api.domain.subscription.enums.BillingChargeResult;
 import com.tradingpt.tpt_api.domain.subscription.enums.Status;
 import com.tradingpt.tpt_api.domain.subscription.exception.SubscriptionErrorStatus;
 import com.tradingpt.tpt_api.domain.subscription.exception.SubscriptionException;
@@ -26,6 +30,7 @@ import com.tradingpt.tpt_api.domain.subscriptionplan.repository.SubscriptionPlan
 import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
 import com.tradingpt.tpt_api.domain.user.service.command.CustomerCommandService;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.RecurringPaymentResponseDTO;
+import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.TransactionStatusResponseDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.service.NicePayService;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.util.NicePayCryptoUtil;
 
@@ -45,44 +50,166 @@ public class RecurringPaymentService {
 	private final SubscriptionRepository subscriptionRepository;
 	private final SubscriptionPlanRepository subscriptionPlanRepository;
 	private final PaymentMethodRepository paymentMethodRepository;
+	private final PaymentRepository paymentRepository;
 	private final PaymentCommandService paymentCommandService;
 	private final SubscriptionCommandService subscriptionCommandService;
 	private final CustomerCommandService customerCommandService;
 	private final NicePayService nicePayService;
 
 	/**
-	 * 정기 결제 대상 구독 조회 및 결제 처리
-	 * 매일 자정에 실행됩니다.
+	 * 정기 결제 대상 구독 1건 결제 준비 (청크 처리용)
+	 * RecurringBillingEngine이 구독마다 호출하며, 구독별로 독립된 짧은 트랜잭션에서 실행됩니다.
+	 * PENDING 결제를 만들어 커밋하고, PG 호출은 트랜잭션 밖에서 {@link #requestCharge}로 수행합니다.
+	 * 결제수단이 없어 만료되거나 0원 결제인 경우는 이 트랜잭션에서 처리를 끝냅니다.
 	 *
-	 * @return 처리된 구독 수
+	 * @param subscriptionId 구독 ID
+	 * @param billingDate 결제 기준일
+	 * @param activePlan 활성 구독 플랜 (실행 단위로 1회 조회하여 전달)
+	 * @return PG 호출 정보 (처리가 끝났으면 settled)
 	 */
-	public int processRecurringPayments() {
-		log.info("정기 결제 처리 시작");
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public RecurringCharge prepareDueCharge(Long subscriptionId, LocalDate billingDate, SubscriptionPlan activePlan) {
+		// 청크 조회 이후 다른 경로에서 결제/해지된 구독은 건너뜀
+		Subscription subscription = subscriptionRepository.findDueSubscriptionById(subscriptionId, billingDate)
+			.orElse(null);
+		if (subscription == null) {
+			log.info("정기 결제 대상 아님 - 건너뜀: subscriptionId={}", subscriptionId);
+			return RecurringCharge.settled(BillingChargeResult.SKIPPED);
+		}
 
-		LocalDate today = LocalDate.now();
-		List<Subscription> dueSubscriptions = subscriptionRepository.findSubscriptionsDueForPayment(today);
+		// 이번 청구 기간 결제가 아직 PENDING이면 PG 승인 여부를 확인(대사)하기 전까지 재결제하지 않음
+		// (오래된 PENDING은 실행 시작 시 대사되어 성공/실패로 정리되고, 여기 남는 것은 진행 중이거나 조회에 실패한 건)
+		LocalDate billingPeriodStart = resolveBillingPeriodStart(subscription);
+		Payment pending = paymentRepository.findFirstBySubscription_IdAndStatusAndBillingPeriodStart(
+			subscriptionId, PaymentStatus.PENDING, billingPeriodStart).orElse(null);
+		if (pending != null) {
+			log.warn("이번 청구 기간 결제가 PENDING이라 PG 승인 확인 전까지 결제하지 않음: subscriptionId={}, paymentId={}, 요청시각={}",
+				subscriptionId, pending.getId(), pending.getRequestedAt());
+			return RecurringCharge.settled(BillingChargeResult.UNRESOLVED);
+		}
 
-		log.info("정기 결제 대상 구독 수: {}", dueSubscriptions.size());
+		RecurringCharge charge = preparePayment(subscription, activePlan);
+		if (charge.isSettled()) {
+			return charge;
+		}
 
-		// N+1 쿼리 방지: 루프 밖에서 활성 플랜 1회만 조회
-		SubscriptionPlan activePlan = subscriptionPlanRepository.findByIsActiveTrue()
-			.orElseThrow(() -> new SubscriptionException(SubscriptionErrorStatus.ACTIVE_SUBSCRIPTION_PLAN_NOT_FOUND));
+		if (charge.isZeroAmount()) {
+			handleZeroAmountPayment(charge);
+			return RecurringCharge.settled(BillingChargeResult.SUCCESS);
+		}
+		return charge;
+	}
 
-		int successCount = 0;
-		int failureCount = 0;
+	/**
+	 * 나이스페이 빌링 결제 요청
+	 * 응답을 기다리는 동안 커넥션/락을 잡지 않도록 트랜잭션 없이 실행합니다.
+	 *
+	 * @param charge 결제 준비 결과
+	 * @return 나이스페이 승인 응답
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public RecurringPaymentResponseDTO requestCharge(RecurringCharge charge) {
+		// pgGoodsName 사용 - 영문, EUC-KR 인코딩 문제 회피
+		return nicePayService.executeRecurringPayment(
+			charge.billingKey(),
+			charge.pgAmount(),
+			charge.pgGoodsName(),
+			charge.orderId(),
+			charge.pgTid()
+		);
+	}
 
-		for (Subscription subscription : dueSubscriptions) {
-			try {
-				executePaymentForSubscription(subscription, activePlan);
-				successCount++;
-			} catch (Exception e) {
-				log.error("구독 결제 처리 실패: subscriptionId={}", subscription.getId(), e);
-				failureCount++;
-			}
+	/**
+	 * PG 승인 결과 기록 (결제 성공)
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void recordChargeSuccess(RecurringCharge charge, RecurringPaymentResponseDTO response) {
+		applyPaymentSuccess(charge, response);
+		log.info("결제 성공: subscriptionId={}, amount={}", charge.subscriptionId(), charge.amount());
+	}
+
+	/**
+	 * PG 승인 결과 기록 (결제 실패)
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void recordChargeFailure(RecurringCharge charge, String failureReason) {
+		applyPaymentFailure(charge, failureReason);
+	}
+
+	/**
+	 * 결과가 기록되지 않은 채 기준 시각 이전에 요청된 정기 결제 ID 조회 (대사 대상)
+	 *
+	 * @param requestedBefore 이 시각 이전에 요청된 PENDING 결제만 (PG 응답 대기 중인 결제 제외)
+	 */
+	@Transactional(readOnly = true)
+	public List<Long> findStalePendingPaymentIds(LocalDateTime requestedBefore) {
+		return paymentRepository.findIdsRequestedBefore(PaymentType.RECURRING, PaymentStatus.PENDING, requestedBefore);
+	}
+
+	/**
+	 * 대사할 PENDING 결제를 PG 호출 정보로 다시 구성
+	 * 결제 준비 당시와 같은 값(청구 기간, 다음 결제일, 첫 결제 여부)으로 성공/실패를 기록할 수 있도록 Payment에서 복원합니다.
+	 *
+	 * @param paymentId 결제 ID
+	 * @return PG 호출 정보 (그 사이 결과가 기록되었으면 settled)
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public RecurringCharge loadPendingCharge(Long paymentId) {
+		Payment payment = paymentRepository.findById(paymentId).orElse(null);
+		if (payment == null || payment.getStatus() != PaymentStatus.PENDING) {
+			return RecurringCharge.settled(BillingChargeResult.SKIPPED);
 		}
 
-		log.info("정기 결제 처리 완료: 성공={}, 실패={}", successCount, failureCount);
-		return successCount;
+		Subscription subscription = payment.getSubscription();
+		boolean isFirstPayment = subscription.getLastBillingDate() == null;
+		return new RecurringCharge(
+			null,
+			subscription.getId(),
+			subscription.getCustomer().getId(),
+			payment.getId(),
+			payment.getPaymentMethod().getBillingKey(),
+			payment.getAmount(),
+			payment.getPgGoodsName(),
+			payment.getOrderId(),
+			payment.getPgTid(),
+			isFirstPayment,
+			isFirstPayment ? subscription.getNextBillingDate() : payment.getBillingPeriodEnd().plusDays(1),
+			payment.getBillingPeriodStart(),
+			payment.getBillingPeriodEnd()
+		);
+	}
+
+	/**
+	 * PG 거래 상태 조회 (대사)
+	 * 응답을 기다리는 동안 커넥션/락을 잡지 않도록 트랜잭션 없이 실행합니다.
+	 *
+	 * @param charge 대사할 결제
+	 * @return 나이스페이 거래 상태
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public TransactionStatusResponseDTO inquireCharge(RecurringCharge charge) {
+		return nicePayService.inquireTransactionStatus(charge.pgTid());
+	}
+
+	/**
+	 * 대사 결과 기록 (PG 승인 확인 → 결제 성공)
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void recordReconciledSuccess(RecurringCharge charge, TransactionStatusResponseDTO status) {
+		applyPaymentSuccess(charge, toApprovalResponse(status));
+		log.info("대사 결과 결제 성공 반영: subscriptionId={}, paymentId={}, TID={}",
+			charge.subscriptionId(), charge.paymentId(), status.getTID());
+	}
+
+	/**
+	 * 대사 결과 기록 (PG 미승인 → 결제 실패)
+	 * 고객 결제수단의 거절이 확인된 것이 아니므로 구독 실패 횟수는 늘리지 않고, 다음 결제 처리에서 새 결제로 다시 청구합니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void recordReconciledNotApproved(RecurringCharge charge, String reason) {
+		paymentCommandService.markPaymentAsFailed(charge.paymentId(), "PG_NOT_APPROVED", reason);
+		log.warn("대사 결과 PG 미승인 - 결제 실패 처리 후 재청구 대상: subscriptionId={}, paymentId={}, 이유={}",
+			charge.subscriptionId(), charge.paymentId(), reason);
 	}
 
 	/**
@@ -98,13 +225,45 @@ public class RecurringPaymentService {
 	}
 
 	/**
-	 * 단일 구독에 대한 결제 실행 (배치 처리용)
-	 * processRecurringPayments()에서 N+1 쿼리 방지를 위해 activePlan을 외부에서 전달
+	 * 단일 구독에 대한 결제 실행 (호출자 트랜잭션 안에서 PG 호출까지 수행)
 	 *
 	 * @param subscription 구독 엔티티
-	 * @param activePlan 활성 구독 플랜 (N+1 쿼리 방지를 위해 외부에서 조회하여 전달)
+	 * @param activePlan 활성 구독 플랜
 	 */
 	public void executePaymentForSubscription(Subscription subscription, SubscriptionPlan activePlan) {
+		RecurringCharge charge = preparePayment(subscription, activePlan);
+		if (charge.isSettled()) {
+			return;
+		}
+
+		if (charge.isZeroAmount()) {
+			// 0원 결제: 실제 결제 없이 Payment와 Subscription만 업데이트
+			handleZeroAmountPayment(charge);
+			return;
+		}
+
+		log.info("일반 결제 처리: subscriptionId={}, paymentId={}, amount={}, 첫결제={}",
+			charge.subscriptionId(), charge.paymentId(), charge.amount(), charge.firstPayment());
+
+		RecurringPaymentResponseDTO response;
+		try {
+			response = requestCharge(charge);
+		} catch (Exception e) {
+			log.error("결제 실패: subscriptionId={}, paymentId={}", charge.subscriptionId(), charge.paymentId(), e);
+			applyPaymentFailure(charge, e.getMessage());
+			throw new SubscriptionException(SubscriptionErrorStatus.SUBSCRIPTION_UPDATE_FAILED);
+		}
+
+		applyPaymentSuccess(charge, response);
+		log.info("결제 성공: subscriptionId={}, amount={}", charge.subscriptionId(), charge.amount());
+	}
+
+	/**
+	 * 결제수단 검증, 금액/청구 기간 계산 후 PENDING 결제 생성
+	 *
+	 * @return PG 호출 정보 (유효한 결제수단이 없어 구독을 만료했으면 settled)
+	 */
+	private RecurringCharge preparePayment(Subscription subscription, SubscriptionPlan activePlan) {
 		log.info("구독 결제 실행: subscriptionId={}", subscription.getId());
 
 		// ✅ 결제 수단 검증 (Payment 생성 전에 확인)
@@ -131,7 +290,7 @@ public class RecurringPaymentService {
 				);
 
 				log.info("구독 만료 완료: subscriptionId={} (사유: 결제수단 없음)", subscription.getId());
-				return; // Payment 생성하지 않고 정상 종료
+				return RecurringCharge.settled(BillingChargeResult.SUCCESS); // Payment 생성하지 않고 정상 종료
 			}
 
 			log.info("유효한 결제수단 발견: customerId={}, paymentMethodId={}",
@@ -152,7 +311,7 @@ public class RecurringPaymentService {
 			);
 
 			log.info("구독 만료 완료: subscriptionId={} (사유: 빌링키 없음)", subscription.getId());
-			return; // Payment 생성하지 않고 정상 종료
+			return RecurringCharge.settled(BillingChargeResult.SUCCESS); // Payment 생성하지 않고 정상 종료
 		}
 
 		// ✅ 결제 실행일이 프로모션 기간 내인지 확인
@@ -166,21 +325,18 @@ public class RecurringPaymentService {
 		boolean isFirstPayment = subscription.getLastBillingDate() == null;
 
 		// 청구 기간 계산
-		LocalDate billingPeriodStart;
+		LocalDate billingPeriodStart = resolveBillingPeriodStart(subscription);
 		LocalDate billingPeriodEnd;
 		LocalDate nextBillingDate;
 
 		if (isFirstPayment) {
 			// 첫 결제: 구독 생성 시 설정된 날짜 사용
-			billingPeriodStart = subscription.getCurrentPeriodStart();
 			billingPeriodEnd = subscription.getCurrentPeriodEnd();
 			nextBillingDate = subscription.getNextBillingDate();
 			log.info("첫 결제 처리: subscriptionId={}, 청구기간={} ~ {}, 다음결제일={}",
 				subscription.getId(), billingPeriodStart, billingPeriodEnd, nextBillingDate);
 		} else {
 			// 정기 결제: 결제 실행일 기준으로 계산
-			billingPeriodStart = subscription.getCurrentPeriodEnd().plusDays(1);
-
 			// ✅ 프로모션 기간이면 N개월, 아니면 1개월 추가
 			int monthsToAdd = isPromotionPeriod ? PromotionConfig.PROMOTION_FREE_MONTHS : 1;
 			billingPeriodEnd = today.plusMonths(monthsToAdd).minusDays(1);
@@ -193,6 +349,9 @@ public class RecurringPaymentService {
 		// 주문번호 생성
 		String orderId = NicePayCryptoUtil.generateRecurringMoid(subscription.getId());
 
+		// 거래 ID 사전 발급 - PG 호출 전에 Payment에 저장하여, 결과 기록 전에 중단되어도 승인 여부를 조회할 수 있도록 함
+		String pgTid = nicePayService.generateTransactionId();
+
 		// 주문명 생성 - 한글 (DB 저장용, 이력 조회 시 표시)
 		// 예: "기본 구독 플랜 2025년 11월 구독료"
 		String orderName = String.format("%s %d년 %d월 구독료",
@@ -236,143 +395,99 @@ public class RecurringPaymentService {
 			isPromotional,
 			promotionDetail
 		);
+		payment.assignPgTid(pgTid);
 
-		// 결제 실행
-		if (paymentAmount.compareTo(BigDecimal.ZERO) == 0) {
-			// 0원 결제: 실제 결제 없이 Payment와 Subscription만 업데이트
-			handleZeroAmountPayment(subscription, payment, nextBillingDate, billingPeriodStart, billingPeriodEnd, isFirstPayment);
-		} else {
-			// 일반 결제: 나이스페이 API 호출
-			handleRegularPayment(subscription, payment, nextBillingDate, billingPeriodStart, billingPeriodEnd, isFirstPayment);
-		}
+		return new RecurringCharge(
+			null,
+			subscription.getId(),
+			subscription.getCustomer().getId(),
+			payment.getId(),
+			paymentMethod.getBillingKey(),
+			paymentAmount,
+			pgGoodsName,
+			orderId,
+			pgTid,
+			isFirstPayment,
+			nextBillingDate,
+			billingPeriodStart,
+			billingPeriodEnd
+		);
+	}
+
+	/**
+	 * 이번에 청구할 기간의 시작일
+	 * 첫 결제는 구독 생성 시 설정된 기간, 정기 결제는 현재 기간 다음 날부터
+	 */
+	private LocalDate resolveBillingPeriodStart(Subscription subscription) {
+		return subscription.getLastBillingDate() == null
+			? subscription.getCurrentPeriodStart()
+			: subscription.getCurrentPeriodEnd().plusDays(1);
 	}
 
 	/**
 	 * 0원 결제 처리 (프로모션 기간)
 	 */
-	private void handleZeroAmountPayment(
-		Subscription subscription,
-		Payment payment,
-		LocalDate nextBillingDate,
-		LocalDate billingPeriodStart,
-		LocalDate billingPeriodEnd,
-		boolean isFirstPayment
-	) {
+	private void handleZeroAmountPayment(RecurringCharge charge) {
 		log.info("0원 결제 처리: subscriptionId={}, paymentId={}, 첫결제={}",
-			subscription.getId(), payment.getId(), isFirstPayment);
+			charge.subscriptionId(), charge.paymentId(), charge.firstPayment());
 
 		// Payment를 SUCCESS로 변경 (실제 PG 호출 없음)
-		RecurringPaymentResponseDTO mockResponse = createMockSuccessResponse(payment);
-		paymentCommandService.markPaymentAsSuccess(payment.getId(), mockResponse);
+		applyPaymentSuccess(charge, createMockSuccessResponse(charge));
+
+		log.info("0원 결제 완료: subscriptionId={}", charge.subscriptionId());
+	}
+
+	/**
+	 * 결제 성공 반영 (Payment 성공, 청구 기간/다음 결제일, 실패 횟수 초기화, 멤버십)
+	 */
+	private void applyPaymentSuccess(RecurringCharge charge, RecurringPaymentResponseDTO response) {
+		paymentCommandService.markPaymentAsSuccess(charge.paymentId(), response);
 
 		// Subscription 업데이트 (정기 결제인 경우에만 날짜 변경)
-		if (!isFirstPayment) {
+		if (!charge.firstPayment()) {
 			subscriptionCommandService.updateNextBillingDate(
-				subscription.getId(),
-				nextBillingDate,
-				billingPeriodStart,
-				billingPeriodEnd
+				charge.subscriptionId(),
+				charge.nextBillingDate(),
+				charge.billingPeriodStart(),
+				charge.billingPeriodEnd()
 			);
 		}
 
 		subscriptionCommandService.resetPaymentFailureCount(
-			subscription.getId(),
+			charge.subscriptionId(),
 			LocalDate.now()
 		);
 
 		// 멤버십 업데이트 (PREMIUM으로 승급, 만료일 설정)
-		LocalDateTime membershipExpiredAt = billingPeriodEnd.atTime(23, 59, 59);
+		LocalDateTime membershipExpiredAt = charge.billingPeriodEnd().atTime(23, 59, 59);
 		customerCommandService.updateMembershipFromSubscription(
-			subscription.getCustomer().getId(),
+			charge.customerId(),
 			MembershipLevel.PREMIUM,
 			membershipExpiredAt
 		);
-
-		log.info("0원 결제 완료: subscriptionId={}", subscription.getId());
 	}
 
 	/**
-	 * 일반 결제 처리 (나이스페이 API 호출)
+	 * 결제 실패 반영 (Payment 실패, 실패 횟수 증가, 3회 이상이면 PAYMENT_FAILED)
 	 */
-	private void handleRegularPayment(
-		Subscription subscription,
-		Payment payment,
-		LocalDate nextBillingDate,
-		LocalDate billingPeriodStart,
-		LocalDate billingPeriodEnd,
-		boolean isFirstPayment
-	) {
-		log.info("일반 결제 처리: subscriptionId={}, paymentId={}, amount={}, 첫결제={}",
-			subscription.getId(), payment.getId(), payment.getAmount(), isFirstPayment);
-
-		// ✅ 결제 수단은 이미 executePaymentForSubscription()에서 검증됨
-		PaymentMethod paymentMethod = subscription.getPaymentMethod();
-
-		try {
-			// 나이스페이 결제 실행 (pgGoodsName 사용 - 영문, EUC-KR 인코딩 문제 회피)
-			// NicePay API는 금액을 정수 문자열로 요구함 (예: "3500", "50000")
-			// BigDecimal.toString()은 "3500.00" 형식이므로 정수로 변환 필요
-			String amountString = payment.getAmount().setScale(0, RoundingMode.DOWN).toPlainString();
-
-			RecurringPaymentResponseDTO response = nicePayService.executeRecurringPayment(
-				paymentMethod.getBillingKey(),
-				amountString,
-				payment.getPgGoodsName(),
-				payment.getOrderId()
-			);
-
-			// 결제 성공 처리
-			paymentCommandService.markPaymentAsSuccess(payment.getId(), response);
-
-			// Subscription 업데이트 (정기 결제인 경우에만 날짜 변경)
-			if (!isFirstPayment) {
-				subscriptionCommandService.updateNextBillingDate(
-					subscription.getId(),
-					nextBillingDate,
-					billingPeriodStart,
-					billingPeriodEnd
-				);
-			}
-
-			subscriptionCommandService.resetPaymentFailureCount(
-				subscription.getId(),
-				LocalDate.now()
-			);
-
-			// 멤버십 업데이트 (PREMIUM으로 승급, 만료일 설정)
-			LocalDateTime membershipExpiredAt = billingPeriodEnd.atTime(23, 59, 59);
-			customerCommandService.updateMembershipFromSubscription(
-				subscription.getCustomer().getId(),
-				MembershipLevel.PREMIUM,
-				membershipExpiredAt
-			);
-
-			log.info("결제 성공: subscriptionId={}, amount={}", subscription.getId(), payment.getAmount());
+	private void applyPaymentFailure(RecurringCharge charge, String failureReason) {
+		paymentCommandService.markPaymentAsFailed(
+			charge.paymentId(),
+			"PAYMENT_FAILED",
+			failureReason
+		);
 
-		} catch (Exception e) {
-			log.error("결제 실패: subscriptionId={}, paymentId={}", subscription.getId(), payment.getId(), e);
+		// 구독 실패 횟수 증가
+		Subscription updatedSubscription = subscriptionCommandService.incrementPaymentFailureCount(
+			charge.subscriptionId());
 
-			// 결제 실패 처리
-			paymentCommandService.markPaymentAsFailed(
-				payment.getId(),
-				"PAYMENT_FAILED",
-				e.getMessage()
+		// 실패 횟수가 3회 이상이면 구독 상태를 PAYMENT_FAILED로 변경
+		if (updatedSubscription.getPaymentFailedCount() >= PromotionConfig.MAX_PAYMENT_FAILURE_COUNT) {
+			subscriptionCommandService.updateSubscriptionStatus(
+				charge.subscriptionId(),
+				Status.PAYMENT_FAILED
 			);
-
-			// 구독 실패 횟수 증가
-			Subscription updatedSubscription = subscriptionCommandService.incrementPaymentFailureCount(
-				subscription.getId());
-
-			// 실패 횟수가 3회 이상이면 구독 상태를 PAYMENT_FAILED로 변경
-			if (updatedSubscription.getPaymentFailedCount() >= PromotionConfig.MAX_PAYMENT_FAILURE_COUNT) {
-				subscriptionCommandService.updateSubscriptionStatus(
-					subscription.getId(),
-					Status.PAYMENT_FAILED
-				);
-				log.warn("구독 상태 변경: ACTIVE -> PAYMENT_FAILED (subscriptionId={})", subscription.getId());
-			}
-
-			throw new SubscriptionException(SubscriptionErrorStatus.SUBSCRIPTION_UPDATE_FAILED);
+			log.warn("구독 상태 변경: ACTIVE -> PAYMENT_FAILED (subscriptionId={})", charge.subscriptionId());
 		}
 	}
 
@@ -398,17 +513,32 @@ public class RecurringPaymentService {
 		return activePlan.getPrice();
 	}
 
+	/**
+	 * 거래 상태 조회 결과를 승인 응답 형식으로 변환 (Payment 성공 기록용)
+	 */
+	private RecurringPaymentResponseDTO toApprovalResponse(TransactionStatusResponseDTO status) {
+		RecurringPaymentResponseDTO response = new RecurringPaymentResponseDTO();
+		response.setResultCode("3001");
+		response.setResultMsg("거래 상태 조회로 승인 확인");
+		response.setTID(status.getTID());
+		response.setMoid(status.getMoid());
+		response.setAmt(status.getAmt());
+		response.setAuthCode(status.getAuthCode());
+		response.setAuthDate(status.getAuthDate());
+		return response;
+	}
+
 	/**
 	 * 0원 결제용 Mock 응답 생성
 	 */
-	private RecurringPaymentResponseDTO createMockSuccessResponse(Payment payment) {
+	private RecurringPaymentResponseDTO createMockSuccessResponse(RecurringCharge charge) {
 		RecurringPaymentResponseDTO response = new RecurringPaymentResponseDTO();
 		response.setResultCode("3001");
 		response.setResultMsg("프로모션 기간 무료 결제");
-		response.setTID("PROMO-" + payment.getOrderId());
-		response.setMoid(payment.getOrderId());
+		response.setTID("PROMO-" + charge.orderId());
+		response.setMoid(charge.orderId());
 		// NicePay 응답 형식에 맞춰 정수 문자열로 설정
-		response.setAmt(payment.getAmount().setScale(0, RoundingMode.DOWN).toPlainString());
+		response.setAmt(charge.pgAmount());
 		response.setAuthCode("000000");
 		response.setAuthDate(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")));
 		return response;
@@ -0,0 +1,33 @@
+package com.tradingpt.tpt_api.domain.token.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tradingpt.tpt_api.domain.token.dto.response.TokenBalanceResponseDTO;
+import com.tradingpt.tpt_api.domain.token.service.TokenLedgerService;
+import com.tradingpt.tpt_api.global.common.BaseResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/tokens")
+@Tag(name = "토큰", description = "고객 토큰 관련 API")
+public class TokenV1Controller {
+
+	private final TokenLedgerService tokenLedgerService;
+
+	@Operation(summary = "내 토큰 잔액 조회", description = "보유 토큰 개수를 조회합니다.")
+	@GetMapping("/balance")
+	public ResponseEntity<BaseResponse<TokenBalanceResponseDTO>> getBalance(
+		@AuthenticationPrincipal(expression = "id") Long userId
+	) {
+		return ResponseEntity.ok(BaseResponse.onSuccess(
+			TokenBalanceResponseDTO.of(tokenLedgerService.getBalance(userId))));
+	}
+}
@@ -0,0 +1,20 @@
+package com.tradingpt.tpt_api.domain.token.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "토큰 잔액 응답 DTO")
+public class TokenBalanceResponseDTO {
+
+	@Schema(description = "보유 토큰 개수")
+	private Integer token;
+
+	public static TokenBalanceResponseDTO of(int token) {
+		return TokenBalanceResponseDTO.builder()
+			.token(token)
+			.build();
+	}
+}
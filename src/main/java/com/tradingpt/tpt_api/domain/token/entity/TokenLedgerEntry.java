@@ -0,0 +1,97 @@
+package com.tradingpt.tpt_api.domain.token.entity;
+
+import com.tradingpt.tpt_api.domain.token.enums.TokenTransactionType;
+import com.tradingpt.tpt_api.global.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 원장 (append-only)
+ *
+ * <p>고객 토큰 잔액(customer.token)이 바뀔 때마다 같은 트랜잭션에서 1행을 기록한다.
+ * 잔액 변경은 조건부 UPDATE 한 문장으로 처리하고, 원장은 감사/정산 용도로만 쓰이며 수정/삭제하지 않는다.
+ *
+ * <p>idempotencyKey 는 유니크 제약으로 같은 거래가 두 번 반영되는 것을 막는다.
+ * (동시에 같은 키로 들어온 요청은 뒤늦은 쪽의 INSERT 가 실패하여 잔액 변경까지 롤백된다)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+	name = "token_ledger",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_token_ledger_idempotency_key", columnNames = "idempotency_key")
+	},
+	indexes = {
+		// 고객별 거래 내역 조회 (customer_id = ? ORDER BY token_ledger_id DESC)
+		@Index(name = "idx_token_ledger_customer", columnList = "customer_id, token_ledger_id")
+	}
+)
+public class TokenLedgerEntry extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "token_ledger_id")
+	private Long id;
+
+	@Column(name = "customer_id", nullable = false)
+	private Long customerId;
+
+	/**
+	 * 변동량 (지급은 양수, 차감은 음수)
+	 */
+	@Column(name = "amount", nullable = false)
+	private Integer amount;
+
+	/**
+	 * 거래 반영 직후 잔액
+	 */
+	@Column(name = "balance_after", nullable = false)
+	private Integer balanceAfter;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "transaction_type", nullable = false, length = 30)
+	private TokenTransactionType transactionType;
+
+	/**
+	 * 거래 대상 ID (강의 ID, 피드백 요청 ID 등, 없으면 null)
+	 */
+	@Column(name = "reference_id")
+	private Long referenceId;
+
+	/**
+	 * 멱등 키 (같은 키의 거래는 한 번만 반영, 없으면 null)
+	 */
+	@Column(name = "idempotency_key", length = 100)
+	private String idempotencyKey;
+
+	// ===== Static Factory Methods =====
+
+	public static TokenLedgerEntry of(Long customerId, int amount, int balanceAfter,
+		TokenTransactionType transactionType, Long referenceId, String idempotencyKey) {
+		return TokenLedgerEntry.builder()
+			.customerId(customerId)
+			.amount(amount)
+			.balanceAfter(balanceAfter)
+			.transactionType(transactionType)
+			.referenceId(referenceId)
+			.idempotencyKey(idempotencyKey)
+			.build();
+	}
+}
@@ -0,0 +1,21 @@
+package com.tradingpt.tpt_api.domain.token.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 원장 거래 유형
+ */
+@Getter
+@AllArgsConstructor
+public enum TokenTransactionType {
+
+	LECTURE_PURCHASE("강의 구매"),
+	FEEDBACK_REQUEST("피드백 요청"),
+	FEEDBACK_REWARD("피드백 작성 보상"),
+	SIGNUP_EVENT("회원가입 이벤트"),
+	ADMIN_GRANT("관리자 지급"),
+	;
+
+	private final String description;
+}
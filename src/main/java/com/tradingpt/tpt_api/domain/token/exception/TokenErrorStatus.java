@@ -0,0 +1,40 @@
+package com.tradingpt.tpt_api.domain.token.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.tradingpt.tpt_api.global.exception.code.BaseCode;
+import com.tradingpt.tpt_api.global.exception.code.BaseCodeInterface;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TokenErrorStatus implements BaseCodeInterface {
+
+	// 400 Bad Request
+	INVALID_TOKEN_AMOUNT(HttpStatus.BAD_REQUEST, "TOKEN_400_0", "토큰 개수는 1 이상이어야 합니다."),
+	INSUFFICIENT_TOKEN(HttpStatus.BAD_REQUEST, "TOKEN_400_1", "보유 토큰이 부족합니다."),
+
+	// 404 Not Found
+	TOKEN_OWNER_NOT_FOUND(HttpStatus.NOT_FOUND, "TOKEN_404_0", "토큰을 보유한 고객을 찾을 수 없습니다."),
+
+	// 409 Conflict
+	DUPLICATE_TOKEN_TRANSACTION(HttpStatus.CONFLICT, "TOKEN_409_0", "이미 처리 중이거나 처리된 토큰 거래입니다."),
+	;
+
+	private final HttpStatus httpStatus;
+	private final boolean isSuccess = false;
+	private final String code;
+	private final String message;
+
+	@Override
+	public BaseCode getCode() {
+		return BaseCode.builder()
+			.httpStatus(httpStatus)
+			.isSuccess(isSuccess)
+			.code(code)
+			.message(message)
+			.build();
+	}
+}
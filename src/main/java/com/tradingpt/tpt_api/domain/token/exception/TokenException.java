@@ -0,0 +1,10 @@
+package com.tradingpt.tpt_api.domain.token.exception;
+
+import com.tradingpt.tpt_api.global.exception.BaseException;
+import com.tradingpt.tpt_api.global.exception.code.BaseCodeInterface;
+
+public class TokenException extends BaseException {
+	public TokenException(BaseCodeInterface errorCode) {
+		super(errorCode);
+	}
+}
@@ -0,0 +1,29 @@
+package com.tradingpt.tpt_api.domain.token.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tradingpt.tpt_api.domain.token.entity.TokenLedgerEntry;
+import com.tradingpt.tpt_api.domain.token.enums.TokenTransactionType;
+
+public interface TokenLedgerRepository extends JpaRepository<TokenLedgerEntry, Long> {
+
+	boolean existsByIdempotencyKey(String idempotencyKey);
+
+	long countByCustomerId(Long customerId);
+
+	long countByCustomerIdAndTransactionTypeAndReferenceId(Long customerId, TokenTransactionType transactionType,
+		Long referenceId);
+
+	/**
+	 * 고객 하드 삭제 시에만 사용 (원장은 그 외에는 삭제하지 않음)
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		DELETE FROM TokenLedgerEntry t
+		WHERE t.customerId = :customerId
+		""")
+	void deleteByCustomerId(@Param("customerId") Long customerId);
+}
@@ -0,0 +1,40 @@
+package com.tradingpt.tpt_api.domain.token.service;
+
+import com.tradingpt.tpt_api.domain.token.enums.TokenTransactionType;
+
+public interface TokenLedgerService {
+
+	/**
+	 * 토큰 차감
+	 *
+	 * @param customerId     고객 ID
+	 * @param amount         차감할 토큰 수 (1 이상)
+	 * @param type           거래 유형
+	 * @param referenceId    거래 대상 ID (없으면 null)
+	 * @param idempotencyKey 멱등 키 (없으면 null)
+	 * @return 차감(또는 이미 반영된 같은 거래) 시 true, 잔액 부족 시 false
+	 */
+	boolean debit(Long customerId, int amount, TokenTransactionType type, Long referenceId, String idempotencyKey);
+
+	/**
+	 * 토큰 지급
+	 *
+	 * @param customerId     고객 ID
+	 * @param amount         지급할 토큰 수 (0 이하면 무시)
+	 * @param type           거래 유형
+	 * @param referenceId    거래 대상 ID (없으면 null)
+	 * @param idempotencyKey 멱등 키 (없으면 null)
+	 */
+	void credit(Long customerId, int amount, TokenTransactionType type, Long referenceId, String idempotencyKey);
+
+	/**
+	 * 토큰 잔액 조회 (캐시)
+	 */
+	int getBalance(Long customerId);
+
+	/**
+	 * 같은 대상에 반영된 거래 횟수
+	 * 반복될 수 있는 거래(재구매 등)의 멱등 키에 회차를 넣을 때 사용한다.
+	 */
+	long countTransactions(Long customerId, TokenTransactionType type, Long referenceId);
+}
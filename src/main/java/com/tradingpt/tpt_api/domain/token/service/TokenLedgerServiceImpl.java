@@ -0,0 +1,163 @@
+package com.tradingpt.tpt_api.domain.token.service;
+
+import java.time.Duration;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tradingpt.tpt_api.domain.token.entity.TokenLedgerEntry;
+import com.tradingpt.tpt_api.domain.token.enums.TokenTransactionType;
+import com.tradingpt.tpt_api.domain.token.exception.TokenErrorStatus;
+import com.tradingpt.tpt_api.domain.token.exception.TokenException;
+import com.tradingpt.tpt_api.domain.token.repository.TokenLedgerRepository;
+import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 원장 서비스
+ *
+ * <p>잔액 변경은 customer.token 에 대한 조건부 UPDATE 한 문장으로 처리한다.
+ * Customer 엔티티를 읽고-수정-쓰기 하지 않으므로 동시 차감 시 이중 사용이 없고,
+ * User 의 @Version 충돌로 요청이 실패하지도 않는다.
+ * 변경마다 같은 트랜잭션에서 원장(token_ledger)에 1행을 남긴다.
+ *
+ * <p>잔액 조회는 Redis 에 짧게 캐시하고, 잔액이 바뀐 트랜잭션이 커밋되면 무효화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenLedgerServiceImpl implements TokenLedgerService {
+
+	private static final String BALANCE_KEY_PREFIX = "token:balance:";
+
+	/**
+	 * 잔액 캐시 유지 시간
+	 * 커밋 직전에 읽은 값이 무효화 이후 다시 적재되는 경우를 고려해 짧게 유지한다.
+	 */
+	private static final Duration BALANCE_TTL = Duration.ofSeconds(30);
+
+	private final CustomerRepository customerRepository;
+	private final TokenLedgerRepository tokenLedgerRepository;
+	private final StringRedisTemplate redisTemplate;
+
+	@Override
+	@Transactional
+	public boolean debit(Long customerId, int amount, TokenTransactionType type, Long referenceId,
+		String idempotencyKey) {
+		if (amount <= 0) {
+			throw new TokenException(TokenErrorStatus.INVALID_TOKEN_AMOUNT);
+		}
+		if (isReplay(idempotencyKey)) {
+			return true;
+		}
+
+		if (customerRepository.debitToken(customerId, amount) == 0) {
+			log.info("토큰 차감 실패 (잔액 부족): customerId={}, amount={}, type={}", customerId, amount, type);
+			return false;
+		}
+
+		record(customerId, -amount, type, referenceId, idempotencyKey);
+		return true;
+	}
+
+	@Override
+	@Transactional
+	public void credit(Long customerId, int amount, TokenTransactionType type, Long referenceId,
+		String idempotencyKey) {
+		if (amount <= 0 || isReplay(idempotencyKey)) {
+			return;
+		}
+
+		if (customerRepository.creditToken(customerId, amount) == 0) {
+			throw new TokenException(TokenErrorStatus.TOKEN_OWNER_NOT_FOUND);
+		}
+
+		record(customerId, amount, type, referenceId, idempotencyKey);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public int getBalance(Long customerId) {
+		String key = BALANCE_KEY_PREFIX + customerId;
+		try {
+			String cached = redisTemplate.opsForValue().get(key);
+			if (cached != null) {
+				return Integer.parseInt(cached);
+			}
+		} catch (Exception e) {
+			log.warn("토큰 잔액 캐시 조회 실패, DB 조회로 대체: customerId={}", customerId, e);
+		}
+
+		int balance = customerRepository.findTokenBalance(customerId)
+			.orElseThrow(() -> new TokenException(TokenErrorStatus.TOKEN_OWNER_NOT_FOUND));
+
+		try {
+			redisTemplate.opsForValue().set(key, String.valueOf(balance), BALANCE_TTL);
+		} catch (Exception e) {
+			log.warn("토큰 잔액 캐시 저장 실패: customerId={}", customerId, e);
+		}
+		return balance;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long countTransactions(Long customerId, TokenTransactionType type, Long referenceId) {
+		return tokenLedgerRepository.countByCustomerIdAndTransactionTypeAndReferenceId(customerId, type, referenceId);
+	}
+
+	/**
+	 * 같은 멱등 키로 이미 반영된 거래인지 확인
+	 * (동시에 들어온 같은 키는 원장 INSERT 의 유니크 제약에서 걸러진다)
+	 */
+	private boolean isReplay(String idempotencyKey) {
+		if (idempotencyKey == null || !tokenLedgerRepository.existsByIdempotencyKey(idempotencyKey)) {
+			return false;
+		}
+		log.info("이미 반영된 토큰 거래: idempotencyKey={}", idempotencyKey);
+		return true;
+	}
+
+	private void record(Long customerId, int amount, TokenTransactionType type, Long referenceId,
+		String idempotencyKey) {
+		// 같은 트랜잭션에서 방금 변경한 행이므로 커밋 전까지 다른 트랜잭션이 바꿀 수 없다
+		int balanceAfter = customerRepository.findTokenBalance(customerId)
+			.orElseThrow(() -> new TokenException(TokenErrorStatus.TOKEN_OWNER_NOT_FOUND));
+
+		try {
+			tokenLedgerRepository.saveAndFlush(
+				TokenLedgerEntry.of(customerId, amount, balanceAfter, type, referenceId, idempotencyKey));
+		} catch (DataIntegrityViolationException e) {
+			// 같은 멱등 키의 거래가 동시에 커밋됨 → 이 트랜잭션의 잔액 변경도 함께 롤백
+			throw new TokenException(TokenErrorStatus.DUPLICATE_TOKEN_TRANSACTION);
+		}
+
+		evictBalanceAfterCommit(customerId);
+	}
+
+	private void evictBalanceAfterCommit(Long customerId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evictBalance(customerId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictBalance(customerId);
+			}
+		});
+	}
+
+	private void evictBalance(Long customerId) {
+		try {
+			redisTemplate.delete(BALANCE_KEY_PREFIX + customerId);
+		} catch (Exception e) {
+			log.warn("토큰 잔액 캐시 무효화 실패 (TTL 만료로 대체): customerId={}", customerId, e);
+		}
+	}
+}
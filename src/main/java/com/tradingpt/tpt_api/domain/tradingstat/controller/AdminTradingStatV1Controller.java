@@ -0,0 +1,75 @@
+package com.tradingpt.tpt_api.domain.tradingstat.controller;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tradingpt.tpt_api.domain.tradingstat.dto.response.TradingStatConsistencyResponseDTO;
+import com.tradingpt.tpt_api.domain.tradingstat.dto.response.TradingStatReconcileResponseDTO;
+import com.tradingpt.tpt_api.domain.tradingstat.service.command.TradingStatCommandService;
+import com.tradingpt.tpt_api.domain.tradingstat.service.command.TradingStatMaintenanceService;
+import com.tradingpt.tpt_api.domain.tradingstat.service.query.TradingStatQueryService;
+import com.tradingpt.tpt_api.global.common.BaseResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매매 통계 집계 관리 REST Controller (어드민 전용)
+ */
+@RestController
+@RequestMapping("/api/v1/admin/trading-stats")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+@Tag(name = "ADMIN 매매 통계 집계 관리", description = "매매 통계 집계 테이블 정합성 검증 및 재계산 API")
+public class AdminTradingStatV1Controller {
+
+	private final TradingStatQueryService tradingStatQueryService;
+	private final TradingStatCommandService tradingStatCommandService;
+	private final TradingStatMaintenanceService tradingStatMaintenanceService;
+
+	@Operation(
+		summary = "고객 매매 통계 집계 정합성 검증",
+		description = "집계 테이블로 응답하는 통계 조회 결과를 feedback_request 실시간 집계 쿼리 결과와 비교합니다."
+	)
+	@GetMapping("/customers/{customerId}/consistency")
+	public BaseResponse<TradingStatConsistencyResponseDTO> checkConsistency(
+		@Parameter(description = "고객 ID", required = true)
+		@PathVariable Long customerId
+	) {
+		return BaseResponse.onSuccess(tradingStatQueryService.checkConsistency(customerId));
+	}
+
+	@Operation(
+		summary = "고객 매매 통계 집계 재계산",
+		description = "고객의 집계 행을 모두 삭제하고 feedback_request 원천 데이터로 다시 생성합니다."
+	)
+	@PostMapping("/customers/{customerId}/rebuild")
+	public BaseResponse<Integer> rebuildCustomer(
+		@Parameter(description = "고객 ID", required = true)
+		@PathVariable Long customerId
+	) {
+		return BaseResponse.onSuccess(tradingStatCommandService.rebuildCustomer(customerId));
+	}
+
+	@Operation(
+		summary = "전체 매매 통계 집계 검증/재계산",
+		description = """
+			피드백 요청이 있는 모든 고객의 집계를 검증하고 불일치 고객만 재계산합니다.
+			- force=true: 검증 없이 전체 재계산 (집계 테이블 최초 백필 시 사용)
+			"""
+	)
+	@PostMapping("/rebuild")
+	public BaseResponse<TradingStatReconcileResponseDTO> reconcileAll(
+		@Parameter(description = "검증 없이 전체 재계산 여부", example = "false")
+		@RequestParam(defaultValue = "false") boolean force
+	) {
+		return BaseResponse.onSuccess(tradingStatMaintenanceService.reconcileAll(force));
+	}
+}
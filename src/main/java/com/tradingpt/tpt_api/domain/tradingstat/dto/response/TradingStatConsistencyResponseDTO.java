@@ -0,0 +1,41 @@
+package com.tradingpt.tpt_api.domain.tradingstat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Schema(description = "매매 통계 집계 정합성 검증 결과 DTO")
+public class TradingStatConsistencyResponseDTO {
+
+	@Schema(description = "고객 ID", example = "123")
+	private Long customerId;
+
+	@Schema(description = "실시간 집계 쿼리와 비교한 조회 결과 수 (월간 성과, 진입 타점, 주차/일별 통계, 방향성 통계)", example = "42")
+	private Integer comparedCount;
+
+	@Schema(description = "실시간 집계 쿼리 결과와 값이 다른 조회 결과 수", example = "0")
+	private Integer mismatchedCount;
+
+	@Schema(description = "정합성 일치 여부", example = "true")
+	private Boolean consistent;
+
+	public static TradingStatConsistencyResponseDTO of(
+		Long customerId,
+		int comparedCount,
+		int mismatchedCount
+	) {
+		return TradingStatConsistencyResponseDTO.builder()
+			.customerId(customerId)
+			.comparedCount(comparedCount)
+			.mismatchedCount(mismatchedCount)
+			.consistent(mismatchedCount == 0)
+			.build();
+	}
+}
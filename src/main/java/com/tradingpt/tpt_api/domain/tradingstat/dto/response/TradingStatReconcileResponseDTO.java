@@ -0,0 +1,33 @@
+package com.tradingpt.tpt_api.domain.tradingstat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Schema(description = "매매 통계 집계 일괄 재계산 결과 DTO")
+public class TradingStatReconcileResponseDTO {
+
+	@Schema(description = "검사한 고객 수", example = "1200")
+	private Integer scannedCustomers;
+
+	@Schema(description = "재계산한 고객 수", example = "3")
+	private Integer rebuiltCustomers;
+
+	@Schema(description = "실패한 고객 수", example = "0")
+	private Integer failedCustomers;
+
+	public static TradingStatReconcileResponseDTO of(int scannedCustomers, int rebuiltCustomers, int failedCustomers) {
+		return TradingStatReconcileResponseDTO.builder()
+			.scannedCustomers(scannedCustomers)
+			.rebuiltCustomers(rebuiltCustomers)
+			.failedCustomers(failedCustomers)
+			.build();
+	}
+}
@@ -0,0 +1,36 @@
+package com.tradingpt.tpt_api.domain.tradingstat.engine;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.EntryPointStatistics;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.MonthlyPerformanceSnapshot;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.WeeklyRawData;
+
+/**
+ * 월간 매매일지 화면 통계 묶음
+ *
+ * @param weeklyStatistics     해당 완강 상태의 주차별 통계 (주차 오름차순)
+ * @param tradingCount         주차별 통계 매매 횟수 합계
+ * @param winCount             주차별 통계 승리 횟수 합계
+ * @param pnl                  주차별 통계 P&L 합계
+ * @param winningRate          주차별 통계 기준 승률
+ * @param averageRnr           수익 매매 평균 R&R (완강 전/후 합산)
+ * @param entryPointStatistics 진입 타점 통계 (완강 전/후 합산)
+ * @param previousMonth        비교 대상 이전 달
+ * @param currentPerformance   해당 월 성과 (완강 전/후 합산)
+ * @param previousPerformance  이전 달 성과 (완강 전/후 합산)
+ */
+public record MonthlyTradingStats(
+	List<WeeklyRawData> weeklyStatistics,
+	int tradingCount,
+	int winCount,
+	BigDecimal pnl,
+	Double winningRate,
+	Double averageRnr,
+	EntryPointStatistics entryPointStatistics,
+	int previousMonth,
+	MonthlyPerformanceSnapshot currentPerformance,
+	MonthlyPerformanceSnapshot previousPerformance
+) {
+}
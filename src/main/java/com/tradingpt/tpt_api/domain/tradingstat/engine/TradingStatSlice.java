@@ -0,0 +1,195 @@
+package com.tradingpt.tpt_api.domain.tradingstat.engine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatDelta;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatPeriodKey;
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+
+/**
+ * 매매 통계 집계 행 묶음의 primitive 배열 표현
+ *
+ * <p>집계 행 1개를 int/long/double 배열의 연속된 칸에 행 단위로 저장한다.
+ * 엔티티/BigDecimal 객체 없이 한 번 순회로 모든 화면 지표를 합산하기 위한 구조.
+ * <ul>
+ *   <li>enum 은 ordinal 로 저장</li>
+ *   <li>pnl/리스크 테이킹 합계는 집계 컬럼 scale(8) 기준 정수로 저장 (long 범위를 넘으면 {@link ArithmeticException})</li>
+ * </ul>
+ */
+public final class TradingStatSlice {
+
+	/** pnl/리스크 테이킹 고정 소수 자릿수 (trading_stat_aggregate.pnl_sum scale) */
+	public static final int MONEY_SCALE = 8;
+
+	// ===== int 컬럼: 행 식별 =====
+	static final int GRANULARITY = 0;
+	static final int COURSE_STATUS = 1;
+	static final int YEAR = 2;
+	static final int MONTH = 3;
+	static final int WEEK = 4;
+	static final int DAY = 5;
+
+	// ===== int 컬럼: 카운터 (TRADE 부터 끝까지 합산 대상) =====
+	static final int TRADE = 6;
+	static final int WIN = 7;
+	static final int N = 8;
+	static final int FN = 9;
+	static final int REVERSE = 10;
+	static final int REVERSE_WIN = 11;
+	static final int PULL_BACK = 12;
+	static final int PULL_BACK_WIN = 13;
+	static final int BREAK_OUT = 14;
+	static final int BREAK_OUT_WIN = 15;
+	static final int DIRECTION_O = 16;
+	static final int DIRECTION_O_WIN = 17;
+	static final int DIRECTION_X = 18;
+	static final int DIRECTION_X_WIN = 19;
+	static final int INT_COLUMNS = 20;
+	static final int COUNTER_COLUMNS = INT_COLUMNS - TRADE;
+
+	// ===== long 컬럼 =====
+	static final int PNL = 0;
+	static final int RISK_TAKING = 1;
+	static final int LONG_COLUMNS = 2;
+
+	// ===== double 컬럼 =====
+	static final int WIN_RNR = 0;
+	static final int REVERSE_WIN_RNR = 1;
+	static final int PULL_BACK_WIN_RNR = 2;
+	static final int BREAK_OUT_WIN_RNR = 3;
+	static final int DIRECTION_O_WIN_RNR = 4;
+	static final int DIRECTION_X_WIN_RNR = 5;
+	static final int DOUBLE_COLUMNS = 6;
+
+	private int[] ints;
+	private long[] longs;
+	private double[] doubles;
+	private int size;
+
+	public TradingStatSlice(int expectedRows) {
+		int capacity = Math.max(expectedRows, 8);
+		this.ints = new int[capacity * INT_COLUMNS];
+		this.longs = new long[capacity * LONG_COLUMNS];
+		this.doubles = new double[capacity * DOUBLE_COLUMNS];
+	}
+
+	/**
+	 * 집계 행 1개를 추가한다.
+	 *
+	 * @throws ArithmeticException pnl/리스크 테이킹이 long 범위를 넘는 경우
+	 */
+	public void add(TradingStatPeriodKey key, TradingStatDelta delta) {
+		ensureCapacity(size + 1);
+
+		int i = size * INT_COLUMNS;
+		ints[i + GRANULARITY] = key.granularity().ordinal();
+		ints[i + COURSE_STATUS] = key.courseStatus().ordinal();
+		ints[i + YEAR] = key.year();
+		ints[i + MONTH] = key.month();
+		ints[i + WEEK] = key.week();
+		ints[i + DAY] = key.day();
+		ints[i + TRADE] = delta.tradeCount();
+		ints[i + WIN] = delta.winCount();
+		ints[i + N] = delta.nCount();
+		ints[i + FN] = delta.fnCount();
+		ints[i + REVERSE] = delta.reverseCount();
+		ints[i + REVERSE_WIN] = delta.reverseWinCount();
+		ints[i + PULL_BACK] = delta.pullBackCount();
+		ints[i + PULL_BACK_WIN] = delta.pullBackWinCount();
+		ints[i + BREAK_OUT] = delta.breakOutCount();
+		ints[i + BREAK_OUT_WIN] = delta.breakOutWinCount();
+		ints[i + DIRECTION_O] = delta.directionOCount();
+		ints[i + DIRECTION_O_WIN] = delta.directionOWinCount();
+		ints[i + DIRECTION_X] = delta.directionXCount();
+		ints[i + DIRECTION_X_WIN] = delta.directionXWinCount();
+
+		int l = size * LONG_COLUMNS;
+		longs[l + PNL] = toScaledLong(delta.pnlSum());
+		longs[l + RISK_TAKING] = toScaledLong(delta.riskTakingSum());
+
+		int d = size * DOUBLE_COLUMNS;
+		doubles[d + WIN_RNR] = delta.winRnrSum();
+		doubles[d + REVERSE_WIN_RNR] = delta.reverseWinRnrSum();
+		doubles[d + PULL_BACK_WIN_RNR] = delta.pullBackWinRnrSum();
+		doubles[d + BREAK_OUT_WIN_RNR] = delta.breakOutWinRnrSum();
+		doubles[d + DIRECTION_O_WIN_RNR] = delta.directionOWinRnrSum();
+		doubles[d + DIRECTION_X_WIN_RNR] = delta.directionXWinRnrSum();
+
+		size++;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	int granularity(int row) {
+		return ints[row * INT_COLUMNS + GRANULARITY];
+	}
+
+	int courseStatus(int row) {
+		return ints[row * INT_COLUMNS + COURSE_STATUS];
+	}
+
+	/**
+	 * 행이 지정한 집계 단위/기간에 해당하는지 확인 (week 가 0 이면 주차 무시)
+	 */
+	boolean matches(int row, StatGranularity granularity, int year, int month, int week) {
+		int i = row * INT_COLUMNS;
+		return ints[i + GRANULARITY] == granularity.ordinal()
+			&& ints[i + YEAR] == year
+			&& ints[i + MONTH] == month
+			&& (week == 0 || ints[i + WEEK] == week);
+	}
+
+	boolean hasCourseStatus(int row, CourseStatus courseStatus) {
+		return ints[row * INT_COLUMNS + COURSE_STATUS] == courseStatus.ordinal();
+	}
+
+	int intValue(int row, int column) {
+		return ints[row * INT_COLUMNS + column];
+	}
+
+	long longValue(int row, int column) {
+		return longs[row * LONG_COLUMNS + column];
+	}
+
+	/**
+	 * 행의 카운터/합계를 누적 배열에 더한다.
+	 *
+	 * @throws ArithmeticException pnl/리스크 테이킹 합계가 long 범위를 넘는 경우
+	 */
+	void accumulate(int row, int[] counters, long[] money, double[] rnr) {
+		int i = row * INT_COLUMNS + TRADE;
+		for (int c = 0; c < COUNTER_COLUMNS; c++) {
+			counters[c] += ints[i + c];
+		}
+		int l = row * LONG_COLUMNS;
+		money[PNL] = Math.addExact(money[PNL], longs[l + PNL]);
+		money[RISK_TAKING] = Math.addExact(money[RISK_TAKING], longs[l + RISK_TAKING]);
+		int d = row * DOUBLE_COLUMNS;
+		for (int c = 0; c < DOUBLE_COLUMNS; c++) {
+			rnr[c] += doubles[d + c];
+		}
+	}
+
+	static BigDecimal toMoney(long scaled) {
+		return BigDecimal.valueOf(scaled, MONEY_SCALE);
+	}
+
+	private static long toScaledLong(BigDecimal value) {
+		return value.setScale(MONEY_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+	}
+
+	private void ensureCapacity(int rows) {
+		if (rows * INT_COLUMNS <= ints.length) {
+			return;
+		}
+		int capacity = Math.max(rows, ints.length / INT_COLUMNS * 2);
+		ints = Arrays.copyOf(ints, capacity * INT_COLUMNS);
+		longs = Arrays.copyOf(longs, capacity * LONG_COLUMNS);
+		doubles = Arrays.copyOf(doubles, capacity * DOUBLE_COLUMNS);
+	}
+}
@@ -0,0 +1,93 @@
+package com.tradingpt.tpt_api.domain.tradingstat.engine;
+
+import static com.tradingpt.tpt_api.domain.tradingstat.engine.TradingStatSlice.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.util.TradingCalculationUtil;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.EntryPointStatistics;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.MonthlyPerformanceSnapshot;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DirectionStatistics;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.WeeklyPerformanceSnapshot;
+
+/**
+ * 슬라이스 행 합계 누적기
+ * 지표 계산 규칙은 TradingStatQueryServiceImpl 과 같다.
+ */
+final class TradingStatTotals {
+
+	private final int[] counters = new int[COUNTER_COLUMNS];
+	private final long[] money = new long[LONG_COLUMNS];
+	private final double[] rnr = new double[DOUBLE_COLUMNS];
+	private int rows;
+
+	void add(TradingStatSlice slice, int row) {
+		slice.accumulate(row, counters, money, rnr);
+		rows++;
+	}
+
+	int tradeCount() {
+		return counter(TRADE);
+	}
+
+	int winCount() {
+		return counter(WIN);
+	}
+
+	/**
+	 * pnl 합계 (합산한 행이 없으면 BigDecimal.ZERO, 기존 reduce 결과와 같은 scale)
+	 */
+	BigDecimal pnl() {
+		return rows == 0 ? BigDecimal.ZERO : toMoney(money[PNL]);
+	}
+
+	double winRate() {
+		return TradingCalculationUtil.calculateWinRate(tradeCount(), winCount());
+	}
+
+	double averageWinningRnr() {
+		return TradingCalculationUtil.calculateAverageWinningRnr(rnr[WIN_RNR], winCount());
+	}
+
+	WeeklyPerformanceSnapshot toWeeklyPerformance() {
+		return new WeeklyPerformanceSnapshot(winRate(), averageWinningRnr(), pnl());
+	}
+
+	MonthlyPerformanceSnapshot toMonthlyPerformance() {
+		int tradeCount = tradeCount();
+		BigDecimal winRate = tradeCount > 0
+			? BigDecimal.valueOf((double)winCount() / tradeCount * 100).setScale(2, RoundingMode.HALF_UP)
+			: BigDecimal.ZERO;
+		return new MonthlyPerformanceSnapshot(winRate, BigDecimal.valueOf(averageWinningRnr()), pnl());
+	}
+
+	DirectionStatistics toDirectionStatistics() {
+		return new DirectionStatistics(
+			counter(DIRECTION_O),
+			TradingCalculationUtil.calculateWinRate(counter(DIRECTION_O), counter(DIRECTION_O_WIN)),
+			TradingCalculationUtil.calculateAverageWinningRnr(rnr[DIRECTION_O_WIN_RNR], counter(DIRECTION_O_WIN)),
+			counter(DIRECTION_X),
+			TradingCalculationUtil.calculateWinRate(counter(DIRECTION_X), counter(DIRECTION_X_WIN)),
+			TradingCalculationUtil.calculateAverageWinningRnr(rnr[DIRECTION_X_WIN_RNR], counter(DIRECTION_X_WIN))
+		);
+	}
+
+	EntryPointStatistics toEntryPointStatistics() {
+		return new EntryPointStatistics(
+			counter(REVERSE),
+			TradingCalculationUtil.calculateWinRate(counter(REVERSE), counter(REVERSE_WIN)),
+			TradingCalculationUtil.calculateAverageWinningRnr(rnr[REVERSE_WIN_RNR], counter(REVERSE_WIN)),
+			counter(PULL_BACK),
+			TradingCalculationUtil.calculateWinRate(counter(PULL_BACK), counter(PULL_BACK_WIN)),
+			TradingCalculationUtil.calculateAverageWinningRnr(rnr[PULL_BACK_WIN_RNR], counter(PULL_BACK_WIN)),
+			counter(BREAK_OUT),
+			TradingCalculationUtil.calculateWinRate(counter(BREAK_OUT), counter(BREAK_OUT_WIN)),
+			TradingCalculationUtil.calculateAverageWinningRnr(rnr[BREAK_OUT_WIN_RNR], counter(BREAK_OUT_WIN))
+		);
+	}
+
+	private int counter(int column) {
+		return counters[column - TRADE];
+	}
+}
@@ -0,0 +1,303 @@
+package com.tradingpt.tpt_api.domain.tradingstat.engine;
+
+import static com.tradingpt.tpt_api.domain.tradingstat.engine.TradingStatSlice.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.util.FeedbackPeriodUtil;
+import com.tradingpt.tpt_api.domain.feedbackrequest.util.TradingCalculationUtil;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.WeeklyRawData;
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.tradingstat.repository.TradingStatAggregateRepository;
+import com.tradingpt.tpt_api.domain.tradingstat.service.query.TradingStatQueryService;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DailyRawData;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.WeeklyPerformanceSnapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주간/월간 매매일지 화면 통계 계산기
+ *
+ * <p>화면 1개에 필요한 집계 행(해당 기간 + 비교 기간)을 쿼리 1번으로 {@link TradingStatSlice} 에 담고,
+ * 일별/주차별 목록, 승률, 평균 R&R, 성과 비교, 방향성/진입 타점 통계를 한 번 순회로 계산한다.
+ * 지표별로 집계 테이블을 따로 조회하던 {@link TradingStatQueryService} 조합과 같은 결과를 낸다.
+ *
+ * <p>pnl 합계가 long 고정 소수 범위를 넘으면 기존 조회 조합으로 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TradingStatsEngine {
+
+	private final TradingStatAggregateRepository tradingStatAggregateRepository;
+	private final TradingStatQueryService tradingStatQueryService;
+
+	/**
+	 * 주간 요약 통계
+	 *
+	 * @param courseStatus 일별 목록/평균 R&R 에 적용할 완강 상태
+	 */
+	public WeeklyTradingStats weekly(
+		Long customerId,
+		int year,
+		int month,
+		int week,
+		CourseStatus courseStatus,
+		InvestmentType investmentType
+	) {
+		// 이전 주 계산 (1주차면 이전 달의 마지막 주)
+		int previousYear = year;
+		int previousMonth = month;
+		int previousWeek = week - 1;
+		if (previousWeek < 1) {
+			LocalDate previousMonthDate = LocalDate.of(year, month, 1).minusMonths(1);
+			previousYear = previousMonthDate.getYear();
+			previousMonth = previousMonthDate.getMonthValue();
+			previousWeek = FeedbackPeriodUtil.getWeeksInMonth(previousYear, previousMonth);
+		}
+
+		try {
+			TradingStatSlice slice = tradingStatAggregateRepository.findWeeklySlice(
+				customerId, investmentType, year, month, week, previousYear, previousMonth, previousWeek);
+			return computeWeekly(slice, year, month, week, courseStatus, previousYear, previousMonth, previousWeek);
+		} catch (ArithmeticException overflow) {
+			log.warn("pnl/리스크 테이킹 합계 long 오버플로(scale 8), BigDecimal 개별 쿼리로 대체: customerId={}, {}-{}-W{}",
+				customerId, year, month, week);
+			return queryWeekly(customerId, year, month, week, courseStatus, investmentType,
+				previousYear, previousMonth, previousWeek);
+		}
+	}
+
+	/**
+	 * 월간 요약 통계
+	 *
+	 * @param courseStatus 주차별 목록에 적용할 완강 상태
+	 */
+	public MonthlyTradingStats monthly(
+		Long customerId,
+		int year,
+		int month,
+		CourseStatus courseStatus,
+		InvestmentType investmentType
+	) {
+		LocalDate previousDate = LocalDate.of(year, month, 1).minusMonths(1);
+		int previousYear = previousDate.getYear();
+		int previousMonth = previousDate.getMonthValue();
+
+		try {
+			TradingStatSlice slice = tradingStatAggregateRepository.findMonthlySlice(
+				customerId, investmentType, year, month, previousYear, previousMonth);
+			return computeMonthly(slice, year, month, courseStatus, previousYear, previousMonth);
+		} catch (ArithmeticException overflow) {
+			log.warn("pnl/리스크 테이킹 합계 long 오버플로(scale 8), BigDecimal 개별 쿼리로 대체: customerId={}, {}-{}",
+				customerId, year, month);
+			return queryMonthly(customerId, year, month, courseStatus, investmentType, previousYear, previousMonth);
+		}
+	}
+
+	/**
+	 * 슬라이스 1회 순회로 주간 통계 계산
+	 * (슬라이스는 DAY/WEEK 해당 주차 행과 이전 주차 WEEK 행을 담고 있어야 한다)
+	 */
+	public static WeeklyTradingStats computeWeekly(
+		TradingStatSlice slice,
+		int year,
+		int month,
+		int week,
+		CourseStatus courseStatus,
+		int previousYear,
+		int previousMonth,
+		int previousWeek
+	) {
+		List<DailyRawData> dailyStatistics = new ArrayList<>();
+		TradingStatTotals days = new TradingStatTotals();
+		TradingStatTotals courseWeek = new TradingStatTotals();
+		TradingStatTotals currentWeek = new TradingStatTotals();
+		TradingStatTotals lastWeek = new TradingStatTotals();
+
+		for (int row = 0; row < slice.size(); row++) {
+			if (slice.matches(row, StatGranularity.DAY, year, month, week)) {
+				if (slice.hasCourseStatus(row, courseStatus)) {
+					dailyStatistics.add(toDailyRawData(slice, row, year, month));
+					days.add(slice, row);
+				}
+			} else if (slice.matches(row, StatGranularity.WEEK, year, month, week)) {
+				currentWeek.add(slice, row);
+				if (slice.hasCourseStatus(row, courseStatus)) {
+					courseWeek.add(slice, row);
+				}
+			} else if (slice.matches(row, StatGranularity.WEEK, previousYear, previousMonth, previousWeek)) {
+				lastWeek.add(slice, row);
+			}
+		}
+
+		return new WeeklyTradingStats(
+			dailyStatistics,
+			days.tradeCount(),
+			days.winCount(),
+			days.pnl(),
+			days.winRate(),
+			courseWeek.averageWinningRnr(),
+			previousWeek,
+			currentWeek.toWeeklyPerformance(),
+			lastWeek.toWeeklyPerformance(),
+			currentWeek.toDirectionStatistics()
+		);
+	}
+
+	/**
+	 * 슬라이스 1회 순회로 월간 통계 계산
+	 * (슬라이스는 해당 월 WEEK/MONTH 행과 이전 달 MONTH 행을 담고 있어야 한다)
+	 */
+	public static MonthlyTradingStats computeMonthly(
+		TradingStatSlice slice,
+		int year,
+		int month,
+		CourseStatus courseStatus,
+		int previousYear,
+		int previousMonth
+	) {
+		List<WeeklyRawData> weeklyStatistics = new ArrayList<>();
+		TradingStatTotals weeks = new TradingStatTotals();
+		TradingStatTotals currentMonth = new TradingStatTotals();
+		TradingStatTotals lastMonth = new TradingStatTotals();
+
+		for (int row = 0; row < slice.size(); row++) {
+			if (slice.matches(row, StatGranularity.WEEK, year, month, 0)) {
+				if (slice.hasCourseStatus(row, courseStatus)) {
+					weeklyStatistics.add(toWeeklyRawData(slice, row));
+					weeks.add(slice, row);
+				}
+			} else if (slice.matches(row, StatGranularity.MONTH, year, month, 0)) {
+				currentMonth.add(slice, row);
+			} else if (slice.matches(row, StatGranularity.MONTH, previousYear, previousMonth, 0)) {
+				lastMonth.add(slice, row);
+			}
+		}
+
+		return new MonthlyTradingStats(
+			weeklyStatistics,
+			weeks.tradeCount(),
+			weeks.winCount(),
+			weeks.pnl(),
+			weeks.winRate(),
+			currentMonth.averageWinningRnr(),
+			currentMonth.toEntryPointStatistics(),
+			previousMonth,
+			currentMonth.toMonthlyPerformance(),
+			lastMonth.toMonthlyPerformance()
+		);
+	}
+
+	private static DailyRawData toDailyRawData(TradingStatSlice slice, int row, int year, int month) {
+		return new DailyRawData(
+			LocalDate.of(year, month, slice.intValue(row, DAY)),
+			slice.intValue(row, TRADE),
+			toMoney(slice.longValue(row, PNL)),
+			slice.intValue(row, WIN),
+			toMoney(slice.longValue(row, RISK_TAKING)),
+			slice.intValue(row, N),
+			slice.intValue(row, FN)
+		);
+	}
+
+	private static WeeklyRawData toWeeklyRawData(TradingStatSlice slice, int row) {
+		return new WeeklyRawData(
+			slice.intValue(row, WEEK),
+			slice.intValue(row, TRADE),
+			toMoney(slice.longValue(row, PNL)),
+			slice.intValue(row, WIN),
+			toMoney(slice.longValue(row, RISK_TAKING)),
+			slice.intValue(row, N),
+			slice.intValue(row, FN)
+		);
+	}
+
+	/**
+	 * 지표별 조회 조합으로 주간 통계 계산 (BigDecimal 합산)
+	 */
+	private WeeklyTradingStats queryWeekly(
+		Long customerId,
+		int year,
+		int month,
+		int week,
+		CourseStatus courseStatus,
+		InvestmentType investmentType,
+		int previousYear,
+		int previousMonth,
+		int previousWeek
+	) {
+		List<DailyRawData> dailyStatistics = tradingStatQueryService.findDailyStatistics(
+			customerId, year, month, week, courseStatus, investmentType);
+
+		int tradingCount = dailyStatistics.stream().mapToInt(DailyRawData::getTradingCount).sum();
+		int winCount = dailyStatistics.stream().mapToInt(DailyRawData::getWinCount).sum();
+		BigDecimal pnl = dailyStatistics.stream()
+			.map(DailyRawData::getDailyPnl)
+			.reduce(BigDecimal.ZERO, BigDecimal::add);
+
+		WeeklyPerformanceSnapshot current = tradingStatQueryService.findWeeklyPerformance(
+			customerId, year, month, week, investmentType);
+		WeeklyPerformanceSnapshot previous = tradingStatQueryService.findWeeklyPerformance(
+			customerId, previousYear, previousMonth, previousWeek, investmentType);
+
+		return new WeeklyTradingStats(
+			dailyStatistics,
+			tradingCount,
+			winCount,
+			pnl,
+			TradingCalculationUtil.calculateWinRate(tradingCount, winCount),
+			tradingStatQueryService.findAverageRnRForWeeklySummary(
+				customerId, year, month, week, courseStatus, investmentType),
+			previousWeek,
+			current,
+			previous,
+			tradingStatQueryService.findDirectionStatistics(customerId, year, month, week)
+		);
+	}
+
+	/**
+	 * 지표별 조회 조합으로 월간 통계 계산 (BigDecimal 합산)
+	 */
+	private MonthlyTradingStats queryMonthly(
+		Long customerId,
+		int year,
+		int month,
+		CourseStatus courseStatus,
+		InvestmentType investmentType,
+		int previousYear,
+		int previousMonth
+	) {
+		List<WeeklyRawData> weeklyStatistics = tradingStatQueryService.findWeeklyStatistics(
+			customerId, year, month, courseStatus, investmentType);
+
+		int tradingCount = weeklyStatistics.stream().mapToInt(WeeklyRawData::getTradingCount).sum();
+		int winCount = weeklyStatistics.stream().mapToInt(WeeklyRawData::getWinCount).sum();
+		BigDecimal pnl = weeklyStatistics.stream()
+			.map(WeeklyRawData::getWeeklyPnl)
+			.reduce(BigDecimal.ZERO, BigDecimal::add);
+
+		return new MonthlyTradingStats(
+			weeklyStatistics,
+			tradingCount,
+			winCount,
+			pnl,
+			TradingCalculationUtil.calculateWinRate(tradingCount, winCount),
+			tradingStatQueryService.findAverageRnRForMonthlySummary(customerId, year, month, investmentType),
+			tradingStatQueryService.findEntryPointStatistics(customerId, year, month, investmentType),
+			previousMonth,
+			tradingStatQueryService.findMonthlyPerformance(customerId, year, month, investmentType),
+			tradingStatQueryService.findMonthlyPerformance(customerId, previousYear, previousMonth, investmentType)
+		);
+	}
+}
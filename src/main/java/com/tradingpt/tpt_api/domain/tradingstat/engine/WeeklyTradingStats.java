@@ -0,0 +1,36 @@
+package com.tradingpt.tpt_api.domain.tradingstat.engine;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DailyRawData;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DirectionStatistics;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.WeeklyPerformanceSnapshot;
+
+/**
+ * 주간 매매일지 화면 통계 묶음
+ *
+ * @param dailyStatistics     해당 완강 상태의 일별 통계 (일자 오름차순)
+ * @param tradingCount        일별 통계 매매 횟수 합계
+ * @param winCount            일별 통계 승리 횟수 합계
+ * @param pnl                 일별 통계 P&L 합계
+ * @param winningRate         일별 통계 기준 승률
+ * @param averageRnr          해당 완강 상태 수익 매매 평균 R&R
+ * @param previousWeek        비교 대상 이전 주차 (1주차면 이전 달 마지막 주차)
+ * @param currentPerformance  해당 주차 성과 (완강 전/후 합산)
+ * @param previousPerformance 이전 주차 성과 (완강 전/후 합산)
+ * @param directionStatistics 방향성 통계 (완강 전/후 합산)
+ */
+public record WeeklyTradingStats(
+	List<DailyRawData> dailyStatistics,
+	int tradingCount,
+	int winCount,
+	BigDecimal pnl,
+	Double winningRate,
+	Double averageRnr,
+	int previousWeek,
+	WeeklyPerformanceSnapshot currentPerformance,
+	WeeklyPerformanceSnapshot previousPerformance,
+	DirectionStatistics directionStatistics
+) {
+}
@@ -0,0 +1,207 @@
+package com.tradingpt.tpt_api.domain.tradingstat.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+import com.tradingpt.tpt_api.global.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객별 일/주/월 매매 통계 집계 (materialized aggregate)
+ *
+ * <p>주간/월간 매매일지 화면이 feedback_request 전체를 GROUP BY 하지 않고
+ * 몇 개의 집계 행만 읽도록 하기 위한 테이블.
+ * FeedbackRequest 생성/수정/삭제 및 답변 상태 변경과 같은 트랜잭션에서 증분 갱신된다.
+ *
+ * <p>customer_id는 FK 없이 보관한다. 고객 삭제 시 함께 정리되며,
+ * 불일치가 생기면 정합성 검증 스케줄러가 고객 단위로 재계산한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+	name = "trading_stat_aggregate",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_trading_stat_aggregate_period",
+		columnNames = {"customer_id", "granularity", "period_year", "period_month", "period_week", "period_day",
+			"investment_type", "course_status"}
+	)
+)
+public class TradingStatAggregate extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "trading_stat_aggregate_id")
+	private Long id;
+
+	@Column(name = "customer_id", nullable = false)
+	private Long customerId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "granularity", nullable = false, length = 10)
+	private StatGranularity granularity;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "investment_type", nullable = false)
+	private InvestmentType investmentType;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "course_status", nullable = false)
+	private CourseStatus courseStatus;
+
+	@Column(name = "period_year", nullable = false)
+	private Integer periodYear;
+
+	@Column(name = "period_month", nullable = false)
+	private Integer periodMonth;
+
+	@Column(name = "period_week", nullable = false)
+	private Integer periodWeek; // MONTH 집계는 0
+
+	@Column(name = "period_day", nullable = false)
+	private Integer periodDay; // WEEK, MONTH 집계는 0
+
+	/**
+	 * 공통 통계
+	 */
+	private Integer tradeCount; // 매매 횟수
+	private Integer winCount; // pnl > 0 매매 횟수
+
+	@Column(precision = 24, scale = 8)
+	private BigDecimal pnlSum; // totalAssetPnl 합계
+
+	@Column(precision = 24, scale = 8)
+	private BigDecimal riskTakingSum; // 리스크 테이킹 합계
+
+	private Double winRnrSum; // pnl > 0 매매의 rnr 합계
+	private Integer nCount; // Status.N 개수
+	private Integer fnCount; // Status.FN 개수
+
+	/**
+	 * 진입 타점별 통계 (승리 기준: totalAssetPnl > 0)
+	 */
+	private Integer reverseCount;
+	private Integer reverseWinCount;
+	private Double reverseWinRnrSum;
+	private Integer pullBackCount;
+	private Integer pullBackWinCount;
+	private Double pullBackWinRnrSum;
+	private Integer breakOutCount;
+	private Integer breakOutWinCount;
+	private Double breakOutWinRnrSum;
+
+	/**
+	 * 방향성 통계 (승리 기준: pnl > 0)
+	 */
+	private Integer directionOCount;
+	private Integer directionOWinCount;
+	private Double directionOWinRnrSum;
+	private Integer directionXCount;
+	private Integer directionXWinCount;
+	private Double directionXWinRnrSum;
+
+	// ===== Static Factory Methods =====
+
+	/**
+	 * 집계 행 신규 생성
+	 *
+	 * @param customerId 고객 ID
+	 * @param key        집계 행 키
+	 * @param delta      초기 카운터 값
+	 * @return 생성된 집계 엔티티
+	 */
+	public static TradingStatAggregate create(Long customerId, TradingStatPeriodKey key, TradingStatDelta delta) {
+		return TradingStatAggregate.builder()
+			.customerId(customerId)
+			.granularity(key.granularity())
+			.investmentType(key.investmentType())
+			.courseStatus(key.courseStatus())
+			.periodYear(key.year())
+			.periodMonth(key.month())
+			.periodWeek(key.week())
+			.periodDay(key.day())
+			.tradeCount(delta.tradeCount())
+			.winCount(delta.winCount())
+			.pnlSum(delta.pnlSum())
+			.riskTakingSum(delta.riskTakingSum())
+			.winRnrSum(delta.winRnrSum())
+			.nCount(delta.nCount())
+			.fnCount(delta.fnCount())
+			.reverseCount(delta.reverseCount())
+			.reverseWinCount(delta.reverseWinCount())
+			.reverseWinRnrSum(delta.reverseWinRnrSum())
+			.pullBackCount(delta.pullBackCount())
+			.pullBackWinCount(delta.pullBackWinCount())
+			.pullBackWinRnrSum(delta.pullBackWinRnrSum())
+			.breakOutCount(delta.breakOutCount())
+			.breakOutWinCount(delta.breakOutWinCount())
+			.breakOutWinRnrSum(delta.breakOutWinRnrSum())
+			.directionOCount(delta.directionOCount())
+			.directionOWinCount(delta.directionOWinCount())
+			.directionOWinRnrSum(delta.directionOWinRnrSum())
+			.directionXCount(delta.directionXCount())
+			.directionXWinCount(delta.directionXWinCount())
+			.directionXWinRnrSum(delta.directionXWinRnrSum())
+			.build();
+	}
+
+	// ===== 비즈니스 메서드 =====
+
+	public TradingStatPeriodKey toPeriodKey() {
+		return new TradingStatPeriodKey(
+			granularity, investmentType, courseStatus, periodYear, periodMonth, periodWeek, periodDay);
+	}
+
+	/**
+	 * 일간 집계 행의 날짜
+	 */
+	public LocalDate getTradeDate() {
+		return LocalDate.of(periodYear, periodMonth, periodDay);
+	}
+
+	public TradingStatDelta toDelta() {
+		return new TradingStatDelta(
+			tradeCount,
+			winCount,
+			pnlSum,
+			riskTakingSum,
+			winRnrSum,
+			nCount,
+			fnCount,
+			reverseCount,
+			reverseWinCount,
+			reverseWinRnrSum,
+			pullBackCount,
+			pullBackWinCount,
+			pullBackWinRnrSum,
+			breakOutCount,
+			breakOutWinCount,
+			breakOutWinRnrSum,
+			directionOCount,
+			directionOWinCount,
+			directionOWinRnrSum,
+			directionXCount,
+			directionXWinCount,
+			directionXWinRnrSum
+		);
+	}
+}
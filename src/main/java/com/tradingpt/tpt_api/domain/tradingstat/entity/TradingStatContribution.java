@@ -0,0 +1,106 @@
+package com.tradingpt.tpt_api.domain.tradingstat.entity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.TradeStatSource;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+
+/**
+ * 피드백 요청 1건이 매매 통계 집계에 기여하는 값 (값 객체)
+ *
+ * <p>수정/삭제 시에는 변경 전 상태를 먼저 캡처해 두고,
+ * 이전 기여분을 빼고 새 기여분을 더하는 방식으로 집계를 갱신한다.
+ */
+public record TradingStatContribution(
+	Long customerId,
+	InvestmentType investmentType,
+	CourseStatus courseStatus,
+	LocalDate tradeDate,
+	int year,
+	int month,
+	int week,
+	TradingStatDelta delta
+) {
+
+	/**
+	 * 영속 상태의 FeedbackRequest로부터 기여분을 캡처한다.
+	 * 엔티티가 이후에 변경되어도 캡처된 값은 변하지 않는다.
+	 */
+	public static TradingStatContribution from(FeedbackRequest feedbackRequest) {
+		return new TradingStatContribution(
+			feedbackRequest.getCustomer().getId(),
+			feedbackRequest.getInvestmentType(),
+			feedbackRequest.getCourseStatus(),
+			feedbackRequest.getFeedbackRequestDate(),
+			feedbackRequest.getFeedbackYear(),
+			feedbackRequest.getFeedbackMonth(),
+			feedbackRequest.getFeedbackWeek(),
+			TradingStatDelta.of(
+				feedbackRequest.getStatus(),
+				feedbackRequest.getPnl(),
+				feedbackRequest.getTotalAssetPnl(),
+				feedbackRequest.getRiskTaking(),
+				feedbackRequest.getRnr(),
+				feedbackRequest.getEntryPoint(),
+				feedbackRequest.getDirectionFrameExists()
+			)
+		);
+	}
+
+	/**
+	 * 재계산(rebuild)/정합성 검증용 Projection으로부터 기여분을 계산한다.
+	 */
+	public static TradingStatContribution from(TradeStatSource source) {
+		return new TradingStatContribution(
+			source.customerId(),
+			source.investmentType(),
+			source.courseStatus(),
+			source.feedbackRequestDate(),
+			source.feedbackYear(),
+			source.feedbackMonth(),
+			source.feedbackWeek(),
+			TradingStatDelta.of(
+				source.status(),
+				source.pnl(),
+				source.totalAssetPnl(),
+				source.riskTaking(),
+				source.rnr(),
+				source.entryPoint(),
+				source.directionFrameExists()
+			)
+		);
+	}
+
+	/**
+	 * 일/주/월 집계 행 키 목록
+	 */
+	public List<TradingStatPeriodKey> periodKeys() {
+		List<TradingStatPeriodKey> keys = new ArrayList<>(StatGranularity.values().length);
+		for (StatGranularity granularity : StatGranularity.values()) {
+			keys.add(periodKey(granularity));
+		}
+		return keys;
+	}
+
+	public TradingStatPeriodKey periodKey(StatGranularity granularity) {
+		return TradingStatPeriodKey.of(granularity, investmentType, courseStatus, tradeDate, year, month, week);
+	}
+
+	/**
+	 * 같은 집계 행에 기여하는지 확인 (기간/투자유형/완강여부 동일)
+	 */
+	public boolean hasSamePeriodAs(TradingStatContribution other) {
+		return customerId.equals(other.customerId)
+			&& investmentType == other.investmentType
+			&& courseStatus == other.courseStatus
+			&& tradeDate.equals(other.tradeDate)
+			&& year == other.year
+			&& month == other.month
+			&& week == other.week;
+	}
+}
@@ -0,0 +1,200 @@
+package com.tradingpt.tpt_api.domain.tradingstat.entity;
+
+import java.math.BigDecimal;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.EntryPoint;
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
+
+/**
+ * 매매 통계 집계 카운터 묶음 (값 객체)
+ *
+ * <p>피드백 요청 1건이 집계 행에 기여하는 값이자, 여러 집계 행의 합계를 표현한다.
+ * 기존 QueryDSL 통계 쿼리와 동일한 규칙으로 계산한다.
+ * <ul>
+ *   <li>winCount: pnl > 0 (일간/주간/월간 승률, 평균 R&R 기준)</li>
+ *   <li>pnlSum: totalAssetPnl 합계</li>
+ *   <li>진입 타점 승리: totalAssetPnl > 0</li>
+ *   <li>방향성 승리: pnl > 0</li>
+ * </ul>
+ */
+public record TradingStatDelta(
+	int tradeCount,
+	int winCount,
+	BigDecimal pnlSum,
+	BigDecimal riskTakingSum,
+	double winRnrSum,
+	int nCount,
+	int fnCount,
+	int reverseCount,
+	int reverseWinCount,
+	double reverseWinRnrSum,
+	int pullBackCount,
+	int pullBackWinCount,
+	double pullBackWinRnrSum,
+	int breakOutCount,
+	int breakOutWinCount,
+	double breakOutWinRnrSum,
+	int directionOCount,
+	int directionOWinCount,
+	double directionOWinRnrSum,
+	int directionXCount,
+	int directionXWinCount,
+	double directionXWinRnrSum
+) {
+
+	public static final TradingStatDelta ZERO = new TradingStatDelta(
+		0, 0, BigDecimal.ZERO, BigDecimal.ZERO, 0.0, 0, 0,
+		0, 0, 0.0, 0, 0, 0.0, 0, 0, 0.0,
+		0, 0, 0.0, 0, 0, 0.0
+	);
+
+	/**
+	 * 피드백 요청 1건의 기여분을 계산한다.
+	 */
+	public static TradingStatDelta of(
+		Status status,
+		BigDecimal pnl,
+		BigDecimal totalAssetPnl,
+		BigDecimal riskTaking,
+		Double rnr,
+		EntryPoint entryPoint,
+		Boolean directionFrameExists
+	) {
+		boolean win = pnl != null && pnl.compareTo(BigDecimal.ZERO) > 0;
+		boolean assetWin = totalAssetPnl != null && totalAssetPnl.compareTo(BigDecimal.ZERO) > 0;
+		double rnrValue = rnr != null ? rnr : 0.0;
+
+		int entryWin = assetWin ? 1 : 0;
+		double entryWinRnr = assetWin ? rnrValue : 0.0;
+		int directionWin = win ? 1 : 0;
+		double directionWinRnr = win ? rnrValue : 0.0;
+
+		boolean reverse = entryPoint == EntryPoint.REVERSE;
+		boolean pullBack = entryPoint == EntryPoint.PULL_BACK;
+		boolean breakOut = entryPoint == EntryPoint.BREAK_OUT;
+		boolean directionO = Boolean.TRUE.equals(directionFrameExists);
+		boolean directionX = Boolean.FALSE.equals(directionFrameExists);
+
+		return new TradingStatDelta(
+			1,
+			win ? 1 : 0,
+			totalAssetPnl != null ? totalAssetPnl : BigDecimal.ZERO,
+			riskTaking != null ? riskTaking : BigDecimal.ZERO,
+			win ? rnrValue : 0.0,
+			status == Status.N ? 1 : 0,
+			status == Status.FN ? 1 : 0,
+			reverse ? 1 : 0,
+			reverse ? entryWin : 0,
+			reverse ? entryWinRnr : 0.0,
+			pullBack ? 1 : 0,
+			pullBack ? entryWin : 0,
+			pullBack ? entryWinRnr : 0.0,
+			breakOut ? 1 : 0,
+			breakOut ? entryWin : 0,
+			breakOut ? entryWinRnr : 0.0,
+			directionO ? 1 : 0,
+			directionO ? directionWin : 0,
+			directionO ? directionWinRnr : 0.0,
+			directionX ? 1 : 0,
+			directionX ? directionWin : 0,
+			directionX ? directionWinRnr : 0.0
+		);
+	}
+
+	public TradingStatDelta plus(TradingStatDelta other) {
+		return new TradingStatDelta(
+			tradeCount + other.tradeCount,
+			winCount + other.winCount,
+			pnlSum.add(other.pnlSum),
+			riskTakingSum.add(other.riskTakingSum),
+			winRnrSum + other.winRnrSum,
+			nCount + other.nCount,
+			fnCount + other.fnCount,
+			reverseCount + other.reverseCount,
+			reverseWinCount + other.reverseWinCount,
+			reverseWinRnrSum + other.reverseWinRnrSum,
+			pullBackCount + other.pullBackCount,
+			pullBackWinCount + other.pullBackWinCount,
+			pullBackWinRnrSum + other.pullBackWinRnrSum,
+			breakOutCount + other.breakOutCount,
+			breakOutWinCount + other.breakOutWinCount,
+			breakOutWinRnrSum + other.breakOutWinRnrSum,
+			directionOCount + other.directionOCount,
+			directionOWinCount + other.directionOWinCount,
+			directionOWinRnrSum + other.directionOWinRnrSum,
+			directionXCount + other.directionXCount,
+			directionXWinCount + other.directionXWinCount,
+			directionXWinRnrSum + other.directionXWinRnrSum
+		);
+	}
+
+	public TradingStatDelta negate() {
+		return ZERO.minus(this);
+	}
+
+	public TradingStatDelta minus(TradingStatDelta other) {
+		return new TradingStatDelta(
+			tradeCount - other.tradeCount,
+			winCount - other.winCount,
+			pnlSum.subtract(other.pnlSum),
+			riskTakingSum.subtract(other.riskTakingSum),
+			winRnrSum - other.winRnrSum,
+			nCount - other.nCount,
+			fnCount - other.fnCount,
+			reverseCount - other.reverseCount,
+			reverseWinCount - other.reverseWinCount,
+			reverseWinRnrSum - other.reverseWinRnrSum,
+			pullBackCount - other.pullBackCount,
+			pullBackWinCount - other.pullBackWinCount,
+			pullBackWinRnrSum - other.pullBackWinRnrSum,
+			breakOutCount - other.breakOutCount,
+			breakOutWinCount - other.breakOutWinCount,
+			breakOutWinRnrSum - other.breakOutWinRnrSum,
+			directionOCount - other.directionOCount,
+			directionOWinCount - other.directionOWinCount,
+			directionOWinRnrSum - other.directionOWinRnrSum,
+			directionXCount - other.directionXCount,
+			directionXWinCount - other.directionXWinCount,
+			directionXWinRnrSum - other.directionXWinRnrSum
+		);
+	}
+
+	/**
+	 * 반영할 변화량이 없는지 확인 (상태 변경 없는 수정 요청 등)
+	 */
+	public boolean isZero() {
+		return this.equalsWithin(ZERO, 0.0);
+	}
+
+	/**
+	 * 허용 오차 내 비교
+	 * double 합계는 누적 순서에 따라 오차가 생기므로 허용 오차 내에서 비교한다.
+	 *
+	 * @param other     비교 대상
+	 * @param tolerance double 합계 허용 오차
+	 */
+	public boolean equalsWithin(TradingStatDelta other, double tolerance) {
+		return tradeCount == other.tradeCount
+			&& winCount == other.winCount
+			&& pnlSum.compareTo(other.pnlSum) == 0
+			&& riskTakingSum.compareTo(other.riskTakingSum) == 0
+			&& Math.abs(winRnrSum - other.winRnrSum) <= tolerance
+			&& nCount == other.nCount
+			&& fnCount == other.fnCount
+			&& reverseCount == other.reverseCount
+			&& reverseWinCount == other.reverseWinCount
+			&& Math.abs(reverseWinRnrSum - other.reverseWinRnrSum) <= tolerance
+			&& pullBackCount == other.pullBackCount
+			&& pullBackWinCount == other.pullBackWinCount
+			&& Math.abs(pullBackWinRnrSum - other.pullBackWinRnrSum) <= tolerance
+			&& breakOutCount == other.breakOutCount
+			&& breakOutWinCount == other.breakOutWinCount
+			&& Math.abs(breakOutWinRnrSum - other.breakOutWinRnrSum) <= tolerance
+			&& directionOCount == other.directionOCount
+			&& directionOWinCount == other.directionOWinCount
+			&& Math.abs(directionOWinRnrSum - other.directionOWinRnrSum) <= tolerance
+			&& directionXCount == other.directionXCount
+			&& directionXWinCount == other.directionXWinCount
+			&& Math.abs(directionXWinRnrSum - other.directionXWinRnrSum) <= tolerance;
+	}
+}
@@ -0,0 +1,45 @@
+package com.tradingpt.tpt_api.domain.tradingstat.entity;
+
+import java.time.LocalDate;
+
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+
+/**
+ * 매매 통계 집계 행의 식별 키 (고객 단위)
+ *
+ * <p>집계 단위에 쓰이지 않는 기간 값은 0으로 채운다.
+ * (MONTH: week = 0, day = 0 / WEEK: day = 0)
+ * unique 제약에 NULL이 섞이면 MySQL이 중복을 허용하기 때문이다.
+ */
+public record TradingStatPeriodKey(
+	StatGranularity granularity,
+	InvestmentType investmentType,
+	CourseStatus courseStatus,
+	int year,
+	int month,
+	int week,
+	int day
+) {
+
+	public static TradingStatPeriodKey of(
+		StatGranularity granularity,
+		InvestmentType investmentType,
+		CourseStatus courseStatus,
+		LocalDate tradeDate,
+		int year,
+		int month,
+		int week
+	) {
+		return new TradingStatPeriodKey(
+			granularity,
+			investmentType,
+			courseStatus,
+			year,
+			month,
+			granularity == StatGranularity.MONTH ? 0 : week,
+			granularity == StatGranularity.DAY ? tradeDate.getDayOfMonth() : 0
+		);
+	}
+}
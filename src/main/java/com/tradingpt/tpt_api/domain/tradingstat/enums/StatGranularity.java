@@ -0,0 +1,18 @@
+package com.tradingpt.tpt_api.domain.tradingstat.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 매매 통계 집계 단위
+ */
+@Getter
+@AllArgsConstructor
+public enum StatGranularity {
+
+	DAY("일간"),
+	WEEK("주간"),
+	MONTH("월간");
+
+	private final String description;
+}
@@ -0,0 +1,67 @@
+package com.tradingpt.tpt_api.domain.tradingstat.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatAggregate;
+
+public interface TradingStatAggregateRepository
+	extends JpaRepository<TradingStatAggregate, Long>, TradingStatAggregateRepositoryCustom {
+
+	/**
+	 * 특정 고객의 모든 집계 행 조회 (정합성 검증용)
+	 */
+	List<TradingStatAggregate> findByCustomerId(Long customerId);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		DELETE FROM TradingStatAggregate tsa
+		WHERE tsa.customerId = :customerId
+		""")
+	void deleteByCustomerId(@Param("customerId") Long customerId);
+
+	/**
+	 * 카운터가 0인 집계 행을 없을 때만 생성 (동시 생성 시 unique 키 행 잠금 후 no-op)
+	 * 이후 applyDelta로 증분을 반영한다.
+	 *
+	 * @return 새로 생성되면 1, 이미 있으면 0
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO trading_stat_aggregate
+		    (customer_id, granularity, investment_type, course_status,
+		     period_year, period_month, period_week, period_day,
+		     trade_count, win_count, pnl_sum, risk_taking_sum, win_rnr_sum, n_count, fn_count,
+		     reverse_count, reverse_win_count, reverse_win_rnr_sum,
+		     pull_back_count, pull_back_win_count, pull_back_win_rnr_sum,
+		     break_out_count, break_out_win_count, break_out_win_rnr_sum,
+		     direction_o_count, direction_o_win_count, direction_o_win_rnr_sum,
+		     direction_x_count, direction_x_win_count, direction_x_win_rnr_sum,
+		     created_at, updated_at)
+		VALUES
+		    (:customerId, :granularity, :investmentType, :courseStatus,
+		     :year, :month, :week, :day,
+		     0, 0, 0, 0, 0, 0, 0,
+		     0, 0, 0,
+		     0, 0, 0,
+		     0, 0, 0,
+		     0, 0, 0,
+		     0, 0, 0,
+		     NOW(6), NOW(6))
+		ON DUPLICATE KEY UPDATE trading_stat_aggregate_id = trading_stat_aggregate_id
+		""", nativeQuery = true)
+	int insertEmptyIfAbsent(
+		@Param("customerId") Long customerId,
+		@Param("granularity") String granularity,
+		@Param("investmentType") String investmentType,
+		@Param("courseStatus") String courseStatus,
+		@Param("year") int year,
+		@Param("month") int month,
+		@Param("week") int week,
+		@Param("day") int day
+	);
+}
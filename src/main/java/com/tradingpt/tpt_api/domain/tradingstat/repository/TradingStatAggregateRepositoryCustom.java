@@ -0,0 +1,78 @@
+package com.tradingpt.tpt_api.domain.tradingstat.repository;
+
+import java.util.List;
+
+import com.tradingpt.tpt_api.domain.tradingstat.engine.TradingStatSlice;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatAggregate;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatDelta;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatPeriodKey;
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+
+/**
+ * TradingStatAggregate 커스텀 Repository 인터페이스
+ */
+public interface TradingStatAggregateRepositoryCustom {
+
+	/**
+	 * 집계 행에 변화량을 원자적으로 더한다. (UPDATE ... SET col = col + ?)
+	 * 동시에 같은 행을 갱신해도 갱신 유실이 발생하지 않는다.
+	 *
+	 * @param customerId 고객 ID
+	 * @param key        집계 행 키
+	 * @param delta      더할 변화량 (음수 가능)
+	 * @return 갱신된 행 수 (행이 없으면 0)
+	 */
+	long applyDelta(Long customerId, TradingStatPeriodKey key, TradingStatDelta delta);
+
+	/**
+	 * 집계 행 조회 (매매 횟수 0인 행 제외)
+	 *
+	 * @param customerId     고객 ID
+	 * @param granularity    집계 단위
+	 * @param investmentType 투자 타입
+	 * @param courseStatus   완강 여부 (null이면 전체)
+	 * @param year           연도
+	 * @param month          월
+	 * @param week           주차 (null이면 전체)
+	 * @return 주차/일 오름차순 집계 행 목록
+	 */
+	List<TradingStatAggregate> findRows(
+		Long customerId,
+		StatGranularity granularity,
+		InvestmentType investmentType,
+		CourseStatus courseStatus,
+		Integer year,
+		Integer month,
+		Integer week
+	);
+
+	/**
+	 * 주간 요약 화면용 집계 행 일괄 조회 (매매 횟수 0인 행 제외)
+	 * 해당 주차의 DAY/WEEK 행과 이전 주차의 WEEK 행을 primitive 슬라이스로 반환한다.
+	 */
+	TradingStatSlice findWeeklySlice(
+		Long customerId,
+		InvestmentType investmentType,
+		int year,
+		int month,
+		int week,
+		int previousYear,
+		int previousMonth,
+		int previousWeek
+	);
+
+	/**
+	 * 월간 요약 화면용 집계 행 일괄 조회 (매매 횟수 0인 행 제외)
+	 * 해당 월의 WEEK/MONTH 행과 이전 달의 MONTH 행을 primitive 슬라이스로 반환한다.
+	 */
+	TradingStatSlice findMonthlySlice(
+		Long customerId,
+		InvestmentType investmentType,
+		int year,
+		int month,
+		int previousYear,
+		int previousMonth
+	);
+}
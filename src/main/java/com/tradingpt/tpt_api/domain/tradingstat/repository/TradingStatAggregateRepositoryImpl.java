@@ -0,0 +1,250 @@
+package com.tradingpt.tpt_api.domain.tradingstat.repository;
+
+import static com.tradingpt.tpt_api.domain.tradingstat.entity.QTradingStatAggregate.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tradingpt.tpt_api.domain.tradingstat.engine.TradingStatSlice;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatAggregate;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatDelta;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatPeriodKey;
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TradingStatAggregate 커스텀 Repository 구현체
+ */
+@RequiredArgsConstructor
+public class TradingStatAggregateRepositoryImpl implements TradingStatAggregateRepositoryCustom {
+
+	private final JPAQueryFactory queryFactory;
+
+	@Override
+	public long applyDelta(Long customerId, TradingStatPeriodKey key, TradingStatDelta delta) {
+		return queryFactory
+			.update(tradingStatAggregate)
+			.set(tradingStatAggregate.tradeCount, tradingStatAggregate.tradeCount.add(delta.tradeCount()))
+			.set(tradingStatAggregate.winCount, tradingStatAggregate.winCount.add(delta.winCount()))
+			.set(tradingStatAggregate.pnlSum, tradingStatAggregate.pnlSum.add(delta.pnlSum()))
+			.set(tradingStatAggregate.riskTakingSum, tradingStatAggregate.riskTakingSum.add(delta.riskTakingSum()))
+			.set(tradingStatAggregate.winRnrSum, tradingStatAggregate.winRnrSum.add(delta.winRnrSum()))
+			.set(tradingStatAggregate.nCount, tradingStatAggregate.nCount.add(delta.nCount()))
+			.set(tradingStatAggregate.fnCount, tradingStatAggregate.fnCount.add(delta.fnCount()))
+			.set(tradingStatAggregate.reverseCount, tradingStatAggregate.reverseCount.add(delta.reverseCount()))
+			.set(tradingStatAggregate.reverseWinCount,
+				tradingStatAggregate.reverseWinCount.add(delta.reverseWinCount()))
+			.set(tradingStatAggregate.reverseWinRnrSum,
+				tradingStatAggregate.reverseWinRnrSum.add(delta.reverseWinRnrSum()))
+			.set(tradingStatAggregate.pullBackCount, tradingStatAggregate.pullBackCount.add(delta.pullBackCount()))
+			.set(tradingStatAggregate.pullBackWinCount,
+				tradingStatAggregate.pullBackWinCount.add(delta.pullBackWinCount()))
+			.set(tradingStatAggregate.pullBackWinRnrSum,
+				tradingStatAggregate.pullBackWinRnrSum.add(delta.pullBackWinRnrSum()))
+			.set(tradingStatAggregate.breakOutCount, tradingStatAggregate.breakOutCount.add(delta.breakOutCount()))
+			.set(tradingStatAggregate.breakOutWinCount,
+				tradingStatAggregate.breakOutWinCount.add(delta.breakOutWinCount()))
+			.set(tradingStatAggregate.breakOutWinRnrSum,
+				tradingStatAggregate.breakOutWinRnrSum.add(delta.breakOutWinRnrSum()))
+			.set(tradingStatAggregate.directionOCount,
+				tradingStatAggregate.directionOCount.add(delta.directionOCount()))
+			.set(tradingStatAggregate.directionOWinCount,
+				tradingStatAggregate.directionOWinCount.add(delta.directionOWinCount()))
+			.set(tradingStatAggregate.directionOWinRnrSum,
+				tradingStatAggregate.directionOWinRnrSum.add(delta.directionOWinRnrSum()))
+			.set(tradingStatAggregate.directionXCount,
+				tradingStatAggregate.directionXCount.add(delta.directionXCount()))
+			.set(tradingStatAggregate.directionXWinCount,
+				tradingStatAggregate.directionXWinCount.add(delta.directionXWinCount()))
+			.set(tradingStatAggregate.directionXWinRnrSum,
+				tradingStatAggregate.directionXWinRnrSum.add(delta.directionXWinRnrSum()))
+			.set(tradingStatAggregate.updatedAt, LocalDateTime.now())
+			.where(
+				tradingStatAggregate.customerId.eq(customerId),
+				tradingStatAggregate.granularity.eq(key.granularity()),
+				tradingStatAggregate.periodYear.eq(key.year()),
+				tradingStatAggregate.periodMonth.eq(key.month()),
+				tradingStatAggregate.periodWeek.eq(key.week()),
+				tradingStatAggregate.periodDay.eq(key.day()),
+				tradingStatAggregate.investmentType.eq(key.investmentType()),
+				tradingStatAggregate.courseStatus.eq(key.courseStatus())
+			)
+			.execute();
+	}
+
+	@Override
+	public List<TradingStatAggregate> findRows(
+		Long customerId,
+		StatGranularity granularity,
+		InvestmentType investmentType,
+		CourseStatus courseStatus,
+		Integer year,
+		Integer month,
+		Integer week
+	) {
+		BooleanBuilder predicate = new BooleanBuilder()
+			.and(tradingStatAggregate.customerId.eq(customerId))
+			.and(tradingStatAggregate.granularity.eq(granularity))
+			.and(tradingStatAggregate.periodYear.eq(year))
+			.and(tradingStatAggregate.periodMonth.eq(month))
+			.and(tradingStatAggregate.investmentType.eq(investmentType))
+			.and(tradingStatAggregate.tradeCount.gt(0));
+
+		if (week != null) {
+			predicate.and(tradingStatAggregate.periodWeek.eq(week));
+		}
+		if (courseStatus != null) {
+			predicate.and(tradingStatAggregate.courseStatus.eq(courseStatus));
+		}
+
+		return queryFactory
+			.selectFrom(tradingStatAggregate)
+			.where(predicate)
+			.orderBy(tradingStatAggregate.periodWeek.asc(), tradingStatAggregate.periodDay.asc())
+			.fetch();
+	}
+
+	@Override
+	public TradingStatSlice findWeeklySlice(
+		Long customerId,
+		InvestmentType investmentType,
+		int year,
+		int month,
+		int week,
+		int previousYear,
+		int previousMonth,
+		int previousWeek
+	) {
+		BooleanBuilder currentWeek = new BooleanBuilder()
+			.and(tradingStatAggregate.granularity.in(StatGranularity.DAY, StatGranularity.WEEK))
+			.and(tradingStatAggregate.periodYear.eq(year))
+			.and(tradingStatAggregate.periodMonth.eq(month))
+			.and(tradingStatAggregate.periodWeek.eq(week));
+		BooleanBuilder lastWeek = new BooleanBuilder()
+			.and(tradingStatAggregate.granularity.eq(StatGranularity.WEEK))
+			.and(tradingStatAggregate.periodYear.eq(previousYear))
+			.and(tradingStatAggregate.periodMonth.eq(previousMonth))
+			.and(tradingStatAggregate.periodWeek.eq(previousWeek));
+
+		return fetchSlice(customerId, investmentType, currentWeek.or(lastWeek));
+	}
+
+	@Override
+	public TradingStatSlice findMonthlySlice(
+		Long customerId,
+		InvestmentType investmentType,
+		int year,
+		int month,
+		int previousYear,
+		int previousMonth
+	) {
+		BooleanBuilder currentMonth = new BooleanBuilder()
+			.and(tradingStatAggregate.granularity.in(StatGranularity.WEEK, StatGranularity.MONTH))
+			.and(tradingStatAggregate.periodYear.eq(year))
+			.and(tradingStatAggregate.periodMonth.eq(month));
+		BooleanBuilder lastMonth = new BooleanBuilder()
+			.and(tradingStatAggregate.granularity.eq(StatGranularity.MONTH))
+			.and(tradingStatAggregate.periodYear.eq(previousYear))
+			.and(tradingStatAggregate.periodMonth.eq(previousMonth));
+
+		return fetchSlice(customerId, investmentType, currentMonth.or(lastMonth));
+	}
+
+	/**
+	 * 엔티티 대신 필요한 컬럼만 조회해 슬라이스에 담는다. (영속성 컨텍스트에 올리지 않음)
+	 */
+	private TradingStatSlice fetchSlice(Long customerId, InvestmentType investmentType, Predicate periods) {
+		List<Tuple> rows = queryFactory
+			.select(
+				tradingStatAggregate.granularity,
+				tradingStatAggregate.courseStatus,
+				tradingStatAggregate.periodYear,
+				tradingStatAggregate.periodMonth,
+				tradingStatAggregate.periodWeek,
+				tradingStatAggregate.periodDay,
+				tradingStatAggregate.tradeCount,
+				tradingStatAggregate.winCount,
+				tradingStatAggregate.pnlSum,
+				tradingStatAggregate.riskTakingSum,
+				tradingStatAggregate.winRnrSum,
+				tradingStatAggregate.nCount,
+				tradingStatAggregate.fnCount,
+				tradingStatAggregate.reverseCount,
+				tradingStatAggregate.reverseWinCount,
+				tradingStatAggregate.reverseWinRnrSum,
+				tradingStatAggregate.pullBackCount,
+				tradingStatAggregate.pullBackWinCount,
+				tradingStatAggregate.pullBackWinRnrSum,
+				tradingStatAggregate.breakOutCount,
+				tradingStatAggregate.breakOutWinCount,
+				tradingStatAggregate.breakOutWinRnrSum,
+				tradingStatAggregate.directionOCount,
+				tradingStatAggregate.directionOWinCount,
+				tradingStatAggregate.directionOWinRnrSum,
+				tradingStatAggregate.directionXCount,
+				tradingStatAggregate.directionXWinCount,
+				tradingStatAggregate.directionXWinRnrSum
+			)
+			.from(tradingStatAggregate)
+			.where(
+				tradingStatAggregate.customerId.eq(customerId),
+				tradingStatAggregate.investmentType.eq(investmentType),
+				tradingStatAggregate.tradeCount.gt(0),
+				periods
+			)
+			.orderBy(
+				tradingStatAggregate.periodYear.asc(),
+				tradingStatAggregate.periodMonth.asc(),
+				tradingStatAggregate.periodWeek.asc(),
+				tradingStatAggregate.periodDay.asc()
+			)
+			.fetch();
+
+		TradingStatSlice slice = new TradingStatSlice(rows.size());
+		for (Tuple row : rows) {
+			slice.add(
+				new TradingStatPeriodKey(
+					row.get(tradingStatAggregate.granularity),
+					investmentType,
+					row.get(tradingStatAggregate.courseStatus),
+					row.get(tradingStatAggregate.periodYear),
+					row.get(tradingStatAggregate.periodMonth),
+					row.get(tradingStatAggregate.periodWeek),
+					row.get(tradingStatAggregate.periodDay)
+				),
+				new TradingStatDelta(
+					row.get(tradingStatAggregate.tradeCount),
+					row.get(tradingStatAggregate.winCount),
+					row.get(tradingStatAggregate.pnlSum),
+					row.get(tradingStatAggregate.riskTakingSum),
+					row.get(tradingStatAggregate.winRnrSum),
+					row.get(tradingStatAggregate.nCount),
+					row.get(tradingStatAggregate.fnCount),
+					row.get(tradingStatAggregate.reverseCount),
+					row.get(tradingStatAggregate.reverseWinCount),
+					row.get(tradingStatAggregate.reverseWinRnrSum),
+					row.get(tradingStatAggregate.pullBackCount),
+					row.get(tradingStatAggregate.pullBackWinCount),
+					row.get(tradingStatAggregate.pullBackWinRnrSum),
+					row.get(tradingStatAggregate.breakOutCount),
+					row.get(tradingStatAggregate.breakOutWinCount),
+					row.get(tradingStatAggregate.breakOutWinRnrSum),
+					row.get(tradingStatAggregate.directionOCount),
+					row.get(tradingStatAggregate.directionOWinCount),
+					row.get(tradingStatAggregate.directionOWinRnrSum),
+					row.get(tradingStatAggregate.directionXCount),
+					row.get(tradingStatAggregate.directionXWinCount),
+					row.get(tradingStatAggregate.directionXWinRnrSum)
+				)
+			);
+		}
+		return slice;
+	}
+}
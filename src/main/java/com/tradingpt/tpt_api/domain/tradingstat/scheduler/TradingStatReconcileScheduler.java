@@ -0,0 +1,36 @@
+package com.tradingpt.tpt_api.domain.tradingstat.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.tradingpt.tpt_api.domain.tradingstat.service.command.TradingStatMaintenanceService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * 매매 통계 집계 정합성 검증 스케줄러
+ * 매일 새벽 집계 테이블을 feedback_request 원천 데이터와 비교하고, 불일치 고객만 재계산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TradingStatReconcileScheduler {
+
+	private final TradingStatMaintenanceService tradingStatMaintenanceService;
+
+	/**
+	 * 매일 04:00:00에 실행 (트래픽이 가장 적은 시간대)
+	 */
+	@Scheduled(cron = "0 0 4 * * *")
+	@SchedulerLock(
+		name = "tradingStatReconcileScheduler",
+		lockAtMostFor = "PT2H",  // 최대 2시간
+		lockAtLeastFor = "PT5M"  // 인스턴스 간 시계 오차 대비 (하루 1회는 cron이 보장)
+	)
+	public void reconcile() {
+		log.info("매매 통계 집계 정합성 검증 시작");
+		tradingStatMaintenanceService.reconcileAll(false);
+	}
+}
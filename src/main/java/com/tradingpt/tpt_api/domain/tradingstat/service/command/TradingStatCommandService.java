@@ -0,0 +1,43 @@
+package com.tradingpt.tpt_api.domain.tradingstat.service.command;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatContribution;
+
+/**
+ * 매매 통계 집계 갱신 서비스
+ * FeedbackRequest 변경과 같은 트랜잭션 안에서 호출된다.
+ */
+public interface TradingStatCommandService {
+
+	/**
+	 * 신규 피드백 요청을 집계에 반영
+	 */
+	void applyCreated(FeedbackRequest feedbackRequest);
+
+	/**
+	 * 수정/상태 변경된 피드백 요청을 집계에 반영
+	 *
+	 * @param before 변경 전에 캡처한 기여분
+	 * @param after  변경 후 엔티티
+	 */
+	void applyChanged(TradingStatContribution before, FeedbackRequest after);
+
+	/**
+	 * 삭제된 피드백 요청을 집계에서 제거
+	 *
+	 * @param removed 삭제 전에 캡처한 기여분
+	 */
+	void applyRemoved(TradingStatContribution removed);
+
+	/**
+	 * 고객의 집계 행 전체 삭제 (회원 완전 삭제 시)
+	 */
+	void deleteByCustomerId(Long customerId);
+
+	/**
+	 * 고객의 집계 행을 feedback_request 원천 데이터로 재계산
+	 *
+	 * @return 재생성된 집계 행 수
+	 */
+	int rebuildCustomer(Long customerId);
+}
@@ -0,0 +1,119 @@
+package com.tradingpt.tpt_api.domain.tradingstat.service.command;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
+import com.tradingpt.tpt_api.domain.feedbackrequest.repository.FeedbackRequestRepository;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatAggregate;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatContribution;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatDelta;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatPeriodKey;
+import com.tradingpt.tpt_api.domain.tradingstat.repository.TradingStatAggregateRepository;
+import com.tradingpt.tpt_api.domain.tradingstat.util.TradingStatFoldUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TradingStatCommandServiceImpl implements TradingStatCommandService {
+
+	private final TradingStatAggregateRepository tradingStatAggregateRepository;
+	private final FeedbackRequestRepository feedbackRequestRepository;
+
+	@Override
+	public void applyCreated(FeedbackRequest feedbackRequest) {
+		apply(TradingStatContribution.from(feedbackRequest), false);
+	}
+
+	@Override
+	public void applyChanged(TradingStatContribution before, FeedbackRequest after) {
+		TradingStatContribution current = TradingStatContribution.from(after);
+
+		// 같은 집계 행이면 차이만 반영 (상태 변경 등 대부분의 경우)
+		if (before.hasSamePeriodAs(current)) {
+			TradingStatDelta diff = current.delta().minus(before.delta());
+			if (diff.isZero()) {
+				return;
+			}
+			for (TradingStatPeriodKey key : current.periodKeys()) {
+				upsert(current.customerId(), key, diff);
+			}
+			return;
+		}
+
+		// 기간/투자유형/완강여부가 바뀐 경우 이전 행에서 빼고 새 행에 더한다
+		apply(before, true);
+		apply(current, false);
+	}
+
+	@Override
+	public void applyRemoved(TradingStatContribution removed) {
+		apply(removed, true);
+	}
+
+	@Override
+	public void deleteByCustomerId(Long customerId) {
+		tradingStatAggregateRepository.deleteByCustomerId(customerId);
+	}
+
+	@Override
+	public int rebuildCustomer(Long customerId) {
+		Map<TradingStatPeriodKey, TradingStatDelta> expected = TradingStatFoldUtil.fold(
+			feedbackRequestRepository.findTradeStatSourcesByCustomerId(customerId)
+		);
+
+		tradingStatAggregateRepository.deleteByCustomerId(customerId);
+
+		List<TradingStatAggregate> rows = expected.entrySet().stream()
+			.map(entry -> TradingStatAggregate.create(customerId, entry.getKey(), entry.getValue()))
+			.toList();
+		tradingStatAggregateRepository.saveAll(rows);
+
+		log.info("매매 통계 집계 재계산 완료: customerId={}, 행 수={}", customerId, rows.size());
+		return rows.size();
+	}
+
+	private void apply(TradingStatContribution contribution, boolean subtract) {
+		TradingStatDelta delta = subtract ? contribution.delta().negate() : contribution.delta();
+		for (TradingStatPeriodKey key : contribution.periodKeys()) {
+			upsert(contribution.customerId(), key, delta);
+		}
+	}
+
+	/**
+	 * 원자적 UPDATE 후, 대상 행이 없으면 빈 행을 만든 뒤 다시 UPDATE
+	 * 같은 집계 행을 처음 만드는 요청이 동시에 들어올 수 있으므로 INSERT는 ON DUPLICATE KEY no-op으로 하고,
+	 * 증분은 항상 원자적 UPDATE로만 반영한다. (동시 생성은 unique 키 행 잠금으로 직렬화되어 기여분이 유실되지 않는다)
+	 */
+	private void upsert(Long customerId, TradingStatPeriodKey key, TradingStatDelta delta) {
+		long updated = tradingStatAggregateRepository.applyDelta(customerId, key, delta);
+		if (updated > 0) {
+			return;
+		}
+
+		if (delta.tradeCount() <= 0) {
+			// 집계 도입 이전 데이터 등: 재계산 배치가 보정한다
+			log.warn("부분 갱신할 매매 통계 집계 행 없음: customerId={}, key={}", customerId, key);
+			return;
+		}
+
+		tradingStatAggregateRepository.insertEmptyIfAbsent(
+			customerId,
+			key.granularity().name(),
+			key.investmentType().name(),
+			key.courseStatus().name(),
+			key.year(),
+			key.month(),
+			key.week(),
+			key.day()
+		);
+		tradingStatAggregateRepository.applyDelta(customerId, key, delta);
+	}
+}
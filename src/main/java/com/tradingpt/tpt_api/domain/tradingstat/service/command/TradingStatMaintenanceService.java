@@ -0,0 +1,16 @@
+package com.tradingpt.tpt_api.domain.tradingstat.service.command;
+
+import com.tradingpt.tpt_api.domain.tradingstat.dto.response.TradingStatReconcileResponseDTO;
+
+/**
+ * 매매 통계 집계 정합성 유지 서비스 (재계산 배치)
+ */
+public interface TradingStatMaintenanceService {
+
+	/**
+	 * 피드백 요청이 있는 모든 고객을 순회하며 집계를 검증하고, 불일치 고객만 재계산
+	 *
+	 * @param forceRebuild true면 검증 없이 전체 재계산 (최초 백필용)
+	 */
+	TradingStatReconcileResponseDTO reconcileAll(boolean forceRebuild);
+}
@@ -0,0 +1,69 @@
+package com.tradingpt.tpt_api.domain.tradingstat.service.command;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.repository.FeedbackRequestRepository;
+import com.tradingpt.tpt_api.domain.tradingstat.dto.response.TradingStatConsistencyResponseDTO;
+import com.tradingpt.tpt_api.domain.tradingstat.dto.response.TradingStatReconcileResponseDTO;
+import com.tradingpt.tpt_api.domain.tradingstat.service.query.TradingStatQueryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고객 단위로 트랜잭션을 나누기 위해 클래스 레벨 트랜잭션을 두지 않는다.
+ * (검증/재계산은 각각 TradingStatQueryService, TradingStatCommandService 트랜잭션에서 수행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TradingStatMaintenanceServiceImpl implements TradingStatMaintenanceService {
+
+	private static final int CUSTOMER_CHUNK_SIZE = 500;
+
+	private final FeedbackRequestRepository feedbackRequestRepository;
+	private final TradingStatQueryService tradingStatQueryService;
+	private final TradingStatCommandService tradingStatCommandService;
+
+	@Override
+	public TradingStatReconcileResponseDTO reconcileAll(boolean forceRebuild) {
+		int scanned = 0;
+		int rebuilt = 0;
+		int failed = 0;
+		Long lastCustomerId = null;
+
+		while (true) {
+			List<Long> customerIds = feedbackRequestRepository.findCustomerIdsWithFeedbackAfter(
+				lastCustomerId, CUSTOMER_CHUNK_SIZE);
+			if (customerIds.isEmpty()) {
+				break;
+			}
+
+			for (Long customerId : customerIds) {
+				scanned++;
+				try {
+					if (!forceRebuild) {
+						TradingStatConsistencyResponseDTO result = tradingStatQueryService.checkConsistency(customerId);
+						if (result.getConsistent()) {
+							continue;
+						}
+						log.warn("매매 통계 집계 불일치: customerId={}, compared={}, mismatched={}",
+							customerId, result.getComparedCount(), result.getMismatchedCount());
+					}
+					tradingStatCommandService.rebuildCustomer(customerId);
+					rebuilt++;
+				} catch (Exception e) {
+					failed++;
+					log.error("매매 통계 집계 재계산 실패: customerId={}", customerId, e);
+				}
+			}
+
+			lastCustomerId = customerIds.get(customerIds.size() - 1);
+		}
+
+		log.info("매매 통계 집계 정합성 검증 완료: 검사={}, 재계산={}, 실패={}", scanned, rebuilt, failed);
+		return TradingStatReconcileResponseDTO.of(scanned, rebuilt, failed);
+	}
+}
@@ -0,0 +1,87 @@
+package com.tradingpt.tpt_api.domain.tradingstat.service.query;
+
+import java.util.List;
+
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.EntryPointStatistics;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.MonthlyPerformanceSnapshot;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.WeeklyRawData;
+import com.tradingpt.tpt_api.domain.tradingstat.dto.response.TradingStatConsistencyResponseDTO;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DailyRawData;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DirectionStatistics;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.WeeklyPerformanceSnapshot;
+
+/**
+ * 매매 통계 집계 조회 서비스
+ * FeedbackRequestRepository 통계 쿼리와 같은 결과를 집계 테이블에서 반환한다.
+ */
+public interface TradingStatQueryService {
+
+	List<DailyRawData> findDailyStatistics(
+		Long customerId,
+		Integer year,
+		Integer month,
+		Integer week,
+		CourseStatus courseStatus,
+		InvestmentType investmentType
+	);
+
+	List<WeeklyRawData> findWeeklyStatistics(
+		Long customerId,
+		Integer year,
+		Integer month,
+		CourseStatus courseStatus,
+		InvestmentType investmentType
+	);
+
+	WeeklyPerformanceSnapshot findWeeklyPerformance(
+		Long customerId,
+		Integer year,
+		Integer month,
+		Integer week,
+		InvestmentType investmentType
+	);
+
+	MonthlyPerformanceSnapshot findMonthlyPerformance(
+		Long customerId,
+		Integer year,
+		Integer month,
+		InvestmentType investmentType
+	);
+
+	EntryPointStatistics findEntryPointStatistics(
+		Long customerId,
+		Integer year,
+		Integer month,
+		InvestmentType investmentType
+	);
+
+	DirectionStatistics findDirectionStatistics(
+		Long customerId,
+		Integer year,
+		Integer month,
+		Integer week
+	);
+
+	Double findAverageRnRForWeeklySummary(
+		Long customerId,
+		Integer year,
+		Integer month,
+		Integer week,
+		CourseStatus courseStatus,
+		InvestmentType investmentType
+	);
+
+	Double findAverageRnRForMonthlySummary(
+		Long customerId,
+		Integer year,
+		Integer month,
+		InvestmentType investmentType
+	);
+
+	/**
+	 * 집계 테이블로 응답하는 통계 조회 결과와 feedback_request 실시간 집계 쿼리 결과의 정합성 검증
+	 */
+	TradingStatConsistencyResponseDTO checkConsistency(Long customerId);
+}
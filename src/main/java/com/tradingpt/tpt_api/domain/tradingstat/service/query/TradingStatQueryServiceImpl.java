@@ -0,0 +1,353 @@
+package com.tradingpt.tpt_api.domain.tradingstat.service.query;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.repository.FeedbackRequestRepository;
+import com.tradingpt.tpt_api.domain.feedbackrequest.util.TradingCalculationUtil;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.EntryPointStatistics;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.MonthlyPerformanceSnapshot;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.projection.WeeklyRawData;
+import com.tradingpt.tpt_api.domain.tradingstat.dto.response.TradingStatConsistencyResponseDTO;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatAggregate;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatDelta;
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.tradingstat.repository.TradingStatAggregateRepository;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DailyRawData;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DirectionStatistics;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.WeeklyPerformanceSnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TradingStatQueryServiceImpl implements TradingStatQueryService {
+
+	// 승률/R&R은 소수점 둘째 자리로 반올림되므로, double 합계(rnr)의 누적 순서 차이로 반올림 경계에서 0.01 차이가 날 수 있다
+	private static final double ROUNDED_TOLERANCE = 0.01 + 1e-9;
+
+	private final TradingStatAggregateRepository tradingStatAggregateRepository;
+	private final FeedbackRequestRepository feedbackRequestRepository;
+
+	@Override
+	public List<DailyRawData> findDailyStatistics(
+		Long customerId,
+		Integer year,
+		Integer month,
+		Integer week,
+		CourseStatus courseStatus,
+		InvestmentType investmentType
+	) {
+		return tradingStatAggregateRepository.findRows(
+				customerId, StatGranularity.DAY, investmentType, courseStatus, year, month, week)
+			.stream()
+			.map(row -> new DailyRawData(
+				row.getTradeDate(),
+				row.getTradeCount(),
+				row.getPnlSum(),
+				row.getWinCount(),
+				row.getRiskTakingSum(),
+				row.getNCount(),
+				row.getFnCount()
+			))
+			.toList();
+	}
+
+	@Override
+	public List<WeeklyRawData> findWeeklyStatistics(
+		Long customerId,
+		Integer year,
+		Integer month,
+		CourseStatus courseStatus,
+		InvestmentType investmentType
+	) {
+		return tradingStatAggregateRepository.findRows(
+				customerId, StatGranularity.WEEK, investmentType, courseStatus, year, month, null)
+			.stream()
+			.map(row -> new WeeklyRawData(
+				row.getPeriodWeek(),
+				row.getTradeCount(),
+				row.getPnlSum(),
+				row.getWinCount(),
+				row.getRiskTakingSum(),
+				row.getNCount(),
+				row.getFnCount()
+			))
+			.toList();
+	}
+
+	@Override
+	public WeeklyPerformanceSnapshot findWeeklyPerformance(
+		Long customerId,
+		Integer year,
+		Integer month,
+		Integer week,
+		InvestmentType investmentType
+	) {
+		// 완강 전/후 구분 없이 해당 주차 전체
+		TradingStatDelta total = sum(customerId, StatGranularity.WEEK, investmentType, null, year, month, week);
+
+		Double winRate = TradingCalculationUtil.calculateWinRate(total.tradeCount(), total.winCount());
+		Double avgRnr = TradingCalculationUtil.calculateAverageWinningRnr(total.winRnrSum(), total.winCount());
+
+		return new WeeklyPerformanceSnapshot(winRate, avgRnr, total.pnlSum());
+	}
+
+	@Override
+	public MonthlyPerformanceSnapshot findMonthlyPerformance(
+		Long customerId,
+		Integer year,
+		Integer month,
+		InvestmentType investmentType
+	) {
+		TradingStatDelta total = sum(customerId, StatGranularity.MONTH, investmentType, null, year, month, null);
+
+		BigDecimal winRate = total.tradeCount() > 0
+			? BigDecimal.valueOf((double)total.winCount() / total.tradeCount() * 100)
+			.setScale(2, RoundingMode.HALF_UP)
+			: BigDecimal.ZERO;
+		BigDecimal avgRnr = BigDecimal.valueOf(
+			TradingCalculationUtil.calculateAverageWinningRnr(total.winRnrSum(), total.winCount()));
+
+		return new MonthlyPerformanceSnapshot(winRate, avgRnr, total.pnlSum());
+	}
+
+	@Override
+	public EntryPointStatistics findEntryPointStatistics(
+		Long customerId,
+		Integer year,
+		Integer month,
+		InvestmentType investmentType
+	) {
+		TradingStatDelta total = sum(customerId, StatGranularity.MONTH, investmentType, null, year, month, null);
+
+		return new EntryPointStatistics(
+			total.reverseCount(),
+			TradingCalculationUtil.calculateWinRate(total.reverseCount(), total.reverseWinCount()),
+			TradingCalculationUtil.calculateAverageWinningRnr(total.reverseWinRnrSum(), total.reverseWinCount()),
+			total.pullBackCount(),
+			TradingCalculationUtil.calculateWinRate(total.pullBackCount(), total.pullBackWinCount()),
+			TradingCalculationUtil.calculateAverageWinningRnr(total.pullBackWinRnrSum(), total.pullBackWinCount()),
+			total.breakOutCount(),
+			TradingCalculationUtil.calculateWinRate(total.breakOutCount(), total.breakOutWinCount()),
+			TradingCalculationUtil.calculateAverageWinningRnr(total.breakOutWinRnrSum(), total.breakOutWinCount())
+		);
+	}
+
+	@Override
+	public DirectionStatistics findDirectionStatistics(
+		Long customerId,
+		Integer year,
+		Integer month,
+		Integer week
+	) {
+		// 방향성 통계는 DAY 타입에만 존재
+		TradingStatDelta total = sum(customerId, StatGranularity.WEEK, InvestmentType.DAY, null, year, month, week);
+
+		return new DirectionStatistics(
+			total.directionOCount(),
+			TradingCalculationUtil.calculateWinRate(total.directionOCount(), total.directionOWinCount()),
+			TradingCalculationUtil.calculateAverageWinningRnr(total.directionOWinRnrSum(), total.directionOWinCount()),
+			total.directionXCount(),
+			TradingCalculationUtil.calculateWinRate(total.directionXCount(), total.directionXWinCount()),
+			TradingCalculationUtil.calculateAverageWinningRnr(total.directionXWinRnrSum(), total.directionXWinCount())
+		);
+	}
+
+	@Override
+	public Double findAverageRnRForWeeklySummary(
+		Long customerId,
+		Integer year,
+		Integer month,
+		Integer week,
+		CourseStatus courseStatus,
+		InvestmentType investmentType
+	) {
+		TradingStatDelta total = sum(
+			customerId, StatGranularity.WEEK, investmentType, courseStatus, year, month, week);
+		return TradingCalculationUtil.calculateAverageWinningRnr(total.winRnrSum(), total.winCount());
+	}
+
+	@Override
+	public Double findAverageRnRForMonthlySummary(
+		Long customerId,
+		Integer year,
+		Integer month,
+		InvestmentType investmentType
+	) {
+		TradingStatDelta total = sum(customerId, StatGranularity.MONTH, investmentType, null, year, month, null);
+		return TradingCalculationUtil.calculateAverageWinningRnr(total.winRnrSum(), total.winCount());
+	}
+
+	/**
+	 * 집계 테이블로 응답하는 조회 결과를 feedback_request 실시간 집계 쿼리 결과와 비교
+	 * 재계산과 같은 계산(fold)을 쓰지 않고 원래 조회 쿼리를 기준으로 삼아, 집계 갱신/재계산 로직의 오류도 드러나도록 한다.
+	 * 원천 데이터나 집계 행이 있는 연/월마다 투자 타입별로 월간 성과, 진입 타점, 완강 상태별 주차/일별 통계,
+	 * (데이 트레이딩) 주차별 방향성 통계를 비교한다.
+	 */
+	@Override
+	public TradingStatConsistencyResponseDTO checkConsistency(Long customerId) {
+		// 집계에만 남은 기간도 비교하도록 원천/집계 양쪽의 연/월을 합친다
+		Set<YearMonth> yearMonths = new TreeSet<>();
+		feedbackRequestRepository.findDistinctYearMonthsByCustomerId(customerId)
+			.forEach(projection -> yearMonths.add(projection.toYearMonth()));
+		tradingStatAggregateRepository.findByCustomerId(customerId).stream()
+			.filter(row -> row.getTradeCount() > 0)
+			.forEach(row -> yearMonths.add(YearMonth.of(row.getPeriodYear(), row.getPeriodMonth())));
+
+		ConsistencyTally tally = new ConsistencyTally();
+		for (YearMonth yearMonth : yearMonths) {
+			int year = yearMonth.getYear();
+			int month = yearMonth.getMonthValue();
+
+			for (InvestmentType investmentType : InvestmentType.values()) {
+				tally.compare(
+					values(feedbackRequestRepository.findMonthlyPerformance(customerId, year, month, investmentType)),
+					values(findMonthlyPerformance(customerId, year, month, investmentType)));
+				tally.compare(
+					values(feedbackRequestRepository.findEntryPointStatistics(customerId, year, month, investmentType)),
+					values(findEntryPointStatistics(customerId, year, month, investmentType)));
+
+				Set<Integer> weeks = new TreeSet<>();
+				for (CourseStatus courseStatus : CourseStatus.values()) {
+					List<WeeklyRawData> live = feedbackRequestRepository.findWeeklyStatistics(
+						customerId, year, month, courseStatus, investmentType);
+					List<WeeklyRawData> stored = findWeeklyStatistics(
+						customerId, year, month, courseStatus, investmentType);
+					tally.compareRows(
+						live.stream().map(this::values).toList(), stored.stream().map(this::values).toList());
+					live.forEach(row -> weeks.add(row.getWeek()));
+					stored.forEach(row -> weeks.add(row.getWeek()));
+				}
+
+				for (Integer week : weeks) {
+					for (CourseStatus courseStatus : CourseStatus.values()) {
+						tally.compareRows(
+							feedbackRequestRepository.findDailyStatistics(
+								customerId, year, month, week, courseStatus, investmentType).stream()
+								.map(this::values).toList(),
+							findDailyStatistics(customerId, year, month, week, courseStatus, investmentType).stream()
+								.map(this::values).toList());
+					}
+					if (investmentType == InvestmentType.DAY) {
+						tally.compare(
+							values(feedbackRequestRepository.findDirectionStatistics(customerId, year, month, week)),
+							values(findDirectionStatistics(customerId, year, month, week)));
+					}
+				}
+			}
+		}
+
+		return TradingStatConsistencyResponseDTO.of(customerId, tally.compared, tally.mismatched);
+	}
+
+	private List<Object> values(DailyRawData row) {
+		return Arrays.asList(row.getDate(), row.getTradingCount(), row.getDailyPnl(), row.getWinCount(),
+			row.getTotalRiskTaking(), row.getNCount(), row.getFnCount());
+	}
+
+	private List<Object> values(WeeklyRawData row) {
+		return Arrays.asList(row.getWeek(), row.getTradingCount(), row.getWeeklyPnl(), row.getWinCount(),
+			row.getTotalRiskTaking(), row.getNCount(), row.getFnCount());
+	}
+
+	private List<Object> values(MonthlyPerformanceSnapshot snapshot) {
+		// 반올림한 승률/R&R은 Double로 비교 (P&L 합계는 BigDecimal로 정확히 비교)
+		return Arrays.asList(snapshot.getFinalWinRate().doubleValue(), snapshot.getAverageRnr().doubleValue(),
+			snapshot.getFinalPnl());
+	}
+
+	private List<Object> values(EntryPointStatistics statistics) {
+		return Arrays.asList(
+			statistics.getReverseCount(), statistics.getReverseWinRate(), statistics.getReverseRnr(),
+			statistics.getPullBackCount(), statistics.getPullBackWinRate(), statistics.getPullBackRnr(),
+			statistics.getBreakOutCount(), statistics.getBreakOutWinRate(), statistics.getBreakOutRnr());
+	}
+
+	private List<Object> values(DirectionStatistics statistics) {
+		return Arrays.asList(
+			statistics.getDirectionOCount(), statistics.getDirectionOWinRate(), statistics.getDirectionORnr(),
+			statistics.getDirectionXCount(), statistics.getDirectionXWinRate(), statistics.getDirectionXRnr());
+	}
+
+	/**
+	 * 비교한 조회 결과 수와 불일치 수
+	 */
+	private static final class ConsistencyTally {
+
+		private int compared;
+		private int mismatched;
+
+		private void compare(List<Object> live, List<Object> stored) {
+			compared++;
+			if (!sameValues(live, stored)) {
+				mismatched++;
+			}
+		}
+
+		private void compareRows(List<List<Object>> liveRows, List<List<Object>> storedRows) {
+			compared++;
+			if (liveRows.size() != storedRows.size()) {
+				mismatched++;
+				return;
+			}
+			for (int i = 0; i < liveRows.size(); i++) {
+				if (!sameValues(liveRows.get(i), storedRows.get(i))) {
+					mismatched++;
+					return;
+				}
+			}
+		}
+
+		private static boolean sameValues(List<Object> live, List<Object> stored) {
+			for (int i = 0; i < live.size(); i++) {
+				if (!sameValue(live.get(i), stored.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean sameValue(Object live, Object stored) {
+			if (live instanceof BigDecimal liveDecimal && stored instanceof BigDecimal storedDecimal) {
+				// scale이 달라도 같은 값이면 일치
+				return liveDecimal.compareTo(storedDecimal) == 0;
+			}
+			if (live instanceof Double liveDouble && stored instanceof Double storedDouble) {
+				return Math.abs(liveDouble - storedDouble) <= ROUNDED_TOLERANCE;
+			}
+			return Objects.equals(live, stored);
+		}
+	}
+
+	/**
+	 * 조건에 맞는 집계 행 합계 (courseStatus가 null이면 완강 전/후 합산)
+	 */
+	private TradingStatDelta sum(
+		Long customerId,
+		StatGranularity granularity,
+		InvestmentType investmentType,
+		CourseStatus courseStatus,
+		Integer year,
+		Integer month,
+		Integer week
+	) {
+		return tradingStatAggregateRepository.findRows(
+				customerId, granularity, investmentType, courseStatus, year, month, week)
+			.stream()
+			.map(TradingStatAggregate::toDelta)
+			.reduce(TradingStatDelta.ZERO, TradingStatDelta::plus);
+	}
+}
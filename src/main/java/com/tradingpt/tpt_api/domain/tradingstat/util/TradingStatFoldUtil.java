@@ -0,0 +1,40 @@
+package com.tradingpt.tpt_api.domain.tradingstat.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.TradeStatSource;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatContribution;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatDelta;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatPeriodKey;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매매 통계 집계 계산 유틸리티
+ *
+ * <p>feedback_request 원천 데이터를 일/주/월 집계 행 단위로 합산한다.
+ * 재계산(rebuild)에서 사용한다. 정합성 검증은 이 계산과 독립된 실시간 집계 쿼리를 기준으로 삼는다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TradingStatFoldUtil {
+
+	/**
+	 * 원천 데이터를 집계 행 키별로 합산합니다.
+	 *
+	 * @param sources 고객 1명의 피드백 요청 통계 원천 데이터
+	 * @return 집계 행 키 → 합계
+	 */
+	public static Map<TradingStatPeriodKey, TradingStatDelta> fold(List<TradeStatSource> sources) {
+		Map<TradingStatPeriodKey, TradingStatDelta> result = new HashMap<>();
+		for (TradeStatSource source : sources) {
+			TradingStatContribution contribution = TradingStatContribution.from(source);
+			for (TradingStatPeriodKey key : contribution.periodKeys()) {
+				result.merge(key, contribution.delta(), TradingStatDelta::plus);
+			}
+		}
+		return result;
+	}
+}
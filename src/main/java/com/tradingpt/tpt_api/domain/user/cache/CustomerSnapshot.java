@@ -0,0 +1,67 @@
+package com.tradingpt.tpt_api.domain.user.cache;
+
+import java.io.Serializable;
+
+import com.tradingpt.tpt_api.domain.user.dto.projection.CustomerSnapshotRow;
+import com.tradingpt.tpt_api.domain.user.entity.Customer;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
+import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
+import com.tradingpt.tpt_api.domain.user.exception.UserException;
+
+/**
+ * 고객 스냅샷 (조회 전용)
+ *
+ * <p>권한 검증/분기에 자주 쓰이는 값만 담는다.
+ * JOINED 상속 Customer 엔티티를 로딩하지 않고 customer 테이블만 조회해서 만든다.
+ *
+ * @param customerId       고객 ID
+ * @param membershipLevel  멤버십 레벨 (없으면 null)
+ * @param courseStatus     완강 상태
+ * @param investmentType   대표 투자 유형 (없으면 null)
+ * @param assignedTrainerId 담당 트레이너 ID (없으면 null)
+ */
+public record CustomerSnapshot(
+	Long customerId,
+	MembershipLevel membershipLevel,
+	CourseStatus courseStatus,
+	InvestmentType investmentType,
+	Long assignedTrainerId
+) implements Serializable {
+
+	public static CustomerSnapshot from(CustomerSnapshotRow row) {
+		return new CustomerSnapshot(
+			row.getCustomerId(),
+			row.getMembershipLevel() != null ? MembershipLevel.valueOf(row.getMembershipLevel()) : null,
+			row.getCourseStatus() != null ? CourseStatus.valueOf(row.getCourseStatus()) : null,
+			row.getInvestmentType() != null ? InvestmentType.valueOf(row.getInvestmentType()) : null,
+			row.getTrainerId()
+		);
+	}
+
+	public static CustomerSnapshot from(Customer customer) {
+		return new CustomerSnapshot(
+			customer.getId(),
+			customer.getMembershipLevel(),
+			customer.getCourseStatus(),
+			customer.getPrimaryInvestmentType(),
+			customer.getAssignedTrainer() != null ? customer.getAssignedTrainer().getId() : null
+		);
+	}
+
+	/**
+	 * 트레이너 배정 검증
+	 *
+	 * @param trainerId 접근하려는 트레이너 ID
+	 * @throws UserException 담당 트레이너가 없거나 다른 트레이너의 고객인 경우
+	 */
+	public void validateAssignedTo(Long trainerId) {
+		if (assignedTrainerId == null) {
+			throw new UserException(UserErrorStatus.TRAINER_NOT_ASSIGNED);
+		}
+		if (!assignedTrainerId.equals(trainerId)) {
+			throw new UserException(UserErrorStatus.NOT_TRAINERS_CUSTOMER);
+		}
+	}
+}
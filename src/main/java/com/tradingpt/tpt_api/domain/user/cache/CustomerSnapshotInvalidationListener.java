@@ -0,0 +1,30 @@
+package com.tradingpt.tpt_api.domain.user.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.tradingpt.tpt_api.domain.user.entity.Customer;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Customer 엔티티 변경 시 고객 스냅샷 무효화 (커밋 이후)
+ *
+ * <p>Hibernate 가 Spring 빈으로 생성하는 엔티티 리스너이다.
+ * EntityManagerFactory 생성 중에 만들어지므로 캐시는 ObjectProvider 로 지연 조회한다.
+ * 네이티브 벌크 UPDATE 는 엔티티 이벤트가 없으므로 호출하는 쪽에서 {@link UserSnapshotCache#evict} 를 호출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerSnapshotInvalidationListener {
+
+	private final ObjectProvider<UserSnapshotCache> userSnapshotCache;
+
+	@PostUpdate
+	@PostRemove
+	public void onChange(Customer customer) {
+		userSnapshotCache.getObject().evict(customer.getId());
+	}
+}
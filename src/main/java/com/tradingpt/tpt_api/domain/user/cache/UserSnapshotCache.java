@@ -0,0 +1,201 @@
+package com.tradingpt.tpt_api.domain.user.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tradingpt.tpt_api.domain.auth.security.SessionPrincipalRefresher;
+import com.tradingpt.tpt_api.domain.user.enums.Role;
+import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
+import com.tradingpt.tpt_api.domain.user.exception.UserException;
+import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 스냅샷 캐시 (요청 범위 → L1 로컬 Caffeine → DB)
+ *
+ * <p>서비스 첫머리의 {@code customerRepository.findById} / {@code userRepository.findById} 는
+ * JOINED 상속 때문에 매번 user + 하위 테이블 JOIN 이 발생한다.
+ * 멤버십/완강 상태/담당 트레이너 확인처럼 일부 값만 필요한 조회는 이 캐시를 사용한다.
+ *
+ * <ul>
+ *   <li>같은 요청 안에서는 요청 속성에 보관하여 한 번만 조회</li>
+ *   <li>L1 은 인스턴스 로컬 캐시, DB 조회는 customer(또는 user) 테이블 단독 조회</li>
+ *   <li>Customer 가 변경되면 커밋 이후 무효화하고, Pub/Sub 으로 다른 인스턴스의 L1 도 비운다</li>
+ * </ul>
+ *
+ * <p>메트릭: {@code user.snapshot.cache.requests{type=customer|role, result=hit|miss}}
+ */
+@Slf4j
+@Component
+public class UserSnapshotCache {
+
+	public static final String INVALIDATION_CHANNEL = "user-snapshot:invalidate";
+
+	private static final String METRIC_REQUESTS = "user.snapshot.cache.requests";
+	private static final String REQUEST_ATTRIBUTE_PREFIX = UserSnapshotCache.class.getName() + ".customer.";
+
+	private final CustomerRepository customerRepository;
+	private final UserRepository userRepository;
+	private final SessionPrincipalRefresher sessionPrincipalRefresher;
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	private final Cache<Long, CustomerSnapshot> customers;
+
+	/**
+	 * 역할은 바뀌지 않으므로 무효화 없이 크기만 제한한다.
+	 */
+	private final Cache<Long, Role> roles;
+
+	public UserSnapshotCache(
+		CustomerRepository customerRepository,
+		UserRepository userRepository,
+		SessionPrincipalRefresher sessionPrincipalRefresher,
+		StringRedisTemplate redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${user.snapshot.local-ttl:PT1M}") Duration localTtl,
+		@Value("${user.snapshot.local-maximum-size:100000}") long localMaximumSize
+	) {
+		this.customerRepository = customerRepository;
+		this.userRepository = userRepository;
+		this.sessionPrincipalRefresher = sessionPrincipalRefresher;
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.customers = Caffeine.newBuilder()
+			.expireAfterWrite(localTtl)
+			.maximumSize(localMaximumSize)
+			.build();
+		this.roles = Caffeine.newBuilder()
+			.maximumSize(localMaximumSize)
+			.build();
+	}
+
+	/**
+	 * 고객 스냅샷 조회
+	 *
+	 * @throws UserException 고객이 없는 경우 (CUSTOMER_NOT_FOUND)
+	 */
+	public CustomerSnapshot getCustomer(Long customerId) {
+		return findCustomer(customerId)
+			.orElseThrow(() -> new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND));
+	}
+
+	public Optional<CustomerSnapshot> findCustomer(Long customerId) {
+		RequestAttributes request = RequestContextHolder.getRequestAttributes();
+		String attributeName = REQUEST_ATTRIBUTE_PREFIX + customerId;
+		if (request != null && request.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST)
+			instanceof CustomerSnapshot memo) {
+			return Optional.of(memo);
+		}
+
+		CustomerSnapshot snapshot = customers.getIfPresent(customerId);
+		record("customer", snapshot != null ? "hit" : "miss");
+		if (snapshot == null) {
+			snapshot = customerRepository.findSnapshotById(customerId)
+				.map(CustomerSnapshot::from)
+				.orElse(null);
+			if (snapshot == null) {
+				return Optional.empty();
+			}
+			customers.put(customerId, snapshot);
+		}
+
+		if (request != null) {
+			request.setAttribute(attributeName, snapshot, RequestAttributes.SCOPE_REQUEST);
+			// 로그인한 본인의 값이 바뀌었으면 세션 Principal 도 갱신
+			sessionPrincipalRefresher.refreshIfChanged(snapshot);
+		}
+		return Optional.of(snapshot);
+	}
+
+	/**
+	 * 사용자 역할 조회 (user 테이블 단독 조회)
+	 *
+	 * @throws UserException 사용자가 없는 경우 (USER_NOT_FOUND)
+	 */
+	public Role getRole(Long userId) {
+		Role cached = roles.getIfPresent(userId);
+		record("role", cached != null ? "hit" : "miss");
+		if (cached != null) {
+			return cached;
+		}
+
+		Role role = userRepository.findRoleById(userId)
+			.map(Role::valueOf)
+			.orElseThrow(() -> new UserException(UserErrorStatus.USER_NOT_FOUND));
+		roles.put(userId, role);
+		return role;
+	}
+
+	/**
+	 * 고객 스냅샷 무효화
+	 * 트랜잭션 안이면 커밋 이후에 수행한다. (커밋 전 무효화 → 다른 요청이 이전 값을 다시 적재하는 것을 방지)
+	 */
+	public void evict(Long customerId) {
+		evict(List.of(customerId));
+	}
+
+	public void evict(Collection<Long> customerIds) {
+		if (customerIds.isEmpty()) {
+			return;
+		}
+		List<Long> ids = List.copyOf(customerIds);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(ids);
+				}
+			});
+			return;
+		}
+		evictNow(ids);
+	}
+
+	/**
+	 * 다른 인스턴스의 무효화 메시지 수신 시 로컬 캐시만 비운다.
+	 */
+	public void evictLocal(Collection<Long> customerIds) {
+		customers.invalidateAll(customerIds);
+	}
+
+	private void evictNow(List<Long> customerIds) {
+		evictLocal(customerIds);
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, joinIds(customerIds));
+		} catch (RuntimeException e) {
+			// 다른 인스턴스의 L1 은 localTtl 로 만료된다
+			log.error("사용자 스냅샷 무효화 전파 실패: customerIds={}", customerIds, e);
+		}
+	}
+
+	private static String joinIds(List<Long> ids) {
+		StringBuilder sb = new StringBuilder(ids.size() * 8);
+		for (Long id : ids) {
+			if (!sb.isEmpty()) {
+				sb.append(',');
+			}
+			sb.append(id);
+		}
+		return sb.toString();
+	}
+
+	private void record(String type, String result) {
+		meterRegistry.counter(METRIC_REQUESTS, "type", type, "result", result).increment();
+	}
+}
@@ -0,0 +1,20 @@
+package com.tradingpt.tpt_api.domain.user.dto.projection;
+
+/**
+ * 고객 스냅샷 1건 (customer 테이블 단독 네이티브 조회 결과)
+ */
+public interface CustomerSnapshotRow {
+
+	Long getCustomerId();
+
+	/** MembershipLevel 이름 (BASIC, PREMIUM, 없으면 null) */
+	String getMembershipLevel();
+
+	/** CourseStatus 이름 */
+	String getCourseStatus();
+
+	/** InvestmentType 이름 (DAY, SWING 등, 없으면 null) */
+	String getInvestmentType();
+
+	Long getTrainerId();
+}
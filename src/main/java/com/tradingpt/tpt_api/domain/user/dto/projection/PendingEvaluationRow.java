@@ -0,0 +1,27 @@
+package com.tradingpt.tpt_api.domain.user.dto.projection;
+
+/**
+ * 미작성 평가 1건 (네이티브 쿼리 결과)
+ * 고객 정보와 평가 대상 기간을 한 행으로 조회한다.
+ */
+public interface PendingEvaluationRow {
+
+	Long getCustomerId();
+
+	String getCustomerName();
+
+	String getPhoneNumber();
+
+	/** InvestmentType 이름 (DAY, SWING) */
+	String getInvestmentType();
+
+	/** EvaluationType 이름 (MONTHLY, WEEKLY) */
+	String getEvaluationType();
+
+	Integer getTargetYear();
+
+	Integer getTargetMonth();
+
+	/** 월간 평가의 경우 null */
+	Integer getTargetWeek();
+}
@@ -1,5 +1,8 @@
 package com.tradingpt.tpt_api.domain.user.dto.response;
 
+import java.time.LocalDate;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStat;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
@@ -38,10 +41,18 @@ public class MyCustomerListItemDTO {
 	@Schema(description = "보유 토큰 개수")
 	private Integer token;
 
+	@Schema(description = "답변 미완료 피드백 요청 개수")
+	private Long unansweredFeedbackCount;
+
+	@Schema(description = "최근 피드백 요청 일자 (없으면 null)")
+	private LocalDate lastFeedbackRequestDate;
+
 	/**
-	 * Customer 엔티티에서 DTO 생성
+	 * Customer 엔티티와 고객별 피드백 통계에서 DTO 생성
+	 *
+	 * @param feedbackStat 피드백 통계 (피드백 요청이 없는 고객은 null)
 	 */
-	public static MyCustomerListItemDTO from(Customer customer) {
+	public static MyCustomerListItemDTO from(Customer customer, CustomerFeedbackStat feedbackStat) {
 		return MyCustomerListItemDTO.builder()
 			.customerId(customer.getId())
 			.name(customer.getUsername())
@@ -50,6 +61,8 @@ public class MyCustomerListItemDTO {
 			.membershipLevel(customer.getMembershipLevel())
 			.courseStatus(customer.getCourseStatus())
 			.token(customer.getToken())
+			.unansweredFeedbackCount(feedbackStat != null ? feedbackStat.getUnansweredCount() : 0L)
+			.lastFeedbackRequestDate(feedbackStat != null ? feedbackStat.getLastFeedbackRequestDate() : null)
 			.build();
 	}
 }
\ No newline at end of file
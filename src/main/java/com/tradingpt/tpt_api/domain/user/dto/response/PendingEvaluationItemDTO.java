@@ -1,6 +1,6 @@
 package com.tradingpt.tpt_api.domain.user.dto.response;
 
-import com.tradingpt.tpt_api.domain.user.entity.Customer;
+import com.tradingpt.tpt_api.domain.user.dto.projection.PendingEvaluationRow;
 import com.tradingpt.tpt_api.domain.user.enums.EvaluationType;
 import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
 
@@ -50,45 +50,24 @@ public class PendingEvaluationItemDTO {
 	private String targetPeriodDisplay;
 
 	/**
-	 * 월간 평가 항목 생성
+	 * 미작성 평가 조회 결과(행)로 항목 생성
 	 */
-	public static PendingEvaluationItemDTO monthly(
-		Customer customer,
-		int year,
-		int month
-	) {
-		return PendingEvaluationItemDTO.builder()
-			.customerId(customer.getId())
-			.customerName(customer.getName())
-			.phoneNumber(customer.getPhoneNumber())
-			.investmentType(customer.getPrimaryInvestmentType())
-			.evaluationType(EvaluationType.MONTHLY)
-			.targetYear(year)
-			.targetMonth(month)
-			.targetWeek(null)
-			.targetPeriodDisplay(String.format("%d년 %d월 월간 평가", year, month))
-			.build();
-	}
+	public static PendingEvaluationItemDTO from(PendingEvaluationRow row) {
+		EvaluationType evaluationType = EvaluationType.valueOf(row.getEvaluationType());
+		String targetPeriodDisplay = evaluationType == EvaluationType.WEEKLY
+			? String.format("%d년 %d월 %d주차 주간 평가", row.getTargetYear(), row.getTargetMonth(), row.getTargetWeek())
+			: String.format("%d년 %d월 월간 평가", row.getTargetYear(), row.getTargetMonth());
 
-	/**
-	 * 주간 평가 항목 생성
-	 */
-	public static PendingEvaluationItemDTO weekly(
-		Customer customer,
-		int year,
-		int month,
-		int week
-	) {
 		return PendingEvaluationItemDTO.builder()
-			.customerId(customer.getId())
-			.customerName(customer.getName())
-			.phoneNumber(customer.getPhoneNumber())
-			.investmentType(customer.getPrimaryInvestmentType())
-			.evaluationType(EvaluationType.WEEKLY)
-			.targetYear(year)
-			.targetMonth(month)
-			.targetWeek(week)
-			.targetPeriodDisplay(String.format("%d년 %d월 %d주차 주간 평가", year, month, week))
+			.customerId(row.getCustomerId())
+			.customerName(row.getCustomerName())
+			.phoneNumber(row.getPhoneNumber())
+			.investmentType(row.getInvestmentType() != null ? InvestmentType.valueOf(row.getInvestmentType()) : null)
+			.evaluationType(evaluationType)
+			.targetYear(row.getTargetYear())
+			.targetMonth(row.getTargetMonth())
+			.targetWeek(row.getTargetWeek())
+			.targetPeriodDisplay(targetPeriodDisplay)
 			.build();
 	}
 }
@@ -14,9 +14,8 @@ import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
 import com.tradingpt.tpt_api.domain.feedbackrequest.exception.FeedbackRequestErrorStatus;
 import com.tradingpt.tpt_api.domain.feedbackrequest.exception.FeedbackRequestException;
 import com.tradingpt.tpt_api.domain.investmenttypehistory.entity.InvestmentTypeHistory;
-import com.tradingpt.tpt_api.domain.lecture.exception.LectureErrorStatus;
-import com.tradingpt.tpt_api.domain.lecture.exception.LectureException;
 import com.tradingpt.tpt_api.domain.paymentmethod.entity.PaymentMethod;
+import com.tradingpt.tpt_api.domain.user.cache.CustomerSnapshotInvalidationListener;
 import com.tradingpt.tpt_api.domain.user.enums.AccountStatus;
 import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
@@ -30,9 +29,11 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -47,7 +48,15 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "customer")
+@Table(
+	name = "customer",
+	indexes = {
+		// 멤버십 만료 배치 (membership_level = PREMIUM AND membership_expired_at < ?)
+		@Index(name = "idx_customer_membership_expiry", columnList = "membership_level, membership_expired_at"),
+		// 완강 처리 배치/평가 관리 조회 (course_status = ?)
+		@Index(name = "idx_customer_course_status", columnList = "course_status")
+	}
+)
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -56,6 +65,7 @@ import lombok.experimental.SuperBuilder;
 @PrimaryKeyJoinColumn(name = "user_id")
 @DynamicUpdate  // ⭐ 변경된 필드만 UPDATE 쿼리에 포함
 @DynamicInsert
+@EntityListeners(CustomerSnapshotInvalidationListener.class)  // 변경 시 고객 스냅샷 캐시 무효화
 public class Customer extends User {
 
 	/**
@@ -127,7 +137,7 @@ public class Customer extends User {
 	private Integer openChapterNumber;
 
 	@Builder.Default
-	private Integer token = 0; // 토큰의 개수
+	private Integer token = 0; // 토큰의 개수 (변경은 TokenLedgerService 의 조건부 UPDATE 로만)
 
 	/**
 	 * 피드백 요청 누적 작성 횟수
@@ -288,17 +298,6 @@ public class Customer extends User {
 		primaryInvestmentType = requestedType;
 	}
 
-	public void updateToken(Integer token) {
-		this.token = token;
-	}
-
-	public void useTokens(int tokens) {
-		if (this.token < tokens) {
-			throw new LectureException(LectureErrorStatus.NOT_ENOUGH_TOKENS);
-		}
-		this.token -= tokens;
-	}
-
 	/**
 	 * 멤버십 레벨 및 만료일 업데이트
 	 * JPA dirty checking을 활용하여 변경 사항 자동 반영
@@ -359,20 +358,15 @@ public class Customer extends User {
 	}
 
 	/**
-	 * 조건 충족 시 토큰 보상
-	 * N개마다 M개 토큰을 자동 발급
+	 * 토큰 보상 조건 충족 여부
+	 * N개마다 M개 토큰을 발급 (실제 지급은 TokenLedgerService 에서 처리)
 	 *
-	 * @param threshold    몇 개마다 보상할지 (예: 5)
-	 * @param rewardAmount 보상 토큰 개수 (예: 3)
-	 * @return 보상 여부 (true: 보상 받음, false: 조건 미충족)
+	 * @param threshold 몇 개마다 보상할지 (예: 5)
+	 * @return 보상 여부 (true: 보상 대상, false: 조건 미충족)
 	 */
-	public boolean rewardTokensIfEligible(int threshold, int rewardAmount) {
+	public boolean isTokenRewardDue(int threshold) {
 		// 카운트가 임계값의 배수인지 확인
-		if (this.feedbackRequestCount > 0 && this.feedbackRequestCount % threshold == 0) {
-			this.token += rewardAmount;
-			return true;
-		}
-		return false;
+		return this.feedbackRequestCount > 0 && this.feedbackRequestCount % threshold == 0;
 	}
 
 	/**
@@ -386,17 +380,6 @@ public class Customer extends User {
 		int remainder = this.feedbackRequestCount % threshold;
 		return threshold - remainder;
 	}
-	// 토큰 더하는 메서드
-	public void addToken(int amount) {
-		if (amount <= 0) {
-			return;
-		}
-		if (this.token == null) {
-			this.token = 0;
-		}
-		this.token += amount;
-	}
-
 	// ========================================
 	// 피드백 요청 검증 비즈니스 메서드
 	// ========================================
@@ -415,9 +398,8 @@ public class Customer extends User {
 	}
 
 	/**
-	 * 피드백 요청 시 토큰 검증 및 차감 (멤버십에 따른 분기 처리)
+	 * 피드백 요청 시 토큰 사용 기록 여부 (멤버십에 따른 분기 처리)
 	 *
-	 * 변경된 로직:
 	 * - BASIC 멤버십: 토큰 사용 선택 가능
 	 *   - useToken=true → 토큰 차감 후 트레이너가 볼 수 있음
 	 *   - useToken=false → 기록용으로만 생성 (트레이너가 볼 수 없음)
@@ -425,35 +407,25 @@ public class Customer extends User {
 	 *   - useToken=true → 토큰 차감 없이 사용 기록만 남김 (트레이너가 볼 수 있음)
 	 *   - useToken=false → 기록도 남기지 않음 (트레이너가 볼 수 없음)
 	 *
-	 * @param useToken       토큰 사용 여부
-	 * @param requiredTokens 차감할 토큰 개수 (서버에서 고정된 값)
-	 * @return 토큰 사용 기록 여부 (PREMIUM은 차감 없이 true 반환 가능, BASIC은 실제 차감 시에만 true)
-	 * @throws FeedbackRequestException BASIC 멤버십에서 토큰 부족 시
+	 * 실제 차감은 TokenLedgerService 가 조건부 UPDATE 로 처리한다. ({@link #isTokenDebitRequiredForFeedback})
+	 *
+	 * @param useToken 토큰 사용 여부
+	 * @return 토큰 사용 기록 여부
 	 */
-	public boolean validateAndConsumeTokenForFeedback(Boolean useToken, int requiredTokens) {
-		// PREMIUM 멤버십인 경우
-		if (this.membershipLevel == MembershipLevel.PREMIUM) {
-			// PREMIUM은 토큰 차감 없이 자유롭게 생성 가능
-			// useToken=true면 기록상으로만 토큰 사용으로 표시 (실제 차감은 없음)
-			return Boolean.TRUE.equals(useToken);
-		}
-
-		// BASIC 멤버십인 경우
-		if (this.membershipLevel == MembershipLevel.BASIC) {
-			if (Boolean.TRUE.equals(useToken)) {
-				// 토큰 부족 체크
-				if (this.token < requiredTokens) {
-					throw new FeedbackRequestException(FeedbackRequestErrorStatus.INSUFFICIENT_TOKEN);
-				}
-				// 토큰 차감
-				this.token -= requiredTokens;
-				return true;
-			}
-			// 토큰 사용 안 함 → 기록용으로만 생성
+	public boolean usesTokenForFeedback(Boolean useToken) {
+		if (this.membershipLevel != MembershipLevel.PREMIUM && this.membershipLevel != MembershipLevel.BASIC) {
 			return false;
 		}
+		return Boolean.TRUE.equals(useToken);
+	}
 
-		return false;
+	/**
+	 * 피드백 요청 시 실제 토큰 차감 필요 여부 (BASIC 멤버십 + 토큰 사용)
+	 *
+	 * @param useToken 토큰 사용 여부
+	 */
+	public boolean isTokenDebitRequiredForFeedback(Boolean useToken) {
+		return this.membershipLevel == MembershipLevel.BASIC && Boolean.TRUE.equals(useToken);
 	}
 
 	public void setLeveltestStatus(LeveltestStatus leveltestStatus) {
@@ -0,0 +1,136 @@
+package com.tradingpt.tpt_api.domain.user.entity;
+
+import java.time.LocalDateTime;
+
+import com.tradingpt.tpt_api.domain.user.enums.ErasureStatus;
+import com.tradingpt.tpt_api.domain.user.enums.ErasureStep;
+import com.tradingpt.tpt_api.global.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객 데이터 영구 삭제 작업 (진행 상황 기록)
+ *
+ * <p>{@link ErasureStep} 순서대로 청크 삭제를 진행하며, 현재 단계와 누적 삭제 건수를 기록한다.
+ * 중간에 실패하거나 서버가 종료되면 스케줄러가 기록된 단계부터 이어서 실행한다.
+ * (이미 지워진 행은 다시 조회되지 않으므로 단계 안에서도 남은 행만 처리된다)
+ *
+ * <p>고객 행이 사라진 뒤에도 삭제 이력을 남기기 위해 고객과 연관 관계를 맺지 않는다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+	name = "customer_erasure_job",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_customer_erasure_job_customer", columnNames = "customer_id")
+	},
+	indexes = {
+		// 재개 대상 조회 (status = PENDING, 점유 만료된 RUNNING)
+		@Index(name = "idx_customer_erasure_job_status_lease", columnList = "status, lease_until")
+	}
+)
+public class CustomerErasureJob extends BaseEntity {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "customer_erasure_job_id")
+	private Long id;
+
+	@Column(name = "customer_id", nullable = false)
+	private Long customerId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private ErasureStatus status;
+
+	/**
+	 * 진행 중인 단계 (모든 단계가 끝났으면 null)
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "current_step", length = 50)
+	private ErasureStep currentStep;
+
+	@Column(name = "deleted_rows", nullable = false)
+	private Long deletedRows;
+
+	@Column(name = "deleted_objects", nullable = false)
+	private Long deletedObjects;
+
+	@Column(name = "attempt_count", nullable = false)
+	private Integer attemptCount;
+
+	/**
+	 * RUNNING 점유 만료 시각 (실행 중 서버가 종료되면 이 시각 이후 다시 점유 대상)
+	 */
+	@Column(name = "lease_until")
+	private LocalDateTime leaseUntil;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(name = "completed_at")
+	private LocalDateTime completedAt;
+
+	// ===== Static Factory Methods =====
+
+	public static CustomerErasureJob pending(Long customerId) {
+		return CustomerErasureJob.builder()
+			.customerId(customerId)
+			.status(ErasureStatus.PENDING)
+			.currentStep(ErasureStep.values()[0])
+			.deletedRows(0L)
+			.deletedObjects(0L)
+			.attemptCount(0)
+			.build();
+	}
+
+	// ===== 비즈니스 메서드 =====
+
+	/**
+	 * 다음 단계로 진행 (마지막 단계였으면 null → 고객 행 삭제 단계)
+	 */
+	public void advance() {
+		this.currentStep = currentStep != null ? currentStep.next() : null;
+	}
+
+	public void markCompleted(LocalDateTime now) {
+		this.status = ErasureStatus.COMPLETED;
+		this.currentStep = null;
+		this.leaseUntil = null;
+		this.lastError = null;
+		this.completedAt = now;
+	}
+
+	/**
+	 * 실패 기록 - 시도 횟수가 남아 있으면 다음 스케줄에서 이어서 실행
+	 *
+	 * @return 재시도 예정이면 true
+	 */
+	public boolean markFailed(String error, int maxAttempts) {
+		this.leaseUntil = null;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+		this.status = attemptCount >= maxAttempts ? ErasureStatus.FAILED : ErasureStatus.PENDING;
+		return status == ErasureStatus.PENDING;
+	}
+}
@@ -0,0 +1,20 @@
+package com.tradingpt.tpt_api.domain.user.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 고객 데이터 영구 삭제 작업 상태
+ */
+@Getter
+@AllArgsConstructor
+public enum ErasureStatus {
+
+	PENDING("삭제 대기 (실패 후 재시도 대기 포함)"),
+	RUNNING("삭제 중 (실행기가 점유)"),
+	COMPLETED("삭제 완료"),
+	FAILED("삭제 실패 (재시도 종료, 수동 확인 필요)"),
+	;
+
+	private final String description;
+}
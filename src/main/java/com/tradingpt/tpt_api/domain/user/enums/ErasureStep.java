@@ -0,0 +1,151 @@
+package com.tradingpt.tpt_api.domain.user.enums;
+
+import com.tradingpt.tpt_api.domain.column.entity.Comment;
+import com.tradingpt.tpt_api.domain.complaint.entity.Complaint;
+import com.tradingpt.tpt_api.domain.consultation.entity.Consultation;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStat;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequestAttachment;
+import com.tradingpt.tpt_api.domain.feedbackresponse.entity.FeedbackResponse;
+import com.tradingpt.tpt_api.domain.feedbackresponse.entity.FeedbackResponseAttachment;
+import com.tradingpt.tpt_api.domain.investmenttypehistory.entity.InvestmentTypeChangeRequest;
+import com.tradingpt.tpt_api.domain.investmenttypehistory.entity.InvestmentTypeHistory;
+import com.tradingpt.tpt_api.domain.lecture.entity.AssignmentAttachment;
+import com.tradingpt.tpt_api.domain.lecture.entity.CustomerAssignment;
+import com.tradingpt.tpt_api.domain.lecture.entity.LectureAttachmentDownloadHistory;
+import com.tradingpt.tpt_api.domain.lecture.entity.LectureProgress;
+import com.tradingpt.tpt_api.domain.leveltest.entity.LevelTestAttempt;
+import com.tradingpt.tpt_api.domain.leveltest.entity.LevelTestResponse;
+import com.tradingpt.tpt_api.domain.memo.entity.Memo;
+import com.tradingpt.tpt_api.domain.monthlytradingsummary.entity.MonthlyTradingSummary;
+import com.tradingpt.tpt_api.domain.payment.entity.Payment;
+import com.tradingpt.tpt_api.domain.paymentmethod.entity.BillingRequest;
+import com.tradingpt.tpt_api.domain.paymentmethod.entity.PaymentMethod;
+import com.tradingpt.tpt_api.domain.review.entity.Review;
+import com.tradingpt.tpt_api.domain.review.entity.ReviewAttachment;
+import com.tradingpt.tpt_api.domain.review.entity.ReviewTagMapping;
+import com.tradingpt.tpt_api.domain.subscription.entity.Subscription;
+import com.tradingpt.tpt_api.domain.token.entity.TokenLedgerEntry;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatAggregate;
+import com.tradingpt.tpt_api.domain.user.entity.PasswordHistory;
+import com.tradingpt.tpt_api.domain.user.entity.Uid;
+import com.tradingpt.tpt_api.domain.weeklytradingsummary.entity.WeeklyTradingSummary;
+import com.tradingpt.tpt_api.global.infrastructure.notification.entity.NotificationOutbox;
+
+import lombok.Getter;
+
+/**
+ * 고객 데이터 영구 삭제 단계 (선언 순서대로 실행)
+ *
+ * <p>외래 키를 가진 자식 테이블이 부모보다 먼저 오도록 정렬되어 있다.
+ * (첨부 → 응답 → 요청, 결제 → 구독 → 결제수단 → 빌링키 요청 등)
+ * 고객/사용자 행은 모든 단계가 끝난 뒤 마지막에 삭제한다.
+ *
+ * <p>{@code customerPath} 는 엔티티 별칭 e 기준으로 고객 ID 까지의 JPQL 경로이다.
+ * 고객 ID 를 갖지 않는 테이블(알림 Outbox 등)은 {@code :customerId} 를 사용하는 JPQL 조건을 직접 지정한다.
+ * 첨부 단계는 행 삭제 전에 {@code fileKey} 의 S3 객체를 함께 삭제한다.
+ */
+@Getter
+public enum ErasureStep {
+
+	// 피드백
+	FEEDBACK_RESPONSE_ATTACHMENT(FeedbackResponseAttachment.class,
+		"feedbackResponse.feedbackRequest.customer.id", FileBucket.PUBLIC),
+	FEEDBACK_RESPONSE(FeedbackResponse.class, "feedbackRequest.customer.id", FileBucket.NONE),
+	FEEDBACK_REQUEST_ATTACHMENT(FeedbackRequestAttachment.class, "feedbackRequest.customer.id", FileBucket.PUBLIC),
+	FEEDBACK_REQUEST(FeedbackRequest.class, "customer.id", FileBucket.NONE),
+	CUSTOMER_FEEDBACK_STAT(CustomerFeedbackStat.class, "customerId", FileBucket.NONE),
+
+	// 매매 통계 / 보고서
+	TRADING_STAT_AGGREGATE(TradingStatAggregate.class, "customerId", FileBucket.NONE),
+	WEEKLY_TRADING_SUMMARY(WeeklyTradingSummary.class, "customer.id", FileBucket.NONE),
+	MONTHLY_TRADING_SUMMARY(MonthlyTradingSummary.class, "customer.id", FileBucket.NONE),
+
+	// 투자 유형
+	INVESTMENT_TYPE_HISTORY(InvestmentTypeHistory.class, "customer.id", FileBucket.NONE),
+	INVESTMENT_TYPE_CHANGE_REQUEST(InvestmentTypeChangeRequest.class, "customer.id", FileBucket.NONE),
+
+	// 레벨테스트
+	LEVEL_TEST_RESPONSE(LevelTestResponse.class, "leveltestAttempt.customer.id", FileBucket.NONE),
+	LEVEL_TEST_ATTEMPT(LevelTestAttempt.class, "customer.id", FileBucket.NONE),
+
+	// 강의 / 과제
+	LECTURE_PROGRESS(LectureProgress.class, "customer.id", FileBucket.NONE),
+	LECTURE_ATTACHMENT_DOWNLOAD_HISTORY(LectureAttachmentDownloadHistory.class, "customer.id", FileBucket.NONE),
+	ASSIGNMENT_ATTACHMENT(AssignmentAttachment.class, "customerAssignment.customer.id", FileBucket.PRIVATE),
+	CUSTOMER_ASSIGNMENT(CustomerAssignment.class, "customer.id", FileBucket.NONE),
+
+	// 리뷰
+	REVIEW_ATTACHMENT(ReviewAttachment.class, "review.customer.id", FileBucket.PUBLIC),
+	REVIEW_TAG_MAPPING(ReviewTagMapping.class, "review.customer.id", FileBucket.NONE),
+	REVIEW(Review.class, "customer.id", FileBucket.NONE),
+
+	// 민원 / 상담 / 메모 / 칼럼 댓글
+	COMPLAINT(Complaint.class, "customer.id", FileBucket.NONE),
+	CONSULTATION(Consultation.class, "customer.id", FileBucket.NONE),
+	MEMO(Memo.class, "customer.id", FileBucket.NONE),
+	COMMENT(Comment.class, "user.id", FileBucket.NONE),
+
+	// 결제 (payment → subscription → payment_method → billing_request 순으로 참조)
+	PAYMENT(Payment.class, "customer.id", FileBucket.NONE),
+	SUBSCRIPTION(Subscription.class, "customer.id", FileBucket.NONE),
+	PAYMENT_METHOD(PaymentMethod.class, "customer.id", FileBucket.NONE),
+	BILLING_REQUEST(BillingRequest.class, "customer.id", FileBucket.NONE),
+
+	// 토큰 원장
+	TOKEN_LEDGER(TokenLedgerEntry.class, "customerId", FileBucket.NONE),
+
+	// 알림 (고객 ID 없이 수신자 전화번호/이메일로 기록됨)
+	NOTIFICATION_OUTBOX(NotificationOutbox.class, null,
+		"e.recipient IN (SELECT c.phoneNumber FROM Customer c WHERE c.id = :customerId)"
+			+ " OR e.recipient IN (SELECT c.email FROM Customer c WHERE c.id = :customerId)",
+		FileBucket.NONE),
+
+	// 계정
+	PASSWORD_HISTORY(PasswordHistory.class, "user.id", FileBucket.NONE),
+	UID(Uid.class, "customer.id", FileBucket.NONE),
+	;
+
+	private final Class<?> entityType;
+	private final String customerPath;
+	private final String customerCondition;
+	private final FileBucket fileBucket;
+
+	ErasureStep(Class<?> entityType, String customerPath, FileBucket fileBucket) {
+		this(entityType, customerPath, null, fileBucket);
+	}
+
+	ErasureStep(Class<?> entityType, String customerPath, String customerCondition, FileBucket fileBucket) {
+		this.entityType = entityType;
+		this.customerPath = customerPath;
+		this.customerCondition = customerCondition != null
+			? customerCondition
+			: "e." + customerPath + " = :customerId";
+		this.fileBucket = fileBucket;
+	}
+
+	public String getEntityName() {
+		return entityType.getSimpleName();
+	}
+
+	public boolean hasFiles() {
+		return fileBucket != FileBucket.NONE;
+	}
+
+	/**
+	 * 다음 단계 (마지막 단계면 null)
+	 */
+	public ErasureStep next() {
+		ErasureStep[] steps = values();
+		return ordinal() + 1 < steps.length ? steps[ordinal() + 1] : null;
+	}
+
+	/**
+	 * 첨부 파일이 저장된 S3 버킷
+	 */
+	public enum FileBucket {
+		NONE,
+		PUBLIC,
+		PRIVATE
+	}
+}
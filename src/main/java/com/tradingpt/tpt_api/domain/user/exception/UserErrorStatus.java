@@ -21,6 +21,7 @@ public enum UserErrorStatus implements BaseCodeInterface {
 
 	// 500 Internal Server Error
 	TRAINER_NOT_ASSIGNED(HttpStatus.INTERNAL_SERVER_ERROR, "USER_500_0", "배정된 트레이너가 없습니다."),
+	ERASURE_JOB_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "USER_500_1", "고객 데이터 삭제 작업을 찾을 수 없습니다."),
 
 	// 404 Not Found
 	USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_404_0", "사용자를 찾을 수 없습니다."),
@@ -0,0 +1,69 @@
+package com.tradingpt.tpt_api.domain.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tradingpt.tpt_api.domain.user.entity.CustomerErasureJob;
+
+public interface CustomerErasureJobRepository extends JpaRepository<CustomerErasureJob, Long> {
+
+	Optional<CustomerErasureJob> findByCustomerId(Long customerId);
+
+	/**
+	 * 실행할 작업 점유 (원자적 UPDATE)
+	 * PENDING 작업과 점유 만료된 RUNNING 작업(실행 중 서버 종료 등)만 점유한다.
+	 * 관리자 요청과 스케줄러가 같은 작업을 동시에 실행하지 않도록 한다.
+	 *
+	 * @return 점유했으면 1
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = """
+		UPDATE customer_erasure_job
+		SET status = 'RUNNING',
+		    attempt_count = attempt_count + 1,
+		    lease_until = :leaseUntil,
+		    updated_at = :now
+		WHERE customer_erasure_job_id = :jobId
+		  AND (status = 'PENDING' OR (status = 'RUNNING' AND lease_until < :now))
+		""", nativeQuery = true)
+	int claim(
+		@Param("jobId") Long jobId,
+		@Param("now") LocalDateTime now,
+		@Param("leaseUntil") LocalDateTime leaseUntil
+	);
+
+	/**
+	 * 청크 삭제 건수 누적 (청크 삭제와 같은 트랜잭션에서 실행 → 진행 기록과 실제 삭제가 함께 커밋)
+	 */
+	@Modifying
+	@Query("""
+		UPDATE CustomerErasureJob j
+		SET j.deletedRows = j.deletedRows + :rows,
+		    j.deletedObjects = j.deletedObjects + :objects,
+		    j.leaseUntil = :leaseUntil
+		WHERE j.id = :jobId
+		""")
+	void addProgress(
+		@Param("jobId") Long jobId,
+		@Param("rows") long rows,
+		@Param("objects") long objects,
+		@Param("leaseUntil") LocalDateTime leaseUntil
+	);
+
+	/**
+	 * 재개 대상 작업 ID 조회 (PENDING + 점유 만료된 RUNNING)
+	 */
+	@Query(value = """
+		SELECT customer_erasure_job_id FROM customer_erasure_job
+		WHERE status = 'PENDING' OR (status = 'RUNNING' AND lease_until < :now)
+		ORDER BY customer_erasure_job_id ASC
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<Long> findResumableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
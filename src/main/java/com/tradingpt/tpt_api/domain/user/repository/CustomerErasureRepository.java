@@ -0,0 +1,75 @@
+package com.tradingpt.tpt_api.domain.user.repository;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.tradingpt.tpt_api.domain.user.enums.ErasureStep;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 고객 데이터 영구 삭제용 단계별 bulk 쿼리
+ *
+ * <p>{@link ErasureStep} 의 엔티티/고객 경로로 JPQL 을 만들어 id 구간 단위로 조회/삭제한다.
+ * 엔티티를 로딩하지 않고 id IN 절로 삭제하므로 영속성 컨텍스트 flush/clear 가 청크마다 한 번도 일어나지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerErasureRepository {
+
+	private final EntityManager entityManager;
+
+	/**
+	 * 단계 대상 행 ID 청크 조회 (id 오름차순 keyset)
+	 */
+	public List<Long> findIds(ErasureStep step, Long customerId, Long lastId, int size) {
+		return entityManager.createQuery(
+				"SELECT e.id FROM " + step.getEntityName() + " e"
+					+ " WHERE (" + step.getCustomerCondition() + ") AND e.id > :lastId"
+					+ " ORDER BY e.id ASC", Long.class)
+			.setParameter("customerId", customerId)
+			.setParameter("lastId", lastId)
+			.setMaxResults(size)
+			.getResultList();
+	}
+
+	/**
+	 * 첨부 단계의 S3 객체 키 조회
+	 */
+	public List<String> findFileKeys(ErasureStep step, List<Long> ids) {
+		return entityManager.createQuery(
+				"SELECT e.fileKey FROM " + step.getEntityName() + " e"
+					+ " WHERE e.id IN :ids AND e.fileKey IS NOT NULL", String.class)
+			.setParameter("ids", ids)
+			.getResultList();
+	}
+
+	/**
+	 * 주어진 키 중 청크 밖의 다른 행이 아직 참조하는 키
+	 * 본문 이미지는 콘텐츠 해시로 키를 정하므로(같은 이미지 → 같은 키) 다른 고객의 글과 객체를 공유할 수 있다.
+	 */
+	public List<String> findFileKeysReferencedOutside(ErasureStep step, List<String> keys, List<Long> ids) {
+		if (keys.isEmpty()) {
+			return List.of();
+		}
+		return entityManager.createQuery(
+				"SELECT DISTINCT e.fileKey FROM " + step.getEntityName() + " e"
+					+ " WHERE e.fileKey IN :keys AND e.id NOT IN :ids", String.class)
+			.setParameter("keys", keys)
+			.setParameter("ids", ids)
+			.getResultList();
+	}
+
+	/**
+	 * 청크 삭제
+	 *
+	 * @return 삭제된 행 수
+	 */
+	public int deleteByIds(ErasureStep step, List<Long> ids) {
+		return entityManager.createQuery("DELETE FROM " + step.getEntityName() + " e WHERE e.id IN :ids")
+			.setParameter("ids", ids)
+			.executeUpdate();
+	}
+}
@@ -1,7 +1,5 @@
 package com.tradingpt.tpt_api.domain.user.repository;
 
-import static com.tradingpt.tpt_api.domain.user.enums.CourseStatus.PENDING_COMPLETION;
-
 import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.enums.UserStatus;
 import java.time.LocalDateTime;
@@ -12,7 +10,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 
+import com.tradingpt.tpt_api.domain.user.dto.projection.CustomerSnapshotRow;
+import com.tradingpt.tpt_api.domain.user.dto.projection.PendingEvaluationRow;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
 import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
 import org.springframework.data.jpa.repository.Query;
@@ -85,24 +86,240 @@ public interface CustomerRepository extends JpaRepository<Customer, Long>, Custo
 	);
 
 	/**
-	 * 특정 멤버십 레벨이고 만료일이 지난 고객 조회
-	 * 만료 처리 스케줄러에서 사용
+	 * 만료된 PREMIUM 멤버십 일괄 BASIC 전환 (청크 단위)
+	 * Customer 는 JOINED 상속이라 JPQL 벌크 UPDATE 시 임시 테이블 전략이 사용되므로,
+	 * customer/user 두 테이블을 직접 갱신하는 네이티브 쿼리로 처리한다. (낙관적 락 version 도 함께 증가)
+	 * 조회 이후 갱신(결제 성공 등)된 고객은 WHERE 조건으로 제외된다.
 	 *
-	 * @param membershipLevel 멤버십 레벨
-	 * @param expiredAt 만료 기준 일시
-	 * @return 만료된 고객 목록
+	 * @param customerIds 대상 고객 ID 청크
+	 * @param now 만료 기준 일시
+	 * @return 변경된 고객 수
 	 */
-	List<Customer> findByMembershipLevelAndMembershipExpiredAtBefore(
-		MembershipLevel membershipLevel,
-		LocalDateTime expiredAt
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = """
+		UPDATE customer c
+		JOIN `user` u ON u.user_id = c.user_id
+		SET c.membership_level = 'BASIC',
+		    c.membership_expired_at = NULL,
+		    u.updated_at = :now,
+		    u.version = u.version + 1
+		WHERE c.user_id IN (:customerIds)
+		  AND c.membership_level = 'PREMIUM'
+		  AND c.membership_expired_at < :now
+		""", nativeQuery = true)
+	int expirePremiumMemberships(
+		@Param("customerIds") List<Long> customerIds,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 완강 대기(PENDING_COMPLETION) 고객 일괄 완강(AFTER_COMPLETION) 처리 (청크 단위)
+	 * Customer#completeTraining 과 동일하게 완강 시점(completedAt)도 함께 기록한다.
+	 *
+	 * @param customerIds 대상 고객 ID 청크
+	 * @param completedAt 완강 시점
+	 * @return 변경된 고객 수
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = """
+		UPDATE customer c
+		JOIN `user` u ON u.user_id = c.user_id
+		SET c.course_status = 'AFTER_COMPLETION',
+		    c.completed_at = :completedAt,
+		    u.updated_at = :completedAt,
+		    u.version = u.version + 1
+		WHERE c.user_id IN (:customerIds)
+		  AND c.course_status = 'PENDING_COMPLETION'
+		""", nativeQuery = true)
+	int completeTrainingByIds(
+		@Param("customerIds") List<Long> customerIds,
+		@Param("completedAt") LocalDateTime completedAt
+	);
+
+	/**
+	 * 주차별 강의 오픈 후 열린 강의 수(openChapterNumber) 일괄 증가 (청크 단위)
+	 * 현재 값이 openedCount 인 고객만 openedCount + 1 로 변경한다.
+	 *
+	 * @param customerIds 대상 고객 ID
+	 * @param openedCount 현재 열린 강의 수 (null 은 0 으로 취급)
+	 * @param now 변경 일시
+	 * @return 변경된 고객 수
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = """
+		UPDATE customer c
+		JOIN `user` u ON u.user_id = c.user_id
+		SET c.open_chapter_number = :openedCount + 1,
+		    u.updated_at = :now,
+		    u.version = u.version + 1
+		WHERE c.user_id IN (:customerIds)
+		  AND COALESCE(c.open_chapter_number, 0) = :openedCount
+		""", nativeQuery = true)
+	int advanceOpenChapterNumber(
+		@Param("customerIds") List<Long> customerIds,
+		@Param("openedCount") int openedCount,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 토큰 조건부 차감 (단일 UPDATE)
+	 * 잔액이 차감량 이상일 때만 차감하므로 동시에 차감해도 잔액이 음수가 되지 않는다.
+	 * 토큰 잔액은 원장이 이력을 관리하므로 user.version 은 올리지 않는다.
+	 * (같은 트랜잭션에 로딩된 Customer 는 @DynamicUpdate 라 token 을 덮어쓰지 않음)
+	 *
+	 * @param customerId 고객 ID
+	 * @param amount 차감할 토큰 수
+	 * @return 1: 차감 성공, 0: 잔액 부족 또는 고객 없음
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		UPDATE customer
+		SET token = token - :amount
+		WHERE user_id = :customerId
+		  AND token >= :amount
+		""", nativeQuery = true)
+	int debitToken(@Param("customerId") Long customerId, @Param("amount") int amount);
+
+	/**
+	 * 토큰 지급 (단일 UPDATE)
+	 *
+	 * @param customerId 고객 ID
+	 * @param amount 지급할 토큰 수
+	 * @return 1: 지급 성공, 0: 고객 없음
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		UPDATE customer
+		SET token = COALESCE(token, 0) + :amount
+		WHERE user_id = :customerId
+		""", nativeQuery = true)
+	int creditToken(@Param("customerId") Long customerId, @Param("amount") int amount);
+
+	/**
+	 * 토큰 잔액만 조회 (JOINED 상속 Customer 엔티티를 로딩하지 않음)
+	 */
+	@Query(value = "SELECT COALESCE(token, 0) FROM customer WHERE user_id = :customerId", nativeQuery = true)
+	Optional<Integer> findTokenBalance(@Param("customerId") Long customerId);
+
+	/**
+	 * 고객 스냅샷 조회 (customer 테이블 단독, user 테이블 JOIN 없음)
+	 */
+	@Query(value = """
+		SELECT c.user_id AS customerId,
+		       c.membership_level AS membershipLevel,
+		       c.course_status AS courseStatus,
+		       c.primary_investment_type AS investmentType,
+		       c.trainer_id AS trainerId
+		FROM customer c
+		WHERE c.user_id = :customerId
+		""", nativeQuery = true)
+	Optional<CustomerSnapshotRow> findSnapshotById(@Param("customerId") Long customerId);
+
+	/**
+	 * 미작성 평가 목록 조회 (평가 항목 단위 페이징)
+	 * FeedbackRequest 가 존재하는 (고객, 연, 월[, 주]) 중 평가가 작성되지 않은 항목을
+	 * 월간/주간 요약 테이블과 NOT EXISTS 로 비교하여 한 번에 조회한다.
+	 * - 월간 평가: PREMIUM 고객 전체, 현재 월까지
+	 * - 주간 평가: DAY 타입 고객만, 현재 월은 현재 주차까지
+	 * - 정렬: 고객 이름 → 고객 ID → 연 → 월 → 월간/주간 → 주차
+	 *
+	 * @param trainerId    담당 트레이너 ID (null 이면 전체 고객)
+	 * @param currentYear  현재 연도
+	 * @param currentMonth 현재 월
+	 * @param currentWeek  현재 주차
+	 * @param limit        조회 건수 (다음 페이지 확인용 +1 포함)
+	 * @param offset       시작 위치
+	 * @return 미작성 평가 목록
+	 */
+	@Query(value = """
+		SELECT p.customer_id AS customerId,
+		       u.name AS customerName,
+		       c.phone_number AS phoneNumber,
+		       c.primary_investment_type AS investmentType,
+		       p.evaluation_type AS evaluationType,
+		       p.target_year AS targetYear,
+		       p.target_month AS targetMonth,
+		       p.target_week AS targetWeek
+		FROM (
+		    SELECT fr.customer_id,
+		           'MONTHLY' AS evaluation_type,
+		           fr.feedback_year AS target_year,
+		           fr.feedback_month AS target_month,
+		           NULL AS target_week
+		    FROM feedback_request fr
+		    JOIN customer fc ON fc.user_id = fr.customer_id
+		    WHERE fc.membership_level = 'PREMIUM'
+		      AND (:trainerId IS NULL OR fc.trainer_id = :trainerId)
+		      AND (fr.feedback_year < :currentYear
+		           OR (fr.feedback_year = :currentYear AND fr.feedback_month <= :currentMonth))
+		      AND NOT EXISTS (
+		          SELECT 1
+		          FROM monthly_trading_summary m
+		          WHERE m.customer_id = fr.customer_id
+		            AND m.summary_year = fr.feedback_year
+		            AND m.summary_month = fr.feedback_month
+		            AND m.monthly_evaluation IS NOT NULL
+		      )
+		    GROUP BY fr.customer_id, fr.feedback_year, fr.feedback_month
+		    UNION ALL
+		    SELECT fr.customer_id,
+		           'WEEKLY' AS evaluation_type,
+		           fr.feedback_year AS target_year,
+		           fr.feedback_month AS target_month,
+		           fr.feedback_week AS target_week
+		    FROM feedback_request fr
+		    JOIN customer fc ON fc.user_id = fr.customer_id
+		    WHERE fc.membership_level = 'PREMIUM'
+		      AND fc.primary_investment_type = 'DAY'
+		      AND (:trainerId IS NULL OR fc.trainer_id = :trainerId)
+		      AND (fr.feedback_year < :currentYear
+		           OR (fr.feedback_year = :currentYear AND fr.feedback_month < :currentMonth)
+		           OR (fr.feedback_year = :currentYear AND fr.feedback_month = :currentMonth
+		               AND fr.feedback_week <= :currentWeek))
+		      AND NOT EXISTS (
+		          SELECT 1
+		          FROM weekly_trading_summary w
+		          WHERE w.customer_id = fr.customer_id
+		            AND w.summary_year = fr.feedback_year
+		            AND w.summary_month = fr.feedback_month
+		            AND w.summary_week = fr.feedback_week
+		            AND w.weekly_evaluation IS NOT NULL
+		      )
+		    GROUP BY fr.customer_id, fr.feedback_year, fr.feedback_month, fr.feedback_week
+		) p
+		JOIN customer c ON c.user_id = p.customer_id
+		JOIN `user` u ON u.user_id = p.customer_id
+		ORDER BY u.name, p.customer_id, p.target_year, p.target_month, p.evaluation_type, p.target_week
+		LIMIT :limit OFFSET :offset
+		""", nativeQuery = true)
+	List<PendingEvaluationRow> findPendingEvaluations(
+		@Param("trainerId") Long trainerId,
+		@Param("currentYear") int currentYear,
+		@Param("currentMonth") int currentMonth,
+		@Param("currentWeek") int currentWeek,
+		@Param("limit") int limit,
+		@Param("offset") long offset
 	);
 
 	// 여러 UID 상태 조회
 	List<Customer> findByUserStatusIn(List<UserStatus> statuses);
 
-	List<Customer> findAllByCourseStatus(CourseStatus PENDING_COMPLETION);
-
 	Page<Customer> findByUidUidStartingWithIgnoreCase(String uidPrefix, Pageable pageable);
 
 	Page<Customer> findByNameContainingIgnoreCase(String name, Pageable pageable);
+
+	/**
+	 * 탈퇴(soft delete) 기준일이 지난 고객 ID 청크 조회 (id 오름차순 keyset)
+	 *
+	 * @param threshold 탈퇴 기준 일시 (deletedAt < threshold)
+	 * @param lastCustomerId 직전 청크의 마지막 고객 ID (첫 청크는 0)
+	 * @param pageable 청크 크기 (PageRequest.of(0, size))
+	 * @return 고객 ID 목록
+	 */
+	@Query("SELECT c.id FROM Customer c WHERE c.deletedAt < :threshold AND c.id > :lastCustomerId ORDER BY c.id ASC")
+	List<Long> findIdsByDeletedAtBefore(
+		@Param("threshold") LocalDateTime threshold,
+		@Param("lastCustomerId") Long lastCustomerId,
+		Pageable pageable
+	);
 }
@@ -1,5 +1,7 @@
 package com.tradingpt.tpt_api.domain.user.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -8,7 +10,9 @@ import java.util.Set;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureOpenTarget;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.enums.UserStatus;
 
 import lombok.AllArgsConstructor;
@@ -79,6 +83,49 @@ public interface CustomerRepositoryCustom {
 	 */
 	Long countNewSubscriptionCustomers();
 
+	/**
+	 * 만료된 PREMIUM 멤버십 고객 ID 청크 조회 (id 오름차순 keyset)
+	 *
+	 * @param now 만료 기준 일시 (membershipExpiredAt < now)
+	 * @param lastCustomerId 직전 청크의 마지막 고객 ID (첫 청크는 0)
+	 * @param limit 청크 크기
+	 * @return 고객 ID 목록
+	 */
+	List<Long> findExpiredPremiumCustomerIdsAfter(LocalDateTime now, Long lastCustomerId, int limit);
+
+	/**
+	 * 특정 완강 상태인 고객 ID 청크 조회 (id 오름차순 keyset)
+	 *
+	 * @param courseStatus 완강 상태
+	 * @param lastCustomerId 직전 청크의 마지막 고객 ID (첫 청크는 0)
+	 * @param limit 청크 크기
+	 * @return 고객 ID 목록
+	 */
+	List<Long> findCustomerIdsByCourseStatusAfter(CourseStatus courseStatus, Long lastCustomerId, int limit);
+
+	/**
+	 * 주차별 강의 오픈 대상 고객 ID 청크 조회 (id 오름차순 keyset)
+	 *
+	 * 조건:
+	 * - ACTIVE 구독 보유, 구독 기간 시작일 <= today
+	 * - 열린 강의 수(openChapterNumber)가 PRO 강의 수 미만
+	 *
+	 * @param today 기준일
+	 * @param proLectureCount PRO 강의 수
+	 * @param lastCustomerId 직전 청크의 마지막 고객 ID (첫 청크는 0)
+	 * @param limit 청크 크기
+	 * @return 고객 ID 목록
+	 */
+	List<Long> findLectureOpenCustomerIdsAfter(LocalDate today, int proLectureCount, Long lastCustomerId, int limit);
+
+	/**
+	 * 고객별 현재 열린 강의 수 조회
+	 *
+	 * @param customerIds 고객 ID 목록
+	 * @return 고객 ID, openChapterNumber
+	 */
+	List<LectureOpenTarget> findLectureOpenTargets(List<Long> customerIds);
+
 	@Getter
 	@AllArgsConstructor
 	class AssignedCustomerInfo {
@@ -5,6 +5,7 @@ import static com.tradingpt.tpt_api.domain.subscription.entity.QSubscription.*;
 import static com.tradingpt.tpt_api.domain.user.entity.QCustomer.*;
 import static com.tradingpt.tpt_api.domain.user.entity.QUid.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -22,10 +23,13 @@ import org.springframework.stereotype.Repository;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tradingpt.tpt_api.domain.lecture.dto.projection.LectureOpenTarget;
 import com.tradingpt.tpt_api.domain.subscription.enums.Status;
 import com.tradingpt.tpt_api.domain.user.entity.Customer;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
 import com.tradingpt.tpt_api.domain.user.enums.UserStatus;
 
@@ -324,4 +328,84 @@ public class CustomerRepositoryImpl implements CustomerRepositoryCustom {
 
 		return count != null ? count : 0L;
 	}
+
+	/**
+	 * 만료된 PREMIUM 멤버십 고객 ID 청크 조회
+	 * 조건: membershipLevel = PREMIUM, membershipExpiredAt < now, id > lastCustomerId
+	 */
+	@Override
+	public List<Long> findExpiredPremiumCustomerIdsAfter(LocalDateTime now, Long lastCustomerId, int limit) {
+		return queryFactory
+			.select(customer.id)
+			.from(customer)
+			.where(
+				customer.membershipLevel.eq(MembershipLevel.PREMIUM),
+				customer.membershipExpiredAt.lt(now),
+				customer.id.gt(lastCustomerId)
+			)
+			.orderBy(customer.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	/**
+	 * 특정 완강 상태인 고객 ID 청크 조회
+	 * 조건: courseStatus = :courseStatus, id > lastCustomerId
+	 */
+	@Override
+	public List<Long> findCustomerIdsByCourseStatusAfter(CourseStatus courseStatus, Long lastCustomerId, int limit) {
+		return queryFactory
+			.select(customer.id)
+			.from(customer)
+			.where(
+				customer.courseStatus.eq(courseStatus),
+				customer.id.gt(lastCustomerId)
+			)
+			.orderBy(customer.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	/**
+	 * 주차별 강의 오픈 대상 고객 ID 청크 조회
+	 * 조건: ACTIVE 구독, currentPeriodStart <= today, openChapterNumber < proLectureCount, id > lastCustomerId
+	 */
+	@Override
+	public List<Long> findLectureOpenCustomerIdsAfter(
+		LocalDate today,
+		int proLectureCount,
+		Long lastCustomerId,
+		int limit
+	) {
+		return queryFactory
+			.select(customer.id)
+			.distinct()
+			.from(subscription)
+			.innerJoin(subscription.customer, customer)
+			.where(
+				subscription.status.eq(Status.ACTIVE),
+				subscription.currentPeriodStart.loe(today),
+				customer.openChapterNumber.isNull()
+					.or(customer.openChapterNumber.lt(proLectureCount)),
+				customer.id.gt(lastCustomerId)
+			)
+			.orderBy(customer.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	/**
+	 * 고객별 현재 열린 강의 수 조회
+	 */
+	@Override
+	public List<LectureOpenTarget> findLectureOpenTargets(List<Long> customerIds) {
+		return queryFactory
+			.select(Projections.constructor(LectureOpenTarget.class,
+				customer.id,
+				customer.openChapterNumber
+			))
+			.from(customer)
+			.where(customer.id.in(customerIds))
+			.fetch();
+	}
 }
@@ -4,7 +4,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.tradingpt.tpt_api.domain.user.entity.User;
 import com.tradingpt.tpt_api.domain.user.enums.Provider;
@@ -25,7 +28,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
-	int countAllByDeletedAtBefore(LocalDateTime time);
-
-	void deleteAllByDeletedAtBefore(LocalDateTime time);
+	/**
+	 * 역할만 조회 (user 테이블 단독, 하위 테이블 JOIN 없음)
+	 *
+	 * @return Role 이름 (ROLE_CUSTOMER 등)
+	 */
+	@Query(value = "SELECT u.role FROM `user` u WHERE u.user_id = :userId", nativeQuery = true)
+	Optional<String> findRoleById(@Param("userId") Long userId);
+
+	/**
+	 * 탈퇴(soft delete) 기준일이 지난 고객 외 사용자(트레이너/어드민) ID 청크 조회 (id 오름차순 keyset)
+	 * 고객은 {@code CustomerErasureService} 의 단계별 삭제로 처리한다.
+	 *
+	 * @param threshold 탈퇴 기준 일시 (deletedAt < threshold)
+	 * @param lastUserId 직전 청크의 마지막 사용자 ID (첫 청크는 0)
+	 * @param pageable 청크 크기 (PageRequest.of(0, size))
+	 * @return 사용자 ID 목록
+	 */
+	@Query("""
+		SELECT u.id FROM User u
+		WHERE TYPE(u) <> Customer AND u.deletedAt < :threshold AND u.id > :lastUserId
+		ORDER BY u.id ASC
+		""")
+	List<Long> findNonCustomerIdsByDeletedAtBefore(
+		@Param("threshold") LocalDateTime threshold,
+		@Param("lastUserId") Long lastUserId,
+		Pageable pageable
+	);
 }
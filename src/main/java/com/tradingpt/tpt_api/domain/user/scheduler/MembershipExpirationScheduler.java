@@ -1,15 +1,14 @@
 package com.tradingpt.tpt_api.domain.user.scheduler;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.tradingpt.tpt_api.domain.user.entity.Customer;
-import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
+import com.tradingpt.tpt_api.domain.user.cache.UserSnapshotCache;
 import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.global.batch.BatchJobResult;
+import com.tradingpt.tpt_api.global.batch.KeysetBatchRunner;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,11 +23,16 @@ import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 @Slf4j
 public class MembershipExpirationScheduler {
 
+	private static final int CHUNK_SIZE = 500;
+
 	private final CustomerRepository customerRepository;
+	private final KeysetBatchRunner keysetBatchRunner;
+	private final UserSnapshotCache userSnapshotCache;
 
 	/**
 	 * 만료된 PREMIUM 멤버십을 BASIC으로 전환
 	 * 매일 00:05:00에 실행 (정기 결제 스케줄러와 시간 분산)
+	 * 고객 ID 500건 단위로 조회 → 벌크 UPDATE → 커밋 (엔티티 로딩 없음)
 	 */
 	@Scheduled(cron = "0 5 0 * * *")
 	@SchedulerLock(
@@ -36,45 +40,23 @@ public class MembershipExpirationScheduler {
 		lockAtMostFor = "PT30M",  // 최대 30분
 		lockAtLeastFor = "PT23H"  // 최소 23시간 (하루 1회 보장)
 	)
-	@Transactional
 	public void expireMemberships() {
 		log.info("멤버십 만료 처리 시작");
 
 		LocalDateTime now = LocalDateTime.now();
 
-		// 만료된 PREMIUM 멤버십 조회
-		List<Customer> expiredCustomers = customerRepository
-			.findByMembershipLevelAndMembershipExpiredAtBefore(
-				MembershipLevel.PREMIUM,
-				now
-			);
-
-		if (expiredCustomers.isEmpty()) {
-			log.info("만료된 PREMIUM 멤버십 없음");
-			return;
-		}
-
-		log.info("만료된 PREMIUM 멤버십 고객 수: {}", expiredCustomers.size());
-
-		int successCount = 0;
-
-		for (Customer customer : expiredCustomers) {
-			try {
-				// BASIC으로 전환
-				customer.setMembershipLevel(MembershipLevel.BASIC);
-				customer.setMembershipExpiredAt(null);
-
-				log.info("멤버십 만료 처리: customerId={}, 변경: PREMIUM -> BASIC, 만료일: {}",
-					customer.getId(), customer.getMembershipExpiredAt());
-
-				successCount++;
-			} catch (Exception e) {
-				log.error("멤버십 만료 처리 실패: customerId={}", customer.getId(), e);
+		BatchJobResult result = keysetBatchRunner.run(
+			"membership-expiration",
+			CHUNK_SIZE,
+			(lastId, size) -> customerRepository.findExpiredPremiumCustomerIdsAfter(now, lastId, size),
+			customerIds -> {
+				int changed = customerRepository.expirePremiumMemberships(customerIds, now);
+				userSnapshotCache.evict(customerIds);  // 벌크 UPDATE 는 엔티티 리스너를 거치지 않음
+				return changed;
 			}
-		}
-
-		customerRepository.saveAll(expiredCustomers);
+		);
 
-		log.info("멤버십 만료 처리 완료: 성공={}, 전체={}", successCount, expiredCustomers.size());
+		log.info("멤버십 만료 처리 완료: 대상={}, 변경(PREMIUM -> BASIC)={}, 청크={}, 소요={}ms",
+			result.selectedRows(), result.affectedRows(), result.chunks(), result.elapsed().toMillis());
 	}
 }
@@ -1,13 +1,18 @@
 package com.tradingpt.tpt_api.domain.user.scheduler;
 
+import com.tradingpt.tpt_api.domain.user.entity.User;
+import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
 import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
+import com.tradingpt.tpt_api.domain.user.service.command.CustomerErasureService;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.global.batch.BatchJobResult;
+import com.tradingpt.tpt_api.global.batch.KeysetBatchRunner;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,32 +23,66 @@ import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 @RequiredArgsConstructor
 public class UserDeleteScheduler {
 
+    /**
+     * 영구 삭제는 cascade(비밀번호 이력, 결제수단 등) 처리를 위해 엔티티 단위로 삭제하므로
+     * 청크를 작게 유지한다.
+     */
+    private static final int CHUNK_SIZE = 100;
+
+    /**
+     * 고객은 삭제 작업만 등록하므로(행 1건 INSERT) 청크를 크게 잡는다.
+     */
+    private static final int ERASURE_REQUEST_CHUNK_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final CustomerRepository customerRepository;
+    private final CustomerErasureService customerErasureService;
+    private final KeysetBatchRunner keysetBatchRunner;
 
     /**
-     *  탈퇴 후 30일 지난 고객을 매일 새벽 3시에 영구 삭제
+     *  탈퇴 후 30일 지난 회원을 매일 새벽 3시에 영구 삭제
      *  EC2 여러대여도 ShedLock으로 오직 1대만 수행
+     *  - 고객: 삭제 작업 등록 → 단계별 청크 삭제 파이프라인 실행 (이전 실행에서 남은 작업 포함)
+     *  - 트레이너/어드민: 사용자 ID 100건 단위로 조회 → 삭제 → 커밋 (전체 건수 사전 조회 없음)
      */
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
     @SchedulerLock(
             name = "deleteExpiredSoftDeletedCustomers",
             lockAtLeastFor = "PT1M",
-            lockAtMostFor = "PT10M"
+            lockAtMostFor = "PT1H"
     )
-    @Transactional
     public void deleteExpiredSoftDeletedCustomers() {
 
         LocalDateTime threshold = LocalDateTime.now().minusDays(30);
 
-        // 삭제될 인원 수 로그용
-        int beforeCount = userRepository.countAllByDeletedAtBefore(threshold);
-        if (beforeCount == 0) {
+        BatchJobResult requested = keysetBatchRunner.run(
+                "customer-erasure-request",
+                ERASURE_REQUEST_CHUNK_SIZE,
+                (lastId, size) -> customerRepository.findIdsByDeletedAtBefore(threshold, lastId, PageRequest.of(0, size)),
+                customerIds -> {
+                    customerIds.forEach(customerErasureService::requestErasure);
+                    return customerIds.size();
+                }
+        );
+        int erased = customerErasureService.resumePending();
+
+        BatchJobResult result = keysetBatchRunner.run(
+                "user-purge",
+                CHUNK_SIZE,
+                (lastId, size) -> userRepository.findNonCustomerIdsByDeletedAtBefore(threshold, lastId, PageRequest.of(0, size)),
+                userIds -> {
+                    List<User> users = userRepository.findAllById(userIds);
+                    userRepository.deleteAll(users);
+                    return users.size();
+                }
+        );
+
+        if (requested.affectedRows() == 0 && erased == 0 && result.affectedRows() == 0) {
             log.info("[CustomerDeletionScheduler] 삭제할 탈퇴 30일 경과 회원 없음.");
             return;
         }
 
-        userRepository.deleteAllByDeletedAtBefore(threshold);
-
-        log.info("[CustomerDeletionScheduler] {}명의 탈퇴 후 30일 경과 회원 영구 삭제 완료", beforeCount);
+        log.info("[CustomerDeletionScheduler] 고객 삭제 작업 등록 {}건, 완료 {}건 / 그 외 회원 {}명 영구 삭제 (청크={}, 소요={}ms)",
+                requested.affectedRows(), erased, result.affectedRows(), result.chunks(), result.elapsed().toMillis());
     }
 }
@@ -0,0 +1,27 @@
+package com.tradingpt.tpt_api.domain.user.service.command;
+
+/**
+ * 고객 데이터 영구 삭제 파이프라인
+ */
+public interface CustomerErasureService {
+
+	/**
+	 * 삭제 작업 등록 (이미 있으면 기존 작업 ID 반환)
+	 *
+	 * @return 작업 ID
+	 */
+	Long requestErasure(Long customerId);
+
+	/**
+	 * 삭제 작업을 등록하고 바로 실행한다.
+	 * 실패하면 진행 상황을 기록하고 예외를 던지며, 남은 단계는 스케줄러가 이어서 실행한다.
+	 */
+	void erase(Long customerId);
+
+	/**
+	 * 대기 중(또는 점유 만료된) 작업을 이어서 실행한다.
+	 *
+	 * @return 완료된 작업 수
+	 */
+	int resumePending();
+}
@@ -0,0 +1,220 @@
+package com.tradingpt.tpt_api.domain.user.service.command;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tradingpt.tpt_api.domain.user.cache.UserSnapshotCache;
+import com.tradingpt.tpt_api.domain.user.entity.CustomerErasureJob;
+import com.tradingpt.tpt_api.domain.user.enums.ErasureStep;
+import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
+import com.tradingpt.tpt_api.domain.user.exception.UserException;
+import com.tradingpt.tpt_api.domain.user.repository.CustomerErasureJobRepository;
+import com.tradingpt.tpt_api.domain.user.repository.CustomerErasureRepository;
+import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
+import com.tradingpt.tpt_api.global.batch.KeysetBatchRunner;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PrecomputedFeedCache;
+import com.tradingpt.tpt_api.global.infrastructure.feed.PublicFeed;
+import com.tradingpt.tpt_api.global.infrastructure.s3.service.S3FileService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고객 데이터 영구 삭제 파이프라인 구현
+ *
+ * <p>{@link ErasureStep} 순서대로 단계마다 대상 행을 id 구간 청크로 조회해 삭제한다.
+ * 청크 하나 = 트랜잭션 하나이며, 같은 트랜잭션에서 작업의 누적 삭제 건수를 갱신한다.
+ * 첨부 단계는 행을 지우기 전에 S3 객체를 DeleteObjects(요청당 최대 1000개)로 먼저 지운다.
+ * (행 삭제가 롤백돼도 다음 실행에서 같은 키를 다시 지우면 되지만, 행을 먼저 지우면 키를 잃어 객체가 영구히 남는다)
+ *
+ * <p>Actuator 지표
+ * <ul>
+ *   <li>customer.erasure.rows{step}: 단계별 삭제 행 수 (rate = 초당 삭제 처리량)</li>
+ *   <li>customer.erasure.objects{bucket}: 삭제한 S3 객체 수</li>
+ *   <li>customer.erasure.duration{result}: 작업 1건 실행 시간</li>
+ *   <li>batch.job.*{job=customer-erasure}: 청크 수/청크 처리 시간 ({@link KeysetBatchRunner})</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerErasureServiceImpl implements CustomerErasureService {
+
+	private static final String JOB_NAME = "customer-erasure";
+
+	/** 청크 크기. 첨부 단계에서 DeleteObjects 1회에 담을 수 있는 키 수(1000)와 맞춘다. */
+	private static final int CHUNK_SIZE = 1000;
+
+	private static final int MAX_ATTEMPTS = 5;
+
+	/** 점유 유지 시간. 청크가 커밋될 때마다 연장된다. */
+	private static final Duration LEASE = Duration.ofMinutes(10);
+
+	/** 스케줄 1회에 이어서 실행할 최대 작업 수 */
+	private static final int RESUME_LIMIT = 20;
+
+	private final CustomerErasureJobRepository customerErasureJobRepository;
+	private final CustomerErasureRepository customerErasureRepository;
+	private final CustomerRepository customerRepository;
+	private final KeysetBatchRunner keysetBatchRunner;
+	private final S3FileService s3FileService;
+	private final UserSnapshotCache userSnapshotCache;
+	private final PrecomputedFeedCache precomputedFeedCache;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public Long requestErasure(Long customerId) {
+		try {
+			return transactionTemplate.execute(status -> customerErasureJobRepository.findByCustomerId(customerId)
+				.orElseGet(() -> customerErasureJobRepository.save(CustomerErasureJob.pending(customerId)))
+				.getId());
+		} catch (DataIntegrityViolationException e) {
+			// 동시에 등록된 경우 (uk_customer_erasure_job_customer)
+			return transactionTemplate.execute(status -> customerErasureJobRepository.findByCustomerId(customerId)
+				.orElseThrow(() -> e)
+				.getId());
+		}
+	}
+
+	@Override
+	public void erase(Long customerId) {
+		Long jobId = requestErasure(customerId);
+		if (!run(jobId)) {
+			log.info("[CustomerErasure] 이미 실행 중이거나 완료된 작업: customerId={}, jobId={}", customerId, jobId);
+		}
+	}
+
+	@Override
+	public int resumePending() {
+		List<Long> jobIds = customerErasureJobRepository.findResumableIds(LocalDateTime.now(), RESUME_LIMIT);
+
+		int completed = 0;
+		for (Long jobId : jobIds) {
+			try {
+				if (run(jobId)) {
+					completed++;
+				}
+			} catch (RuntimeException e) {
+				// 실패 기록은 run 에서 남김, 다음 작업 계속 진행
+			}
+		}
+		return completed;
+	}
+
+	/**
+	 * 작업 점유 후 남은 단계부터 끝까지 실행
+	 *
+	 * @return 이번 호출에서 완료했으면 true (다른 실행기가 점유 중이거나 이미 완료된 작업이면 false)
+	 */
+	private boolean run(Long jobId) {
+		LocalDateTime now = LocalDateTime.now();
+		Integer claimed = transactionTemplate.execute(
+			status -> customerErasureJobRepository.claim(jobId, now, now.plus(LEASE)));
+		if (claimed == null || claimed == 0) {
+			return false;
+		}
+
+		CustomerErasureJob job = transactionTemplate.execute(status -> findJob(jobId));
+		Long customerId = job.getCustomerId();
+		Timer.Sample sample = Timer.start(meterRegistry);
+
+		try {
+			ErasureStep step = job.getCurrentStep();
+			while (step != null) {
+				eraseStep(jobId, customerId, step);
+				step = transactionTemplate.execute(status -> {
+					CustomerErasureJob current = findJob(jobId);
+					current.advance();
+					return current.getCurrentStep();
+				});
+			}
+
+			// 모든 자식 행이 지워진 뒤 고객/사용자 행 삭제 (JOINED 상속 → customer, user 순으로 삭제됨)
+			job = transactionTemplate.execute(status -> {
+				customerRepository.findById(customerId).ifPresent(customerRepository::delete);
+				CustomerErasureJob current = findJob(jobId);
+				current.markCompleted(LocalDateTime.now());
+				return current;
+			});
+		} catch (RuntimeException e) {
+			sample.stop(durationTimer("failed"));
+			Boolean retry = transactionTemplate.execute(status -> findJob(jobId).markFailed(e.getMessage(), MAX_ATTEMPTS));
+			log.error("[CustomerErasure] 삭제 실패: customerId={}, jobId={}, 재시도={}",
+				customerId, jobId, Boolean.TRUE.equals(retry), e);
+			throw e;
+		}
+
+		long elapsedNanos = sample.stop(durationTimer("completed"));
+		userSnapshotCache.evict(customerId);
+		precomputedFeedCache.refresh(PublicFeed.FEEDBACK, PublicFeed.REVIEW);
+
+		double seconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+		log.info("[CustomerErasure] 삭제 완료: customerId={}, 행={}, S3 객체={}, 소요={}ms, 처리량={}행/s",
+			customerId, job.getDeletedRows(), job.getDeletedObjects(), elapsedNanos / 1_000_000,
+			Math.round(job.getDeletedRows() / seconds));
+		return true;
+	}
+
+	private void eraseStep(Long jobId, Long customerId, ErasureStep step) {
+		keysetBatchRunner.run(
+			JOB_NAME,
+			CHUNK_SIZE,
+			(lastId, size) -> customerErasureRepository.findIds(step, customerId, lastId, size),
+			ids -> deleteChunk(jobId, step, ids)
+		);
+	}
+
+	/**
+	 * 청크 삭제 (청크 트랜잭션 안에서 실행)
+	 */
+	private int deleteChunk(Long jobId, ErasureStep step, List<Long> ids) {
+		int objects = 0;
+		if (step.hasFiles()) {
+			objects = deleteFiles(step, ids);
+		}
+
+		int rows = customerErasureRepository.deleteByIds(step, ids);
+		customerErasureJobRepository.addProgress(jobId, rows, objects, LocalDateTime.now().plus(LEASE));
+
+		meterRegistry.counter("customer.erasure.rows", "step", step.name()).increment(rows);
+		return rows;
+	}
+
+	/**
+	 * 청크 행이 참조하는 S3 객체 삭제 (다른 행이 함께 참조하는 키는 남김)
+	 */
+	private int deleteFiles(ErasureStep step, List<Long> ids) {
+		List<String> keys = new ArrayList<>(customerErasureRepository.findFileKeys(step, ids));
+		keys.removeAll(customerErasureRepository.findFileKeysReferencedOutside(step, keys, ids));
+		if (keys.isEmpty()) {
+			return 0;
+		}
+
+		int deleted = step.getFileBucket() == ErasureStep.FileBucket.PRIVATE
+			? s3FileService.deleteAllFromPrivate(keys)
+			: s3FileService.deleteAll(keys);
+
+		meterRegistry.counter("customer.erasure.objects", "bucket", step.getFileBucket().name()).increment(deleted);
+		return deleted;
+	}
+
+	private CustomerErasureJob findJob(Long jobId) {
+		return customerErasureJobRepository.findById(jobId)
+			.orElseThrow(() -> new UserException(UserErrorStatus.ERASURE_JOB_NOT_FOUND));
+	}
+
+	private Timer durationTimer(String result) {
+		return Timer.builder("customer.erasure.duration")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
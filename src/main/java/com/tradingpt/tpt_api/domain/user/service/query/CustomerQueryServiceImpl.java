@@ -1,6 +1,9 @@
 package com.tradingpt.tpt_api.domain.user.service.query;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -9,6 +12,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.tradingpt.tpt_api.domain.consultation.entity.Consultation;
 import com.tradingpt.tpt_api.domain.consultation.repository.ConsultationRepository;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStat;
+import com.tradingpt.tpt_api.domain.feedbackrequest.repository.CustomerFeedbackStatRepository;
 import com.tradingpt.tpt_api.domain.leveltest.entity.LevelTestAttempt;
 import com.tradingpt.tpt_api.domain.leveltest.enums.LevelTestStaus;
 import com.tradingpt.tpt_api.domain.leveltest.repository.LeveltestAttemptRepository;
@@ -38,6 +43,7 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
 	private final UserRepository userRepository;
 	private final LeveltestAttemptRepository leveltestAttemptRepository;
 	private final ConsultationRepository consultationRepository;
+	private final CustomerFeedbackStatRepository customerFeedbackStatRepository;
 
 	@Override
 	public MyCustomerListResponseDTO getMyCustomers(Long trainerId, Pageable pageable) {
@@ -50,12 +56,18 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
 		Slice<Customer> customerSlice = customerRepository
 			.findByAssignedTrainerIdOrderByMembershipLevelDescCreatedAtDesc(trainerId, pageable);
 
-		// 3. DTO 변환
+		// 3. 고객별 피드백 통계 일괄 조회 (고객마다 COUNT 하지 않음)
+		Map<Long, CustomerFeedbackStat> feedbackStats = customerFeedbackStatRepository
+			.findAllById(customerSlice.getContent().stream().map(Customer::getId).toList())
+			.stream()
+			.collect(Collectors.toMap(CustomerFeedbackStat::getCustomerId, Function.identity()));
+
+		// 4. DTO 변환
 		List<MyCustomerListItemDTO> customerDTOs = customerSlice.getContent()
 			.stream()
-			.map(MyCustomerListItemDTO::from)
+			.map(customer -> MyCustomerListItemDTO.from(customer, feedbackStats.get(customer.getId())))
 			.toList();
-		// 4. SliceInfo 생성
+		// 5. SliceInfo 생성
 		SliceInfo sliceInfo = SliceInfo.of(customerSlice);
 
 		return MyCustomerListResponseDTO.of(customerDTOs, sliceInfo);
@@ -20,6 +20,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -37,7 +38,13 @@ import org.hibernate.annotations.DynamicUpdate;
 @DynamicUpdate
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "weekly_trading_summary")
+@Table(
+	name = "weekly_trading_summary",
+	indexes = {
+		// 고객 + 연/월/주차 조회 (주간 요약/평가, 미작성 평가 NOT EXISTS)
+		@Index(name = "idx_weekly_summary_customer_period", columnList = "customer_id, summary_year, summary_month, summary_week")
+	}
+)
 public class WeeklyTradingSummary extends BaseEntity {
 
 	@Id
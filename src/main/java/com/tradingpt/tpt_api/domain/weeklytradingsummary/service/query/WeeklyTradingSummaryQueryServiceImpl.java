@@ -1,6 +1,5 @@
 package com.tradingpt.tpt_api.domain.weeklytradingsummary.service.query;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,23 +17,21 @@ import com.tradingpt.tpt_api.domain.feedbackrequest.repository.FeedbackRequestRe
 import com.tradingpt.tpt_api.domain.feedbackrequest.util.DateValidationUtil;
 import com.tradingpt.tpt_api.domain.feedbackrequest.util.FeedbackPeriodUtil;
 import com.tradingpt.tpt_api.domain.feedbackrequest.util.FeedbackStatusUtil;
-import com.tradingpt.tpt_api.domain.feedbackrequest.util.TradingCalculationUtil;
 import com.tradingpt.tpt_api.domain.investmenttypehistory.exception.InvestmentHistoryErrorStatus;
 import com.tradingpt.tpt_api.domain.investmenttypehistory.exception.InvestmentHistoryException;
 import com.tradingpt.tpt_api.domain.investmenttypehistory.repository.InvestmentTypeHistoryRepository;
 import com.tradingpt.tpt_api.domain.monthlytradingsummary.dto.response.PerformanceComparison;
-import com.tradingpt.tpt_api.domain.user.entity.Customer;
-import com.tradingpt.tpt_api.domain.user.entity.Trainer;
-import com.tradingpt.tpt_api.domain.user.entity.User;
+import com.tradingpt.tpt_api.domain.tradingstat.engine.TradingStatsEngine;
+import com.tradingpt.tpt_api.domain.tradingstat.engine.WeeklyTradingStats;
+import com.tradingpt.tpt_api.domain.tradingstat.service.query.TradingStatQueryService;
+import com.tradingpt.tpt_api.domain.user.cache.CustomerSnapshot;
+import com.tradingpt.tpt_api.domain.user.cache.UserSnapshotCache;
 import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
 import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
 import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
 import com.tradingpt.tpt_api.domain.user.enums.Role;
 import com.tradingpt.tpt_api.domain.user.exception.UserErrorStatus;
 import com.tradingpt.tpt_api.domain.user.exception.UserException;
-import com.tradingpt.tpt_api.domain.user.repository.CustomerRepository;
-import com.tradingpt.tpt_api.domain.user.repository.TrainerRepository;
-import com.tradingpt.tpt_api.domain.user.repository.UserRepository;
 import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DailyRawData;
 import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.DirectionStatistics;
 import com.tradingpt.tpt_api.domain.weeklytradingsummary.dto.projection.WeeklyPerformanceSnapshot;
@@ -63,10 +60,10 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummaryQueryService {
 
-	private final CustomerRepository customerRepository;
-	private final TrainerRepository trainerRepository;
-	private final UserRepository userRepository;
+	private final UserSnapshotCache userSnapshotCache;
 	private final FeedbackRequestRepository feedbackRequestRepository;
+	private final TradingStatQueryService tradingStatQueryService;
+	private final TradingStatsEngine tradingStatsEngine;
 	private final InvestmentTypeHistoryRepository investmentTypeHistoryRepository;
 	private final WeeklyTradingSummaryRepository weeklyTradingSummaryRepository;
 
@@ -83,8 +80,7 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 		// ✅ 연도/월 검증
 		DateValidationUtil.validatePastOrPresentYearMonth(year, month);
 
-		Customer customer = customerRepository.findById(customerId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND));
+		CustomerSnapshot customer = userSnapshotCache.getCustomer(customerId);
 
 		// 1. 해당 월의 CourseStatus 조회
 		CourseStatus courseStatus = feedbackRequestRepository
@@ -101,7 +97,7 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 			.getInvestmentType();
 
 		// 3. MembershipLevel 기준 분기 (null은 BASIC과 동일 처리)
-		MembershipLevel membershipLevel = customer.getMembershipLevel();
+		MembershipLevel membershipLevel = customer.membershipLevel();
 
 		log.info("Customer {} - MembershipLevel: {}, FeedbackCourseStatus: {}, InvestmentType: {}",
 			customerId, membershipLevel, courseStatus, investmentType);
@@ -141,18 +137,17 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 		DateValidationUtil.validateYearMonthWeek(year, month, week);
 
 		// 2. 고객 조회
-		Customer customer = customerRepository.findById(customerId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND));
+		CustomerSnapshot customer = userSnapshotCache.getCustomer(customerId);
 
-		// 3. 사용자 조회 및 역할 확인
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.USER_NOT_FOUND));
+		// 3. 사용자 역할 확인
+		Role role = userSnapshotCache.getRole(userId);
 
 		// 4. ADMIN이 아닌 경우 (TRAINER인 경우) 담당 고객 검증
-		if (user.getRole() != Role.ROLE_ADMIN) {
-			Trainer trainer = trainerRepository.findById(userId)
-				.orElseThrow(() -> new UserException(UserErrorStatus.TRAINER_NOT_FOUND));
-			validateTrainerAssignment(customer, trainer);
+		if (role != Role.ROLE_ADMIN) {
+			if (role != Role.ROLE_TRAINER) {
+				throw new UserException(UserErrorStatus.TRAINER_NOT_FOUND);
+			}
+			validateTrainerAssignment(customer, userId);
 		} else {
 			log.info("Admin user (ID: {}) accessing customer {} weekly day feedback", userId, customerId);
 		}
@@ -184,18 +179,17 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 		LocalDate date = LocalDate.of(year, month, day);
 
 		// 2. 고객 조회
-		Customer customer = customerRepository.findById(customerId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND));
+		CustomerSnapshot customer = userSnapshotCache.getCustomer(customerId);
 
-		// 3. 사용자 조회 및 역할 확인
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.USER_NOT_FOUND));
+		// 3. 사용자 역할 확인
+		Role role = userSnapshotCache.getRole(userId);
 
 		// 4. ADMIN이 아닌 경우 (TRAINER인 경우) 담당 고객 검증
-		if (user.getRole() != Role.ROLE_ADMIN) {
-			Trainer trainer = trainerRepository.findById(userId)
-				.orElseThrow(() -> new UserException(UserErrorStatus.TRAINER_NOT_FOUND));
-			validateTrainerAssignment(customer, trainer);
+		if (role != Role.ROLE_ADMIN) {
+			if (role != Role.ROLE_TRAINER) {
+				throw new UserException(UserErrorStatus.TRAINER_NOT_FOUND);
+			}
+			validateTrainerAssignment(customer, userId);
 		} else {
 			log.info("Admin user (ID: {}) accessing customer {} daily feedback list", userId, customerId);
 		}
@@ -218,16 +212,12 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 	/**
 	 * 트레이너 배정 검증
 	 */
-	private void validateTrainerAssignment(Customer customer, Trainer trainer) {
-		if (customer.getAssignedTrainer() == null) {
-			throw new UserException(UserErrorStatus.TRAINER_NOT_ASSIGNED);
-		}
-
-		if (!customer.getAssignedTrainer().getId().equals(trainer.getId())) {
+	private void validateTrainerAssignment(CustomerSnapshot customer, Long trainerId) {
+		if (customer.assignedTrainerId() != null && !customer.assignedTrainerId().equals(trainerId)) {
 			log.warn("Trainer {} tried to access customer {} who is assigned to user {}",
-				trainer.getId(), customer.getId(), customer.getAssignedTrainer().getId());
-			throw new UserException(UserErrorStatus.NOT_TRAINERS_CUSTOMER);
+				trainerId, customer.customerId(), customer.assignedTrainerId());
 		}
+		customer.validateAssignedTo(trainerId);
 	}
 
 	/**
@@ -241,47 +231,27 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 		CourseStatus courseStatus,
 		InvestmentType investmentType
 	) {
-		// 1. 일별 통계 조회
-		List<DailyRawData> dailyStats = feedbackRequestRepository.findDailyStatistics(
+		// 1. 주간 통계 일괄 계산 (일별 통계, 승률, 평균 R&R, 이전 주 비교)
+		WeeklyTradingStats stats = tradingStatsEngine.weekly(
 			customerId, year, month, week, courseStatus, investmentType
 		);
 
 		// 2. 모든 요일을 포함한 일별 DTO 생성
 		List<WeeklyWeekFeedbackSummaryResponseDTO> dailyDTOs = fillAllWeekdays(
-			dailyStats, year, month, week
-		);
-
-		// 3. 주간 집계 계산
-		Integer totalTradingCount = dailyStats.stream()
-			.mapToInt(DailyRawData::getTradingCount)
-			.sum();
-
-		Integer totalWinCount = dailyStats.stream()
-			.mapToInt(DailyRawData::getWinCount)
-			.sum();
-
-		BigDecimal weeklyPnl = dailyStats.stream()
-			.map(DailyRawData::getDailyPnl)
-			.reduce(BigDecimal.ZERO, BigDecimal::add);
-
-		// ✅ 수익 매매들의 평균 R&R 계산 (pnl > 0인 매매의 rnr 컬럼 평균)
-		Double weeklyAverageRnr = feedbackRequestRepository.findAverageRnRForWeeklySummary(
-			customerId, year, month, week, courseStatus, investmentType
+			stats.dailyStatistics(), year, month, week
 		);
 
-		Double winningRate = TradingCalculationUtil.calculateWinRate(
-			totalTradingCount, totalWinCount);
-
+		// 3. 주간 집계 (✅ 평균 R&R 은 수익 매매(pnl > 0)의 rnr 평균)
 		WeeklyFeedbackSummaryResponseDTO weeklyFeedback = WeeklyFeedbackSummaryResponseDTO.builder()
 			.weeklyWeekFeedbackSummaryResponseDTOS(dailyDTOs)
-			.winningRate(winningRate)
-			.weeklyAverageRnr(weeklyAverageRnr)
-			.weeklyPnl(weeklyPnl)
+			.winningRate(stats.winningRate())
+			.weeklyAverageRnr(stats.averageRnr())
+			.weeklyPnl(stats.pnl())
 			.build();
 
 		// 4. 이전 주와 현재 주 성과 비교
 		PerformanceComparison<PerformanceComparison.WeekSnapshot> performanceComparison =
-			buildWeeklyPerformanceComparison(customerId, year, month, week, investmentType);
+			buildWeeklyPerformanceComparison(stats, week);
 
 		// 5. 메모 조회
 		Optional<WeeklyTradingSummary> summary = weeklyTradingSummaryRepository
@@ -313,52 +283,30 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 		log.info("Building PREMIUM DAY membership summary for customerId={}, year={}, month={}, week={}, feedbackCourseStatus={}",
 			customerId, year, month, week, courseStatus);
 
-		// 1. 일별 통계 조회
-		List<DailyRawData> dailyStats = feedbackRequestRepository.findDailyStatistics(
+		// 1. 주간 통계 일괄 계산 (일별 통계, 승률, 평균 R&R, 이전 주 비교)
+		WeeklyTradingStats stats = tradingStatsEngine.weekly(
 			customerId, year, month, week, courseStatus, investmentType
 		);
 
 		// 2. 모든 요일을 포함한 일별 DTO 생성
 		List<WeeklyWeekFeedbackSummaryResponseDTO> dailyDTOs = fillAllWeekdays(
-			dailyStats, year, month, week
-		);
-
-		// 3. 주간 집계 계산
-		Integer totalTradingCount = dailyStats.stream()
-			.mapToInt(DailyRawData::getTradingCount)
-			.sum();
-
-		Integer totalWinCount = dailyStats.stream()
-			.mapToInt(DailyRawData::getWinCount)
-			.sum();
-
-		BigDecimal weeklyPnl = dailyStats.stream()
-			.map(DailyRawData::getDailyPnl)
-			.reduce(BigDecimal.ZERO, BigDecimal::add);
-
-		// ✅ 수익 매매들의 평균 R&R 계산 (pnl > 0인 매매의 rnr 컬럼 평균)
-		Double weeklyAverageRnr = feedbackRequestRepository.findAverageRnRForWeeklySummary(
-			customerId, year, month, week, courseStatus, investmentType
+			stats.dailyStatistics(), year, month, week
 		);
 
-		Double winningRate = TradingCalculationUtil.calculateWinRate(
-			totalTradingCount, totalWinCount);
-
+		// 3. 주간 집계 (✅ 평균 R&R 은 수익 매매(pnl > 0)의 rnr 평균)
 		WeeklyFeedbackSummaryResponseDTO weeklyFeedback = WeeklyFeedbackSummaryResponseDTO.builder()
 			.weeklyWeekFeedbackSummaryResponseDTOS(dailyDTOs)
-			.winningRate(winningRate)
-			.weeklyAverageRnr(weeklyAverageRnr)
-			.weeklyPnl(weeklyPnl)
+			.winningRate(stats.winningRate())
+			.weeklyAverageRnr(stats.averageRnr())
+			.weeklyPnl(stats.pnl())
 			.build();
 
 		// 4. 이전 주와 현재 주 성과 비교
 		PerformanceComparison<PerformanceComparison.WeekSnapshot> performanceComparison =
-			buildWeeklyPerformanceComparison(customerId, year, month, week, investmentType);
+			buildWeeklyPerformanceComparison(stats, week);
 
-		// 5. 방향성 통계 조회
-		DirectionStatistics directionStats = feedbackRequestRepository.findDirectionStatistics(
-			customerId, year, month, week
-		);
+		// 5. 방향성 통계
+		DirectionStatistics directionStats = stats.directionStatistics();
 
 		DirectionStatisticsResponseDTO directionDTO = DirectionStatisticsResponseDTO.builder()
 			.o(DirectionStatisticsResponseDTO.DirectionDetail.of(
@@ -429,7 +377,7 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 			customerId, year, month, week, courseStatus);
 
 		// 1. 일별 통계 조회
-		List<DailyRawData> dailyStats = feedbackRequestRepository.findDailyStatistics(
+		List<DailyRawData> dailyStats = tradingStatQueryService.findDailyStatistics(
 			customerId, year, month, week, courseStatus, investmentType
 		);
 
@@ -527,37 +475,14 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 	 * 주간 성과 비교 생성 (이전 주 vs 현재 주)
 	 */
 	private PerformanceComparison<PerformanceComparison.WeekSnapshot> buildWeeklyPerformanceComparison(
-		Long customerId,
-		Integer year,
-		Integer month,
-		Integer week,
-		InvestmentType investmentType
+		WeeklyTradingStats stats,
+		Integer week
 	) {
-		// 현재 주 성과
-		WeeklyPerformanceSnapshot currentSnapshot = feedbackRequestRepository.findWeeklyPerformance(
-			customerId, year, month, week, investmentType
-		);
-
-		// 이전 주 계산
-		Integer previousWeek = week - 1;
-		Integer previousMonth = month;
-		Integer previousYear = year;
-
-		if (previousWeek < 1) {
-			// 이전 달의 마지막 주
-			LocalDate previousMonthDate = LocalDate.of(year, month, 1).minusMonths(1);
-			previousYear = previousMonthDate.getYear();
-			previousMonth = previousMonthDate.getMonthValue();
-			previousWeek = FeedbackPeriodUtil.getWeeksInMonth(previousYear, previousMonth);
-		}
-
-		// 이전 주 성과
-		WeeklyPerformanceSnapshot previousSnapshot = feedbackRequestRepository.findWeeklyPerformance(
-			customerId, previousYear, previousMonth, previousWeek, investmentType
-		);
+		WeeklyPerformanceSnapshot previousSnapshot = stats.previousPerformance();
+		WeeklyPerformanceSnapshot currentSnapshot = stats.currentPerformance();
 
 		PerformanceComparison.WeekSnapshot beforeWeek = PerformanceComparison.WeekSnapshot.of(
-			previousWeek,
+			stats.previousWeek(),
 			previousSnapshot.getFinalWinRate(),
 			previousSnapshot.getAverageRnr(),
 			previousSnapshot.getFinalPnl()
@@ -587,8 +512,7 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 		DateValidationUtil.validateYearMonthWeek(year, month, week);
 
 		// 2. 고객 조회
-		customerRepository.findById(customerId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND));
+		userSnapshotCache.getCustomer(customerId);
 
 		// 3. 이익 매매 피드백 목록 조회 (완강 전, pnl > 0)
 		List<FeedbackRequest> profitFeedbacks = feedbackRequestRepository
@@ -614,8 +538,7 @@ public class WeeklyTradingSummaryQueryServiceImpl implements WeeklyTradingSummar
 		DateValidationUtil.validateYearMonthWeek(year, month, week);
 
 		// 2. 고객 조회
-		customerRepository.findById(customerId)
-			.orElseThrow(() -> new UserException(UserErrorStatus.CUSTOMER_NOT_FOUND));
+		userSnapshotCache.getCustomer(customerId);
 
 		// 3. 손실 매매 피드백 목록 조회 (완강 전, pnl <= 0)
 		List<FeedbackRequest> lossFeedbacks = feedbackRequestRepository
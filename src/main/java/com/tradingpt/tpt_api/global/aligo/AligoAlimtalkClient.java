@@ -1,8 +1,11 @@
 package com.tradingpt.tpt_api.global.aligo;
 
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.List;
+
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -11,11 +14,20 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AligoAlimtalkClient {
 
+    private static final String SEND_URL = "https://kakaoapi.aligo.in/akv10/alimtalk/send/";
+
+    /**
+     * 알리고 1회 요청 최대 수신자 수
+     */
+    public static final int MAX_RECEIVERS = 500;
+
     @Value("${aligo.user-id}")
     private String userId;
 
@@ -40,20 +52,24 @@ public class AligoAlimtalkClient {
     @Value("${aligo.button.join.link}")
     private String joinButtonLink;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    public AligoAlimtalkClient(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper) {
+        // 알리고 응답 지연이 발송 스레드를 무한정 잡고 있지 않도록 타임아웃 설정
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofSeconds(3))
+                .setReadTimeout(Duration.ofSeconds(10))
+                .build();
+        this.objectMapper = objectMapper;
+    }
 
 
     /**
      * 📌 회원가입 메시지 (UD_9185)
      * 고객님이 제공해주신 최종 템플릿 텍스트의 줄 바꿈/공백 구조를 그대로 반영했습니다.
-     * @return 알리고 API 응답 전문 (String)
      */
-    public String sendJoinTalk(String phone, String shopName, String name) {
-
-        MultiValueMap<String, String> params = baseParams(joinTplCode, phone);
-
-        // 템플릿 제목을 등록된 내용과 정확히 일치시켜야 합니다.
-        params.add("subject_1", "회원가입");
+    public AlimtalkMessage joinTalk(String phone, String shopName, String name) {
 
         // 💡 최종 템플릿 구조 반영 (변수 순서: SHOPNAME, NAME, SHOPNAME)
         String message = """
@@ -76,39 +92,15 @@ TPT 시스템 트레이딩의 핵심 구조
 성공적인 시작을 위해 OT 영상을 꼭 시청해주세요.
 """.formatted(shopName, name, shopName);
 
-        params.add("message_1", message);
-
-        // 버튼 정보 (JSON 형식)
-        String buttonJson =
-                """
-                [
-                  {
-                    "name": "%s",
-                    "linkType": "WL",
-                    "linkTypeName": "웹링크",
-                    "linkM": "%s",
-                    "linkP": "%s"
-                  }
-                ]
-                """.formatted(joinButtonName, joinButtonLink, joinButtonLink);
-
-        params.add("button_1", buttonJson);
-
-        return send(params, joinTplCode, phone);
+        return new AlimtalkMessage(AlimtalkTemplate.JOIN, phone, message);
     }
 
 
     /**
      * 📌 회원가입 승인 메시지 (UD_9519)
      * 고객님이 제공해주신 최종 템플릿 텍스트의 줄 바꿈/공백 구조를 그대로 반영했습니다.
-     * @return 알리고 API 응답 전문 (String)
      */
-    public String sendApprovalTalk(String phone, String shopName) {
-
-        MultiValueMap<String, String> params = baseParams(joinApprovedTplCode, phone);
-
-        // 템플릿 제목을 등록된 내용과 정확히 일치시켜야 합니다.
-        params.add("subject_1", "회원가입 승인");
+    public AlimtalkMessage approvalTalk(String phone, String shopName) {
 
         // 💡 최종 템플릿 구조 반영 (변수 순서: SHOPNAME, SHOPNAME, SHOPNAME)
         String message = """
@@ -137,16 +129,68 @@ Pro 전용 매매일지로 자신만의 수익 구조를 설계해보시기 바
 채널 추가하고 이 채널의 광고와 마케팅 메시지를 카카오톡으로 받기
 """.formatted(shopName, shopName, shopName);
 
-        params.add("message_1", message);
+        return new AlimtalkMessage(AlimtalkTemplate.JOIN_APPROVED, phone, message);
+    }
 
-        // 버튼 없음
 
-        return send(params, joinApprovedTplCode, phone);
+    /**
+     * 같은 템플릿 알림톡 일괄 발송 (receiver_1 ~ receiver_N, 최대 {@value #MAX_RECEIVERS}건)
+     * 알리고가 요청을 거부하면(code != 0) 예외를 던진다.
+     *
+     * @return 알리고 API 응답 전문 (String)
+     */
+    public String sendBatch(AlimtalkTemplate template, List<AlimtalkMessage> messages) {
+        if (messages.size() > MAX_RECEIVERS) {
+            throw new IllegalArgumentException("알림톡 1회 최대 수신자 수 초과: " + messages.size());
+        }
+
+        String tplCode = tplCodeOf(template);
+        MultiValueMap<String, String> params = baseParams(tplCode);
+
+        String buttonJson = buttonJsonOf(template);
+        for (int i = 0; i < messages.size(); i++) {
+            int n = i + 1;
+            params.add("receiver_" + n, messages.get(i).phone());
+            // 템플릿 제목을 등록된 내용과 정확히 일치시켜야 합니다.
+            params.add("subject_" + n, template.getSubject());
+            params.add("message_" + n, messages.get(i).message());
+            if (buttonJson != null) {
+                params.add("button_" + n, buttonJson);
+            }
+        }
+
+        return send(params, tplCode, messages.size());
+    }
+
+
+    private String tplCodeOf(AlimtalkTemplate template) {
+        return switch (template) {
+            case JOIN -> joinTplCode;
+            case JOIN_APPROVED -> joinApprovedTplCode;
+        };
+    }
+
+    /** 버튼 정보 (JSON 형식, 버튼 없는 템플릿은 null) */
+    private String buttonJsonOf(AlimtalkTemplate template) {
+        if (template != AlimtalkTemplate.JOIN) {
+            return null;
+        }
+        return """
+                [
+                  {
+                    "name": "%s",
+                    "linkType": "WL",
+                    "linkTypeName": "웹링크",
+                    "linkM": "%s",
+                    "linkP": "%s"
+                  }
+                ]
+                """.formatted(joinButtonName, joinButtonLink, joinButtonLink);
     }
 
 
     /** 공통 기본 파라미터 */
-    private MultiValueMap<String, String> baseParams(String tplCode, String phone) {
+    private MultiValueMap<String, String> baseParams(String tplCode) {
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
 
         params.add("apikey", apiKey);
@@ -155,35 +199,37 @@ Pro 전용 매매일지로 자신만의 수익 구조를 설계해보시기 바
         params.add("tpl_code", tplCode);
         params.add("sender", sender);
 
-        params.add("receiver_1", phone);
-        // recvname_1은 필수 파라미터가 아니므로, 실패 시 주석 처리하고 테스트해볼 수 있습니다.
-
-
         return params;
     }
 
 
-    /** POST 요청 및 결과 반환 */
-    private String send(MultiValueMap<String, String> params, String tplCode, String phone) {
-
-        String url = "https://kakaoapi.aligo.in/akv10/alimtalk/send/";
+    /** POST 요청 및 결과 반환 (code != 0 이면 예외) */
+    private String send(MultiValueMap<String, String> params, String tplCode, int receiverCount) {
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 
-        try {
-            String result = restTemplate.postForObject(
-                    url,
-                    new HttpEntity<>(params, headers),
-                    String.class
-            );
+        String result = restTemplate.postForObject(
+                SEND_URL,
+                new HttpEntity<>(params, headers),
+                String.class
+        );
 
-            log.info("알림톡 발송 요청 성공 → {} (템플릿: {}) 응답={}", phone, tplCode, result);
-            return result;
+        int code = resultCode(result);
+        if (code != 0) {
+            throw new IllegalStateException("알림톡 발송 거부 (템플릿: " + tplCode + ") 응답=" + result);
+        }
 
+        log.info("알림톡 발송 요청 성공 → {}건 (템플릿: {}) 응답={}", receiverCount, tplCode, result);
+        return result;
+    }
+
+    private int resultCode(String result) {
+        try {
+            JsonNode root = objectMapper.readTree(result);
+            return root.path("code").asInt(-1);
         } catch (Exception e) {
-            log.error("알림톡 발송 실패 → {} 이유={}", phone, e.getMessage());
-            return "ERROR: " + e.getMessage();
+            return -1;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.tradingpt.tpt_api.global.aligo;
+
+/**
+ * 알림톡 1건 (수신자 + 템플릿에 맞춰 렌더링된 본문)
+ */
+public record AlimtalkMessage(
+	AlimtalkTemplate template,
+	String phone,
+	String message
+) {
+}
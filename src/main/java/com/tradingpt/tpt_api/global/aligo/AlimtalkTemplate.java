@@ -0,0 +1,20 @@
+package com.tradingpt.tpt_api.global.aligo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알리고 알림톡 템플릿
+ * 실제 템플릿 코드는 설정(aligo.template.*)에서 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public enum AlimtalkTemplate {
+
+	JOIN("회원가입"),
+	JOIN_APPROVED("회원가입 승인"),
+	;
+
+	/** 템플릿 제목 (등록된 템플릿 제목과 정확히 일치해야 함) */
+	private final String subject;
+}
@@ -0,0 +1,21 @@
+package com.tradingpt.tpt_api.global.batch;
+
+import java.time.Duration;
+
+/**
+ * 청크 배치 실행 결과
+ *
+ * @param jobName      작업 이름
+ * @param chunks       처리한 청크 수
+ * @param selectedRows 대상으로 조회된 행 수
+ * @param affectedRows 실제 변경/삭제된 행 수
+ * @param elapsed      소요 시간
+ */
+public record BatchJobResult(
+	String jobName,
+	int chunks,
+	long selectedRows,
+	long affectedRows,
+	Duration elapsed
+) {
+}
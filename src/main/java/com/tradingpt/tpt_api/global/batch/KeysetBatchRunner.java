@@ -0,0 +1,118 @@
+package com.tradingpt.tpt_api.global.batch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ID keyset 기반 청크 배치 실행기
+ *
+ * <p>대상 ID 를 id 오름차순으로 chunkSize 만큼 조회하고, 청크마다 별도 트랜잭션에서 처리 후 커밋한다.
+ * 엔티티 전체를 한 트랜잭션에 올리지 않으므로 대상 행 수가 늘어나도 메모리/락 보유 시간이 일정하다.
+ *
+ * <p>Actuator(/actuator/metrics) 로 노출되는 지표 (tag: job)
+ * <ul>
+ *   <li>batch.job.rows{kind=selected|affected}: 처리 행 수</li>
+ *   <li>batch.job.chunks: 커밋된 청크 수</li>
+ *   <li>batch.job.chunk.duration: 청크 1개 처리 시간</li>
+ *   <li>batch.job.duration: 작업 전체 소요 시간</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class KeysetBatchRunner {
+
+	private final TransactionTemplate chunkTransaction;
+	private final MeterRegistry meterRegistry;
+
+	public KeysetBatchRunner(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+		this.chunkTransaction = new TransactionTemplate(transactionManager);
+		this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 청크 배치 실행
+	 *
+	 * @param jobName        작업 이름 (로그/메트릭 태그)
+	 * @param chunkSize      청크 크기
+	 * @param idFetcher      (마지막 처리 ID, 청크 크기) → 다음 대상 ID 목록 (id 오름차순)
+	 * @param chunkProcessor 청크 ID 목록 → 변경된 행 수 (청크 트랜잭션 안에서 실행)
+	 * @return 실행 결과
+	 */
+	public BatchJobResult run(
+		String jobName,
+		int chunkSize,
+		BiFunction<Long, Integer, List<Long>> idFetcher,
+		Function<List<Long>, Integer> chunkProcessor
+	) {
+		Counter selectedCounter = rowCounter(jobName, "selected");
+		Counter affectedCounter = rowCounter(jobName, "affected");
+		Counter chunkCounter = Counter.builder("batch.job.chunks")
+			.tag("job", jobName)
+			.register(meterRegistry);
+		Timer chunkTimer = Timer.builder("batch.job.chunk.duration")
+			.tag("job", jobName)
+			.register(meterRegistry);
+
+		long startedAt = System.nanoTime();
+		long lastId = 0L;
+		int chunks = 0;
+		long selected = 0L;
+		long affected = 0L;
+
+		while (true) {
+			List<Long> ids = idFetcher.apply(lastId, chunkSize);
+			if (ids.isEmpty()) {
+				break;
+			}
+
+			Timer.Sample sample = Timer.start();
+			Integer changed = chunkTransaction.execute(status -> chunkProcessor.apply(ids));
+			sample.stop(chunkTimer);
+
+			int changedRows = changed != null ? changed : 0;
+			chunks++;
+			selected += ids.size();
+			affected += changedRows;
+			lastId = ids.get(ids.size() - 1);
+
+			chunkCounter.increment();
+			selectedCounter.increment(ids.size());
+			affectedCounter.increment(changedRows);
+
+			log.info("[{}] 청크 {} 커밋: 대상={}, 변경={}, 누적={}, lastId={}",
+				jobName, chunks, ids.size(), changedRows, affected, lastId);
+
+			if (ids.size() < chunkSize) {
+				break;
+			}
+		}
+
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+		Timer.builder("batch.job.duration")
+			.tag("job", jobName)
+			.register(meterRegistry)
+			.record(elapsed);
+
+		return new BatchJobResult(jobName, chunks, selected, affected, elapsed);
+	}
+
+	private Counter rowCounter(String jobName, String kind) {
+		return Counter.builder("batch.job.rows")
+			.tag("job", jobName)
+			.tag("kind", kind)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,54 @@
+package com.tradingpt.tpt_api.global.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.tradingpt.tpt_api.global.exception.BaseException;
+import com.tradingpt.tpt_api.global.exception.code.GlobalErrorStatus;
+
+/**
+ * (createdAt, id) 기반 keyset 페이지네이션 커서
+ *
+ * <p>정렬 기준이 createdAt DESC, id DESC인 목록에서 마지막으로 받은 항목의 위치를 나타낸다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출하고, 내부 형식은 공개하지 않는다.
+ * createdAt이 같은 행이 여러 개여도 id가 tie-breaker 역할을 하므로 누락/중복 없이 이어서 조회할 수 있다.</p>
+ */
+public record CreatedAtCursor(LocalDateTime createdAt, Long id) {
+
+	private static final String DELIMITER = "_";
+
+	public static CreatedAtCursor of(LocalDateTime createdAt, Long id) {
+		return new CreatedAtCursor(createdAt, id);
+	}
+
+	/**
+	 * 클라이언트가 전달한 커서 문자열을 해석합니다.
+	 *
+	 * @param encoded 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+	 * @return 커서 (첫 페이지면 null)
+	 * @throws BaseException 형식이 올바르지 않은 경우
+	 */
+	public static CreatedAtCursor decode(String encoded) {
+		if (encoded == null || encoded.isBlank()) {
+			return null;
+		}
+
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+			int delimiterIndex = raw.lastIndexOf(DELIMITER);
+			return new CreatedAtCursor(
+				LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+				Long.parseLong(raw.substring(delimiterIndex + 1))
+			);
+		} catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+			throw new BaseException(GlobalErrorStatus.INVALID_PARAMETER, "잘못된 커서 값입니다.");
+		}
+	}
+
+	public String encode() {
+		String raw = createdAt.toString() + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -30,6 +30,10 @@ public class SliceInfo {
 	@Schema(description = "마지막 페이지 여부", example = "false")
 	private Boolean isLast;
 
+	@Schema(description = "다음 페이지 커서 (커서 기반 조회에서만 사용, 마지막 페이지면 null)",
+		example = "MjAyNS0wMS0xNVQxMDozMDowMF8xMjM")
+	private String nextCursor;
+
 	public static SliceInfo of(Slice<?> slice) {
 		return SliceInfo.builder()
 			.currentPage(slice.getNumber())
@@ -39,4 +43,18 @@ public class SliceInfo {
 			.isLast(slice.isLast())
 			.build();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 커서 기반 조회용 슬라이스 정보
+	 * 페이지 번호 대신 nextCursor로 다음 페이지를 요청한다.
+	 */
+	public static SliceInfo ofCursor(Slice<?> slice, boolean isFirst, String nextCursor) {
+		return SliceInfo.builder()
+			.pageSize(slice.getSize())
+			.hasNext(slice.hasNext())
+			.isFirst(isFirst)
+			.isLast(!slice.hasNext())
+			.nextCursor(slice.hasNext() ? nextCursor : null)
+			.build();
+	}
+}
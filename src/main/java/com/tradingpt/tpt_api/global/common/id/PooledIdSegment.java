@@ -0,0 +1,22 @@
+package com.tradingpt.tpt_api.global.common.id;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 풀링 ID 를 쓰는 테이블 목록
+ * 엔티티의 {@code @TableGenerator(pkColumnValue = ...)} 와 같은 세그먼트 이름을 쓴다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PooledIdSegment {
+
+	LEVEL_TEST_RESPONSE(PooledIds.LEVEL_TEST_RESPONSE, "level_test_response", "leveltest_response_id"),
+	FEEDBACK_REQUEST_ATTACHMENT(PooledIds.FEEDBACK_REQUEST_ATTACHMENT, "feedback_request_attachment",
+		"feedback_reqeust_attachment_id"),
+	PAYMENT(PooledIds.PAYMENT, "payment", "payment_id");
+
+	private final String segment;
+	private final String tableName;
+	private final String idColumn;
+}
@@ -0,0 +1,154 @@
+package com.tradingpt.tpt_api.global.common.id;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * id_sequence 테이블 준비 및 세그먼트 시작 값 보정
+ *
+ * <p>EntityManagerFactory 보다 먼저 실행되어(첫 INSERT 전) 각 세그먼트를 준비한다.
+ * pooled optimizer 는 next_val 을 구간 상한으로 보고 {@code next_val - ALLOCATION_SIZE + 1} 부터 발급한다.
+ *
+ * <p><b>IDENTITY → 풀링 전환 (세그먼트 행이 처음 만들어질 때 한 번)</b>
+ * <ul>
+ *     <li>next_val 을 {@code AUTO_INCREMENT + SAFETY_GAP + ALLOCATION_SIZE} 로 잡는다.
+ *     MAX(id) 가 아니라 AUTO_INCREMENT 기준이라 롤백으로 비어 있는 값도 건너뛴다.</li>
+ *     <li>테이블 AUTO_INCREMENT 를 {@code next_val + RESERVED_RANGE} 로 옮긴다.
+ *     롤링 배포 중 아직 IDENTITY 로 INSERT 하는 구버전 서버는 그 뒤 구간에서 ID 를 받으므로
+ *     신버전 서버의 풀링 구간과 겹치지 않는다.</li>
+ * </ul>
+ * 풀링 ID 는 AUTO_INCREMENT 보다 작으므로 InnoDB 가 AUTO_INCREMENT 를 끌어올리지 않고, 두 구간은 계속 분리된다.
+ *
+ * <p><b>이후 기동</b>: next_val 을 풀링 구간 안의 {@code MAX(id) + ALLOCATION_SIZE} 이상으로만 올린다.
+ * 구버전 서버가 쓴 AUTO_INCREMENT 구간의 행은 보지 않아 그 구간으로 뛰어들지 않는다.
+ * GREATEST 로만 올리기 때문에 여러 서버가 동시에 기동해도, 재기동해도 안전하다.
+ *
+ * <p><b>배포 순서</b>
+ * <ol>
+ *     <li>별도 DB 작업 없이 롤링 배포한다. 첫 신버전 서버가 트래픽을 받기 전에 전환이 끝난다.</li>
+ *     <li>id_sequence 행을 미리 만들거나 값을 수동으로 넣지 않는다. 행이 있으면 전환 단계를 건너뛴다.</li>
+ *     <li>롤백해도 구버전은 옮겨진 AUTO_INCREMENT 구간을 쓰므로 다시 배포해도 겹치지 않는다.</li>
+ * </ol>
+ *
+ * <p>ddl-auto=none 인 운영 환경을 위해 테이블도 직접 만든다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PooledIdSequenceInitializer implements InitializingBean {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterPropertiesSet() {
+		jdbcTemplate.execute("""
+			CREATE TABLE IF NOT EXISTS %s (
+			    %s VARCHAR(255) NOT NULL PRIMARY KEY,
+			    %s BIGINT
+			)
+			""".formatted(PooledIds.TABLE, PooledIds.PK_COLUMN, PooledIds.VALUE_COLUMN));
+
+		for (PooledIdSegment segment : PooledIdSegment.values()) {
+			if (!tableExists(segment.getTableName())) {
+				// 빈 스키마(ddl-auto 가 아직 만들지 않음): Hibernate 가 초기값으로 세그먼트를 만든다
+				log.info("Pooled id segment skipped, table not created yet: {}", segment.getTableName());
+				continue;
+			}
+
+			if (createSegment(segment)) {
+				reserveRange(segment);
+			} else {
+				raiseToPooledMax(segment);
+			}
+
+			log.info("Pooled id segment ready: segment={}, nextVal={}", segment.getSegment(), nextVal(segment));
+		}
+	}
+
+	/**
+	 * 세그먼트 행이 없을 때만 AUTO_INCREMENT 뒤로 띄워 만든다.
+	 * 동시에 기동한 서버 중 한 대만 true 를 받는다.
+	 */
+	private boolean createSegment(PooledIdSegment segment) {
+		long autoIncrement = autoIncrementOf(segment.getTableName());
+		int inserted = jdbcTemplate.update("""
+			INSERT IGNORE INTO %1$s (%2$s, %3$s)
+			SELECT ?, GREATEST(COALESCE(MAX(%5$s), 0), ? - 1) + ? FROM %4$s
+			""".formatted(PooledIds.TABLE, PooledIds.PK_COLUMN, PooledIds.VALUE_COLUMN,
+				segment.getTableName(), segment.getIdColumn()),
+			segment.getSegment(), autoIncrement, PooledIds.SAFETY_GAP + PooledIds.ALLOCATION_SIZE);
+		return inserted > 0;
+	}
+
+	/**
+	 * 구버전 서버의 IDENTITY INSERT 가 풀링 구간 뒤에서 ID 를 받도록 AUTO_INCREMENT 를 옮긴다.
+	 */
+	private void reserveRange(PooledIdSegment segment) {
+		long target = nextVal(segment) + PooledIds.RESERVED_RANGE;
+		if (autoIncrementOf(segment.getTableName()) >= target) {
+			return;
+		}
+		jdbcTemplate.execute("ALTER TABLE %s AUTO_INCREMENT = %d".formatted(segment.getTableName(), target));
+		log.info("Pooled id range reserved: table={}, autoIncrement={}", segment.getTableName(), target);
+	}
+
+	/**
+	 * 풀링 구간({@code next_val + RESERVED_RANGE} 미만) 안의 행만 기준으로 next_val 을 올린다.
+	 */
+	private void raiseToPooledMax(PooledIdSegment segment) {
+		jdbcTemplate.update("""
+			UPDATE %1$s s
+			SET s.%3$s = GREATEST(COALESCE(s.%3$s, 0), (
+			    SELECT COALESCE(MAX(t.%5$s), 0) + ? FROM %4$s t
+			    WHERE t.%5$s < COALESCE(s.%3$s, 0) + ?
+			))
+			WHERE s.%2$s = ?
+			""".formatted(PooledIds.TABLE, PooledIds.PK_COLUMN, PooledIds.VALUE_COLUMN,
+				segment.getTableName(), segment.getIdColumn()),
+			PooledIds.ALLOCATION_SIZE, PooledIds.RESERVED_RANGE, segment.getSegment());
+	}
+
+	private Long nextVal(PooledIdSegment segment) {
+		return jdbcTemplate.queryForObject(
+			"SELECT %s FROM %s WHERE %s = ?".formatted(
+				PooledIds.VALUE_COLUMN, PooledIds.TABLE, PooledIds.PK_COLUMN),
+			Long.class, segment.getSegment());
+	}
+
+	/**
+	 * 테이블의 현재 AUTO_INCREMENT 값
+	 * MySQL 8 은 information_schema 통계를 캐시하므로 같은 커넥션에서 캐시를 끄고 읽는다.
+	 */
+	private long autoIncrementOf(String tableName) {
+		Long value = jdbcTemplate.execute((ConnectionCallback<Long>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET SESSION information_schema_stats_expiry = 0");
+			}
+			try (PreparedStatement statement = connection.prepareStatement("""
+				SELECT AUTO_INCREMENT FROM information_schema.tables
+				WHERE table_schema = DATABASE() AND table_name = ?
+				""")) {
+				statement.setString(1, tableName);
+				try (ResultSet resultSet = statement.executeQuery()) {
+					return resultSet.next() ? resultSet.getLong(1) : 1L;
+				}
+			}
+		});
+		return value == null || value < 1 ? 1L : value;
+	}
+
+	private boolean tableExists(String tableName) {
+		Integer count = jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM information_schema.tables
+			WHERE table_schema = DATABASE() AND table_name = ?
+			""", Integer.class, tableName);
+		return count != null && count > 0;
+	}
+}
@@ -0,0 +1,39 @@
+package com.tradingpt.tpt_api.global.common.id;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 풀링 ID 생성기 상수 (대량 INSERT 테이블용)
+ *
+ * <p>IDENTITY 전략은 INSERT 를 실행해야 ID 를 알 수 있어서 Hibernate JDBC 배치가 꺼진다.
+ * 대량으로 INSERT 되는 테이블은 {@code id_sequence} 테이블의 구간 단위(pooled optimizer)로
+ * ID 를 미리 받아 배치 INSERT 가 동작하게 한다.
+ *
+ * <p>여러 서버가 같은 구간을 받지 않도록 구간 할당은 DB 행 잠금으로 처리되고,
+ * 서버마다 {@value #ALLOCATION_SIZE}개 단위로 ID 를 예약한다. (서버 재시작 시 남은 구간은 건너뜀)
+ *
+ * <p>JS Number 안전 범위(2^53)를 넘지 않도록 기존 AUTO_INCREMENT 값 뒤를 이어서 발급한다.
+ * 시작 값은 {@link PooledIdSequenceInitializer} 가 기동 시 맞춘다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PooledIds {
+
+	public static final String TABLE = "id_sequence";
+	public static final String PK_COLUMN = "sequence_name";
+	public static final String VALUE_COLUMN = "next_val";
+
+	/** 서버가 한 번에 예약하는 ID 개수 (hibernate.jdbc.batch_size 와 같은 크기 단위) */
+	public static final int ALLOCATION_SIZE = 100;
+
+	/** 전환 시 AUTO_INCREMENT 위로 띄우는 간격 (시작 값을 읽은 뒤 구버전 서버가 끼워 넣는 행을 흡수) */
+	public static final long SAFETY_GAP = 10_000L;
+
+	/** 풀링 ID 전용 구간 크기. 전환 시 AUTO_INCREMENT 를 이 구간 뒤로 옮긴다. */
+	public static final long RESERVED_RANGE = 100_000_000L;
+
+	// ===== 세그먼트 (테이블별 id_sequence 행) =====
+	public static final String LEVEL_TEST_RESPONSE = "level_test_response";
+	public static final String FEEDBACK_REQUEST_ATTACHMENT = "feedback_request_attachment";
+	public static final String PAYMENT = "payment";
+}
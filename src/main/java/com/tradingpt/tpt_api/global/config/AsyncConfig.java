@@ -1,37 +1,99 @@
 package com.tradingpt.tpt_api.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
-    @Bean(name = "mailExecutor")
-    public Executor mailExecutor() {
+    /**
+     * 알림(SMS/이메일/알림톡) 발송 전용 스레드풀
+     * 채널별 동시 발송 수는 디스패처의 Semaphore 로 제한한다. (디스패치 1개 + 채널별 발송 스레드)
+     * 큐가 차면 거절하고, Outbox 에 남은 알림은 스케줄러가 다시 처리한다.
+     */
+    @Bean(name = "notificationExecutor")
+    public Executor notificationExecutor(@Value("${notification.dispatch.threads:8}") int threads) {
         ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
-        exec.setCorePoolSize(2);
-        exec.setMaxPoolSize(4);
+        exec.setCorePoolSize(Math.max(threads, 2));
+        exec.setMaxPoolSize(Math.max(threads, 2));
+        exec.setQueueCapacity(200);
+        exec.setThreadNamePrefix("notification-");
+        exec.setWaitForTasksToCompleteOnShutdown(true);
+        exec.setAwaitTerminationSeconds(30);
+        exec.initialize();
+        return exec;
+    }
+
+    /**
+     * 비동기 작업 큐(async_job) 실행 스레드풀
+     * 작업 종류별 동시 실행 수는 디스패처의 Semaphore 로 제한한다. (종류별 디스패치 + 실행 스레드)
+     * 큐가 차면 거절하고, 작업은 점유 해제되어 스케줄러가 다시 처리한다.
+     */
+    @Bean(name = "asyncJobExecutor")
+    public Executor asyncJobExecutor(@Value("${async-job.threads:8}") int threads) {
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setCorePoolSize(Math.max(threads, 2));
+        exec.setMaxPoolSize(Math.max(threads, 2));
         exec.setQueueCapacity(100);
-        exec.setThreadNamePrefix("mail-");
+        exec.setThreadNamePrefix("async-job-");
+        exec.setWaitForTasksToCompleteOnShutdown(true);
+        exec.setAwaitTerminationSeconds(30);
         exec.initialize();
         return exec;
     }
 
     /**
-     * 채점 전용 스레드풀
+     * 정기 결제 PG 호출 전용 스레드풀
+     * 동시에 진행되는 NicePay 호출 수의 상한 (큐가 차면 호출 스레드에서 직접 실행하여 역압)
      */
-    @Bean(name = "gradingExecutor")
-    public Executor gradingExecutor() {
+    @Bean(name = "billingExecutor")
+    public Executor billingExecutor(@Value("${billing.recurring.concurrency:8}") int concurrency) {
         ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
-        exec.setCorePoolSize(4); // 동시에 여러 채점 가능
-        exec.setMaxPoolSize(8);
-        exec.setQueueCapacity(200);
-        exec.setThreadNamePrefix("grading-");
+        exec.setCorePoolSize(concurrency);
+        exec.setMaxPoolSize(concurrency);
+        exec.setQueueCapacity(concurrency * 4);
+        exec.setThreadNamePrefix("billing-");
+        exec.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        exec.setWaitForTasksToCompleteOnShutdown(true);
+        exec.setAwaitTerminationSeconds(60);
+        exec.initialize();
+        return exec;
+    }
+
+    /**
+     * S3 업로드 전용 스레드풀
+     * 업로드 파일의 스트림을 읽어 TransferManager 전송 파이프라인에 넣는다. (큐가 차면 요청 스레드에서 직접 읽음)
+     */
+    @Bean(name = "uploadExecutor")
+    public Executor uploadExecutor(@Value("${aws.s3.upload-concurrency:8}") int concurrency) {
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setCorePoolSize(concurrency);
+        exec.setMaxPoolSize(concurrency);
+        exec.setQueueCapacity(concurrency * 8);
+        exec.setThreadNamePrefix("s3-upload-");
+        exec.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        exec.initialize();
+        return exec;
+    }
+
+    /**
+     * 공개 피드 재생성 전용 스레드풀
+     * 피드별 재생성은 PrecomputedFeedCache 가 1개로 합치므로 피드 수만큼의 스레드면 충분하다.
+     */
+    @Bean(name = "feedRefreshExecutor")
+    public Executor feedRefreshExecutor() {
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setCorePoolSize(2);
+        exec.setMaxPoolSize(2);
+        exec.setQueueCapacity(16);
+        exec.setThreadNamePrefix("feed-refresh-");
         exec.initialize();
         return exec;
     }
@@ -0,0 +1,37 @@
+package com.tradingpt.tpt_api.global.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.tradingpt.tpt_api.global.infrastructure.cache.CatalogCacheRegion;
+import com.tradingpt.tpt_api.global.infrastructure.cache.TieredCatalogCache;
+
+/**
+ * 카탈로그 캐시 무효화 메시지 구독 설정
+ * 다른 인스턴스에서 관리자 수정이 커밋되면 이 인스턴스의 로컬(L1) 캐시를 비운다.
+ */
+@Configuration
+public class CatalogCacheConfig {
+
+	@Bean
+	public RedisMessageListenerContainer catalogCacheListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		TieredCatalogCache tieredCatalogCache
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener((message, pattern) -> {
+			CatalogCacheRegion region = CatalogCacheRegion.fromCacheName(
+				new String(message.getBody(), StandardCharsets.UTF_8));
+			if (region != null) {
+				tieredCatalogCache.evictLocal(region);
+			}
+		}, new ChannelTopic(TieredCatalogCache.INVALIDATION_CHANNEL));
+		return container;
+	}
+}
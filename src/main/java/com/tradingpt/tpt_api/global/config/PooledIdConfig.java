@@ -0,0 +1,30 @@
+package com.tradingpt.tpt_api.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.tradingpt.tpt_api.global.common.id.PooledIdSequenceInitializer;
+
+/**
+ * 풀링 ID 생성기 설정
+ * id_sequence 시작 값 보정이 EntityManagerFactory 생성(= 첫 INSERT) 전에 끝나도록 의존 관계를 건다.
+ */
+@Configuration
+public class PooledIdConfig {
+
+	private static final String INITIALIZER_BEAN_NAME = "pooledIdSequenceInitializer";
+
+	@Bean(name = INITIALIZER_BEAN_NAME)
+	public PooledIdSequenceInitializer pooledIdSequenceInitializer(DataSource dataSource) {
+		return new PooledIdSequenceInitializer(new JdbcTemplate(dataSource));
+	}
+
+	@Bean
+	public static EntityManagerFactoryDependsOnPostProcessor pooledIdEntityManagerFactoryDependsOnPostProcessor() {
+		return new EntityManagerFactoryDependsOnPostProcessor(INITIALIZER_BEAN_NAME);
+	}
+}
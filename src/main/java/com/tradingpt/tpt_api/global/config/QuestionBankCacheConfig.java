@@ -0,0 +1,29 @@
+package com.tradingpt.tpt_api.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.tradingpt.tpt_api.domain.leveltest.cache.QuestionBankCache;
+
+/**
+ * 레벨테스트 문제은행 갱신 메시지 구독 설정
+ * 다른 인스턴스에서 문항 변경이 커밋되면 이 인스턴스의 문제은행 스냅샷을 다시 적재한다.
+ */
+@Configuration
+public class QuestionBankCacheConfig {
+
+	@Bean
+	public RedisMessageListenerContainer questionBankCacheListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		QuestionBankCache questionBankCache
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener((message, pattern) -> questionBankCache.refreshLocal(),
+			new ChannelTopic(QuestionBankCache.REFRESH_CHANNEL));
+		return container;
+	}
+}
@@ -1,28 +1,66 @@
 package com.tradingpt.tpt_api.global.config;
 
+import com.tradingpt.tpt_api.global.session.AccessTimeThrottlingSessionRepository;
+import com.tradingpt.tpt_api.global.session.CompactSessionSerializer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.session.FlushMode;
+import org.springframework.session.SaveMode;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
 import org.springframework.session.data.redis.config.ConfigureRedisAction;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisIndexedHttpSession;
 import org.springframework.session.web.http.*;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
-@EnableRedisIndexedHttpSession( maxInactiveIntervalInSeconds = 86400,flushMode = FlushMode.IMMEDIATE)
+@EnableRedisIndexedHttpSession(maxInactiveIntervalInSeconds = 86400)
 public class RedisSessionConfig {
 
     private static final String ADMIN_PATH_PREFIX = "/api/v1/admin";
 
-    /** Spring Session 전용: JDK 직렬화 사용 (SavedRequest 등 Jackson 이슈 방지) */
+    /**
+     * Spring Session 전용 값 직렬화
+     * 자주 쓰는 값(시각/문자열/로그인 SecurityContext)은 압축 형식, 나머지는 JDK 직렬화 (SavedRequest 등 Jackson 이슈 방지)
+     * compact-codec=false 이면 JDK 직렬화로만 기록한다. (읽기는 두 형식 모두 지원)
+     */
+    @Bean
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer(
+            @Value("${session.persistence.compact-codec:true}") boolean compactCodec) {
+        return new CompactSessionSerializer(getClass().getClassLoader(), compactCodec);
+    }
+
+    /**
+     * 세션 기록 방식
+     *  - ON_SAVE: 요청 종료(또는 응답 커밋) 시 한 번에 기록 (IMMEDIATE 는 속성 변경마다 즉시 기록)
+     *  - ON_SET_ATTRIBUTE: 변경된 속성만 기록
+     */
+    @Bean
+    public SessionRepositoryCustomizer<RedisIndexedSessionRepository> sessionPersistenceCustomizer(
+            @Value("${session.persistence.flush-mode:ON_SAVE}") FlushMode flushMode) {
+        return repository -> {
+            repository.setFlushMode(flushMode);
+            repository.setSaveMode(SaveMode.ON_SET_ATTRIBUTE);
+        };
+    }
+
+    /**
+     * lastAccessedTime 이 access-time-write-interval 이상 바뀐 경우에만 Redis 에 기록 (0 이면 매 요청 기록)
+     * SessionRepositoryFilter / SessionRegistry / LogoutHelper 는 이 저장소를 사용한다.
+     */
     @Bean
-    public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
-        return new JdkSerializationRedisSerializer(getClass().getClassLoader());
+    @Primary
+    public AccessTimeThrottlingSessionRepository accessTimeThrottlingSessionRepository(
+            RedisIndexedSessionRepository sessionRepository,
+            @Value("${session.persistence.access-time-write-interval:PT60S}") Duration writeInterval) {
+        return new AccessTimeThrottlingSessionRepository(sessionRepository, writeInterval);
     }
 
     /**
@@ -1,15 +1,21 @@
 package com.tradingpt.tpt_api.global.config;
 
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
 
 @Configuration
 public class S3Config {
@@ -23,23 +29,71 @@ public class S3Config {
 	@Value("${aws.s3.region}")
 	private String region;
 
+	/**
+	 * S3 호환 스토리지(LocalStack, MinIO 등) 엔드포인트. 비어 있으면 AWS 기본 엔드포인트를 사용한다.
+	 * 지정하면 path-style 주소(http://host/bucket/key)로 접근한다.
+	 */
+	@Value("${aws.s3.endpoint:}")
+	private String endpoint;
+
+	/** 멀티파트 파트 크기 (S3 최소 5MB) */
+	@Value("${aws.s3.transfer.part-size-bytes:8388608}")
+	private long partSizeBytes;
+
+	/** CRT 클라이언트가 동시에 여는 연결 수를 정하는 목표 처리량 */
+	@Value("${aws.s3.transfer.target-throughput-gbps:5.0}")
+	private double targetThroughputGbps;
+
 	@Bean
 	public S3Client s3Client() {
 		AwsCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-		return S3Client.builder()
+		var builder = S3Client.builder()
 			.region(Region.of(region))
-			.credentialsProvider(StaticCredentialsProvider.create(credentials))
-			.build();
+			.credentialsProvider(StaticCredentialsProvider.create(credentials));
+		if (StringUtils.hasText(endpoint)) {
+			builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+		}
+		return builder.build();
 	}
 
 	@Bean
 	public S3Presigner s3Presigner() {
 		AwsCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-		return S3Presigner.builder()
+		var builder = S3Presigner.builder()
+			.region(Region.of(region))
+			.credentialsProvider(StaticCredentialsProvider.create(credentials));
+		if (StringUtils.hasText(endpoint)) {
+			builder.endpointOverride(URI.create(endpoint))
+				.serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * CRT 기반 비동기 S3 클라이언트
+	 * 큰 객체는 파트 크기 단위로 나눠 여러 연결에서 동시에 전송한다.
+	 */
+	@Bean
+	public S3AsyncClient s3AsyncClient() {
+		AwsCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+		var builder = S3AsyncClient.crtBuilder()
 			.region(Region.of(region))
 			.credentialsProvider(StaticCredentialsProvider.create(credentials))
+			.minimumPartSizeInBytes(partSizeBytes)
+			.targetThroughputInGbps(targetThroughputGbps);
+		if (StringUtils.hasText(endpoint)) {
+			builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+		}
+		return builder.build();
+	}
+
+	@Bean
+	public S3TransferManager s3TransferManager(S3AsyncClient s3AsyncClient) {
+		return S3TransferManager.builder()
+			.s3Client(s3AsyncClient)
 			.build();
 	}
 }
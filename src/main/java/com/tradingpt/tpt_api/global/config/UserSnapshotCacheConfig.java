@@ -0,0 +1,41 @@
+package com.tradingpt.tpt_api.global.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.tradingpt.tpt_api.domain.user.cache.UserSnapshotCache;
+
+/**
+ * 사용자 스냅샷 캐시 무효화 메시지 구독 설정
+ * 다른 인스턴스에서 고객 정보 변경이 커밋되면 이 인스턴스의 로컬(L1) 캐시에서 해당 고객을 제거한다.
+ */
+@Configuration
+public class UserSnapshotCacheConfig {
+
+	@Bean
+	public RedisMessageListenerContainer userSnapshotCacheListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		UserSnapshotCache userSnapshotCache
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener((message, pattern) -> {
+			String body = new String(message.getBody(), StandardCharsets.UTF_8);
+			List<Long> customerIds = new ArrayList<>();
+			for (String id : body.split(",")) {
+				if (!id.isBlank()) {
+					customerIds.add(Long.valueOf(id.trim()));
+				}
+			}
+			userSnapshotCache.evictLocal(customerIds);
+		}, new ChannelTopic(UserSnapshotCache.INVALIDATION_CHANNEL));
+		return container;
+	}
+}
@@ -0,0 +1,54 @@
+package com.tradingpt.tpt_api.global.infrastructure.cache;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카탈로그 캐시 영역
+ *
+ * <p>관리자만 변경하는 공용 콘텐츠(챕터/강의/칼럼/카테고리)를 영역 단위로 캐시하고 무효화한다.
+ * 사용자별 데이터(진도 등)는 캐시하지 않고 조회 시점에 합친다.
+ */
+@Getter
+@AllArgsConstructor
+public enum CatalogCacheRegion {
+
+	CURRICULUM("curriculum", Duration.ofSeconds(30), Duration.ofMinutes(30), 200),
+	LECTURE_DETAIL("lecture-detail", Duration.ofSeconds(30), Duration.ofMinutes(30), 1_000),
+	COLUMN_LIST("column-list", Duration.ofSeconds(10), Duration.ofMinutes(10), 500),
+	COLUMN_CATEGORY("column-category", Duration.ofSeconds(30), Duration.ofMinutes(30), 10),
+	PRO_LECTURE_COUNT("pro-lecture-count", Duration.ofSeconds(30), Duration.ofMinutes(30), 1),
+	;
+
+	/** Redis 키 / 메트릭 태그에 사용하는 이름 */
+	private final String cacheName;
+
+	/** 로컬(L1) 캐시 유효 시간 (다른 인스턴스의 무효화 메시지를 놓쳤을 때의 최대 지연) */
+	private final Duration localTtl;
+
+	/** Redis(L2) 캐시 유효 시간 */
+	private final Duration redisTtl;
+
+	/** 로컬(L1) 캐시 최대 항목 수 */
+	private final long localMaximumSize;
+
+	public String redisKey() {
+		return "catalog-cache:" + cacheName;
+	}
+
+	/** 무효화 세대 번호 키 (무효화 이전에 시작한 적재 결과가 L2 에 남지 않도록) */
+	public String generationKey() {
+		return "catalog-cache:" + cacheName + ":gen";
+	}
+
+	public static CatalogCacheRegion fromCacheName(String cacheName) {
+		for (CatalogCacheRegion region : values()) {
+			if (region.cacheName.equals(cacheName)) {
+				return region;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,196 @@
+package com.tradingpt.tpt_api.global.infrastructure.cache;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단 카탈로그 캐시 (L1 로컬 Caffeine → L2 Redis → DB)
+ *
+ * <ul>
+ *   <li>L2 는 영역별 Redis Hash 하나에 저장하여 영역 단위 무효화를 DEL 한 번으로 처리</li>
+ *   <li>무효화는 트랜잭션 커밋 이후 수행하고, Pub/Sub 으로 모든 인스턴스의 L1 을 비운다</li>
+ *   <li>무효화마다 영역 세대 번호를 올리고, 적재 시작 시점의 세대가 그대로일 때만 L2 에 기록한다
+ *       (무효화 전에 DB 에서 읽은 값이 DEL 이후에 기록되어 남는 것을 방지)</li>
+ *   <li>L2 TTL 은 Hash 가 새로 만들어질 때만 설정한다 (기록마다 연장하면 영역이 만료되지 않음)</li>
+ *   <li>Redis 장애 시에는 캐시를 건너뛰고 DB 에서 조회한다 (조회 실패로 번지지 않도록)</li>
+ * </ul>
+ *
+ * <p>메트릭: {@code catalog.cache.requests{region, tier=l1|l2, result=hit|miss}}
+ */
+@Slf4j
+@Component
+public class TieredCatalogCache {
+
+	public static final String INVALIDATION_CHANNEL = "catalog-cache:invalidate";
+
+	private static final String METRIC_REQUESTS = "catalog.cache.requests";
+
+	/**
+	 * 적재 시작 시점의 세대가 현재 세대와 같을 때만 기록하고, Hash 를 새로 만든 경우에만 TTL 설정
+	 * KEYS[1]=영역 Hash, KEYS[2]=세대 키, ARGV[1]=적재 시작 시 세대, ARGV[2]=TTL(초), ARGV[3]=field, ARGV[4]=value
+	 */
+	private static final RedisScript<Long> WRITE_IF_CURRENT = new DefaultRedisScript<>("""
+		local current = redis.call('GET', KEYS[2]) or '0'
+		if current ~= ARGV[1] then
+		  return 0
+		end
+		local created = redis.call('EXISTS', KEYS[1]) == 0
+		redis.call('HSET', KEYS[1], ARGV[3], ARGV[4])
+		if created then
+		  redis.call('EXPIRE', KEYS[1], ARGV[2])
+		end
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Map<CatalogCacheRegion, Cache<String, Object>> localCaches = new EnumMap<>(CatalogCacheRegion.class);
+
+	public TieredCatalogCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+
+		for (CatalogCacheRegion region : CatalogCacheRegion.values()) {
+			localCaches.put(region, Caffeine.newBuilder()
+				.expireAfterWrite(region.getLocalTtl())
+				.maximumSize(region.getLocalMaximumSize())
+				.build());
+		}
+	}
+
+	/**
+	 * 캐시 조회 (없으면 loader 로 적재)
+	 * 같은 인스턴스에서 같은 키의 동시 미스는 한 번만 적재한다.
+	 *
+	 * @param region 캐시 영역
+	 * @param key    영역 내 키
+	 * @param type   Redis 역직렬화 타입
+	 * @param loader DB 조회 (null 을 반환하면 안 됨)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(CatalogCacheRegion region, String key, TypeReference<T> type, Supplier<T> loader) {
+		Cache<String, Object> localCache = localCaches.get(region);
+
+		Object cached = localCache.getIfPresent(key);
+		if (cached != null) {
+			record(region, "l1", "hit");
+			return (T)cached;
+		}
+		record(region, "l1", "miss");
+
+		return (T)localCache.get(key, k -> loadFromRedis(region, k, type, loader));
+	}
+
+	/**
+	 * 영역 무효화
+	 * 트랜잭션 안이면 커밋 이후에 수행한다. (커밋 전 무효화 → 다른 요청이 이전 값을 다시 적재하는 것을 방지)
+	 */
+	public void evict(CatalogCacheRegion... regions) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(regions);
+				}
+			});
+			return;
+		}
+		evictNow(regions);
+	}
+
+	/**
+	 * 다른 인스턴스의 무효화 메시지 수신 시 로컬 캐시만 비운다.
+	 */
+	public void evictLocal(CatalogCacheRegion region) {
+		localCaches.get(region).invalidateAll();
+	}
+
+	private <T> T loadFromRedis(CatalogCacheRegion region, String key, TypeReference<T> type, Supplier<T> loader) {
+		String json = null;
+		String generation = null;
+		try {
+			generation = currentGeneration(region);
+			json = (String)redisTemplate.opsForHash().get(region.redisKey(), key);
+		} catch (RuntimeException e) {
+			log.warn("카탈로그 캐시 Redis 조회 실패, DB 조회로 대체: region={}, key={}", region.getCacheName(), key, e);
+		}
+
+		if (json != null) {
+			try {
+				T value = objectMapper.readValue(json, type);
+				record(region, "l2", "hit");
+				return value;
+			} catch (JsonProcessingException e) {
+				// DTO 구조 변경 등으로 읽을 수 없는 값은 새로 적재
+				log.warn("카탈로그 캐시 역직렬화 실패, 다시 적재: region={}, key={}", region.getCacheName(), key);
+			}
+		}
+		record(region, "l2", "miss");
+
+		T value = loader.get();
+		if (generation == null) {
+			// Redis 장애로 세대를 모르면 기록하지 않음
+			return value;
+		}
+		try {
+			redisTemplate.execute(WRITE_IF_CURRENT,
+				List.of(region.redisKey(), region.generationKey()),
+				generation,
+				String.valueOf(region.getRedisTtl().toSeconds()),
+				key,
+				objectMapper.writeValueAsString(value));
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("카탈로그 캐시 Redis 저장 실패: region={}, key={}", region.getCacheName(), key, e);
+		}
+		return value;
+	}
+
+	private String currentGeneration(CatalogCacheRegion region) {
+		String generation = redisTemplate.opsForValue().get(region.generationKey());
+		return generation != null ? generation : "0";
+	}
+
+	private void evictNow(CatalogCacheRegion... regions) {
+		for (CatalogCacheRegion region : regions) {
+			evictLocal(region);
+			try {
+				// 세대를 먼저 올려야 진행 중인 적재가 DEL 이후에 이전 값을 기록하지 못한다
+				redisTemplate.opsForValue().increment(region.generationKey());
+				redisTemplate.delete(region.redisKey());
+				redisTemplate.convertAndSend(INVALIDATION_CHANNEL, region.getCacheName());
+			} catch (RuntimeException e) {
+				// Redis 키는 TTL 로, 다른 인스턴스의 L1 은 localTtl 로 만료된다
+				log.error("카탈로그 캐시 무효화 실패: region={}", region.getCacheName(), e);
+			}
+		}
+	}
+
+	private void record(CatalogCacheRegion region, String tier, String result) {
+		meterRegistry.counter(METRIC_REQUESTS,
+			"region", region.getCacheName(),
+			"tier", tier,
+			"result", result
+		).increment();
+	}
+}
@@ -1,24 +1,32 @@
 package com.tradingpt.tpt_api.global.infrastructure.content;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
-import java.util.UUID;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.apache.tika.Tika;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import com.tradingpt.tpt_api.global.infrastructure.content.exception.ContentErrorStatus;
 import com.tradingpt.tpt_api.global.infrastructure.content.exception.ContentException;
-import com.tradingpt.tpt_api.global.infrastructure.s3.service.S3FileService;
 import com.tradingpt.tpt_api.global.infrastructure.s3.response.S3UploadResult;
+import com.tradingpt.tpt_api.global.infrastructure.s3.service.S3FileService;
 import com.tradingpt.tpt_api.global.util.HtmlSanitizer;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -26,16 +34,33 @@ import lombok.extern.slf4j.Slf4j;
  * - HTML 콘텐츠 내 data URI 형식의 이미지를 S3에 업로드
  * - 업로드된 이미지 URL로 변환
  * - HTML sanitization 적용
+ *
+ * <p>HTML은 한 번만 파싱하고, 같은 DOM에서 이미지 치환과 sanitize를 수행한다.
+ * Base64 데이터는 byte[]로 전부 디코딩하지 않고 S3 요청 본문으로 스트리밍 디코딩하며,
+ * 이미지들은 uploadExecutor 에서 병렬 업로드한다.
+ * 객체 키는 콘텐츠 해시로 정해지므로 같은 이미지는 (같은 글 안에서든, 재저장이든) 한 번만 업로드된다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ContentImageUploader {
 
 	private static final Tika TIKA = new Tika();
 	private static final int MAX_IMAGE_SIZE = 10 * 1024 * 1024; // 10MB
+	private static final String BASE64_MARKER = "base64,";
+
+	/** MIME 타입 감지에 사용할 Base64 앞부분 길이 (4의 배수, 디코딩 시 48바이트) */
+	private static final int MIME_SNIFF_CHARS = 64;
+
+	/** 해시 계산 시 문자 → 바이트 변환 버퍼 크기 */
+	private static final int HASH_BUFFER_SIZE = 8 * 1024;
 
 	private final S3FileService s3FileService;
+	private final Executor uploadExecutor;
+
+	public ContentImageUploader(S3FileService s3FileService, @Qualifier("uploadExecutor") Executor uploadExecutor) {
+		this.s3FileService = s3FileService;
+		this.uploadExecutor = uploadExecutor;
+	}
 
 	/**
 	 * HTML 콘텐츠를 처리합니다.
@@ -61,132 +86,170 @@ public class ContentImageUploader {
 			return HtmlSanitizer.sanitize(rawContent);
 		}
 
-		// 2. 인라인 이미지를 S3에 업로드하고 URL로 변환
-		String processedHtml = uploadInlineImages(rawContent, resourceType);
-
-		// 3. HTML sanitize (XSS 방지)
-		String sanitized = HtmlSanitizer.sanitize(processedHtml);
+		// 2. 인라인 이미지를 S3에 업로드하고 URL로 변환 (DOM 직접 수정)
+		Document document = Jsoup.parseBodyFragment(rawContent);
+		uploadInlineImages(document, resourceType);
 
-		log.debug("Content processing completed: {} inline images uploaded",
-			countImages(rawContent));
-
-		return sanitized;
+		// 3. 같은 DOM을 sanitize (XSS 방지)
+		return HtmlSanitizer.sanitize(document);
 	}
 
 	/**
-	 * HTML 내 모든 data URI 형식의 이미지를 S3에 업로드하고 URL로 변환합니다.
+	 * 문서 내 모든 data URI 형식의 이미지를 병렬로 S3에 업로드하고 src를 URL로 변환합니다.
+	 * 같은 이미지는 한 번만 업로드합니다.
 	 *
-	 * @param html         원본 HTML
+	 * @param document     파싱된 HTML 문서
 	 * @param resourceType 리소스 타입
-	 * @return 이미지 URL이 변환된 HTML
 	 */
-	private String uploadInlineImages(String html, String resourceType) {
-		Document document = Jsoup.parseBodyFragment(html);
-		int uploadCount = 0;
+	private void uploadInlineImages(Document document, String resourceType) {
+		Map<String, CompletableFuture<String>> uploadsByHash = new HashMap<>();
+		List<PendingImage> pendingImages = new ArrayList<>();
 		int failCount = 0;
 
-		for (Element image : document.select("img")) {
-			String src = image.attr("src");
-
-			// data URI가 아니면 스킵
-			if (!StringUtils.hasText(src) || !src.startsWith("data:")) {
+		for (Element image : document.select("img[src^=data:]")) {
+			InlineImage inlineImage;
+			try {
+				inlineImage = parseDataUri(image.attr("src"));
+			} catch (ContentException e) {
+				failCount++;
+				log.error("Invalid inline image, keeping original data URI. Error: {}", e.getMessage());
 				continue;
 			}
 
+			CompletableFuture<String> upload = uploadsByHash.computeIfAbsent(
+				inlineImage.contentHash() + "." + inlineImage.extension(),
+				key -> CompletableFuture.supplyAsync(() -> upload(inlineImage, resourceType), uploadExecutor));
+			pendingImages.add(new PendingImage(image, upload));
+		}
+
+		int uploadCount = 0;
+		for (PendingImage pendingImage : pendingImages) {
 			try {
-				String uploadedUrl = uploadDataUri(src, resourceType);
-				image.attr("src", uploadedUrl);
+				pendingImage.image().attr("src", pendingImage.upload().join());
 				uploadCount++;
-				log.debug("Inline image {} uploaded successfully", uploadCount);
-			} catch (Exception e) {
+			} catch (CompletionException e) {
 				failCount++;
-				log.error("Failed to upload inline image {}, keeping original data URI. Error: {}",
-					uploadCount + failCount, e.getMessage());
 				// 업로드 실패 시 원본 data URI 유지
+				log.error("Failed to upload inline image, keeping original data URI. Error: {}",
+					e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
 			}
 		}
 
-		log.info("Image upload completed for resourceType={}: success={}, failed={}",
-			resourceType, uploadCount, failCount);
-
-		return document.body().html();
+		log.info("Image upload completed for resourceType={}: success={}, failed={}, distinct={}",
+			resourceType, uploadCount, failCount, uploadsByHash.size());
 	}
 
 	/**
-	 * data URI를 파싱하여 S3에 업로드합니다.
+	 * Base64 데이터를 스트리밍 디코딩하여 S3에 업로드합니다.
 	 *
-	 * @param dataUri      data URI 형식의 이미지 (예: data:image/png;base64,iVBORw0KGgo...)
+	 * @param inlineImage  파싱된 인라인 이미지
 	 * @param resourceType 리소스 타입
 	 * @return 업로드된 이미지의 S3 URL
 	 * @throws ContentException 업로드 실패 시
 	 */
-	private String uploadDataUri(String dataUri, String resourceType) {
-		try {
-			// 1. Base64 구분자 찾기
-			int base64Index = dataUri.indexOf("base64,");
-			if (base64Index < 0) {
-				log.error("Invalid data URI format: no base64 marker found");
-				throw new ContentException(ContentErrorStatus.INVALID_CONTENT_FORMAT);
-			}
+	private String upload(InlineImage inlineImage, String resourceType) {
+		try (InputStream inputStream = Base64.getDecoder().wrap(new Latin1InputStream(
+			inlineImage.dataUri(), inlineImage.payloadStart(), inlineImage.dataUri().length()))) {
+			S3UploadResult result = s3FileService.uploadIfAbsent(
+				inputStream,
+				inlineImage.decodedLength(),
+				inlineImage.contentHash(),
+				inlineImage.extension(),
+				resourceType + "/inline"
+			);
+
+			log.info("Inline image uploaded successfully: {}", result.url());
+			return result.url();
+		} catch (ContentException ex) {
+			throw ex;
+		} catch (Exception ex) {
+			log.error("Unexpected error during image upload", ex);
+			throw new ContentException(ContentErrorStatus.IMAGE_UPLOAD_FAILED);
+		}
+	}
 
-			// 2. MIME 타입과 Base64 데이터 추출
-			String header = dataUri.substring("data:".length(), base64Index);
-			String declaredMimeType = extractMimeType(header);
-			String base64Payload = dataUri.substring(base64Index + "base64,".length());
+	/**
+	 * data URI를 검증하고 업로드에 필요한 정보를 추출합니다. (Base64 본문은 복사/디코딩하지 않음)
+	 *
+	 * @param dataUri data URI 형식의 이미지 (예: data:image/png;base64,iVBORw0KGgo...)
+	 * @return 인라인 이미지 정보
+	 * @throws ContentException 형식, 크기, 타입 검증 실패 시
+	 */
+	private InlineImage parseDataUri(String dataUri) {
+		// 1. Base64 구분자 찾기
+		int base64Index = dataUri.indexOf(BASE64_MARKER);
+		if (base64Index < 0) {
+			throw new ContentException(ContentErrorStatus.INVALID_CONTENT_FORMAT);
+		}
 
-			// 3. Base64 디코딩
-			byte[] decoded;
-			try {
-				decoded = Base64.getDecoder().decode(base64Payload);
-			} catch (IllegalArgumentException e) {
-				log.error("Invalid Base64 encoding", e);
-				throw new ContentException(ContentErrorStatus.INVALID_BASE64_FORMAT);
-			}
+		// 2. MIME 타입 추출
+		String declaredMimeType = extractMimeType(dataUri.substring("data:".length(), base64Index));
+		int payloadStart = base64Index + BASE64_MARKER.length();
+		int payloadLength = dataUri.length() - payloadStart;
 
-			// 4. 파일 크기 검증
-			if (decoded.length > MAX_IMAGE_SIZE) {
-				log.error("Image size {} exceeds maximum allowed size {}",
-					decoded.length, MAX_IMAGE_SIZE);
-				throw new ContentException(ContentErrorStatus.IMAGE_SIZE_EXCEEDED);
-			}
+		// 3. 디코딩 전에 길이만으로 크기 검증
+		if (payloadLength == 0 || payloadLength % 4 != 0) {
+			throw new ContentException(ContentErrorStatus.INVALID_BASE64_FORMAT);
+		}
+		int padding = dataUri.endsWith("==") ? 2 : dataUri.endsWith("=") ? 1 : 0;
+		long decodedLength = (long)payloadLength / 4 * 3 - padding;
+		if (decodedLength <= 0) {
+			throw new ContentException(ContentErrorStatus.INVALID_BASE64_FORMAT);
+		}
+		if (decodedLength > MAX_IMAGE_SIZE) {
+			log.error("Image size {} exceeds maximum allowed size {}", decodedLength, MAX_IMAGE_SIZE);
+			throw new ContentException(ContentErrorStatus.IMAGE_SIZE_EXCEEDED);
+		}
 
-			// 5. 실제 MIME 타입 검증 (Tika 사용)
-			String detectedMimeType = StringUtils.hasText(declaredMimeType)
-				? declaredMimeType
-				: TIKA.detect(decoded);
+		// 4. Base64 문자 검증 + 콘텐츠 해시 (한 번의 순회)
+		String contentHash = hashPayload(dataUri, payloadStart, dataUri.length() - padding);
 
-			log.debug("Image MIME type: declared={}, detected={}",
-				declaredMimeType, detectedMimeType);
+		// 5. MIME 타입 결정 (선언값이 없으면 앞부분만 디코딩해 Tika로 감지)
+		String mimeType = StringUtils.hasText(declaredMimeType)
+			? declaredMimeType
+			: TIKA.detect(Base64.getDecoder().decode(
+				dataUri.substring(payloadStart, payloadStart + Math.min(payloadLength, MIME_SNIFF_CHARS))));
 
-			// 6. 파일 확장자 결정
-			String extension = resolveExtension(detectedMimeType);
-			if (extension == null) {
-				log.error("Unsupported image type: {}", detectedMimeType);
-				throw new ContentException(ContentErrorStatus.UNSUPPORTED_IMAGE_TYPE);
-			}
+		// 6. 파일 확장자 결정
+		String extension = resolveExtension(mimeType);
+		if (extension == null) {
+			throw new ContentException(ContentErrorStatus.UNSUPPORTED_IMAGE_TYPE);
+		}
 
-			// 7. S3 업로드 (UUID 기반 유니크 경로)
-			String directory = resourceType;
-			String filename = "inline-" + UUID.randomUUID() + "." + extension;
+		return new InlineImage(dataUri, payloadStart, decodedLength, contentHash, extension);
+	}
 
-			try (InputStream inputStream = new ByteArrayInputStream(decoded)) {
-				S3UploadResult result = s3FileService.upload(
-					inputStream,
-					decoded.length,
-					filename,
-					directory
-				);
+	/**
+	 * Base64 본문(패딩 제외)의 SHA-256 해시를 계산하면서 문자 유효성을 검증합니다.
+	 * 같은 이미지는 같은 Base64 문자열로 인코딩되므로 디코딩 없이 콘텐츠 해시로 사용할 수 있습니다.
+	 */
+	private String hashPayload(String dataUri, int start, int end) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new ContentException(ContentErrorStatus.CONTENT_PROCESSING_FAILED);
+		}
 
-				log.info("Inline image uploaded successfully: {} -> {}", filename, result.url());
-				return result.url();
+		byte[] buffer = new byte[HASH_BUFFER_SIZE];
+		int filled = 0;
+		for (int i = start; i < end; i++) {
+			char c = dataUri.charAt(i);
+			if (!isBase64Char(c)) {
+				throw new ContentException(ContentErrorStatus.INVALID_BASE64_FORMAT);
+			}
+			buffer[filled++] = (byte)c;
+			if (filled == buffer.length) {
+				digest.update(buffer, 0, filled);
+				filled = 0;
 			}
-
-		} catch (ContentException ex) {
-			throw ex;
-		} catch (Exception ex) {
-			log.error("Unexpected error during image upload", ex);
-			throw new ContentException(ContentErrorStatus.IMAGE_UPLOAD_FAILED);
 		}
+		digest.update(buffer, 0, filled);
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private boolean isBase64Char(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
 	}
 
 	/**
@@ -234,16 +297,60 @@ public class ContentImageUploader {
 	}
 
 	/**
-	 * HTML 내 이미지 개수를 계산합니다.
+	 * 검증이 끝난 인라인 이미지
 	 *
-	 * @param html HTML 콘텐츠
-	 * @return 이미지 개수
+	 * @param dataUri       원본 data URI (DOM 속성 문자열 그대로, 복사하지 않음)
+	 * @param payloadStart  Base64 본문 시작 위치
+	 * @param decodedLength 디코딩 후 바이트 수
+	 * @param contentHash   Base64 본문의 SHA-256 (hex)
+	 * @param extension     파일 확장자
 	 */
-	private int countImages(String html) {
-		if (!StringUtils.hasText(html)) {
-			return 0;
+	private record InlineImage(String dataUri, int payloadStart, long decodedLength, String contentHash,
+							   String extension) {
+	}
+
+	private record PendingImage(Element image, CompletableFuture<String> upload) {
+	}
+
+	/**
+	 * 문자열의 일부 구간을 바이트 스트림으로 노출 (Base64 문자는 모두 ASCII)
+	 * substring / getBytes 복사 없이 {@link Base64.Decoder#wrap(InputStream)} 에 전달하기 위해 사용
+	 */
+	private static final class Latin1InputStream extends InputStream {
+
+		private final String source;
+		private final int end;
+		private int position;
+
+		private Latin1InputStream(String source, int start, int end) {
+			this.source = source;
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read() {
+			return position < end ? source.charAt(position++) & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+			if (position >= end) {
+				return -1;
+			}
+			int count = Math.min(length, end - position);
+			for (int i = 0; i < count; i++) {
+				buffer[offset + i] = (byte)source.charAt(position++);
+			}
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return end - position;
 		}
-		Document document = Jsoup.parseBodyFragment(html);
-		return document.select("img[src^='data:']").size();
 	}
-}
\ No newline at end of file
+}
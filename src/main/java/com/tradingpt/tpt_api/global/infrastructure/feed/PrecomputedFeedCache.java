@@ -0,0 +1,326 @@
+package com.tradingpt.tpt_api.global.infrastructure.feed;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 미리 계산한 공개 피드 캐시 (stale-while-revalidate)
+ *
+ * <ul>
+ *   <li>피드별 Redis Hash 하나에 앞쪽 {@code pages} 개 페이지의 응답 JSON 과 생성 시각을 함께 저장한다</li>
+ *   <li>쓰기 이벤트(커밋 이후) 또는 {@code max-age} 경과 시 백그라운드에서 전체 페이지를 다시 만들고,
+ *       그동안 조회는 기존 값을 그대로 반환한다</li>
+ *   <li>인스턴스당 피드별 재생성은 동시에 1개만 실행하고, 실행 중 들어온 이벤트는 한 번의 재실행으로 합친다</li>
+ *   <li>값이 아예 없을 때(최초 기동, TTL 만료)만 진행 중인 재생성을 기다린다 → 동시 미스가 DB 로 몰리지 않음</li>
+ *   <li>인스턴스 간 재생성 순서는 세대 번호로 정리한다 (늦게 시작한 재생성 결과를 먼저 끝난 이전 결과가 덮어쓰지 않도록)</li>
+ *   <li>Redis 장애 시에는 캐시를 건너뛰고 DB 에서 조회한다</li>
+ * </ul>
+ *
+ * <p>메트릭: {@code public.feed.requests{feed, result=hit|stale|miss|bypass|error}}
+ */
+@Slf4j
+@Component
+public class PrecomputedFeedCache {
+
+	private static final String METRIC_REQUESTS = "public.feed.requests";
+
+	private static final String BUILT_AT_FIELD = "builtAt";
+
+	/**
+	 * 저장된 세대보다 새 세대일 때만 페이지를 기록
+	 * KEYS[1]=피드 Hash, ARGV[1]=세대, ARGV[2]=TTL(초), ARGV[3..]=field, value 쌍
+	 */
+	private static final RedisScript<Long> WRITE_IF_NEWER = new DefaultRedisScript<>("""
+		local current = tonumber(redis.call('HGET', KEYS[1], 'gen') or '0')
+		if current > tonumber(ARGV[1]) then
+		  return 0
+		end
+		redis.call('HSET', KEYS[1], 'gen', ARGV[1])
+		for i = 3, #ARGV, 2 do
+		  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Executor feedRefreshExecutor;
+	private final Map<PublicFeed, PublicFeedSource<?>> sources = new EnumMap<>(PublicFeed.class);
+	private final Map<PublicFeed, RefreshState> states = new EnumMap<>(PublicFeed.class);
+
+	private final int pages;
+	private final Duration maxAge;
+	private final Duration redisTtl;
+	private final Duration loadTimeout;
+
+	public PrecomputedFeedCache(
+		StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Qualifier("feedRefreshExecutor") Executor feedRefreshExecutor,
+		List<PublicFeedSource<?>> feedSources,
+		@Value("${feed.precomputed.pages:3}") int pages,
+		@Value("${feed.precomputed.max-age:PT5M}") Duration maxAge,
+		@Value("${feed.precomputed.redis-ttl:P1D}") Duration redisTtl,
+		@Value("${feed.precomputed.load-timeout:PT5S}") Duration loadTimeout
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.feedRefreshExecutor = feedRefreshExecutor;
+		this.pages = pages;
+		this.maxAge = maxAge;
+		this.redisTtl = redisTtl;
+		this.loadTimeout = loadTimeout;
+
+		for (PublicFeedSource<?> source : feedSources) {
+			sources.put(source.feed(), source);
+			states.put(source.feed(), new RefreshState());
+		}
+	}
+
+	/**
+	 * 피드 페이지 조회
+	 * 미리 계산하는 범위(앞쪽 페이지, 기본 크기/정렬)가 아니면 DB 에서 바로 조회한다.
+	 */
+	public <T> T getPage(PublicFeedSource<T> source, Pageable pageable) {
+		PublicFeed feed = source.feed();
+		if (!isPrecomputed(source, pageable)) {
+			record(feed, "bypass");
+			return source.loadPage(pageable);
+		}
+
+		int page = pageable.getPageNumber();
+		List<Object> values;
+		try {
+			values = redisTemplate.opsForHash().multiGet(feed.redisKey(), List.of(pageField(page), BUILT_AT_FIELD));
+		} catch (RuntimeException e) {
+			log.warn("공개 피드 Redis 조회 실패, DB 조회로 대체: feed={}", feed.getFeedName(), e);
+			record(feed, "error");
+			return source.loadPage(pageable);
+		}
+
+		T cached = read(feed, (String)values.get(0), source.pageType());
+		if (cached != null) {
+			if (isExpired((String)values.get(1))) {
+				record(feed, "stale");
+				refreshNow(feed, false);
+			} else {
+				record(feed, "hit");
+			}
+			return cached;
+		}
+
+		// 값이 없으면 진행 중인(또는 새로 시작한) 재생성 결과를 기다림
+		record(feed, "miss");
+		try {
+			Map<Integer, String> built = refreshNow(feed, false).get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+			T value = read(feed, built.get(page), source.pageType());
+			if (value != null) {
+				return value;
+			}
+		} catch (Exception e) {
+			log.warn("공개 피드 재생성 대기 실패, DB 조회로 대체: feed={}, page={}", feed.getFeedName(), page, e);
+		}
+		return source.loadPage(pageable);
+	}
+
+	/**
+	 * 쓰기 이벤트 후 피드 재생성
+	 * 트랜잭션 안이면 커밋 이후에 시작한다. (커밋 전 재생성 → 변경 전 데이터로 다시 채우는 것을 방지)
+	 */
+	public void refresh(PublicFeed... feeds) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					for (PublicFeed feed : feeds) {
+						refreshNow(feed);
+					}
+				}
+			});
+			return;
+		}
+		for (PublicFeed feed : feeds) {
+			refreshNow(feed);
+		}
+	}
+
+	private CompletableFuture<Map<Integer, String>> refreshNow(PublicFeed feed) {
+		return refreshNow(feed, true);
+	}
+
+	/**
+	 * 재생성 시작 (이미 실행 중이면 실행 중인 작업을 반환)
+	 *
+	 * @param changed 데이터 변경 이벤트 여부 (true 면 실행 중인 작업이 끝난 뒤 한 번 더 실행)
+	 */
+	private CompletableFuture<Map<Integer, String>> refreshNow(PublicFeed feed, boolean changed) {
+		RefreshState state = states.get(feed);
+		if (changed) {
+			state.dirty.set(true);
+		}
+
+		CompletableFuture<Map<Integer, String>> running = state.inFlight.get();
+		if (running != null) {
+			return running;
+		}
+
+		CompletableFuture<Map<Integer, String>> future = new CompletableFuture<>();
+		if (!state.inFlight.compareAndSet(null, future)) {
+			return refreshNow(feed, changed);
+		}
+		state.dirty.set(true);
+
+		Runnable task = () -> runRefresh(feed, state, future);
+		try {
+			feedRefreshExecutor.execute(task);
+		} catch (RejectedExecutionException e) {
+			task.run();
+		}
+		return future;
+	}
+
+	private void runRefresh(PublicFeed feed, RefreshState state, CompletableFuture<Map<Integer, String>> future) {
+		Map<Integer, String> built = null;
+		Exception failure = null;
+		while (state.dirty.getAndSet(false)) {
+			try {
+				built = rebuild(feed);
+				failure = null;
+			} catch (Exception e) {
+				log.error("공개 피드 재생성 실패: feed={}", feed.getFeedName(), e);
+				failure = e;
+			}
+		}
+		state.inFlight.set(null);
+
+		if (failure != null) {
+			future.completeExceptionally(failure);
+		} else {
+			future.complete(built);
+		}
+
+		// inFlight 를 비우는 사이 들어온 이벤트 처리
+		if (state.dirty.get()) {
+			refreshNow(feed);
+		}
+	}
+
+	private Map<Integer, String> rebuild(PublicFeed feed) throws JsonProcessingException {
+		PublicFeedSource<?> source = sources.get(feed);
+		long generation = nextGeneration(feed);
+
+		Map<Integer, String> built = new HashMap<>();
+		for (int page = 0; page < pages; page++) {
+			built.put(page, objectMapper.writeValueAsString(source.loadPage(source.pageRequest(page))));
+		}
+
+		if (generation > 0) {
+			List<String> args = new ArrayList<>();
+			args.add(String.valueOf(generation));
+			args.add(String.valueOf(redisTtl.toSeconds()));
+			built.forEach((page, json) -> {
+				args.add(pageField(page));
+				args.add(json);
+			});
+			args.add(BUILT_AT_FIELD);
+			args.add(String.valueOf(System.currentTimeMillis()));
+			try {
+				redisTemplate.execute(WRITE_IF_NEWER, List.of(feed.redisKey()), args.toArray());
+			} catch (RuntimeException e) {
+				log.warn("공개 피드 Redis 저장 실패: feed={}", feed.getFeedName(), e);
+			}
+		}
+		return built;
+	}
+
+	/**
+	 * 인스턴스 간 공용 세대 번호 (Redis 장애 시 0 → 저장 생략)
+	 */
+	private long nextGeneration(PublicFeed feed) {
+		try {
+			Long generation = redisTemplate.opsForValue().increment(feed.generationKey());
+			return generation != null ? generation : 0L;
+		} catch (RuntimeException e) {
+			log.warn("공개 피드 세대 번호 발급 실패: feed={}", feed.getFeedName(), e);
+			return 0L;
+		}
+	}
+
+	private boolean isPrecomputed(PublicFeedSource<?> source, Pageable pageable) {
+		if (pageable.getPageNumber() >= pages) {
+			return false;
+		}
+		Pageable precomputed = source.pageRequest(pageable.getPageNumber());
+		return precomputed.getPageSize() == pageable.getPageSize()
+			&& precomputed.getSort().equals(pageable.getSort());
+	}
+
+	private boolean isExpired(String builtAt) {
+		if (builtAt == null) {
+			return true;
+		}
+		return System.currentTimeMillis() - Long.parseLong(builtAt) > maxAge.toMillis();
+	}
+
+	private <T> T read(PublicFeed feed, String json, Class<T> type) {
+		if (json == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(json, type);
+		} catch (JsonProcessingException e) {
+			// DTO 구조 변경 등으로 읽을 수 없는 값은 새로 적재
+			log.warn("공개 피드 역직렬화 실패, 다시 적재: feed={}", feed.getFeedName());
+			return null;
+		}
+	}
+
+	private static String pageField(int page) {
+		return "p" + page;
+	}
+
+	private void record(PublicFeed feed, String result) {
+		meterRegistry.counter(METRIC_REQUESTS,
+			"feed", feed.getFeedName(),
+			"result", result
+		).increment();
+	}
+
+	/**
+	 * 피드별 재생성 상태 (실행 중인 작업 + 실행 중 들어온 이벤트 표시)
+	 */
+	private static final class RefreshState {
+		private final AtomicReference<CompletableFuture<Map<Integer, String>>> inFlight = new AtomicReference<>();
+		private final AtomicBoolean dirty = new AtomicBoolean();
+	}
+}
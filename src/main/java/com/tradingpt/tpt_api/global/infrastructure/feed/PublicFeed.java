@@ -0,0 +1,29 @@
+package com.tradingpt.tpt_api.global.infrastructure.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미리 계산해 두는 공개 피드
+ *
+ * <p>비회원도 조회하는 목록의 앞쪽 페이지를 응답 DTO 그대로 Redis 에 저장한다.
+ */
+@Getter
+@AllArgsConstructor
+public enum PublicFeed {
+
+	FEEDBACK("feedback"),   // 실시간 트레이딩 피드백 목록 (베스트 피드백 블록 포함)
+	REVIEW("review"),       // 공개 리뷰 목록
+	;
+
+	/** Redis 키 / 메트릭 태그에 사용하는 이름 */
+	private final String feedName;
+
+	public String redisKey() {
+		return "public-feed:" + feedName;
+	}
+
+	public String generationKey() {
+		return "public-feed:" + feedName + ":gen";
+	}
+}
@@ -0,0 +1,29 @@
+package com.tradingpt.tpt_api.global.infrastructure.feed;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 공개 피드 페이지 생성기
+ * 각 도메인이 구현하고, {@link PrecomputedFeedCache} 가 갱신 시 앞쪽 페이지를 다시 만든다.
+ *
+ * @param <T> 페이지 응답 DTO
+ */
+public interface PublicFeedSource<T> {
+
+	PublicFeed feed();
+
+	/**
+	 * 페이지 응답 DTO 타입 (Redis 역직렬화용)
+	 */
+	Class<T> pageType();
+
+	/**
+	 * 미리 계산하는 페이지의 요청 (컨트롤러 기본 페이지 크기/정렬과 같아야 함)
+	 */
+	Pageable pageRequest(int page);
+
+	/**
+	 * DB 에서 페이지 조회 후 응답 DTO 로 변환
+	 */
+	T loadPage(Pageable pageable);
+}
@@ -0,0 +1,150 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.entity;
+
+import java.time.LocalDateTime;
+
+import com.tradingpt.tpt_api.global.common.BaseEntity;
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobStatus;
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobType;
+import com.tradingpt.tpt_api.global.infrastructure.queue.LeasedQueueItem;
+import com.tradingpt.tpt_api.global.infrastructure.queue.RetryPolicy;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 작업 큐
+ *
+ * <p>비즈니스 트랜잭션 안에서 작업을 1행으로 기록하고, 커밋 이후 {@code AsyncJobDispatcher} 가
+ * {@code FOR UPDATE SKIP LOCKED} 로 점유하여 실행한다.
+ * 트랜잭션이 롤백되면 작업도 함께 사라지고, 서버가 재시작되어도 작업이 유실되지 않는다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+	name = "async_job",
+	indexes = {
+		// 워커 점유 (job_type = ? AND status IN (PENDING, RUNNING) AND next_attempt_at <= now)
+		@Index(name = "idx_async_job_type_status_next", columnList = "job_type, status, next_attempt_at"),
+		@Index(name = "idx_async_job_status_completed", columnList = "status, completed_at")
+	}
+)
+public class AsyncJob extends BaseEntity implements LeasedQueueItem {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "async_job_id")
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "job_type", nullable = false, length = 50)
+	private AsyncJobType jobType;
+
+	/**
+	 * 작업 인자 (작업 종류별 형식, 예: 레벨테스트 채점은 시도 ID)
+	 */
+	@Column(name = "payload", nullable = false, length = 1000)
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private AsyncJobStatus status;
+
+	@Column(name = "attempt_count", nullable = false)
+	private Integer attemptCount;
+
+	/**
+	 * 다음 실행 시각 (RUNNING 상태에서는 점유 만료 시각)
+	 */
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "claim_token", length = 36)
+	private String claimToken;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(name = "started_at")
+	private LocalDateTime startedAt;
+
+	@Column(name = "completed_at")
+	private LocalDateTime completedAt;
+
+	// ===== Static Factory Methods =====
+
+	public static AsyncJob pending(AsyncJobType jobType, String payload) {
+		return AsyncJob.builder()
+			.jobType(jobType)
+			.payload(payload)
+			.status(AsyncJobStatus.PENDING)
+			.attemptCount(0)
+			.nextAttemptAt(LocalDateTime.now())
+			.build();
+	}
+
+	// ===== 비즈니스 메서드 =====
+
+	@Override
+	public void claim(String claimToken, LocalDateTime now, LocalDateTime leaseUntil) {
+		this.status = AsyncJobStatus.RUNNING;
+		this.claimToken = claimToken;
+		this.attemptCount = attemptCount + 1;
+		this.nextAttemptAt = leaseUntil;
+		this.startedAt = now;
+	}
+
+	@Override
+	public void markDone(LocalDateTime now) {
+		this.status = AsyncJobStatus.DONE;
+		this.completedAt = now;
+		this.claimToken = null;
+		this.lastError = null;
+	}
+
+	/**
+	 * 실행 실패 - 시도 횟수가 남아 있으면 backoff 후 재시도
+	 */
+	@Override
+	public boolean markFailed(String error, LocalDateTime now, RetryPolicy retryPolicy) {
+		this.claimToken = null;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+
+		if (!retryPolicy.canRetry(attemptCount)) {
+			this.status = AsyncJobStatus.FAILED;
+			this.completedAt = now;
+			return false;
+		}
+		this.status = AsyncJobStatus.PENDING;
+		this.nextAttemptAt = now.plus(retryPolicy.backoffFor(attemptCount));
+		return true;
+	}
+
+	/**
+	 * 실행하지 못하고 점유 해제 (스레드풀 포화 등) - 시도 횟수를 되돌리고 바로 다시 점유 대상
+	 */
+	public void release(LocalDateTime now) {
+		this.status = AsyncJobStatus.PENDING;
+		this.claimToken = null;
+		this.attemptCount = Math.max(attemptCount - 1, 0);
+		this.nextAttemptAt = now;
+	}
+}
@@ -0,0 +1,8 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.enums;
+
+public enum AsyncJobStatus {
+	PENDING,  // 실행 대기 (재시도 대기 포함)
+	RUNNING,  // 워커가 점유하여 실행 중
+	DONE,     // 완료
+	FAILED    // 최대 시도 횟수 초과
+}
@@ -0,0 +1,17 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 작업 종류
+ * key 는 설정(async-job.concurrency.{key})과 메트릭 태그에 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AsyncJobType {
+	LEVEL_TEST_GRADING("level-test-grading", 4);  // payload: 레벨테스트 시도 ID
+
+	private final String key;
+	private final int defaultConcurrency;
+}
@@ -0,0 +1,9 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.event;
+
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobType;
+
+/**
+ * 작업 등록 이벤트 (커밋 이후 디스패처가 수신하여 바로 실행)
+ */
+public record AsyncJobEnqueuedEvent(AsyncJobType jobType) {
+}
@@ -0,0 +1,16 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.handler;
+
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobType;
+
+/**
+ * 비동기 작업 실행기 (작업 종류당 1개)
+ *
+ * <p>같은 작업이 두 번 이상 실행될 수 있으므로(점유 만료 후 재점유, 실패 후 재시도) 멱등하게 구현한다.
+ * 예외를 던지면 실패로 기록되고 backoff 후 재시도된다.
+ */
+public interface AsyncJobHandler {
+
+	AsyncJobType type();
+
+	void handle(String payload);
+}
@@ -0,0 +1,72 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tradingpt.tpt_api.global.infrastructure.job.entity.AsyncJob;
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobStatus;
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobType;
+
+public interface AsyncJobRepository extends JpaRepository<AsyncJob, Long> {
+
+	/**
+	 * 실행할 작업 잠금 (트랜잭션 안에서 호출)
+	 * 실행 시각이 된 PENDING 행과 점유 만료된 RUNNING 행(처리 중 서버 종료 등)을 잠근다.
+	 * 다른 워커가 잠근 행은 기다리지 않고 건너뛰므로 여러 인스턴스가 서로 다른 행을 가져간다.
+	 *
+	 * @param jobType 작업 종류 (AsyncJobType 이름)
+	 * @param now     기준 시각
+	 * @param limit   최대 건수
+	 */
+	@Query(value = """
+		SELECT *
+		FROM async_job
+		WHERE job_type = :jobType
+		  AND status IN ('PENDING', 'RUNNING')
+		  AND next_attempt_at <= :now
+		ORDER BY next_attempt_at, async_job_id
+		LIMIT :limit
+		FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<AsyncJob> lockDue(
+		@Param("jobType") String jobType,
+		@Param("now") LocalDateTime now,
+		@Param("limit") int limit
+	);
+
+	/**
+	 * 작업 종류별 미완료 건수와 가장 오래된 생성 시각 (큐 깊이/지연 메트릭)
+	 */
+	@Query("""
+		SELECT j.jobType AS jobType, COUNT(j) AS count, MIN(j.createdAt) AS oldestCreatedAt
+		FROM AsyncJob j
+		WHERE j.status IN :statuses
+		GROUP BY j.jobType
+		""")
+	List<TypeBacklog> countByType(@Param("statuses") Collection<AsyncJobStatus> statuses);
+
+	/**
+	 * 보관 기간이 지난 완료 작업 삭제
+	 */
+	@Modifying
+	@Query("""
+		DELETE FROM AsyncJob j
+		WHERE j.status = com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobStatus.DONE
+		  AND j.completedAt < :before
+		""")
+	int deleteDoneBefore(@Param("before") LocalDateTime before);
+
+	interface TypeBacklog {
+		AsyncJobType getJobType();
+
+		long getCount();
+
+		LocalDateTime getOldestCreatedAt();
+	}
+}
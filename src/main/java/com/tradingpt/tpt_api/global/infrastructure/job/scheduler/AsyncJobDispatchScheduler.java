@@ -0,0 +1,59 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.global.infrastructure.job.repository.AsyncJobRepository;
+import com.tradingpt.tpt_api.global.infrastructure.job.service.AsyncJobDispatcher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * 비동기 작업 주기 처리 (재시도, 즉시 실행을 놓친 작업, 재기동 전에 남은 작업)
+ * 행 단위 잠금(SKIP LOCKED)으로 인스턴스 간 중복 실행이 없으므로 디스패치는 ShedLock 없이 모든 인스턴스에서 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncJobDispatchScheduler {
+
+	private final AsyncJobDispatcher asyncJobDispatcher;
+	private final AsyncJobRepository asyncJobRepository;
+
+	@Value("${async-job.retention:P7D}")
+	private Duration retention;
+
+	@Scheduled(fixedDelayString = "${async-job.poll-interval:PT5S}")
+	public void dispatch() {
+		try {
+			int processed = asyncJobDispatcher.dispatchAll();
+			if (processed > 0) {
+				log.debug("비동기 작업 점유: {}건", processed);
+			}
+		} catch (Exception e) {
+			log.error("비동기 작업 디스패치 실패", e);
+		}
+	}
+
+	/**
+	 * 보관 기간이 지난 완료 작업 정리 (매일 04:30, FAILED 는 확인을 위해 남긴다)
+	 */
+	@Scheduled(cron = "0 30 4 * * *")
+	@SchedulerLock(
+		name = "asyncJobPurgeScheduler",
+		lockAtMostFor = "PT10M",
+		lockAtLeastFor = "PT1M"
+	)
+	@Transactional
+	public void purgeDone() {
+		int deleted = asyncJobRepository.deleteDoneBefore(LocalDateTime.now().minus(retention));
+		log.info("완료된 비동기 작업 정리: {}건", deleted);
+	}
+}
@@ -0,0 +1,251 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.tradingpt.tpt_api.global.infrastructure.job.entity.AsyncJob;
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobStatus;
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobType;
+import com.tradingpt.tpt_api.global.infrastructure.job.event.AsyncJobEnqueuedEvent;
+import com.tradingpt.tpt_api.global.infrastructure.job.handler.AsyncJobHandler;
+import com.tradingpt.tpt_api.global.infrastructure.job.repository.AsyncJobRepository;
+import com.tradingpt.tpt_api.global.infrastructure.queue.DispatchLoop;
+import com.tradingpt.tpt_api.global.infrastructure.queue.LeasedQueue;
+import com.tradingpt.tpt_api.global.infrastructure.queue.QueueMetrics;
+import com.tradingpt.tpt_api.global.infrastructure.queue.RetryPolicy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 작업 디스패처
+ *
+ * <p>작업 종류별로 실행 시각이 된 작업을 {@link LeasedQueue} 로 점유한 뒤 실행한다.
+ * 점유/재시도/메트릭은 알림 Outbox 와 같은 공통 처리를 쓰고, 여기서는 작업 종류별 실행만 다룬다.
+ * <ul>
+ *   <li>작업 종류별 동시 실행 수는 Semaphore 로 제한 (async-job.concurrency.{key}), 빈 자리만큼만 점유</li>
+ *   <li>작업 종류별 실행기({@link AsyncJobHandler})는 멱등이어야 한다 (점유 만료 후 다시 실행될 수 있음)</li>
+ * </ul>
+ *
+ * <p>작업이 커밋되면 {@link AsyncJobEnqueuedEvent} 로 즉시 한 번 실행되고,
+ * 스케줄러가 주기적으로 남은 작업(재시도, 재기동 전 작업 포함)을 처리한다.
+ */
+@Slf4j
+@Service
+public class AsyncJobDispatcher {
+
+	private static final String METRIC_PREFIX = "async.job";
+
+	private static final Set<AsyncJobStatus> UNFINISHED_STATUSES =
+		Set.of(AsyncJobStatus.PENDING, AsyncJobStatus.RUNNING);
+
+	private final AsyncJobRepository asyncJobRepository;
+	private final Executor asyncJobExecutor;
+	private final int claimSize;
+
+	private final Map<AsyncJobType, Lane> lanes = new EnumMap<>(AsyncJobType.class);
+	private final LeasedQueue<AsyncJob> queue;
+
+	public AsyncJobDispatcher(
+		AsyncJobRepository asyncJobRepository,
+		List<AsyncJobHandler> handlers,
+		@Qualifier("asyncJobExecutor") Executor asyncJobExecutor,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		Environment environment,
+		@Value("${async-job.claim-size:50}") int claimSize,
+		@Value("${async-job.lease:PT5M}") Duration lease,
+		@Value("${async-job.max-attempts:5}") int maxAttempts,
+		@Value("${async-job.base-backoff:PT30S}") Duration baseBackoff,
+		@Value("${async-job.max-backoff:PT30M}") Duration maxBackoff
+	) {
+		this.asyncJobRepository = asyncJobRepository;
+		this.asyncJobExecutor = asyncJobExecutor;
+		this.claimSize = claimSize;
+
+		for (AsyncJobHandler handler : handlers) {
+			AsyncJobType type = handler.type();
+			if (lanes.containsKey(type)) {
+				throw new IllegalStateException("비동기 작업 실행기 중복: " + type);
+			}
+			int concurrency = environment.getProperty(
+				"async-job.concurrency." + type.getKey(), Integer.class, type.getDefaultConcurrency());
+			lanes.put(type, new Lane(type, handler, Math.max(concurrency, 1),
+				new QueueMetrics(meterRegistry, METRIC_PREFIX, "type", type.getKey())));
+		}
+
+		for (AsyncJobType type : AsyncJobType.values()) {
+			if (!lanes.containsKey(type)) {
+				log.warn("비동기 작업 실행기 없음, 해당 작업은 대기 상태로 남음: {}", type);
+			}
+		}
+
+		this.queue = new LeasedQueue<>("비동기 작업", asyncJobRepository, transactionManager, lease,
+			new RetryPolicy(maxAttempts, baseBackoff, maxBackoff), job -> lanes.get(job.getJobType()).metrics);
+	}
+
+	/**
+	 * 작업 등록 트랜잭션이 커밋된 뒤 해당 종류를 바로 디스패치
+	 * (롤백되면 호출되지 않으므로 워커가 커밋 전 작업을 보는 일이 없다)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onEnqueued(AsyncJobEnqueuedEvent event) {
+		Lane lane = lanes.get(event.jobType());
+		if (lane != null) {
+			lane.loop.trigger();
+		}
+	}
+
+	/**
+	 * 모든 작업 종류 디스패치 (스케줄러)
+	 *
+	 * @return 점유한 작업 수
+	 */
+	public int dispatchAll() {
+		int total = 0;
+		for (AsyncJobType type : lanes.keySet()) {
+			total += dispatch(type);
+		}
+		refreshBacklog();
+		return total;
+	}
+
+	/**
+	 * 실행 시각이 된 작업을 빈 자리만큼 점유하여 실행
+	 * 인스턴스 내에서는 작업 종류별로 한 번에 하나만 실행된다. (인스턴스 간에는 SKIP LOCKED 로 분리)
+	 *
+	 * @return 점유한 작업 수
+	 */
+	public int dispatch(AsyncJobType type) {
+		Lane lane = lanes.get(type);
+		return lane != null ? lane.loop.run() : 0;
+	}
+
+	private int dispatchBatch(Lane lane) {
+		int permits = 0;
+		while (permits < claimSize && lane.permits.tryAcquire()) {
+			permits++;
+		}
+		if (permits == 0) {
+			// 실행 중인 작업이 끝나면 다시 디스패치한다
+			lane.backlog.set(true);
+			return 0;
+		}
+
+		LeasedQueue.Claim<AsyncJob> claim;
+		try {
+			claim = queue.claim((now, limit) -> asyncJobRepository.lockDue(lane.type.name(), now, limit), permits);
+		} catch (RuntimeException e) {
+			lane.permits.release(permits);
+			throw e;
+		}
+		List<AsyncJob> jobs = claim.items();
+		lane.permits.release(permits - jobs.size());
+		lane.backlog.set(jobs.size() == permits);
+
+		for (AsyncJob job : jobs) {
+			try {
+				asyncJobExecutor.execute(() -> run(lane, claim.claimToken(), job));
+			} catch (RejectedExecutionException e) {
+				lane.permits.release();
+				release(claim.claimToken(), job);
+			}
+		}
+		return jobs.size();
+	}
+
+	private void run(Lane lane, String claimToken, AsyncJob job) {
+		String error = null;
+		Timer.Sample sample = Timer.start();
+		try {
+			lane.handler.handle(job.getPayload());
+		} catch (Exception e) {
+			error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+			log.warn("비동기 작업 실패: type={}, id={}, 이유={}", lane.type, job.getId(), error, e);
+		} finally {
+			sample.stop(lane.metrics.duration());
+		}
+
+		try {
+			queue.recordResults(claimToken, List.of(job.getId()),
+				error != null ? Map.of(job.getId(), error) : Map.of());
+		} catch (Exception e) {
+			// 결과를 기록하지 못하면 점유 만료 후 다시 실행된다 (실행기는 멱등)
+			log.error("비동기 작업 결과 기록 실패: type={}, id={}", lane.type, job.getId(), e);
+		} finally {
+			lane.permits.release();
+			if (lane.backlog.get()) {
+				lane.loop.trigger();
+			}
+		}
+	}
+
+	/**
+	 * 실행하지 못한 작업(스레드풀 포화) 점유 해제 - 시도 횟수를 되돌리고 바로 다시 점유 대상
+	 */
+	private void release(String claimToken, AsyncJob job) {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			queue.updateOwned(claimToken, List.of(job.getId()), asyncJob -> asyncJob.release(now));
+		} catch (Exception e) {
+			// 점유 만료 후 다시 점유된다
+			log.warn("비동기 작업 점유 해제 실패: id={}, 이유={}", job.getId(), e.getMessage());
+		}
+	}
+
+	private void refreshBacklog() {
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			Map<AsyncJobType, AsyncJobRepository.TypeBacklog> backlogs = new EnumMap<>(AsyncJobType.class);
+			asyncJobRepository.countByType(UNFINISHED_STATUSES)
+				.forEach(row -> backlogs.put(row.getJobType(), row));
+
+			lanes.forEach((type, lane) -> {
+				AsyncJobRepository.TypeBacklog backlog = backlogs.get(type);
+				lane.metrics.updateBacklog(backlog != null ? backlog.getCount() : 0L,
+					backlog != null ? backlog.getOldestCreatedAt() : null, now);
+			});
+		} catch (Exception e) {
+			log.debug("비동기 작업 큐 깊이 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 작업 종류별 실행 상태 (동시 실행 수 제한, 디스패치 루프, 메트릭)
+	 */
+	private final class Lane {
+
+		private final AsyncJobType type;
+		private final AsyncJobHandler handler;
+		private final Semaphore permits;
+		private final AtomicBoolean backlog = new AtomicBoolean();
+		private final QueueMetrics metrics;
+		private final DispatchLoop loop;
+
+		private Lane(AsyncJobType type, AsyncJobHandler handler, int concurrency, QueueMetrics metrics) {
+			this.type = type;
+			this.handler = handler;
+			this.permits = new Semaphore(concurrency);
+			this.metrics = metrics;
+			this.loop = new DispatchLoop("async-job:" + type.getKey(), asyncJobExecutor,
+				() -> dispatchBatch(this), claimed -> claimed > 0 && backlog.get());
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.global.infrastructure.job.entity.AsyncJob;
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobType;
+import com.tradingpt.tpt_api.global.infrastructure.job.event.AsyncJobEnqueuedEvent;
+import com.tradingpt.tpt_api.global.infrastructure.job.repository.AsyncJobRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 작업 등록
+ *
+ * <p>호출한 쪽의 트랜잭션에 참여하여 작업 큐에 기록만 하고, 실제 실행은 커밋 후 디스패처가 수행한다.
+ * 트랜잭션 밖에서 호출하면 자체 트랜잭션으로 바로 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AsyncJobService {
+
+	private final AsyncJobRepository asyncJobRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Transactional
+	public Long enqueue(AsyncJobType jobType, String payload) {
+		AsyncJob job = asyncJobRepository.save(AsyncJob.pending(jobType, payload));
+		eventPublisher.publishEvent(new AsyncJobEnqueuedEvent(jobType));
+		return job.getId();
+	}
+}
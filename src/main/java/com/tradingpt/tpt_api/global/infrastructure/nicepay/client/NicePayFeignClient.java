@@ -10,13 +10,15 @@ import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.BillingKe
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.BillingKeyDirectRequestDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.BillingKeyRegisterRequestDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.RecurringPaymentRequestDTO;
+import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.TransactionStatusRequestDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.BillingKeyDeleteResponseDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.BillingKeyRegisterResponse;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.RecurringPaymentResponseDTO;
+import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.TransactionStatusResponseDTO;
 
 /**
  * NicePay API Feign Client
- * 빌키 발급/삭제 및 빌링 결제 API 호출 (인증/비인증 방식 모두 지원)
+ * 빌키 발급/삭제, 빌링 결제 및 거래 상태 조회 API 호출 (인증/비인증 방식 모두 지원)
  */
 @FeignClient(
 	name = "nicepay-api",
@@ -86,4 +88,20 @@ public interface NicePayFeignClient {
 	RecurringPaymentResponseDTO executeRecurringPayment(
 		@RequestBody RecurringPaymentRequestDTO request
 	);
+
+	/**
+	 * 거래 상태 조회 API 호출
+	 * 빌링 결제 요청 시 전달한 TID로 승인 여부를 조회합니다.
+	 *
+	 * @param request 거래 상태 조회 요청 데이터
+	 * @return 거래 상태 조회 응답 (거래 상태, 승인번호 등)
+	 */
+	@PostMapping(
+		value = "${nicepay.api.transaction-status-path}",
+		consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE,
+		produces = "text/plain;charset=EUC-KR"
+	)
+	TransactionStatusResponseDTO inquireTransactionStatus(
+		@RequestBody TransactionStatusRequestDTO request
+	);
 }
@@ -0,0 +1,39 @@
+package com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * NicePay 거래 상태 조회 API 요청 DTO
+ * API: /webapi/inquery/trans_status.jsp
+ * Content-Type: application/x-www-form-urlencoded; charset=EUC-KR
+ */
+@Getter
+@Builder
+public class TransactionStatusRequestDTO {
+
+    /**
+     * 조회할 거래 ID (빌링 결제 요청 시 전달한 TID)
+     * 필수, 30 bytes
+     */
+    private String TID;
+
+    /**
+     * 상점 ID
+     * 필수, 10 bytes
+     */
+    private String MID;
+
+    /**
+     * 전문 생성 일시 (YYYYMMDDHHMMSS)
+     * 필수, 14 bytes
+     */
+    private String EdiDate;
+
+    /**
+     * 위변조 검증 데이터
+     * SHA256(TID + MID + EdiDate + MerchantKey)
+     * 필수, 256 bytes
+     */
+    private String SignData;
+}
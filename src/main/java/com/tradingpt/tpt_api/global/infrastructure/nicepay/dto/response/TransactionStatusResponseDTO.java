@@ -0,0 +1,91 @@
+package com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * NicePay 거래 상태 조회 API 응답 DTO
+ *
+ * 성공 응답 예시:
+ * ResultCode=0000
+ * ResultMsg=정상처리
+ * TID=nictest04m01162501141234567890
+ * Moid=order_202501141234567890
+ * Amt=50000
+ * Status=0
+ * AuthCode=123456
+ * AuthDate=20250114123456
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TransactionStatusResponseDTO {
+
+    /**
+     * 결과 코드
+     * 0000: 조회 성공
+     * 기타: 조회 실패
+     */
+    private String ResultCode;
+
+    /**
+     * 결과 메시지
+     */
+    private String ResultMsg;
+
+    /**
+     * 거래 ID
+     * 30 bytes
+     */
+    private String TID;
+
+    /**
+     * 주문번호
+     * 64 bytes
+     */
+    private String Moid;
+
+    /**
+     * 거래 금액
+     * 12 bytes
+     */
+    private String Amt;
+
+    /**
+     * 거래 상태
+     * 0: 승인, 1: 취소, 9: 승인 전/실패
+     * 1 byte
+     */
+    private String Status;
+
+    /**
+     * 승인 번호
+     * 12 bytes
+     */
+    private String AuthCode;
+
+    /**
+     * 승인 일시 (YYYYMMDDHHmmss)
+     * 14 bytes
+     */
+    private String AuthDate;
+
+    /**
+     * 조회가 성공인지 확인
+     *
+     * @return 0000이면 true
+     */
+    public boolean isSuccess() {
+        return "0000".equals(ResultCode);
+    }
+
+    /**
+     * 승인된 거래인지 확인
+     *
+     * @return 조회 성공이고 거래 상태가 승인(0)이면 true
+     */
+    public boolean isApproved() {
+        return isSuccess() && "0".equals(Status);
+    }
+}
@@ -8,9 +8,11 @@ import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.BillingKe
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.BillingKeyDirectRequestDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.BillingKeyRegisterRequestDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.RecurringPaymentRequestDTO;
+import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.request.TransactionStatusRequestDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.BillingKeyDeleteResponseDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.BillingKeyRegisterResponse;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.RecurringPaymentResponseDTO;
+import com.tradingpt.tpt_api.global.infrastructure.nicepay.dto.response.TransactionStatusResponseDTO;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.exception.NicePayErrorStatus;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.exception.NicePayException;
 import com.tradingpt.tpt_api.global.infrastructure.nicepay.util.NicePayCryptoUtil;
@@ -21,7 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * NicePay API 서비스 래퍼
  * Feign Client를 사용하여 NicePay API를 호출하고 응답을 검증합니다.
- * 인증/비인증 빌키 발급, 빌링 결제, 빌키 삭제 기능 제공
+ * 인증/비인증 빌키 발급, 빌링 결제, 거래 상태 조회, 빌키 삭제 기능 제공
  */
 @Service
 @RequiredArgsConstructor
@@ -239,7 +241,30 @@ public class NicePayService {
 		String orderName,
 		String moid
 	) {
-		log.info("빌링 결제 요청: BID={}, Amount={}, Moid={}", billingKey, amount, moid);
+		// TID 생성 (반드시 새로 생성)
+		return executeRecurringPayment(billingKey, amount, orderName, moid, generateTransactionId());
+	}
+
+	/**
+	 * 빌링 결제(승인) API 호출 (호출자가 미리 발급한 TID 사용)
+	 * 결과를 기록하기 전에 중단되어도 같은 TID로 {@link #inquireTransactionStatus}에서 승인 여부를 확인할 수 있습니다.
+	 *
+	 * @param billingKey 빌링키 (BID)
+	 * @param amount 결제 금액
+	 * @param orderName 주문명
+	 * @param moid 주문번호
+	 * @param tid {@link #generateTransactionId()}로 발급한 거래 ID (결제 요청마다 새로 발급)
+	 * @return 빌링 결제 응답 (승인번호, 거래번호 등)
+	 * @throws NicePayException 빌링 결제 실패 시
+	 */
+	public RecurringPaymentResponseDTO executeRecurringPayment(
+		String billingKey,
+		String amount,
+		String orderName,
+		String moid,
+		String tid
+	) {
+		log.info("빌링 결제 요청: BID={}, Amount={}, Moid={}, TID={}", billingKey, amount, moid, tid);
 
 		String mid = nicePayConfig.getMid();
 		String merchantKey = nicePayConfig.getMerchantKey();
@@ -247,9 +272,6 @@ public class NicePayService {
 		// EdiDate 생성
 		String ediDate = NicePayCryptoUtil.generateEdiDate();
 
-		// TID 생성 (반드시 새로 생성)
-		String tid = NicePayCryptoUtil.generateTID(mid);
-
 		// SignData 생성: SHA256(MID + EdiDate + Moid + Amt + BID + MerchantKey)
 		String signData = NicePayCryptoUtil.generateSignData(
 			mid,
@@ -296,4 +318,69 @@ public class NicePayService {
 			throw new NicePayException(NicePayErrorStatus.API_CONNECTION_FAILED);
 		}
 	}
+
+	/**
+	 * 빌링 결제용 거래 ID(TID) 발급
+	 *
+	 * @return 가맹점 MID 기준으로 생성한 TID (30자리)
+	 */
+	public String generateTransactionId() {
+		return NicePayCryptoUtil.generateTID(nicePayConfig.getMid());
+	}
+
+	/**
+	 * 거래 상태 조회 API 호출
+	 * 빌링 결제 요청 시 전달한 TID로 승인 여부를 조회합니다.
+	 *
+	 * @param tid 빌링 결제 요청 시 전달한 거래 ID
+	 * @return 거래 상태 조회 응답 ({@link TransactionStatusResponseDTO#isApproved()}로 승인 여부 확인)
+	 * @throws NicePayException 조회 실패 시
+	 */
+	public TransactionStatusResponseDTO inquireTransactionStatus(String tid) {
+		log.info("거래 상태 조회 요청: TID={}", tid);
+
+		String mid = nicePayConfig.getMid();
+		String merchantKey = nicePayConfig.getMerchantKey();
+
+		// EdiDate 생성
+		String ediDate = NicePayCryptoUtil.generateEdiDate();
+
+		// SignData 생성: SHA256(TID + MID + EdiDate + MerchantKey)
+		String signData = NicePayCryptoUtil.generateSignData(
+			tid,
+			mid,
+			ediDate,
+			merchantKey
+		);
+
+		// 요청 객체 생성
+		TransactionStatusRequestDTO request = TransactionStatusRequestDTO.builder()
+			.TID(tid)
+			.MID(mid)
+			.EdiDate(ediDate)
+			.SignData(signData)
+			.build();
+
+		try {
+			// Feign Client로 API 호출
+			TransactionStatusResponseDTO response = nicePayFeignClient.inquireTransactionStatus(request);
+
+			// 응답 검증
+			if (response.isSuccess()) {
+				log.info("거래 상태 조회 성공: TID={}, Status={}, Amt={}",
+					response.getTID(), response.getStatus(), response.getAmt());
+				return response;
+			} else {
+				log.error("거래 상태 조회 실패: ResultCode={}, ResultMsg={}",
+					response.getResultCode(), response.getResultMsg());
+				NicePayErrorStatus errorStatus = NicePayErrorStatus.fromResultCode(response.getResultCode());
+				throw new NicePayException(errorStatus);
+			}
+		} catch (NicePayException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("거래 상태 조회 API 호출 중 오류 발생", e);
+			throw new NicePayException(NicePayErrorStatus.API_CONNECTION_FAILED);
+		}
+	}
 }
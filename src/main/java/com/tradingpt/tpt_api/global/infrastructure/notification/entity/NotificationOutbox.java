@@ -0,0 +1,178 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.entity;
+
+import java.time.LocalDateTime;
+
+import com.tradingpt.tpt_api.global.common.BaseEntity;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationChannel;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationStatus;
+import com.tradingpt.tpt_api.global.infrastructure.queue.LeasedQueueItem;
+import com.tradingpt.tpt_api.global.infrastructure.queue.RetryPolicy;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 발송 Outbox
+ *
+ * <p>비즈니스 트랜잭션 안에서 발송할 알림을 1행으로 기록하고,
+ * 커밋 이후 {@code NotificationDispatcher} 가 읽어 외부 발송(SMS/이메일/알림톡)을 수행한다.
+ * 트랜잭션이 롤백되면 알림도 함께 사라지고, 외부 API 지연이 DB 커넥션을 잡고 있지 않는다.
+ *
+ * <p>본문에는 인증번호 등 민감한 내용이 있으므로 발송이 끝나면(SENT/FAILED) 본문을 지우고,
+ * 보관 기간이 지난 행은 정리 스케줄러가 삭제한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+	name = "notification_outbox",
+	indexes = {
+		// 디스패처 점유 (status IN (PENDING, SENDING) AND next_attempt_at <= now)
+		@Index(name = "idx_notification_outbox_status_next", columnList = "status, next_attempt_at"),
+		// 보관 기간 정리 (status IN (SENT, FAILED) AND updated_at < cutoff)
+		@Index(name = "idx_notification_outbox_status_updated", columnList = "status, updated_at"),
+		// 고객 데이터 영구 삭제 (수신자 기준)
+		@Index(name = "idx_notification_outbox_recipient", columnList = "recipient")
+	}
+)
+public class NotificationOutbox extends BaseEntity implements LeasedQueueItem {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "notification_outbox_id")
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "channel", nullable = false, length = 20)
+	private NotificationChannel channel;
+
+	/**
+	 * 채널별 템플릿 구분 (알림톡 템플릿 등, 없으면 null)
+	 * 같은 채널/템플릿끼리 묶어 일괄 발송한다.
+	 */
+	@Column(name = "template", length = 50)
+	private String template;
+
+	@Column(name = "recipient", nullable = false)
+	private String recipient;
+
+	@Column(name = "subject")
+	private String subject;
+
+	/**
+	 * 발송 본문 (SENT/FAILED 가 되면 null)
+	 */
+	@Column(name = "body", columnDefinition = "TEXT")
+	private String body;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private NotificationStatus status;
+
+	@Column(name = "attempt_count", nullable = false)
+	private Integer attemptCount;
+
+	/**
+	 * 다음 발송 시도 시각 (SENDING 상태에서는 점유 만료 시각)
+	 */
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	/**
+	 * 이 시각이 지나면 발송하지 않음 (인증번호 등 유효 시간이 있는 알림, 없으면 null)
+	 */
+	@Column(name = "expires_at")
+	private LocalDateTime expiresAt;
+
+	@Column(name = "claim_token", length = 36)
+	private String claimToken;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(name = "sent_at")
+	private LocalDateTime sentAt;
+
+	// ===== Static Factory Methods =====
+
+	public static NotificationOutbox pending(NotificationChannel channel, String template, String recipient,
+		String subject, String body, LocalDateTime expiresAt) {
+		return NotificationOutbox.builder()
+			.channel(channel)
+			.template(template)
+			.recipient(recipient)
+			.subject(subject)
+			.body(body)
+			.status(NotificationStatus.PENDING)
+			.attemptCount(0)
+			.nextAttemptAt(LocalDateTime.now())
+			.expiresAt(expiresAt)
+			.build();
+	}
+
+	// ===== 비즈니스 메서드 =====
+
+	public boolean isExpired(LocalDateTime now) {
+		return expiresAt != null && expiresAt.isBefore(now);
+	}
+
+	/**
+	 * 디스패처 점유 - leaseUntil 까지 결과가 기록되지 않으면 다시 점유 대상
+	 */
+	@Override
+	public void claim(String claimToken, LocalDateTime now, LocalDateTime leaseUntil) {
+		this.status = NotificationStatus.SENDING;
+		this.claimToken = claimToken;
+		this.attemptCount = attemptCount + 1;
+		this.nextAttemptAt = leaseUntil;
+	}
+
+	/**
+	 * 발송 성공
+	 */
+	@Override
+	public void markDone(LocalDateTime now) {
+		this.status = NotificationStatus.SENT;
+		this.sentAt = now;
+		this.claimToken = null;
+		this.lastError = null;
+		this.body = null;
+	}
+
+	/**
+	 * 발송 실패 - 시도 횟수가 남아 있고 만료되지 않았으면 backoff 후 재시도
+	 */
+	@Override
+	public boolean markFailed(String error, LocalDateTime now, RetryPolicy retryPolicy) {
+		this.claimToken = null;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+
+		LocalDateTime retryAt = now.plus(retryPolicy.backoffFor(attemptCount));
+		if (!retryPolicy.canRetry(attemptCount) || (expiresAt != null && expiresAt.isBefore(retryAt))) {
+			this.status = NotificationStatus.FAILED;
+			this.body = null;
+			return false;
+		}
+		this.status = NotificationStatus.PENDING;
+		this.nextAttemptAt = retryAt;
+		return true;
+	}
+}
@@ -0,0 +1,19 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 발송 채널
+ */
+@Getter
+@AllArgsConstructor
+public enum NotificationChannel {
+
+	SMS("문자(Solapi)"),
+	EMAIL("이메일(SMTP)"),
+	ALIMTALK("알림톡(Aligo)"),
+	;
+
+	private final String description;
+}
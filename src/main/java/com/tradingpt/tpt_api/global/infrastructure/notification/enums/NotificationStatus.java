@@ -0,0 +1,20 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 발송 상태
+ */
+@Getter
+@AllArgsConstructor
+public enum NotificationStatus {
+
+	PENDING("발송 대기"),
+	SENDING("발송 중 (디스패처가 점유)"),
+	SENT("발송 완료"),
+	FAILED("발송 실패 (재시도 종료)"),
+	;
+
+	private final String description;
+}
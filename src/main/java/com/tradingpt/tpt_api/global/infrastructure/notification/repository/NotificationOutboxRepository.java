@@ -0,0 +1,70 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tradingpt.tpt_api.global.infrastructure.notification.entity.NotificationOutbox;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationChannel;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationStatus;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+	/**
+	 * 발송할 알림 잠금 (트랜잭션 안에서 호출)
+	 * 발송 시각이 된 PENDING 행과 점유 만료된 SENDING 행(처리 중 서버 종료 등)을 잠근다.
+	 * 다른 디스패처가 잠근 행은 기다리지 않고 건너뛰므로 여러 인스턴스가 서로 다른 행을 가져간다.
+	 *
+	 * @param now   기준 시각
+	 * @param limit 최대 건수
+	 */
+	@Query(value = """
+		SELECT *
+		FROM notification_outbox
+		WHERE status IN ('PENDING', 'SENDING')
+		  AND next_attempt_at <= :now
+		ORDER BY next_attempt_at, notification_outbox_id
+		LIMIT :limit
+		FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<NotificationOutbox> lockDue(
+		@Param("now") LocalDateTime now,
+		@Param("limit") int limit
+	);
+
+	/**
+	 * 보관 기간이 지난 발송 완료/최종 실패 알림 삭제
+	 */
+	@Modifying
+	@Query("""
+		DELETE FROM NotificationOutbox o
+		WHERE o.status IN (com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationStatus.SENT,
+		                   com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationStatus.FAILED)
+		  AND o.updatedAt < :before
+		""")
+	int deleteFinishedBefore(@Param("before") LocalDateTime before);
+
+	/**
+	 * 채널별 미발송 건수와 가장 오래된 생성 시각 (큐 깊이/지연 메트릭)
+	 */
+	@Query("""
+		SELECT o.channel AS channel, COUNT(o) AS count, MIN(o.createdAt) AS oldestCreatedAt
+		FROM NotificationOutbox o
+		WHERE o.status IN :statuses
+		GROUP BY o.channel
+		""")
+	List<ChannelBacklog> countByChannel(@Param("statuses") Collection<NotificationStatus> statuses);
+
+	interface ChannelBacklog {
+		NotificationChannel getChannel();
+
+		long getCount();
+
+		LocalDateTime getOldestCreatedAt();
+	}
+}
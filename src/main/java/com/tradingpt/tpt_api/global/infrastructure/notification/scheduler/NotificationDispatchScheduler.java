@@ -0,0 +1,59 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.global.infrastructure.notification.repository.NotificationOutboxRepository;
+import com.tradingpt.tpt_api.global.infrastructure.notification.service.NotificationDispatcher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * 알림 Outbox 주기 처리 (재시도, 즉시 실행을 놓친 알림)
+ * 행 단위 점유로 인스턴스 간 중복 발송이 없으므로 디스패치는 ShedLock 없이 모든 인스턴스에서 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatchScheduler {
+
+	private final NotificationDispatcher notificationDispatcher;
+	private final NotificationOutboxRepository notificationOutboxRepository;
+
+	@Value("${notification.retention:P7D}")
+	private Duration retention;
+
+	@Scheduled(fixedDelayString = "${notification.dispatch.interval:PT5S}")
+	public void dispatch() {
+		try {
+			int processed = notificationDispatcher.dispatch();
+			if (processed > 0) {
+				log.debug("알림 Outbox 처리: {}건", processed);
+			}
+		} catch (Exception e) {
+			log.error("알림 Outbox 처리 실패", e);
+		}
+	}
+
+	/**
+	 * 보관 기간이 지난 발송 완료/최종 실패 알림 정리 (매일 04:45, 수신자 개인정보 보관 최소화)
+	 */
+	@Scheduled(cron = "0 45 4 * * *")
+	@SchedulerLock(
+		name = "notificationOutboxPurgeScheduler",
+		lockAtMostFor = "PT10M",
+		lockAtLeastFor = "PT1M"
+	)
+	@Transactional
+	public void purgeFinished() {
+		int deleted = notificationOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minus(retention));
+		log.info("발송 완료/실패 알림 정리: {}건", deleted);
+	}
+}
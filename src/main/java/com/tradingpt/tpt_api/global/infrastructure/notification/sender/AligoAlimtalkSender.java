@@ -0,0 +1,46 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.sender;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.tradingpt.tpt_api.global.aligo.AligoAlimtalkClient;
+import com.tradingpt.tpt_api.global.aligo.AlimtalkMessage;
+import com.tradingpt.tpt_api.global.aligo.AlimtalkTemplate;
+import com.tradingpt.tpt_api.global.infrastructure.notification.entity.NotificationOutbox;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationChannel;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림톡 발송기 (Aligo 다건 발송)
+ * 디스패처가 같은 템플릿끼리 묶어 전달하므로 요청 1회로 묶음 전체를 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.stub-enabled", havingValue = "false", matchIfMissing = true)
+public class AligoAlimtalkSender implements NotificationSender {
+
+	private final AligoAlimtalkClient alimtalkClient;
+
+	@Override
+	public boolean supports(NotificationChannel channel) {
+		return channel == NotificationChannel.ALIMTALK;
+	}
+
+	@Override
+	public int maxBatchSize() {
+		return AligoAlimtalkClient.MAX_RECEIVERS;
+	}
+
+	@Override
+	public Map<Long, String> send(List<NotificationOutbox> batch) {
+		AlimtalkTemplate template = AlimtalkTemplate.valueOf(batch.get(0).getTemplate());
+		alimtalkClient.sendBatch(template, batch.stream()
+			.map(outbox -> new AlimtalkMessage(template, outbox.getRecipient(), outbox.getBody()))
+			.toList());
+		return Map.of();
+	}
+}
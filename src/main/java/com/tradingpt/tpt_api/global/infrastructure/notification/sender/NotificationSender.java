@@ -0,0 +1,31 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.sender;
+
+import java.util.List;
+import java.util.Map;
+
+import com.tradingpt.tpt_api.global.infrastructure.notification.entity.NotificationOutbox;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationChannel;
+
+/**
+ * 채널별 알림 발송기
+ *
+ * <p>디스패처는 같은 채널/템플릿의 알림을 {@link #maxBatchSize()} 단위로 묶어 전달한다.
+ */
+public interface NotificationSender {
+
+	boolean supports(NotificationChannel channel);
+
+	/**
+	 * 1회 호출로 보낼 수 있는 최대 건수 (제공자가 다건 발송을 지원하지 않으면 1)
+	 */
+	int maxBatchSize();
+
+	/**
+	 * 일괄 발송
+	 * 예외를 던지면 묶음 전체를 실패로 처리한다.
+	 *
+	 * @param batch 같은 채널/템플릿의 알림 목록
+	 * @return 실패한 알림 ID → 실패 사유 (모두 성공하면 빈 Map)
+	 */
+	Map<Long, String> send(List<NotificationOutbox> batch);
+}
@@ -0,0 +1,87 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.sender;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import com.tradingpt.tpt_api.global.infrastructure.notification.entity.NotificationOutbox;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationChannel;
+
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이메일 발송기 (SMTP)
+ * 묶음을 SMTP 연결 1개로 보내고, 수신자별 실패는 {@link MailSendException#getFailedMessages()} 로 구분한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.stub-enabled", havingValue = "false", matchIfMissing = true)
+public class SmtpMailSender implements NotificationSender {
+
+	private static final int MAX_BATCH_SIZE = 20;
+
+	private final JavaMailSender mailSender;
+
+	@Value("${app.mail.from}")
+	private String mailFrom;
+
+	@Override
+	public boolean supports(NotificationChannel channel) {
+		return channel == NotificationChannel.EMAIL;
+	}
+
+	@Override
+	public int maxBatchSize() {
+		return MAX_BATCH_SIZE;
+	}
+
+	@Override
+	public Map<Long, String> send(List<NotificationOutbox> batch) {
+		Map<MimeMessage, Long> idsByMessage = new IdentityHashMap<>();
+		List<MimeMessage> messages = new ArrayList<>(batch.size());
+		for (NotificationOutbox outbox : batch) {
+			MimeMessage message = toMimeMessage(outbox);
+			idsByMessage.put(message, outbox.getId());
+			messages.add(message);
+		}
+
+		try {
+			mailSender.send(messages.toArray(MimeMessage[]::new));
+			return Map.of();
+		} catch (MailSendException e) {
+			if (e.getFailedMessages().isEmpty()) {
+				throw e;
+			}
+			Map<Long, String> failures = new HashMap<>();
+			e.getFailedMessages().forEach((message, cause) ->
+				failures.put(idsByMessage.get(message), cause.getMessage()));
+			return failures;
+		}
+	}
+
+	private MimeMessage toMimeMessage(NotificationOutbox outbox) {
+		try {
+			MimeMessage message = mailSender.createMimeMessage();
+			MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+
+			// Envelope-From + Header-From 둘 다 Gmail Relay가 인정하는 형식으로 설정
+			helper.setFrom(mailFrom, "TradingPT");
+			helper.setTo(outbox.getRecipient());
+			helper.setSubject(outbox.getSubject());
+			helper.setText(outbox.getBody(), false);
+			return message;
+		} catch (Exception e) {
+			throw new IllegalStateException("메일 생성 실패: outboxId=" + outbox.getId(), e);
+		}
+	}
+}
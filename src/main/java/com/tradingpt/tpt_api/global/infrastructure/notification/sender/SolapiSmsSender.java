@@ -0,0 +1,45 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.sender;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.tradingpt.tpt_api.domain.auth.infrastructure.sms.SensSmsClient;
+import com.tradingpt.tpt_api.global.infrastructure.notification.entity.NotificationOutbox;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationChannel;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SMS 발송기 (Solapi 다건 발송)
+ * Solapi 는 요청 단위로 접수 결과를 돌려주므로 호출이 성공하면 묶음 전체를 성공으로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.stub-enabled", havingValue = "false", matchIfMissing = true)
+public class SolapiSmsSender implements NotificationSender {
+
+	private static final int MAX_BATCH_SIZE = 100;
+
+	private final SensSmsClient smsClient;
+
+	@Override
+	public boolean supports(NotificationChannel channel) {
+		return channel == NotificationChannel.SMS;
+	}
+
+	@Override
+	public int maxBatchSize() {
+		return MAX_BATCH_SIZE;
+	}
+
+	@Override
+	public Map<Long, String> send(List<NotificationOutbox> batch) {
+		smsClient.sendMany(batch.stream()
+			.map(outbox -> new SensSmsClient.Sms(outbox.getRecipient(), outbox.getBody()))
+			.toList());
+		return Map.of();
+	}
+}
@@ -0,0 +1,64 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.sender;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.tradingpt.tpt_api.global.infrastructure.notification.entity.NotificationOutbox;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationChannel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬/테스트용 발송기 (notification.stub-enabled=true)
+ * 외부 API 를 호출하지 않고 로그만 남기며, 발송된 알림을 메모리에 보관한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.stub-enabled", havingValue = "true")
+public class StubNotificationSender implements NotificationSender {
+
+	private static final int MAX_BATCH_SIZE = 100;
+
+	private final ConcurrentLinkedQueue<SentNotification> sent = new ConcurrentLinkedQueue<>();
+
+	@Override
+	public boolean supports(NotificationChannel channel) {
+		return true;
+	}
+
+	@Override
+	public int maxBatchSize() {
+		return MAX_BATCH_SIZE;
+	}
+
+	@Override
+	public Map<Long, String> send(List<NotificationOutbox> batch) {
+		for (NotificationOutbox outbox : batch) {
+			sent.add(new SentNotification(outbox.getChannel(), outbox.getTemplate(), outbox.getRecipient(),
+				outbox.getSubject(), outbox.getBody()));
+			log.info("[stub] {} 발송 → {} : {}", outbox.getChannel(), outbox.getRecipient(), outbox.getBody());
+		}
+		return Map.of();
+	}
+
+	public List<SentNotification> getSent() {
+		return List.copyOf(sent);
+	}
+
+	public void clear() {
+		sent.clear();
+	}
+
+	public record SentNotification(
+		NotificationChannel channel,
+		String template,
+		String recipient,
+		String subject,
+		String body
+	) {
+	}
+}
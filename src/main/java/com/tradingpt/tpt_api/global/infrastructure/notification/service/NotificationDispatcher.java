@@ -0,0 +1,251 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.tradingpt.tpt_api.global.infrastructure.notification.entity.NotificationOutbox;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationChannel;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationStatus;
+import com.tradingpt.tpt_api.global.infrastructure.notification.repository.NotificationOutboxRepository;
+import com.tradingpt.tpt_api.global.infrastructure.notification.sender.NotificationSender;
+import com.tradingpt.tpt_api.global.infrastructure.queue.DispatchLoop;
+import com.tradingpt.tpt_api.global.infrastructure.queue.LeasedQueue;
+import com.tradingpt.tpt_api.global.infrastructure.queue.QueueMetrics;
+import com.tradingpt.tpt_api.global.infrastructure.queue.RetryPolicy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 Outbox 디스패처
+ *
+ * <p>발송 시각이 된 알림을 {@link LeasedQueue} 로 점유한 뒤 채널/템플릿별로 묶어 발송한다.
+ * 점유/재시도/메트릭은 비동기 작업 큐와 같은 공통 처리를 쓰고, 여기서는 발송만 다룬다.
+ * <ul>
+ *   <li>채널별 동시 발송 수는 Semaphore 로 제한 (notification.dispatch.concurrency.*)</li>
+ *   <li>제공자가 다건 발송을 지원하면 {@link NotificationSender#maxBatchSize()} 단위로 묶어 1회 호출</li>
+ *   <li>유효 시간이 지난 알림은 발송하지 않고 FAILED</li>
+ * </ul>
+ *
+ * <p>알림이 커밋되면 즉시 한 번 실행되고, 스케줄러가 주기적으로 남은 알림(재시도 포함)을 처리한다.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher {
+
+	private static final String METRIC_PREFIX = "notification.outbox";
+	private static final String METRIC_DELIVERY_LATENCY = "notification.delivery.latency";
+
+	private static final Set<NotificationStatus> UNSENT_STATUSES =
+		Set.of(NotificationStatus.PENDING, NotificationStatus.SENDING);
+
+	private final NotificationOutboxRepository outboxRepository;
+	private final List<NotificationSender> senders;
+	private final Executor notificationExecutor;
+	private final int claimSize;
+
+	private final Map<NotificationChannel, Semaphore> permits = new EnumMap<>(NotificationChannel.class);
+	private final Map<NotificationChannel, QueueMetrics> metrics = new EnumMap<>(NotificationChannel.class);
+	private final Map<NotificationChannel, Timer> deliveryLatencies = new EnumMap<>(NotificationChannel.class);
+
+	private final LeasedQueue<NotificationOutbox> queue;
+	private final DispatchLoop loop;
+
+	public NotificationDispatcher(
+		NotificationOutboxRepository outboxRepository,
+		List<NotificationSender> senders,
+		@Qualifier("notificationExecutor") Executor notificationExecutor,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${notification.dispatch.claim-size:200}") int claimSize,
+		@Value("${notification.dispatch.lease:PT2M}") Duration lease,
+		@Value("${notification.dispatch.max-attempts:5}") int maxAttempts,
+		@Value("${notification.dispatch.base-backoff:PT30S}") Duration baseBackoff,
+		@Value("${notification.dispatch.max-backoff:PT30M}") Duration maxBackoff,
+		@Value("${notification.dispatch.concurrency.sms:4}") int smsConcurrency,
+		@Value("${notification.dispatch.concurrency.email:2}") int emailConcurrency,
+		@Value("${notification.dispatch.concurrency.alimtalk:2}") int alimtalkConcurrency
+	) {
+		this.outboxRepository = outboxRepository;
+		this.senders = senders;
+		this.notificationExecutor = notificationExecutor;
+		this.claimSize = claimSize;
+
+		permits.put(NotificationChannel.SMS, new Semaphore(smsConcurrency));
+		permits.put(NotificationChannel.EMAIL, new Semaphore(emailConcurrency));
+		permits.put(NotificationChannel.ALIMTALK, new Semaphore(alimtalkConcurrency));
+
+		for (NotificationChannel channel : NotificationChannel.values()) {
+			String tag = channel.name().toLowerCase(Locale.ROOT);
+			metrics.put(channel, new QueueMetrics(meterRegistry, METRIC_PREFIX, "channel", tag));
+			deliveryLatencies.put(channel, Timer.builder(METRIC_DELIVERY_LATENCY)
+				.description("알림 생성부터 발송 완료까지 걸린 시간")
+				.tag("channel", tag)
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.register(meterRegistry));
+		}
+
+		this.queue = new LeasedQueue<>("알림 발송", outboxRepository, transactionManager, lease,
+			new RetryPolicy(maxAttempts, baseBackoff, maxBackoff), outbox -> metrics.get(outbox.getChannel()));
+		this.loop = new DispatchLoop("notification", notificationExecutor, this::dispatchBatch,
+			claimed -> claimed == claimSize);
+	}
+
+	/**
+	 * 디스패치 요청
+	 * 트랜잭션 안이면 커밋 후에, 아니면 바로 비동기로 실행한다.
+	 * (실행 중이면 현재 실행이 끝난 뒤 한 번 더 돈다)
+	 */
+	public void requestDispatch() {
+		loop.triggerAfterCommit();
+	}
+
+	/**
+	 * 발송 시각이 된 알림을 모두 발송
+	 * 인스턴스 내에서는 한 번에 하나만 실행된다. (인스턴스 간에는 SKIP LOCKED 로 분리)
+	 *
+	 * @return 처리한 알림 수
+	 */
+	public int dispatch() {
+		try {
+			return loop.run();
+		} finally {
+			refreshBacklog();
+		}
+	}
+
+	private int dispatchBatch() {
+		LeasedQueue.Claim<NotificationOutbox> claim = queue.claim(outboxRepository::lockDue, claimSize);
+		if (claim.isEmpty()) {
+			return 0;
+		}
+
+		String claimToken = claim.claimToken();
+		LocalDateTime now = claim.claimedAt();
+
+		// 유효 시간이 지난 알림은 발송하지 않음
+		List<NotificationOutbox> expired = claim.items().stream().filter(o -> o.isExpired(now)).toList();
+		if (!expired.isEmpty()) {
+			recordResults(claimToken, expired, expired.stream()
+				.collect(Collectors.toMap(NotificationOutbox::getId, o -> "유효 시간 만료")));
+		}
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (List<NotificationOutbox> batch : chunk(claim.items().stream().filter(o -> !o.isExpired(now)).toList())) {
+			Runnable task = () -> sendChunk(claimToken, batch);
+			try {
+				futures.add(CompletableFuture.runAsync(task, notificationExecutor));
+			} catch (RejectedExecutionException e) {
+				task.run();
+			}
+		}
+		futures.forEach(CompletableFuture::join);
+
+		return claim.items().size();
+	}
+
+	/**
+	 * 채널/템플릿별로 묶고 발송기 최대 건수 단위로 나눈다
+	 */
+	private List<List<NotificationOutbox>> chunk(List<NotificationOutbox> outboxes) {
+		Map<String, List<NotificationOutbox>> groups = new LinkedHashMap<>();
+		for (NotificationOutbox outbox : outboxes) {
+			groups.computeIfAbsent(outbox.getChannel() + ":" + outbox.getTemplate(), key -> new ArrayList<>())
+				.add(outbox);
+		}
+
+		List<List<NotificationOutbox>> chunks = new ArrayList<>();
+		for (List<NotificationOutbox> group : groups.values()) {
+			NotificationSender sender = senderFor(group.get(0).getChannel());
+			int size = sender != null ? Math.max(1, sender.maxBatchSize()) : group.size();
+			for (int from = 0; from < group.size(); from += size) {
+				chunks.add(group.subList(from, Math.min(from + size, group.size())));
+			}
+		}
+		return chunks;
+	}
+
+	private void sendChunk(String claimToken, List<NotificationOutbox> chunk) {
+		NotificationChannel channel = chunk.get(0).getChannel();
+		NotificationSender sender = senderFor(channel);
+
+		Map<Long, String> failures;
+		if (sender == null) {
+			failures = allFailed(chunk, "발송기 없음: " + channel);
+		} else {
+			Semaphore permit = permits.get(channel);
+			permit.acquireUninterruptibly();
+			Timer.Sample sample = Timer.start();
+			try {
+				failures = sender.send(chunk);
+			} catch (Exception e) {
+				log.warn("알림 발송 실패: channel={}, 건수={}, 이유={}", channel, chunk.size(), e.getMessage());
+				failures = allFailed(chunk, e.getMessage());
+			} finally {
+				sample.stop(metrics.get(channel).duration());
+				permit.release();
+			}
+		}
+
+		recordResults(claimToken, chunk, failures);
+	}
+
+	private void recordResults(String claimToken, List<NotificationOutbox> outboxes, Map<Long, String> failures) {
+		List<Long> ids = outboxes.stream().map(NotificationOutbox::getId).toList();
+		queue.recordResults(claimToken, ids, failures, outbox ->
+			deliveryLatencies.get(outbox.getChannel())
+				.record(Duration.between(outbox.getCreatedAt(), outbox.getSentAt())));
+	}
+
+	private NotificationSender senderFor(NotificationChannel channel) {
+		for (NotificationSender sender : senders) {
+			if (sender.supports(channel)) {
+				return sender;
+			}
+		}
+		return null;
+	}
+
+	private Map<Long, String> allFailed(List<NotificationOutbox> chunk, String reason) {
+		Map<Long, String> failures = new HashMap<>();
+		String message = reason != null ? reason : "알 수 없는 오류";
+		chunk.forEach(outbox -> failures.put(outbox.getId(), message));
+		return failures;
+	}
+
+	private void refreshBacklog() {
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			Map<NotificationChannel, NotificationOutboxRepository.ChannelBacklog> backlogs =
+				new EnumMap<>(NotificationChannel.class);
+			outboxRepository.countByChannel(UNSENT_STATUSES).forEach(row -> backlogs.put(row.getChannel(), row));
+
+			metrics.forEach((channel, channelMetrics) -> {
+				NotificationOutboxRepository.ChannelBacklog backlog = backlogs.get(channel);
+				channelMetrics.updateBacklog(backlog != null ? backlog.getCount() : 0L,
+					backlog != null ? backlog.getOldestCreatedAt() : null, now);
+			});
+		} catch (Exception e) {
+			log.debug("알림 큐 깊이 갱신 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.tradingpt.tpt_api.global.infrastructure.notification.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.global.aligo.AlimtalkMessage;
+import com.tradingpt.tpt_api.global.infrastructure.notification.entity.NotificationOutbox;
+import com.tradingpt.tpt_api.global.infrastructure.notification.enums.NotificationChannel;
+import com.tradingpt.tpt_api.global.infrastructure.notification.repository.NotificationOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 발송 등록
+ *
+ * <p>호출한 쪽의 트랜잭션에 참여하여 Outbox 에 기록만 하고, 실제 발송은 커밋 후 디스패처가 수행한다.
+ * 트랜잭션 밖에서 호출하면 자체 트랜잭션으로 바로 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+	private final NotificationOutboxRepository outboxRepository;
+	private final NotificationDispatcher notificationDispatcher;
+
+	/**
+	 * SMS 발송 등록
+	 *
+	 * @param ttl 유효 시간 (지나면 발송하지 않음, null 이면 제한 없음)
+	 */
+	@Transactional
+	public void enqueueSms(String phone, String text, Duration ttl) {
+		enqueue(NotificationOutbox.pending(NotificationChannel.SMS, null, phone, null, text, expiresAt(ttl)));
+	}
+
+	/**
+	 * 이메일 발송 등록
+	 *
+	 * @param ttl 유효 시간 (지나면 발송하지 않음, null 이면 제한 없음)
+	 */
+	@Transactional
+	public void enqueueEmail(String email, String subject, String text, Duration ttl) {
+		enqueue(NotificationOutbox.pending(NotificationChannel.EMAIL, null, email, subject, text, expiresAt(ttl)));
+	}
+
+	/**
+	 * 알림톡 발송 등록
+	 */
+	@Transactional
+	public void enqueueAlimtalk(AlimtalkMessage message) {
+		enqueue(NotificationOutbox.pending(NotificationChannel.ALIMTALK, message.template().name(),
+			message.phone(), message.template().getSubject(), message.message(), null));
+	}
+
+	private void enqueue(NotificationOutbox outbox) {
+		outboxRepository.save(outbox);
+		notificationDispatcher.requestDispatch();
+	}
+
+	private LocalDateTime expiresAt(Duration ttl) {
+		return ttl != null ? LocalDateTime.now().plus(ttl) : null;
+	}
+}
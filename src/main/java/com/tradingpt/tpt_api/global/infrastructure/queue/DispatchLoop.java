@@ -0,0 +1,102 @@
+package com.tradingpt.tpt_api.global.infrastructure.queue;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인스턴스 내 단일 실행 디스패치 루프
+ *
+ * <p>한 번에 하나만 실행하고, 실행 중에 들어온 요청은 현재 실행이 끝난 뒤 한 번 더 돌아 처리한다.
+ * 한 번 돌 때는 {@code hasMore} 가 true 인 동안 배치를 반복한다.
+ * (인스턴스 간 분리는 {@link LeasedQueue} 의 점유가 담당)
+ */
+@Slf4j
+public class DispatchLoop {
+
+	private final String name;
+	private final Executor executor;
+	private final IntSupplier batch;
+	private final IntPredicate hasMore;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final AtomicBoolean requested = new AtomicBoolean();
+
+	/**
+	 * @param name     로그용 이름
+	 * @param executor 비동기 실행 스레드풀
+	 * @param batch    배치 1회 실행, 점유한 건수 반환
+	 * @param hasMore  배치 결과(점유 건수)를 보고 바로 다음 배치를 실행할지 판단
+	 */
+	public DispatchLoop(String name, Executor executor, IntSupplier batch, IntPredicate hasMore) {
+		this.name = name;
+		this.executor = executor;
+		this.batch = batch;
+		this.hasMore = hasMore;
+	}
+
+	/**
+	 * 현재 스레드에서 실행
+	 * 이미 실행 중이면 실행 중인 루프가 한 번 더 돌도록 표시만 하고 바로 반환한다.
+	 *
+	 * @return 점유한 건수
+	 */
+	public int run() {
+		if (!lock.tryLock()) {
+			requested.set(true);
+			return 0;
+		}
+
+		int total = 0;
+		try {
+			do {
+				requested.set(false);
+				int claimed;
+				do {
+					claimed = batch.getAsInt();
+					total += claimed;
+				} while (hasMore.test(claimed));
+			} while (requested.get());
+		} finally {
+			lock.unlock();
+		}
+		return total;
+	}
+
+	/**
+	 * 스레드풀에서 비동기로 실행 (스레드풀이 가득 차면 스케줄러가 처리)
+	 */
+	public void trigger() {
+		requested.set(true);
+		try {
+			executor.execute(this::run);
+		} catch (RejectedExecutionException e) {
+			log.debug("즉시 디스패치 생략 (스레드풀 포화): {}", name);
+		}
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋 후에, 아니면 바로 비동기로 실행
+	 * (롤백되면 실행하지 않으므로 워커가 커밋 전 항목을 보는 일이 없다)
+	 */
+	public void triggerAfterCommit() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					trigger();
+				}
+			});
+			return;
+		}
+		trigger();
+	}
+}
@@ -0,0 +1,138 @@
+package com.tradingpt.tpt_api.global.infrastructure.queue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점유(lease) 기반 DB 큐 공통 처리 (알림 Outbox, 비동기 작업 큐)
+ *
+ * <p>실행 시각이 된 항목을 {@code FOR UPDATE SKIP LOCKED} 로 잠가 claimToken 으로 점유한다.
+ * 다른 인스턴스가 잠근 행은 기다리지 않고 건너뛰므로 여러 인스턴스가 서로 다른 항목을 가져간다.
+ * <ul>
+ *   <li>결과는 점유 토큰이 그대로인 항목에만 기록 (점유가 만료되어 다른 워커가 가져간 경우 덮어쓰지 않음)</li>
+ *   <li>실패 시 {@link RetryPolicy} 에 따라 재시도하거나 최종 실패로 끝낸다</li>
+ *   <li>점유 지연과 처리 결과를 레인별 {@link QueueMetrics} 에 기록한다</li>
+ * </ul>
+ */
+@Slf4j
+public class LeasedQueue<T extends LeasedQueueItem> {
+
+	private final String name;
+	private final JpaRepository<T, Long> repository;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration lease;
+	private final RetryPolicy retryPolicy;
+	private final Function<T, QueueMetrics> metricsFor;
+
+	/**
+	 * @param name       로그용 이름
+	 * @param metricsFor 항목이 속한 레인의 메트릭
+	 */
+	public LeasedQueue(String name, JpaRepository<T, Long> repository, PlatformTransactionManager transactionManager,
+		Duration lease, RetryPolicy retryPolicy, Function<T, QueueMetrics> metricsFor) {
+		this.name = name;
+		this.repository = repository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.lease = lease;
+		this.retryPolicy = retryPolicy;
+		this.metricsFor = metricsFor;
+	}
+
+	/**
+	 * 실행 시각이 된 항목을 잠가 점유
+	 *
+	 * @param locker 실행 시각이 된 항목을 {@code FOR UPDATE SKIP LOCKED} 로 조회하는 쿼리
+	 * @param limit  최대 점유 건수
+	 */
+	public Claim<T> claim(DueLocker<T> locker, int limit) {
+		String claimToken = UUID.randomUUID().toString();
+		LocalDateTime now = LocalDateTime.now();
+
+		List<T> items = transactionTemplate.execute(status -> {
+			List<T> locked = locker.lockDue(now, limit);
+			for (T item : locked) {
+				metricsFor.apply(item).recordLag(item.getNextAttemptAt(), now);
+				item.claim(claimToken, now, now.plus(lease));
+			}
+			return locked;
+		});
+		return new Claim<>(claimToken, now, items != null ? items : List.of());
+	}
+
+	/**
+	 * 처리 결과 기록
+	 *
+	 * @param failures 실패한 항목 ID → 실패 이유 (없는 항목은 성공)
+	 */
+	public void recordResults(String claimToken, Collection<Long> ids, Map<Long, String> failures) {
+		recordResults(claimToken, ids, failures, item -> {
+		});
+	}
+
+	/**
+	 * 처리 결과 기록
+	 *
+	 * @param failures 실패한 항목 ID → 실패 이유 (없는 항목은 성공)
+	 * @param onDone   성공 처리 후 추가 작업 (항목별 메트릭 등)
+	 */
+	public void recordResults(String claimToken, Collection<Long> ids, Map<Long, String> failures,
+		Consumer<T> onDone) {
+		LocalDateTime now = LocalDateTime.now();
+		updateOwned(claimToken, ids, item -> {
+			QueueMetrics metrics = metricsFor.apply(item);
+			if (!failures.containsKey(item.getId())) {
+				item.markDone(now);
+				metrics.count("done");
+				onDone.accept(item);
+				return;
+			}
+
+			boolean retry = item.markFailed(failures.get(item.getId()), now, retryPolicy);
+			metrics.count(retry ? "retry" : "failed");
+			if (!retry) {
+				log.error("{} 최종 실패: lane={}, id={}, 시도={}, 이유={}",
+					name, metrics.tagValue(), item.getId(), item.getAttemptCount(), failures.get(item.getId()));
+			}
+		});
+	}
+
+	/**
+	 * 아직 점유 중인(claimToken 이 그대로인) 항목만 한 트랜잭션에서 갱신
+	 */
+	public void updateOwned(String claimToken, Collection<Long> ids, Consumer<T> action) {
+		transactionTemplate.executeWithoutResult(status -> {
+			for (T item : repository.findAllById(ids)) {
+				if (claimToken.equals(item.getClaimToken())) {
+					action.accept(item);
+				}
+			}
+		});
+	}
+
+	@FunctionalInterface
+	public interface DueLocker<T> {
+		List<T> lockDue(LocalDateTime now, int limit);
+	}
+
+	/**
+	 * 한 번에 점유한 항목 (트랜잭션 밖에서는 읽기 전용으로만 쓴다)
+	 */
+	public record Claim<T>(String claimToken, LocalDateTime claimedAt, List<T> items) {
+
+		public boolean isEmpty() {
+			return items.isEmpty();
+		}
+	}
+}
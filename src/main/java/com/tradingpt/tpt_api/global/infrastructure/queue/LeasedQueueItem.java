@@ -0,0 +1,37 @@
+package com.tradingpt.tpt_api.global.infrastructure.queue;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점유(lease) 기반 DB 큐 항목
+ *
+ * <p>점유하면 시도 횟수를 올리고 next_attempt_at 을 점유 만료 시각으로 둔다.
+ * 점유 만료 전까지 결과가 기록되지 않으면(처리 중 서버 종료 등) 다시 점유 대상이 된다.
+ */
+public interface LeasedQueueItem {
+
+	Long getId();
+
+	Integer getAttemptCount();
+
+	LocalDateTime getNextAttemptAt();
+
+	String getClaimToken();
+
+	/**
+	 * 워커 점유 - leaseUntil 까지 결과가 기록되지 않으면 다시 점유 대상
+	 */
+	void claim(String claimToken, LocalDateTime now, LocalDateTime leaseUntil);
+
+	/**
+	 * 처리 완료
+	 */
+	void markDone(LocalDateTime now);
+
+	/**
+	 * 처리 실패 - 재시도할 수 있으면 backoff 후 다시 점유 대상
+	 *
+	 * @return 재시도 예정이면 true
+	 */
+	boolean markFailed(String error, LocalDateTime now, RetryPolicy retryPolicy);
+}
@@ -0,0 +1,89 @@
+package com.tradingpt.tpt_api.global.infrastructure.queue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * DB 큐 레인(작업 종류, 알림 채널 등)별 메트릭
+ * <ul>
+ *   <li>{prefix}.depth: 미완료 항목 수</li>
+ *   <li>{prefix}.oldest.age: 가장 오래된 미완료 항목의 대기 시간(초)</li>
+ *   <li>{prefix}.lag: 실행 시각부터 워커가 점유할 때까지 걸린 시간</li>
+ *   <li>{prefix}.duration: 1회 실행 소요 시간</li>
+ *   <li>{prefix}.processed{result=done|retry|failed}: 처리 결과 건수</li>
+ * </ul>
+ */
+public class QueueMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final String prefix;
+	private final String tagKey;
+	private final String tagValue;
+
+	private final AtomicLong depth = new AtomicLong();
+	private final AtomicLong oldestAgeSeconds = new AtomicLong();
+	private final Timer lag;
+	private final Timer duration;
+
+	public QueueMetrics(MeterRegistry meterRegistry, String prefix, String tagKey, String tagValue) {
+		this.meterRegistry = meterRegistry;
+		this.prefix = prefix;
+		this.tagKey = tagKey;
+		this.tagValue = tagValue;
+
+		Gauge.builder(prefix + ".depth", depth, AtomicLong::get)
+			.description("미완료 항목 수")
+			.tag(tagKey, tagValue)
+			.register(meterRegistry);
+		Gauge.builder(prefix + ".oldest.age", oldestAgeSeconds, AtomicLong::get)
+			.description("가장 오래된 미완료 항목의 대기 시간(초)")
+			.tag(tagKey, tagValue)
+			.register(meterRegistry);
+		this.lag = Timer.builder(prefix + ".lag")
+			.description("실행 시각부터 워커가 점유할 때까지 걸린 시간")
+			.tag(tagKey, tagValue)
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		this.duration = Timer.builder(prefix + ".duration")
+			.description("1회 실행 소요 시간")
+			.tag(tagKey, tagValue)
+			.register(meterRegistry);
+	}
+
+	public String tagValue() {
+		return tagValue;
+	}
+
+	public Timer duration() {
+		return duration;
+	}
+
+	public void recordLag(LocalDateTime dueAt, LocalDateTime claimedAt) {
+		lag.record(Duration.between(dueAt, claimedAt));
+	}
+
+	public void count(String result) {
+		Counter.builder(prefix + ".processed")
+			.description("처리 결과 건수")
+			.tag(tagKey, tagValue)
+			.tag("result", result)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	/**
+	 * 미완료 건수와 가장 오래된 생성 시각으로 게이지 갱신 (없으면 0)
+	 */
+	public void updateBacklog(long count, LocalDateTime oldestCreatedAt, LocalDateTime now) {
+		depth.set(count);
+		oldestAgeSeconds.set(oldestCreatedAt != null
+			? Math.max(Duration.between(oldestCreatedAt, now).toSeconds(), 0L)
+			: 0L);
+	}
+}
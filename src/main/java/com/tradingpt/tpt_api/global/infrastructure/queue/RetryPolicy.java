@@ -0,0 +1,21 @@
+package com.tradingpt.tpt_api.global.infrastructure.queue;
+
+import java.time.Duration;
+
+/**
+ * DB 큐 재시도 정책
+ * 실패한 항목은 지수 backoff (base * 2^(attempt-1), 최대 maxBackoff) 후 다시 점유 대상이 되고,
+ * 최대 시도 횟수에 도달하면 최종 실패로 끝난다.
+ */
+public record RetryPolicy(int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+
+	public boolean canRetry(int attemptCount) {
+		return attemptCount < maxAttempts;
+	}
+
+	public Duration backoffFor(int attemptCount) {
+		int exponent = Math.min(Math.max(attemptCount - 1, 0), 16);
+		Duration backoff = baseBackoff.multipliedBy(1L << exponent);
+		return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+	}
+}
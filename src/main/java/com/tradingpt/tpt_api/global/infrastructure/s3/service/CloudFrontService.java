@@ -1,7 +1,29 @@
 package com.tradingpt.tpt_api.global.infrastructure.s3.service;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 public interface CloudFrontService {
     String createSignedUrl(String objectKey, Duration duration, String clientIp);
+
+    Map<String, String> createSignedUrls(List<String> objectKeys, Duration duration, String clientIp);
+
+    /**
+     * prefix 아래 모든 객체에 유효한 와일드카드 정책으로 서명된 URL 생성
+     * 서명 쿼리는 (prefix, IP, 만료 버킷) 당 한 번만 만들어 같은 prefix 의 모든 URL 에 재사용한다.
+     * 호출 측은 사용자가 prefix 아래 전체 객체에 접근할 권한이 있는지 확인해야 한다.
+     *
+     * @param prefix    서명 범위 (예: "videos/lecture-1/")
+     * @param objectKey prefix 로 시작하는 객체 경로 (예: "videos/lecture-1/index.m3u8")
+     */
+    String createPrefixSignedUrl(String prefix, String objectKey, Duration duration, String clientIp);
+
+    /**
+     * prefix 아래 객체들의 서명 URL 일괄 생성 (서명 1회)
+     *
+     * @return objectKey → 서명된 URL (입력 순서 유지)
+     */
+    Map<String, String> createPrefixSignedUrls(String prefix, List<String> objectKeys, Duration duration,
+            String clientIp);
 }
@@ -4,6 +4,8 @@ import com.tradingpt.tpt_api.global.infrastructure.s3.response.S3PresignedDownlo
 import com.tradingpt.tpt_api.global.infrastructure.s3.response.S3PresignedUploadResult;
 import com.tradingpt.tpt_api.global.infrastructure.s3.response.S3UploadResult;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import java.time.Duration;
 import org.springframework.web.multipart.MultipartFile;
@@ -24,6 +26,17 @@ public interface S3FileService {
 	 */
 	S3UploadResult upload(MultipartFile file, String directory);
 
+	/**
+	 * 멀티파트 파일을 비동기로 S3에 저장한다. 큰 파일은 파트 단위로 병렬 전송된다.
+	 * 여러 파일을 올릴 때 각 Future 를 모아서 한 번에 기다리면 된다.
+	 * 입력 검증 실패는 즉시 예외를 던지고, 전송 실패는 Future 를 {@link com.tradingpt.tpt_api.global.infrastructure.s3.exception.S3Exception} 으로 완료시킨다.
+	 *
+	 * @param file 업로드할 파일
+	 * @param directory 업로드할 상위 디렉터리
+	 * @return 업로드 결과 Future
+	 */
+	CompletableFuture<S3UploadResult> uploadAsync(MultipartFile file, String directory);
+
 	/**
 	 * 스트림 형태의 데이터를 S3에 저장한다. 백그라운드 작업이나 변환 결과 저장 시 활용.
 	 *
@@ -35,6 +48,20 @@ public interface S3FileService {
 	 */
 	S3UploadResult upload(InputStream inputStream, long contentLength, String originalFilename, String directory);
 
+	/**
+	 * 콘텐츠 해시로 만든 고정 키에 스트림을 저장한다. 같은 키의 객체가 이미 있으면 업로드하지 않는다.
+	 * 동일한 파일을 반복 저장할 때(게시글 재저장 등) 중복 업로드를 막기 위해 사용한다.
+	 *
+	 * @param inputStream 업로드할 데이터 스트림 (이미 존재하면 읽지 않음)
+	 * @param contentLength 스트림 길이(byte)
+	 * @param contentHash 콘텐츠 해시 (hex). 객체 키의 파일명으로 사용
+	 * @param extension 파일 확장자
+	 * @param directory 업로드 대상 디렉터리 경로
+	 * @return 업로드(또는 기존 객체) 결과
+	 */
+	S3UploadResult uploadIfAbsent(InputStream inputStream, long contentLength, String contentHash, String extension,
+		String directory);
+
 	/**
 	 * S3에 저장된 객체를 삭제한다.
 	 *
@@ -42,6 +69,15 @@ public interface S3FileService {
 	 */
 	void delete(String key);
 
+	/**
+	 * 여러 객체를 DeleteObjects 요청(요청당 최대 1000개)으로 일괄 삭제한다.
+	 * 이미 없는 키는 삭제된 것으로 처리되므로 재시도해도 안전하다.
+	 *
+	 * @param keys 삭제할 S3 객체 키 목록 (빈 값/중복은 무시)
+	 * @return 삭제 요청한 객체 수
+	 */
+	int deleteAll(Collection<String> keys);
+
 	/**
 	 * 클라이언트가 S3에 직접 업로드할 수 있도록 사전 서명된 URL을 발급한다.
 	 *
@@ -82,9 +118,19 @@ public interface S3FileService {
 
 	S3UploadResult uploadToPrivate(MultipartFile file, String directory);
 
+	/**
+	 * Private 버킷 비동기 업로드 ({@link #uploadAsync(MultipartFile, String)} 참고)
+	 */
+	CompletableFuture<S3UploadResult> uploadToPrivateAsync(MultipartFile file, String directory);
+
 	/**
 	 * Private 버킷에서 객체 삭제
 	 */
 	void deleteFromPrivate(String key);
+
+	/**
+	 * Private 버킷에서 객체 일괄 삭제 ({@link #deleteAll(Collection)} 참고)
+	 */
+	int deleteAllFromPrivate(Collection<String> keys);
 }
 
@@ -8,10 +8,16 @@ import java.io.InputStream;
 import java.net.URL;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -20,19 +26,28 @@ import org.springframework.web.multipart.MultipartFile;
 import com.tradingpt.tpt_api.global.infrastructure.s3.exception.S3ErrorStatus;
 import com.tradingpt.tpt_api.global.infrastructure.s3.exception.S3Exception;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.BlockingInputStreamAsyncRequestBody;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.UploadRequest;
 
 /**
  * AWS S3 SDK(v2)를 통해 실제 파일 업로드/삭제를 수행하는 구현체.
@@ -41,8 +56,8 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
  * - AWS SDK가 던지는 예외는 {@link S3Exception} 으로 감싸 전역 에러 핸들러와 연동한다.
  * - 디렉터리/파일명 규칙을 한 곳에서 관리해 일관된 저장 경로를 만든다.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3FileServiceImpl implements S3FileService {
 
 	/** 허용되는 확장자(스크린샷, PDF, 한글, 엑셀)를 미리 정의한다. */
@@ -62,11 +77,26 @@ public class S3FileServiceImpl implements S3FileService {
 			"m4v", "video/x-m4v"
 	);
 
+	/**
+	 * 이 크기 이상의 파일은 TransferManager 로 파트를 나눠 병렬 전송한다.
+	 * 작은 파일은 단일 PUT 이 더 빠르므로 동기 클라이언트를 그대로 쓴다.
+	 */
+	private static final long MULTIPART_THRESHOLD = 16L * 1024 * 1024;
+
+	/** DeleteObjects 요청 1회에 담을 수 있는 최대 키 수 (S3 제한). */
+	private static final int DELETE_OBJECTS_LIMIT = 1000;
+
 	/** Spring Bean 으로 주입받는 S3 클라이언트 (스레드 세이프). */
 	private final S3Client s3Client;
 
 	private final S3Presigner s3Presigner;
 
+	/** CRT 기반 병렬 멀티파트 전송 */
+	private final S3TransferManager s3TransferManager;
+
+	/** 요청 스트림을 읽어 전송 파이프라인에 밀어 넣는 스레드 (파트 업로드 자체는 CRT 이벤트 루프가 수행) */
+	private final Executor uploadExecutor;
+
 	/** 환경별 버킷 이름. application-*.yml 에서 주입된다. */
 	@Value("${aws.s3.public-bucket}")
 	private String publicBucket;
@@ -74,6 +104,14 @@ public class S3FileServiceImpl implements S3FileService {
 	@Value("${aws.s3.private-bucket}")
 	private String privateBucket;
 
+	public S3FileServiceImpl(S3Client s3Client, S3Presigner s3Presigner, S3TransferManager s3TransferManager,
+		@Qualifier("uploadExecutor") Executor uploadExecutor) {
+		this.s3Client = s3Client;
+		this.s3Presigner = s3Presigner;
+		this.s3TransferManager = s3TransferManager;
+		this.uploadExecutor = uploadExecutor;
+	}
+
 	/**
 	 * 사용자의 멀티파트 파일을 S3에 업로드한다.
 	 * 업로드는 ① 입력 검증 → ② 키 생성 → ③ SDK 호출 순으로 진행된다.
@@ -88,15 +126,19 @@ public class S3FileServiceImpl implements S3FileService {
 		String extension = resolveExtension(originalFilename); // 확장자 추출 및 검증
 		validateExtension(extension);
 
+		// 대용량 파일은 병렬 멀티파트 전송 후 완료를 기다린다
+		if (file.getSize() >= MULTIPART_THRESHOLD) {
+			return await(uploadAsync(file, directory));
+		}
+
 		String contentType = resolveContentType(file.getContentType(), extension); // 실제 업로드 시 사용할 MIME
 		String key = buildObjectKey(directory, extension); // 날짜/UUID 기반 고유 경로 생성
 
-		PutObjectRequest request = createPutObjectRequest(key, contentType, file.getSize());
-
 		// Stream 을 열어 실제 S3로 전송한다. try-with-resources 로 스트림 누수를 방지.
 		try (InputStream inputStream = file.getInputStream()) {
+			PutObjectRequest request = createPutObjectRequest(key, contentType, file.getSize());
 			uploadToS3(request, RequestBody.fromInputStream(inputStream, file.getSize()));
-			return buildResult(key, originalFilename, contentType);
+			return buildResult(publicBucket, key, originalFilename, contentType);
 		} catch (IOException ioException) {
 			// 파일 스트림을 읽는 과정에서 문제가 발생한 경우 업로드 실패로 변환
 			throw new S3Exception(S3ErrorStatus.UPLOAD_FAILED);
@@ -122,7 +164,38 @@ public class S3FileServiceImpl implements S3FileService {
 		PutObjectRequest request = createPutObjectRequest(key, contentType, contentLength);
 
 		uploadToS3(request, RequestBody.fromInputStream(inputStream, contentLength));
-		return buildResult(key, originalFilename, contentType);
+		return buildResult(publicBucket, key, originalFilename, contentType);
+	}
+
+	@Override
+	public CompletableFuture<S3UploadResult> uploadAsync(MultipartFile file, String directory) {
+		return transfer(publicBucket, file, directory);
+	}
+
+	@Override
+	public S3UploadResult uploadIfAbsent(InputStream inputStream, long contentLength, String contentHash,
+		String extension, String directory) {
+		if (inputStream == null || contentLength <= 0) {
+			throw new S3Exception(S3ErrorStatus.INVALID_CONTENT);
+		}
+		if (!StringUtils.hasText(contentHash) || !contentHash.matches("[0-9a-f]+")) {
+			throw new S3Exception(S3ErrorStatus.INVALID_OBJECT_KEY);
+		}
+
+		String normalizedExtension = extension == null ? "" : extension.toLowerCase();
+		validateExtension(normalizedExtension);
+
+		String contentType = resolveContentType(null, normalizedExtension);
+		String key = normalizeDirectory(directory) + "/" + contentHash + "." + normalizedExtension;
+		String filename = contentHash + "." + normalizedExtension;
+
+		if (objectExists(key)) {
+			return buildResult(publicBucket, key, filename, contentType);
+		}
+
+		PutObjectRequest request = createPutObjectRequest(key, contentType, contentLength);
+		uploadToS3(request, RequestBody.fromInputStream(inputStream, contentLength));
+		return buildResult(publicBucket, key, filename, contentType);
 	}
 
 	@Override
@@ -135,6 +208,10 @@ public class S3FileServiceImpl implements S3FileService {
 		String extension = resolveExtension(originalFilename);
 		validateExtension(extension);
 
+		if (file.getSize() >= MULTIPART_THRESHOLD) {
+			return await(uploadToPrivateAsync(file, directory));
+		}
+
 		String contentType = resolveContentType(file.getContentType(), extension);
 		String key = buildObjectKey(directory, extension);
 
@@ -150,18 +227,17 @@ public class S3FileServiceImpl implements S3FileService {
 			uploadToS3(request, RequestBody.fromInputStream(inputStream, file.getSize()));
 
 			// private 버킷 기준 URL 생성 (내부에서만 쓰거나, 사실 안 써도 됨)
-			URL objectUrl = s3Client.utilities()
-					.getUrl(GetUrlRequest.builder()
-							.bucket(privateBucket)
-							.key(key)
-							.build());
-
-			return new S3UploadResult(key, objectUrl.toString(), originalFilename, contentType);
+			return buildResult(privateBucket, key, originalFilename, contentType);
 		} catch (IOException e) {
 			throw new S3Exception(S3ErrorStatus.UPLOAD_FAILED);
 		}
 	}
 
+	@Override
+	public CompletableFuture<S3UploadResult> uploadToPrivateAsync(MultipartFile file, String directory) {
+		return transfer(privateBucket, file, directory);
+	}
+
 
 	@Override
 	public S3PresignedUploadResult createPresignedUploadUrl(String originalFilename, String directory) {
@@ -221,6 +297,11 @@ public class S3FileServiceImpl implements S3FileService {
 		}
 	}
 
+	@Override
+	public int deleteAll(Collection<String> keys) {
+		return deleteObjects(publicBucket, keys);
+	}
+
 	@Override
 	public String createPresignedGetUrl(String key, Duration duration) {
 		if (!StringUtils.hasText(key)) {
@@ -315,6 +396,45 @@ public class S3FileServiceImpl implements S3FileService {
 		}
 	}
 
+	@Override
+	public int deleteAllFromPrivate(Collection<String> keys) {
+		return deleteObjects(privateBucket, keys);
+	}
+
+	/**
+	 * 키를 1000개씩 나눠 DeleteObjects(quiet) 로 삭제한다.
+	 * quiet 모드는 실패한 키만 응답에 담으므로, 하나라도 실패하면 예외를 던져 호출 측이 재시도하게 한다.
+	 */
+	private int deleteObjects(String bucket, Collection<String> keys) {
+		List<ObjectIdentifier> objects = keys.stream()
+			.filter(StringUtils::hasText)
+			.distinct()
+			.map(key -> ObjectIdentifier.builder().key(key).build())
+			.toList();
+
+		for (int from = 0; from < objects.size(); from += DELETE_OBJECTS_LIMIT) {
+			List<ObjectIdentifier> batch = objects.subList(from, Math.min(from + DELETE_OBJECTS_LIMIT, objects.size()));
+			DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+				.bucket(bucket)
+				.delete(Delete.builder().objects(batch).quiet(true).build())
+				.build();
+
+			DeleteObjectsResponse response;
+			try {
+				response = s3Client.deleteObjects(request);
+			} catch (AwsServiceException | SdkClientException sdkException) {
+				throw new S3Exception(S3ErrorStatus.DELETE_FAILED);
+			}
+
+			if (response.hasErrors() && !response.errors().isEmpty()) {
+				response.errors().forEach(error -> log.warn("S3 일괄 삭제 실패: bucket={}, key={}, code={}",
+					bucket, error.key(), error.code()));
+				throw new S3Exception(S3ErrorStatus.DELETE_FAILED);
+			}
+		}
+		return objects.size();
+	}
+
 
 
 	/**
@@ -328,6 +448,75 @@ public class S3FileServiceImpl implements S3FileService {
 		}
 	}
 
+	/**
+	 * TransferManager 로 업로드를 시작하고, 요청 스트림은 uploadExecutor 스레드가 전송 파이프라인에 밀어 넣는다.
+	 * 길이가 정해진 본문이므로 CRT 클라이언트가 파트 크기 단위로 나눠 여러 연결에서 동시에 올리며,
+	 * 실패하면 SDK 가 멀티파트 업로드를 중단(abort)한다.
+	 */
+	private CompletableFuture<S3UploadResult> transfer(String bucket, MultipartFile file, String directory) {
+		if (file == null || file.isEmpty()) {
+			throw new S3Exception(S3ErrorStatus.EMPTY_FILE);
+		}
+
+		String originalFilename = file.getOriginalFilename();
+		String extension = resolveExtension(originalFilename);
+		validateExtension(extension);
+
+		String contentType = resolveContentType(file.getContentType(), extension);
+		String key = buildObjectKey(directory, extension);
+
+		BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(file.getSize());
+		CompletableFuture<?> completion;
+		try {
+			completion = s3TransferManager.upload(UploadRequest.builder()
+				.putObjectRequest(PutObjectRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.contentType(contentType)
+					.contentLength(file.getSize())
+					.build())
+				.requestBody(body)
+				.build()).completionFuture();
+		} catch (SdkClientException sdkException) {
+			throw new S3Exception(S3ErrorStatus.UPLOAD_FAILED);
+		}
+
+		CompletableFuture<Void> feeding = CompletableFuture.runAsync(() -> {
+			try (InputStream inputStream = file.getInputStream()) {
+				body.writeInputStream(inputStream);
+			} catch (IOException ioException) {
+				throw new S3Exception(S3ErrorStatus.UPLOAD_FAILED);
+			}
+		}, uploadExecutor);
+		// 스트림을 끝까지 못 읽으면 S3 쪽은 남은 데이터를 계속 기다리므로 전송을 취소해 멀티파트 업로드를 중단시킨다
+		feeding.whenComplete((fed, throwable) -> {
+			if (throwable != null) {
+				completion.cancel(true);
+			}
+		});
+
+		return completion
+			.thenCombine(feeding, (uploaded, fed) -> buildResult(bucket, key, originalFilename, contentType))
+			.exceptionally(throwable -> {
+				log.warn("S3 병렬 업로드 실패: bucket={}, key={}", bucket, key, throwable);
+				throw new S3Exception(S3ErrorStatus.UPLOAD_FAILED);
+			});
+	}
+
+	/**
+	 * 동기 API 에서 비동기 업로드 완료를 기다린다. CompletionException 을 벗겨 원래 예외를 던진다.
+	 */
+	private S3UploadResult await(CompletableFuture<S3UploadResult> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new S3Exception(S3ErrorStatus.UPLOAD_FAILED);
+		}
+	}
+
 	/**
 	 * AWS SDK에 전달할 PutObjectRequest 생성 도우미.
 	 */
@@ -343,26 +532,51 @@ public class S3FileServiceImpl implements S3FileService {
 	/**
 	 * 업로드 완료 후 API 응답에 사용할 메타데이터를 조립한다.
 	 */
-	private S3UploadResult buildResult(String key, String originalFilename, String contentType) {
+	private S3UploadResult buildResult(String bucket, String key, String originalFilename, String contentType) {
 		URL objectUrl = s3Client.utilities()
-			.getUrl(GetUrlRequest.builder().bucket(publicBucket).key(key).build());
+			.getUrl(GetUrlRequest.builder().bucket(bucket).key(key).build());
 		return new S3UploadResult(key, objectUrl.toString(), originalFilename, contentType);
 	}
 
+	/**
+	 * public 버킷에 객체가 존재하는지 확인한다. (HEAD 요청)
+	 */
+	private boolean objectExists(String key) {
+		try {
+			s3Client.headObject(HeadObjectRequest.builder().bucket(publicBucket).key(key).build());
+			return true;
+		} catch (NoSuchKeyException notFound) {
+			return false;
+		} catch (AwsServiceException sdkException) {
+			if (sdkException.statusCode() == 404) {
+				return false;
+			}
+			throw new S3Exception(S3ErrorStatus.UPLOAD_FAILED);
+		} catch (SdkClientException sdkException) {
+			throw new S3Exception(S3ErrorStatus.UPLOAD_FAILED);
+		}
+	}
+
 	/**
 	 * 업로드할 S3 객체 키를 생성한다.
 	 * 디렉터리 문자열을 정제하고 날짜/UUID를 조합해 충돌 가능성을 줄인다.
 	 */
 	private String buildObjectKey(String directory, String extension) {
+		String datePath = LocalDate.now().toString();
+		String randomName = UUID.randomUUID().toString().replace("-", "");
+		return normalizeDirectory(directory) + "/" + datePath + "/" + randomName + "." + extension;
+	}
+
+	/**
+	 * 디렉터리 문자열의 앞뒤/중복 슬래시를 정리한다. 비어 있으면 기본 uploads 경로를 사용한다.
+	 */
+	private String normalizeDirectory(String directory) {
 		String normalizedDirectory = StringUtils.hasText(directory) ? directory.trim() : "uploads";
 		normalizedDirectory = normalizedDirectory.replaceAll("^/+", "").replaceAll("/+", "/").replaceAll("/+$", "");
 		if (!StringUtils.hasText(normalizedDirectory)) {
 			normalizedDirectory = "uploads";
 		}
-
-		String datePath = LocalDate.now().toString();
-		String randomName = UUID.randomUUID().toString().replace("-", "");
-		return normalizedDirectory + "/" + datePath + "/" + randomName + "." + extension;
+		return normalizedDirectory;
 	}
 
 	/**
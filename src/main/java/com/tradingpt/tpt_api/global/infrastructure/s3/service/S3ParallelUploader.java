@@ -0,0 +1,131 @@
+package com.tradingpt.tpt_api.global.infrastructure.s3.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.tradingpt.tpt_api.global.infrastructure.s3.exception.S3ErrorStatus;
+import com.tradingpt.tpt_api.global.infrastructure.s3.exception.S3Exception;
+import com.tradingpt.tpt_api.global.infrastructure.s3.response.S3UploadResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 파일을 S3TransferManager 로 동시에 S3에 업로드한다. (큰 파일은 파일 내부도 파트 단위로 병렬 전송)
+ * Private 버킷 단건 업로드도 같은 비동기 경로로 보낸다.
+ *
+ * <p>DB 트랜잭션 밖에서 호출하는 것을 전제로 한다. (업로드 동안 커넥션을 잡지 않도록)
+ * <ul>
+ *   <li>하나라도 실패하면 이미 올라간 객체를 삭제하고 예외를 던진다 (전부 성공 또는 전부 정리)</li>
+ *   <li>이후 DB 저장이 실패하면 호출 측에서 {@link #deleteQuietly(Collection)} 로 보상 삭제한다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3ParallelUploader {
+
+	private final S3FileService s3FileService;
+
+	/**
+	 * 파일 목록을 병렬 업로드한다. 비어 있는 파일은 건너뛴다.
+	 *
+	 * @param files     업로드할 파일 목록 (null 허용)
+	 * @param directory 저장 디렉터리
+	 * @return 입력 순서대로 정렬된 업로드 결과
+	 */
+	public List<S3UploadResult> uploadAll(List<MultipartFile> files, String directory) {
+		if (files == null || files.isEmpty()) {
+			return List.of();
+		}
+
+		List<CompletableFuture<S3UploadResult>> futures = files.stream()
+			.filter(file -> file != null && !file.isEmpty())
+			.map(file -> start(file, directory))
+			.toList();
+
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			// 성공한 업로드는 고아 객체가 되므로 즉시 정리
+			deleteQuietly(futures.stream()
+				.filter(future -> future.isDone() && !future.isCompletedExceptionally())
+				.map(future -> future.join().key())
+				.toList());
+			throw unwrap(e);
+		}
+
+		return futures.stream().map(CompletableFuture::join).toList();
+	}
+
+	/**
+	 * Private 버킷에 파일 1개를 업로드한다. (과제 제출 등)
+	 * 큰 파일은 S3TransferManager 가 파트 단위로 병렬 전송한다.
+	 *
+	 * @param file      업로드할 파일
+	 * @param directory 저장 디렉터리
+	 * @return 업로드 결과
+	 */
+	public S3UploadResult uploadToPrivate(MultipartFile file, String directory) {
+		try {
+			return s3FileService.uploadToPrivateAsync(file, directory).join();
+		} catch (CompletionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	/**
+	 * 입력 검증 실패도 실패한 Future 로 바꿔, 먼저 시작된 업로드가 정리 대상에서 빠지지 않게 한다.
+	 */
+	private CompletableFuture<S3UploadResult> start(MultipartFile file, String directory) {
+		try {
+			return s3FileService.uploadAsync(file, directory);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * 업로드된 객체를 삭제한다. 보상 처리용이므로 실패해도 예외를 던지지 않는다.
+	 *
+	 * @param keys 삭제할 S3 객체 키 목록
+	 */
+	public void deleteQuietly(Collection<String> keys) {
+		deleteQuietly(keys, s3FileService::delete);
+	}
+
+	/**
+	 * Private 버킷 보상 삭제 ({@link #deleteQuietly(Collection)} 참고)
+	 */
+	public void deleteQuietlyFromPrivate(Collection<String> keys) {
+		deleteQuietly(keys, s3FileService::deleteFromPrivate);
+	}
+
+	private void deleteQuietly(Collection<String> keys, Consumer<String> delete) {
+		for (String key : keys) {
+			if (key == null) {
+				continue;
+			}
+			try {
+				delete.accept(key);
+			} catch (RuntimeException e) {
+				log.error("고아 S3 객체 삭제 실패 (수동 정리 필요): key={}", key, e);
+			}
+		}
+	}
+
+	private RuntimeException unwrap(CompletionException e) {
+		Throwable cause = Objects.requireNonNullElse(e.getCause(), e);
+		if (cause instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		return new S3Exception(S3ErrorStatus.UPLOAD_FAILED);
+	}
+}
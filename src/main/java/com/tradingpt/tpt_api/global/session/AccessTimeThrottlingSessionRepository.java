@@ -0,0 +1,138 @@
+package com.tradingpt.tpt_api.global.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
+
+/**
+ * 마지막 접근 시각 기록을 제한하는 세션 저장소
+ *
+ * <p>SessionRepositoryFilter 는 요청마다 세션의 lastAccessedTime 을 갱신하고,
+ * 인덱스 저장소는 이 값이 바뀔 때마다 세션 해시 + 만료 키 + 만료 버킷 집합을 다시 기록한다.
+ * 저장된 접근 시각과 차이가 {@code writeInterval} 미만이면 갱신을 건너뛰어
+ * 다른 속성 변경이 없는 요청은 Redis 에 쓰지 않게 한다.
+ *
+ * <p>대신 세션은 최대 {@code writeInterval} 만큼 일찍 만료될 수 있다. (만료 간격 24시간 대비 무시 가능한 수준)
+ */
+public class AccessTimeThrottlingSessionRepository
+	implements FindByIndexNameSessionRepository<AccessTimeThrottlingSessionRepository.ThrottledSession> {
+
+	private final RedisIndexedSessionRepository delegate;
+	private final Duration writeInterval;
+
+	public AccessTimeThrottlingSessionRepository(RedisIndexedSessionRepository delegate, Duration writeInterval) {
+		this.delegate = delegate;
+		this.writeInterval = writeInterval;
+	}
+
+	@Override
+	public ThrottledSession createSession() {
+		return new ThrottledSession(delegate.createSession());
+	}
+
+	@Override
+	public void save(ThrottledSession session) {
+		delegate.save(session.delegate);
+	}
+
+	@Override
+	public ThrottledSession findById(String id) {
+		RedisSession session = delegate.findById(id);
+		return session != null ? new ThrottledSession(session) : null;
+	}
+
+	@Override
+	public void deleteById(String id) {
+		delegate.deleteById(id);
+	}
+
+	@Override
+	public Map<String, ThrottledSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+		Map<String, ThrottledSession> sessions = new LinkedHashMap<>();
+		delegate.findByIndexNameAndIndexValue(indexName, indexValue)
+			.forEach((id, session) -> sessions.put(id, new ThrottledSession(session)));
+		return sessions;
+	}
+
+	/**
+	 * lastAccessedTime 갱신만 걸러내고 나머지는 그대로 위임하는 세션
+	 */
+	public final class ThrottledSession implements Session {
+
+		private final RedisSession delegate;
+
+		private ThrottledSession(RedisSession delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void setLastAccessedTime(Instant lastAccessedTime) {
+			Duration elapsed = Duration.between(delegate.getLastAccessedTime(), lastAccessedTime);
+			if (elapsed.compareTo(writeInterval) >= 0) {
+				delegate.setLastAccessedTime(lastAccessedTime);
+			}
+		}
+
+		@Override
+		public String getId() {
+			return delegate.getId();
+		}
+
+		@Override
+		public String changeSessionId() {
+			return delegate.changeSessionId();
+		}
+
+		@Override
+		public <T> T getAttribute(String attributeName) {
+			return delegate.getAttribute(attributeName);
+		}
+
+		@Override
+		public Set<String> getAttributeNames() {
+			return delegate.getAttributeNames();
+		}
+
+		@Override
+		public void setAttribute(String attributeName, Object attributeValue) {
+			delegate.setAttribute(attributeName, attributeValue);
+		}
+
+		@Override
+		public void removeAttribute(String attributeName) {
+			delegate.removeAttribute(attributeName);
+		}
+
+		@Override
+		public Instant getCreationTime() {
+			return delegate.getCreationTime();
+		}
+
+		@Override
+		public Instant getLastAccessedTime() {
+			return delegate.getLastAccessedTime();
+		}
+
+		@Override
+		public void setMaxInactiveInterval(Duration interval) {
+			delegate.setMaxInactiveInterval(interval);
+		}
+
+		@Override
+		public Duration getMaxInactiveInterval() {
+			return delegate.getMaxInactiveInterval();
+		}
+
+		@Override
+		public boolean isExpired() {
+			return delegate.isExpired();
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package com.tradingpt.tpt_api.global.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import com.tradingpt.tpt_api.domain.auth.security.AuthSessionUser;
+
+/**
+ * Spring Session 값 직렬화 (압축 코덱)
+ *
+ * <p>세션 해시에 매 요청 기록되는 값(생성/접근 시각, 만료 간격, 문자열 속성, 로그인 SecurityContext)을
+ * 1바이트 타입 태그 + 값으로만 기록한다. JDK 직렬화는 Long 하나에도 클래스 디스크립터를 포함해 80바이트 이상을 쓴다.
+ * 그 외 타입(SavedRequest, remember-me 토큰 등)은 기존과 같이 JDK 직렬화로 기록한다.
+ *
+ * <p>읽기는 항상 두 형식을 모두 지원한다. (JDK 직렬화 스트림은 0xAC 로 시작하고, 태그는 이 값을 쓰지 않음)
+ * 따라서 코덱을 켜거나 끄는 배포 중에도 기존 세션을 그대로 읽을 수 있다.
+ */
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private static final byte JDK_STREAM_MAGIC = (byte)0xAC;
+
+	private static final byte TAG_STRING = 0x01;
+	private static final byte TAG_LONG = 0x02;
+	private static final byte TAG_INTEGER = 0x03;
+	private static final byte TAG_BOOLEAN = 0x04;
+	private static final byte TAG_SECURITY_CONTEXT = 0x05;
+
+	private final JdkSerializationRedisSerializer jdk;
+	private final boolean compactWrites;
+
+	/**
+	 * @param classLoader  JDK 직렬화 폴백에 사용할 클래스 로더
+	 * @param compactWrites false 이면 JDK 직렬화로만 기록 (읽기는 두 형식 모두 지원)
+	 */
+	public CompactSessionSerializer(ClassLoader classLoader, boolean compactWrites) {
+		this.jdk = new JdkSerializationRedisSerializer(classLoader);
+		this.compactWrites = compactWrites;
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		if (value == null) {
+			return EMPTY;
+		}
+		if (!compactWrites) {
+			return jdk.serialize(value);
+		}
+
+		if (value instanceof String s) {
+			byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+			byte[] bytes = new byte[utf8.length + 1];
+			bytes[0] = TAG_STRING;
+			System.arraycopy(utf8, 0, bytes, 1, utf8.length);
+			return bytes;
+		}
+		if (value instanceof Long l) {
+			return ByteBuffer.allocate(9).put(TAG_LONG).putLong(l).array();
+		}
+		if (value instanceof Integer i) {
+			return ByteBuffer.allocate(5).put(TAG_INTEGER).putInt(i).array();
+		}
+		if (value instanceof Boolean b) {
+			return new byte[] {TAG_BOOLEAN, (byte)(b ? 1 : 0)};
+		}
+		if (isCompactSecurityContext(value)) {
+			return writeSecurityContext((SecurityContextImpl)value);
+		}
+		return jdk.serialize(value);
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		return switch (bytes[0]) {
+			case JDK_STREAM_MAGIC -> jdk.deserialize(bytes);
+			case TAG_STRING -> new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+			case TAG_LONG -> ByteBuffer.wrap(bytes, 1, 8).getLong();
+			case TAG_INTEGER -> ByteBuffer.wrap(bytes, 1, 4).getInt();
+			case TAG_BOOLEAN -> bytes[1] != 0;
+			case TAG_SECURITY_CONTEXT -> readSecurityContext(bytes);
+			default -> throw new SerializationException("알 수 없는 세션 값 형식: tag=" + bytes[0]);
+		};
+	}
+
+	/**
+	 * 로그인 성공 핸들러/필터가 저장하는 형태만 압축한다.
+	 * (AuthSessionUser Principal, 자격 증명 없음, SimpleGrantedAuthority, WebAuthenticationDetails)
+	 */
+	private boolean isCompactSecurityContext(Object value) {
+		if (value.getClass() != SecurityContextImpl.class) {
+			return false;
+		}
+		Authentication authentication = ((SecurityContextImpl)value).getAuthentication();
+		if (authentication == null
+			|| authentication.getClass() != UsernamePasswordAuthenticationToken.class
+			|| !authentication.isAuthenticated()
+			|| authentication.getCredentials() != null
+			|| !(authentication.getPrincipal() instanceof AuthSessionUser)) {
+			return false;
+		}
+		Object details = authentication.getDetails();
+		if (details != null && details.getClass() != WebAuthenticationDetails.class) {
+			return false;
+		}
+		return authentication.getAuthorities().stream()
+			.allMatch(authority -> authority.getClass() == SimpleGrantedAuthority.class);
+	}
+
+	private byte[] writeSecurityContext(SecurityContextImpl context) {
+		Authentication authentication = context.getAuthentication();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(TAG_SECURITY_CONTEXT);
+			((AuthSessionUser)authentication.getPrincipal()).writeTo(out);
+
+			Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+			out.writeShort(authorities.size());
+			for (GrantedAuthority authority : authorities) {
+				out.writeUTF(authority.getAuthority());
+			}
+
+			if (authentication.getDetails() instanceof WebAuthenticationDetails details) {
+				out.writeBoolean(true);
+				writeNullableString(out, details.getRemoteAddress());
+				writeNullableString(out, details.getSessionId());
+			} else {
+				out.writeBoolean(false);
+			}
+		} catch (IOException e) {
+			throw new SerializationException("SecurityContext 직렬화 실패", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private SecurityContextImpl readSecurityContext(byte[] bytes) {
+		try (DataInputStream in = new DataInputStream(
+			new ByteArrayInputStream(Arrays.copyOfRange(bytes, 1, bytes.length)))) {
+			AuthSessionUser principal = AuthSessionUser.readFrom(in);
+
+			int authorityCount = in.readUnsignedShort();
+			List<GrantedAuthority> authorities = new ArrayList<>(authorityCount);
+			for (int i = 0; i < authorityCount; i++) {
+				authorities.add(new SimpleGrantedAuthority(in.readUTF()));
+			}
+
+			UsernamePasswordAuthenticationToken authentication =
+				new UsernamePasswordAuthenticationToken(principal, null, authorities);
+			if (in.readBoolean()) {
+				authentication.setDetails(new WebAuthenticationDetails(readNullableString(in), readNullableString(in)));
+			}
+			return new SecurityContextImpl(authentication);
+		} catch (IOException e) {
+			throw new SerializationException("SecurityContext 역직렬화 실패", e);
+		}
+	}
+
+	private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readNullableString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
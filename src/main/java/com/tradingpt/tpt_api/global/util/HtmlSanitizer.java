@@ -1,6 +1,8 @@
 package com.tradingpt.tpt_api.global.util;
 
 import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Cleaner;
 import org.jsoup.safety.Safelist;
 import org.springframework.util.StringUtils;
 
@@ -55,6 +57,17 @@ public final class HtmlSanitizer {
 		return sanitized;
 	}
 
+	/**
+	 * 이미 파싱된 문서를 sanitize합니다.
+	 * 호출 측에서 DOM을 가공한 뒤 다시 문자열로 파싱하지 않고 같은 DOM을 정제할 때 사용
+	 *
+	 * @param dirtyDocument {@link Jsoup#parseBodyFragment(String)} 로 파싱한 문서
+	 * @return sanitize된 안전한 HTML 콘텐츠 (body 내부)
+	 */
+	public static String sanitize(Document dirtyDocument) {
+		return new Cleaner(CONTENT_SAFE_LIST).clean(dirtyDocument).body().html();
+	}
+
 	/**
 	 * HTML 콘텐츠에 data URI 형식의 인라인 이미지가 포함되어 있는지 확인합니다.
 	 *
@@ -0,0 +1,46 @@
+package com.tradingpt.tpt_api.global.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 간격 방식의 단순 Rate Limiter
+ * - 초당 허용 횟수(permitsPerSecond)를 호출 간 최소 간격으로 환산하여 호출 스레드를 대기시킨다.
+ * - 버스트를 허용하지 않으므로 외부 PG처럼 초당 호출 수 제한이 있는 API 앞단에 사용한다.
+ * - 여러 스레드에서 동시에 호출해도 안전하다.
+ */
+public final class IntervalRateLimiter {
+
+	private final long intervalNanos;
+	private long nextFreeSlotNanos;
+
+	public IntervalRateLimiter(double permitsPerSecond) {
+		if (permitsPerSecond <= 0) {
+			throw new IllegalArgumentException("permitsPerSecond must be positive");
+		}
+		this.intervalNanos = (long)(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		this.nextFreeSlotNanos = System.nanoTime();
+	}
+
+	/**
+	 * 다음 호출 슬롯까지 대기
+	 */
+	public void acquire() {
+		long waitNanos = reserve();
+		while (waitNanos > 0) {
+			long start = System.nanoTime();
+			LockSupport.parkNanos(waitNanos);
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			waitNanos -= System.nanoTime() - start;
+		}
+	}
+
+	private synchronized long reserve() {
+		long now = System.nanoTime();
+		long slot = Math.max(now, nextFreeSlotNanos);
+		nextFreeSlotNanos = slot + intervalNanos;
+		return slot - now;
+	}
+}
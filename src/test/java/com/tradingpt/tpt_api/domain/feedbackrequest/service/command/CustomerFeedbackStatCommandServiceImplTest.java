@@ -0,0 +1,104 @@
+package com.tradingpt.tpt_api.domain.feedbackrequest.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.dto.projection.CustomerFeedbackStatSnapshot;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStat;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.CustomerFeedbackStatDelta;
+import com.tradingpt.tpt_api.domain.feedbackrequest.entity.FeedbackRequest;
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
+import com.tradingpt.tpt_api.domain.feedbackrequest.repository.CustomerFeedbackStatRepository;
+import com.tradingpt.tpt_api.domain.user.entity.Customer;
+
+class CustomerFeedbackStatCommandServiceImplTest {
+
+	private static final LocalDate DATE = LocalDate.of(2026, 10, 15);
+
+	private CustomerFeedbackStatRepository repository;
+	private CustomerFeedbackStatCommandServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(CustomerFeedbackStatRepository.class);
+		service = new CustomerFeedbackStatCommandServiceImpl(repository);
+	}
+
+	@Test
+	@DisplayName("생성은 증분 UPDATE 로 반영하고, 통계 행이 없을 때만 원천 데이터로 만든다")
+	void createdFallsBackToRebuild() {
+		FeedbackRequest request = feedbackRequest(1L, Status.N, true);
+		when(repository.applyDelta(1L, 1, 1, 0, 1, DATE)).thenReturn(1, 0);
+
+		service.applyCreated(request);
+		verify(repository, never()).rebuildAll(any());
+
+		service.applyCreated(request);
+		verify(repository).rebuildAll(List.of(1L));
+	}
+
+	@Test
+	@DisplayName("답변 등록(N → FN)은 미답변을 빼고 미읽음을 더한다")
+	void statusChangeAppliesDifference() {
+		FeedbackRequest request = feedbackRequest(1L, Status.N, false);
+		CustomerFeedbackStatDelta before = CustomerFeedbackStatDelta.from(request);
+		request.setStatus(Status.FN);
+		when(repository.applyDelta(1L, 0, -1, 1, 0, null)).thenReturn(1);
+
+		service.applyChanged(before, request);
+
+		verify(repository).applyDelta(1L, 0, -1, 1, 0, null);
+	}
+
+	@Test
+	@DisplayName("원천 집계와 다른 고객만 다시 계산한다 (행 없음 + 피드백 없음은 일치)")
+	void reconcileRebuildsOnlyDrifted() {
+		when(repository.computeSnapshots(List.of(1L, 2L, 3L), Status.N, Status.FN)).thenReturn(List.of(
+			new CustomerFeedbackStatSnapshot(1L, 3L, 1L, 0L, 2L, DATE),
+			new CustomerFeedbackStatSnapshot(2L, 5L, 0L, 1L, 0L, DATE)
+		));
+		when(repository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(
+			stat(1L, 3L, 1L, 0L, 2L),
+			stat(2L, 4L, 0L, 1L, 0L)
+		));
+
+		int rebuilt = service.reconcile(List.of(1L, 2L, 3L));
+
+		assertThat(rebuilt).isEqualTo(1);
+		verify(repository).resetAll(List.of(2L));
+		verify(repository).rebuildAll(List.of(2L));
+	}
+
+	private static FeedbackRequest feedbackRequest(Long customerId, Status status, boolean tokenUsed) {
+		Customer customer = mock(Customer.class);
+		when(customer.getId()).thenReturn(customerId);
+		return FeedbackRequest.builder()
+			.customer(customer)
+			.status(status)
+			.isTokenUsed(tokenUsed)
+			.feedbackRequestDate(DATE)
+			.build();
+	}
+
+	private static CustomerFeedbackStat stat(Long customerId, Long total, Long unanswered, Long unread, Long tokenUsed) {
+		return CustomerFeedbackStat.builder()
+			.customerId(customerId)
+			.totalCount(total)
+			.unansweredCount(unanswered)
+			.unreadResponseCount(unread)
+			.tokenUsedCount(tokenUsed)
+			.lastFeedbackRequestDate(DATE)
+			.build();
+	}
+}
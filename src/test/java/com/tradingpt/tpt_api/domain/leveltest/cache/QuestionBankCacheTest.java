@@ -0,0 +1,91 @@
+package com.tradingpt.tpt_api.domain.leveltest.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.tradingpt.tpt_api.domain.leveltest.enums.ProblemType;
+import com.tradingpt.tpt_api.domain.leveltest.repository.LevelTestQuestionRepository;
+
+class QuestionBankCacheTest {
+
+	private static final QuestionGradingKey Q1 = new QuestionGradingKey(1L, ProblemType.MULTIPLE_CHOICE, "3", 10);
+	private static final QuestionGradingKey Q2 = new QuestionGradingKey(2L, ProblemType.SUBJECTIVE, null, 20);
+
+	private LevelTestQuestionRepository questionRepository;
+	private StringRedisTemplate redisTemplate;
+	private QuestionBankCache cache;
+
+	@BeforeEach
+	void setUp() {
+		questionRepository = mock(LevelTestQuestionRepository.class);
+		redisTemplate = mock(StringRedisTemplate.class);
+		cache = new QuestionBankCache(questionRepository, redisTemplate, Duration.ofMinutes(10), Duration.ZERO);
+	}
+
+	@Test
+	@DisplayName("스냅샷은 한 번만 적재하고 객관식은 정답 번호가 같을 때만 배점을 준다")
+	void gradesFromSingleSnapshot() {
+		when(questionRepository.findAllGradingKeys()).thenReturn(List.of(Q1, Q2));
+
+		QuestionBank bank = cache.get();
+
+		assertThat(cache.get()).isSameAs(bank);
+		assertThat(bank.get(1L).grade("3")).isEqualTo(10);
+		assertThat(bank.get(1L).grade("1,3")).isZero();
+		assertThat(bank.get(2L).isMultipleChoice()).isFalse();
+		verify(questionRepository, times(1)).findAllGradingKeys();
+	}
+
+	@Test
+	@DisplayName("모르는 문항이 제출되면 한 번 다시 적재하고, 기존 스냅샷은 바뀌지 않는다")
+	void reloadsOnUnknownQuestion() {
+		when(questionRepository.findAllGradingKeys()).thenReturn(List.of(Q1), List.of(Q1, Q2));
+
+		QuestionBank first = cache.get();
+		QuestionBank second = cache.getContaining(List.of(1L, 2L));
+
+		assertThat(first.containsAll(List.of(1L, 2L))).isFalse();
+		assertThat(second.containsAll(List.of(1L, 2L))).isTrue();
+		assertThat(second.version()).isGreaterThan(first.version());
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 문항 ID 가 반복 제출돼도 최소 간격 안에서는 다시 적재하지 않는다")
+	void throttlesReloadOnUnknownQuestion() {
+		QuestionBankCache throttled = new QuestionBankCache(questionRepository, redisTemplate,
+			Duration.ofMinutes(10), Duration.ofMinutes(1));
+		when(questionRepository.findAllGradingKeys()).thenReturn(List.of(Q1, Q2));
+
+		QuestionBank bank = throttled.get();
+		for (int i = 0; i < 10; i++) {
+			assertThat(throttled.getContaining(List.of(1L, 999L))).isSameAs(bank);
+		}
+
+		verify(questionRepository, times(1)).findAllGradingKeys();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서 갱신하면 바로 다시 적재하고 다른 인스턴스에 알린다")
+	void refreshPublishes() {
+		when(questionRepository.findAllGradingKeys()).thenReturn(List.of(Q1), List.of(Q1, Q2));
+		cache.get();
+
+		cache.refresh();
+
+		assertThat(cache.get().size()).isEqualTo(2);
+		verify(redisTemplate).convertAndSend(eq(QuestionBankCache.REFRESH_CHANNEL), anyString());
+	}
+}
@@ -0,0 +1,186 @@
+package com.tradingpt.tpt_api.domain.token.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradingpt.tpt_api.domain.token.enums.TokenTransactionType;
+import com.tradingpt.tpt_api.domain.token.exception.TokenErrorStatus;
+import com.tradingpt.tpt_api.domain.token.exception.TokenException;
+import com.tradingpt.tpt_api.global.config.QueryDslConfig;
+import com.tradingpt.tpt_api.support.MySqlContainerTest;
+
+/**
+ * 토큰 원장 동시성 검증
+ *
+ * <p>여러 스레드가 같은 고객의 토큰으로 동시에 강의를 구매해도
+ * 잔액이 음수가 되거나 이중 차감되지 않고, 원장 합계와 잔액이 일치해야 한다.
+ */
+@Import({QueryDslConfig.class, TokenLedgerServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenLedgerConcurrencyTest extends MySqlContainerTest {
+
+	private static final long CUSTOMER_ID = 1L;
+	private static final int INITIAL_BALANCE = 100;
+	private static final int PRICE = 3;
+	private static final int THREADS = 32;
+
+	@MockBean
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private TokenLedgerService tokenLedgerService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("DELETE FROM token_ledger");
+		jdbcTemplate.update("DELETE FROM customer");
+		jdbcTemplate.update("DELETE FROM `user`");
+
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update("""
+			INSERT INTO `user` (user_id, role, username, name, provider, version, created_at, updated_at)
+			VALUES (?, 'ROLE_CUSTOMER', 'customer1', '고객1', 'LOCAL', 0, ?, ?)
+			""", CUSTOMER_ID, now, now);
+		jdbcTemplate.update("""
+			INSERT INTO customer (user_id, phone_number, primary_investment_type, membership_level,
+			    user_status, leveltest_status, token)
+			VALUES (?, '010-0000-0000', 'DAY', 'BASIC', 'UID_APPROVED', 'AVAILABLE', ?)
+			""", CUSTOMER_ID, INITIAL_BALANCE);
+
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("서로 다른 강의를 동시에 구매해도 잔액 이상으로 차감되지 않는다")
+	void concurrentPurchasesNeverOverspend() throws Exception {
+		int attempts = 200;
+		AtomicInteger succeeded = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		runConcurrently(attempts, i -> {
+			long lectureId = i + 1;
+			boolean debited = tokenLedgerService.debit(CUSTOMER_ID, PRICE, TokenTransactionType.LECTURE_PURCHASE,
+				lectureId, "lecture-purchase:" + CUSTOMER_ID + ":" + lectureId);
+			(debited ? succeeded : rejected).incrementAndGet();
+		});
+
+		assertThat(succeeded.get()).isEqualTo(INITIAL_BALANCE / PRICE);
+		assertThat(rejected.get()).isEqualTo(attempts - succeeded.get());
+		assertThat(balance()).isEqualTo(INITIAL_BALANCE - succeeded.get() * PRICE);
+		assertLedgerMatchesBalance(succeeded.get());
+	}
+
+	@Test
+	@DisplayName("같은 강의를 동시에 구매하면 한 번만 차감된다")
+	void concurrentDuplicatePurchaseDebitsOnce() throws Exception {
+		AtomicInteger duplicates = new AtomicInteger();
+
+		runConcurrently(THREADS, i -> {
+			try {
+				tokenLedgerService.debit(CUSTOMER_ID, PRICE, TokenTransactionType.LECTURE_PURCHASE,
+					7L, "lecture-purchase:" + CUSTOMER_ID + ":7");
+			} catch (TokenException e) {
+				assertThat(e.getErrorCodeInterface()).isEqualTo(TokenErrorStatus.DUPLICATE_TOKEN_TRANSACTION);
+				duplicates.incrementAndGet();
+			}
+		});
+
+		// 나머지 요청은 이미 반영된 거래로 처리되거나 멱등 키 충돌로 롤백된다
+		assertThat(duplicates.get()).isLessThan(THREADS);
+		assertThat(balance()).isEqualTo(INITIAL_BALANCE - PRICE);
+		assertLedgerMatchesBalance(1);
+	}
+
+	@Test
+	@DisplayName("지급과 차감이 섞여도 원장 합계와 잔액이 일치한다")
+	void mixedCreditsAndDebitsStayConsistent() throws Exception {
+		runConcurrently(300, i -> {
+			if (i % 3 == 0) {
+				tokenLedgerService.credit(CUSTOMER_ID, 1, TokenTransactionType.ADMIN_GRANT, null, null);
+			} else {
+				tokenLedgerService.debit(CUSTOMER_ID, 1, TokenTransactionType.FEEDBACK_REQUEST, (long)i,
+					"feedback-request:" + i);
+			}
+		});
+
+		assertThat(balance()).isGreaterThanOrEqualTo(0);
+		Integer ledgerSum = jdbcTemplate.queryForObject(
+			"SELECT COALESCE(SUM(amount), 0) FROM token_ledger WHERE customer_id = ?", Integer.class, CUSTOMER_ID);
+		assertThat(balance()).isEqualTo(INITIAL_BALANCE + ledgerSum);
+	}
+
+	private void runConcurrently(int tasks, TaskBody body) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < tasks; i++) {
+			int index = i;
+			futures.add(executor.submit(() -> {
+				start.await();
+				body.run(index);
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+	}
+
+	private int balance() {
+		return jdbcTemplate.queryForObject("SELECT token FROM customer WHERE user_id = ?", Integer.class,
+			CUSTOMER_ID);
+	}
+
+	/**
+	 * 원장 행 수 = 성공한 거래 수, 마지막 balance_after = 현재 잔액
+	 */
+	private void assertLedgerMatchesBalance(int expectedEntries) {
+		Integer entries = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM token_ledger WHERE customer_id = ?", Integer.class, CUSTOMER_ID);
+		assertThat(entries).isEqualTo(expectedEntries);
+
+		Integer lastBalance = jdbcTemplate.queryForObject("""
+			SELECT balance_after FROM token_ledger
+			WHERE customer_id = ?
+			ORDER BY token_ledger_id DESC
+			LIMIT 1
+			""", Integer.class, CUSTOMER_ID);
+		assertThat(lastBalance).isEqualTo(balance());
+	}
+
+	@FunctionalInterface
+	private interface TaskBody {
+		void run(int index) throws Exception;
+	}
+}
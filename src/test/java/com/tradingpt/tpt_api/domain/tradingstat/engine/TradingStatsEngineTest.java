@@ -0,0 +1,161 @@
+package com.tradingpt.tpt_api.domain.tradingstat.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.EntryPoint;
+import com.tradingpt.tpt_api.domain.feedbackrequest.enums.Status;
+import com.tradingpt.tpt_api.domain.feedbackrequest.util.TradingCalculationUtil;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatDelta;
+import com.tradingpt.tpt_api.domain.tradingstat.entity.TradingStatPeriodKey;
+import com.tradingpt.tpt_api.domain.tradingstat.enums.StatGranularity;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+
+/**
+ * 슬라이스 1회 순회 결과가 지표별 TradingStatDelta 합산(기존 조회 경로)과 같은지 검증
+ */
+class TradingStatsEngineTest {
+
+	private static final int YEAR = 2025;
+	private static final int MONTH = 3;
+	private static final int WEEK = 2;
+	private static final int PREVIOUS_YEAR = 2025;
+	private static final int PREVIOUS_MONTH = 2;
+	private static final int PREVIOUS_WEEK = 1;
+	private static final CourseStatus COURSE_STATUS = CourseStatus.AFTER_COMPLETION;
+
+	private final List<TradingStatPeriodKey> keys = new ArrayList<>();
+	private final List<TradingStatDelta> deltas = new ArrayList<>();
+	private TradingStatSlice slice;
+
+	@BeforeEach
+	void setUp() {
+		Random random = new Random(42);
+		CourseStatus[] courseStatuses = CourseStatus.values();
+		EntryPoint[] entryPoints = EntryPoint.values();
+		slice = new TradingStatSlice(0);
+
+		for (int i = 0; i < 500; i++) {
+			StatGranularity granularity = StatGranularity.values()[random.nextInt(StatGranularity.values().length)];
+			boolean previous = random.nextInt(4) == 0;
+			int year = previous ? PREVIOUS_YEAR : YEAR;
+			int month = previous ? PREVIOUS_MONTH : MONTH;
+			int week = previous ? PREVIOUS_WEEK : 1 + random.nextInt(3);
+			LocalDate tradeDate = LocalDate.of(year, month, (week - 1) * 7 + 1 + random.nextInt(7));
+			TradingStatPeriodKey key = TradingStatPeriodKey.of(granularity, InvestmentType.DAY,
+				courseStatuses[random.nextInt(courseStatuses.length)], tradeDate, year, month, week);
+			TradingStatDelta delta = TradingStatDelta.of(
+				random.nextBoolean() ? Status.N : Status.FN,
+				BigDecimal.valueOf(random.nextInt(200_000) - 100_000, 2),
+				BigDecimal.valueOf(random.nextInt(200_000) - 100_000, 2),
+				BigDecimal.valueOf(random.nextInt(10_000), 2),
+				random.nextDouble() * 5,
+				entryPoints[random.nextInt(entryPoints.length)],
+				random.nextBoolean()
+			);
+
+			keys.add(key);
+			deltas.add(delta);
+			slice.add(key, delta);
+		}
+	}
+
+	@Test
+	@DisplayName("주간 통계는 지표별 합산 결과와 같다")
+	void weeklyMatchesPerMetricFold() {
+		WeeklyTradingStats stats = TradingStatsEngine.computeWeekly(
+			slice, YEAR, MONTH, WEEK, COURSE_STATUS, YEAR, MONTH, WEEK - 1);
+
+		TradingStatDelta days = fold(key -> key.granularity() == StatGranularity.DAY
+			&& isPeriod(key, YEAR, MONTH, WEEK) && key.courseStatus() == COURSE_STATUS);
+		TradingStatDelta courseWeek = fold(key -> key.granularity() == StatGranularity.WEEK
+			&& isPeriod(key, YEAR, MONTH, WEEK) && key.courseStatus() == COURSE_STATUS);
+		TradingStatDelta currentWeek = fold(key -> key.granularity() == StatGranularity.WEEK
+			&& isPeriod(key, YEAR, MONTH, WEEK));
+
+		assertThat(stats.dailyStatistics()).hasSize(count(key -> key.granularity() == StatGranularity.DAY
+			&& isPeriod(key, YEAR, MONTH, WEEK) && key.courseStatus() == COURSE_STATUS));
+		assertThat(stats.tradingCount()).isEqualTo(days.tradeCount());
+		assertThat(stats.winCount()).isEqualTo(days.winCount());
+		assertThat(stats.pnl()).isEqualByComparingTo(days.pnlSum());
+		assertThat(stats.winningRate()).isEqualTo(TradingCalculationUtil.calculateWinRate(
+			Integer.valueOf(days.tradeCount()), Integer.valueOf(days.winCount())));
+		assertThat(stats.averageRnr())
+			.isEqualTo(TradingCalculationUtil.calculateAverageWinningRnr(courseWeek.winRnrSum(), courseWeek.winCount()));
+		assertThat(stats.currentPerformance().getFinalPnl()).isEqualByComparingTo(currentWeek.pnlSum());
+		assertThat(stats.directionStatistics().getDirectionOCount()).isEqualTo(currentWeek.directionOCount());
+		assertThat(stats.directionStatistics().getDirectionXWinRate()).isEqualTo(TradingCalculationUtil.calculateWinRate(
+			currentWeek.directionXCount(), currentWeek.directionXWinCount()));
+	}
+
+	@Test
+	@DisplayName("월간 통계는 지표별 합산 결과와 같다")
+	void monthlyMatchesPerMetricFold() {
+		MonthlyTradingStats stats = TradingStatsEngine.computeMonthly(
+			slice, YEAR, MONTH, COURSE_STATUS, PREVIOUS_YEAR, PREVIOUS_MONTH);
+
+		TradingStatDelta weeks = fold(key -> key.granularity() == StatGranularity.WEEK
+			&& key.year() == YEAR && key.month() == MONTH && key.courseStatus() == COURSE_STATUS);
+		TradingStatDelta currentMonth = fold(key -> key.granularity() == StatGranularity.MONTH
+			&& key.year() == YEAR && key.month() == MONTH);
+		TradingStatDelta previousMonth = fold(key -> key.granularity() == StatGranularity.MONTH
+			&& key.year() == PREVIOUS_YEAR && key.month() == PREVIOUS_MONTH);
+
+		assertThat(stats.tradingCount()).isEqualTo(weeks.tradeCount());
+		assertThat(stats.pnl()).isEqualByComparingTo(weeks.pnlSum());
+		assertThat(stats.averageRnr())
+			.isEqualTo(TradingCalculationUtil.calculateAverageWinningRnr(currentMonth.winRnrSum(), currentMonth.winCount()));
+		assertThat(stats.entryPointStatistics().getPullBackCount()).isEqualTo(currentMonth.pullBackCount());
+		assertThat(stats.entryPointStatistics().getBreakOutWinRate()).isEqualTo(TradingCalculationUtil.calculateWinRate(
+			currentMonth.breakOutCount(), currentMonth.breakOutWinCount()));
+		assertThat(stats.previousPerformance().getFinalPnl()).isEqualByComparingTo(previousMonth.pnlSum());
+		assertThat(stats.previousMonth()).isEqualTo(PREVIOUS_MONTH);
+	}
+
+	@Test
+	@DisplayName("정수 연산 승률은 BigDecimal HALF_UP 계산과 같다")
+	void primitiveWinRateMatchesBigDecimal() {
+		for (int total = 1; total <= 300; total++) {
+			for (int win = 0; win <= total; win++) {
+				double expected = BigDecimal.valueOf(win)
+					.divide(BigDecimal.valueOf(total), 4, RoundingMode.HALF_UP)
+					.multiply(BigDecimal.valueOf(100))
+					.setScale(2, RoundingMode.HALF_UP)
+					.doubleValue();
+				assertThat(TradingCalculationUtil.calculateWinRate(total, win))
+					.as("%d / %d", win, total)
+					.isEqualTo(expected);
+			}
+		}
+	}
+
+	private static boolean isPeriod(TradingStatPeriodKey key, int year, int month, int week) {
+		return key.year() == year && key.month() == month && key.week() == week;
+	}
+
+	private TradingStatDelta fold(Predicate<TradingStatPeriodKey> filter) {
+		TradingStatDelta total = TradingStatDelta.ZERO;
+		for (int i = 0; i < keys.size(); i++) {
+			if (filter.test(keys.get(i))) {
+				total = total.plus(deltas.get(i));
+			}
+		}
+		return total;
+	}
+
+	private int count(Predicate<TradingStatPeriodKey> filter) {
+		return (int)keys.stream().filter(filter).count();
+	}
+}
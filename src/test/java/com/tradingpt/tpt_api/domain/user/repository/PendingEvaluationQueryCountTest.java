@@ -0,0 +1,131 @@
+package com.tradingpt.tpt_api.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.tradingpt.tpt_api.domain.user.dto.projection.PendingEvaluationRow;
+import com.tradingpt.tpt_api.global.config.QueryDslConfig;
+import com.tradingpt.tpt_api.support.MySqlContainerTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 미작성 평가 조회 쿼리 수 검증
+ *
+ * <p>고객 수를 늘려도 {@link CustomerRepository#findPendingEvaluations} 가
+ * 실행하는 SQL 은 1개로 고정되어야 한다. (고객/월/주차별 반복 조회 방지)
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QueryDslConfig.class)
+class PendingEvaluationQueryCountTest extends MySqlContainerTest {
+
+	private static final int YEAR = 2025;
+	private static final int MONTH = 1;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private long nextUserId = 1L;
+
+	@BeforeEach
+	void clear() {
+		jdbcTemplate.update("DELETE FROM feedback_request");
+		jdbcTemplate.update("DELETE FROM monthly_trading_summary");
+		jdbcTemplate.update("DELETE FROM customer");
+		jdbcTemplate.update("DELETE FROM `user`");
+	}
+
+	@Test
+	@DisplayName("고객 수와 무관하게 미작성 평가 조회는 쿼리 1회로 끝난다")
+	void constantQueryCount() {
+		seedCustomers(5);
+		long smallCount = countStatements(() -> assertThat(findAll()).hasSize(5 * 3));
+
+		seedCustomers(95);
+		long largeCount = countStatements(() -> assertThat(findAll()).hasSize(100 * 3));
+
+		assertThat(smallCount).isEqualTo(1);
+		assertThat(largeCount).isEqualTo(smallCount);
+	}
+
+	@Test
+	@DisplayName("월간 평가가 작성된 월은 제외하고, 평가 항목 단위로 페이징한다")
+	void excludesWrittenEvaluationsAndPagesByItem() {
+		seedCustomers(2);
+		long firstCustomerId = 1L;
+		jdbcTemplate.update("""
+			INSERT INTO monthly_trading_summary
+			    (customer_id, summary_year, summary_month, monthly_evaluation, created_at, updated_at)
+			VALUES (?, ?, ?, '평가 완료', NOW(), NOW())
+			""", firstCustomerId, YEAR, MONTH);
+
+		List<PendingEvaluationRow> all = findAll();
+		assertThat(all).hasSize(5);
+		assertThat(all)
+			.filteredOn(row -> row.getCustomerId() == firstCustomerId)
+			.extracting(PendingEvaluationRow::getEvaluationType)
+			.containsExactly("WEEKLY", "WEEKLY");
+
+		List<PendingEvaluationRow> secondPage = customerRepository.findPendingEvaluations(
+			null, 2099, 12, 5, 3, 2);
+		assertThat(secondPage).extracting(PendingEvaluationRow::getEvaluationType)
+			.containsExactly("MONTHLY", "WEEKLY", "WEEKLY");
+	}
+
+	private List<PendingEvaluationRow> findAll() {
+		return customerRepository.findPendingEvaluations(null, 2099, 12, 5, 10_000, 0);
+	}
+
+	/**
+	 * DAY 타입 PREMIUM 고객 생성
+	 * 고객마다 같은 월 1·2주차 피드백을 남겨 월간 1건 + 주간 2건의 미작성 평가가 생긴다.
+	 */
+	private void seedCustomers(int count) {
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < count; i++) {
+			long userId = nextUserId++;
+			jdbcTemplate.update("""
+				INSERT INTO `user` (user_id, role, username, name, provider, version, created_at, updated_at)
+				VALUES (?, 'ROLE_CUSTOMER', ?, ?, 'LOCAL', 0, ?, ?)
+				""", userId, "customer" + userId, String.format("고객%04d", userId), now, now);
+			jdbcTemplate.update("""
+				INSERT INTO customer (user_id, phone_number, primary_investment_type, membership_level,
+				    user_status, leveltest_status)
+				VALUES (?, '010-0000-0000', 'DAY', 'PREMIUM', 'UID_APPROVED', 'AVAILABLE')
+				""", userId);
+			for (int week = 1; week <= 2; week++) {
+				jdbcTemplate.update("""
+					INSERT INTO feedback_request (customer_id, investment_type, feedback_request_date,
+					    feedback_year, feedback_month, feedback_week, created_at, updated_at)
+					VALUES (?, 'DAY', ?, ?, ?, ?, ?, ?)
+					""", userId, LocalDate.of(YEAR, MONTH, week * 7), YEAR, MONTH, week, now, now);
+			}
+		}
+	}
+
+	private long countStatements(Runnable action) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,158 @@
+package com.tradingpt.tpt_api.global.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.LongFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.tradingpt.tpt_api.support.MySqlContainerTest;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+
+/**
+ * 대량 INSERT 처리량 비교 (IDENTITY vs 풀링 ID + rewriteBatchedStatements)
+ *
+ * <p>같은 모양의 행 {@value #ROWS}개를 persist + flush 하고 초당 행 수와 JDBC 문장 준비 횟수를 비교한다.
+ * IDENTITY 는 행마다 INSERT 를 실행해 ID 를 받아야 하므로 배치가 꺼지고,
+ * 풀링 ID 는 구간 단위로 ID 를 미리 받아 batch_size 만큼 묶어 보낸다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BatchInsertThroughputBenchmarkTest extends MySqlContainerTest {
+
+	private static final Logger log = LoggerFactory.getLogger(BatchInsertThroughputBenchmarkTest.class);
+
+	private static final int ROWS = 5_000;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("풀링 ID 는 IDENTITY 보다 적은 JDBC 문장으로 대량 INSERT 한다")
+	void pooledIdsBatchInserts() {
+		Result identity = run(IdentityRow::new);
+		Result pooled = run(PooledRow::new);
+
+		log.info("[insert-bench] identity: rows/sec={}, statements={}", identity.rowsPerSecond(), identity.statements());
+		log.info("[insert-bench] pooled:   rows/sec={}, statements={}", pooled.rowsPerSecond(), pooled.statements());
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM bench_pooled_row", Integer.class))
+			.isEqualTo(ROWS);
+		assertThat(pooled.statements()).isLessThan(identity.statements() / 10);
+	}
+
+	@Test
+	@DisplayName("전환 시 AUTO_INCREMENT 뒤로 띄워 시작하고 구버전 INSERT 구간을 풀링 구간 뒤로 옮긴다")
+	void initializerSeparatesPooledRangeFromAutoIncrement() {
+		jdbcTemplate.update("DELETE FROM id_sequence WHERE sequence_name = ?", PooledIds.PAYMENT);
+		PooledIdSequenceInitializer initializer = new PooledIdSequenceInitializer(jdbcTemplate);
+		initializer.afterPropertiesSet();
+
+		String select = "SELECT next_val FROM id_sequence WHERE sequence_name = ?";
+		Long nextVal = jdbcTemplate.queryForObject(select, Long.class, PooledIds.PAYMENT);
+		assertThat(nextVal).isGreaterThanOrEqualTo(PooledIds.SAFETY_GAP + PooledIds.ALLOCATION_SIZE);
+		assertThat(autoIncrementOfPayment()).isEqualTo(nextVal + PooledIds.RESERVED_RANGE);
+
+		// 재기동: 값을 내리지 않고, AUTO_INCREMENT 구간으로 뛰어들지 않는다
+		jdbcTemplate.update("UPDATE id_sequence SET next_val = ? WHERE sequence_name = ?",
+			nextVal + 5000, PooledIds.PAYMENT);
+		initializer.afterPropertiesSet();
+
+		assertThat(jdbcTemplate.queryForObject(select, Long.class, PooledIds.PAYMENT)).isEqualTo(nextVal + 5000);
+	}
+
+	private Long autoIncrementOfPayment() {
+		jdbcTemplate.execute("ANALYZE TABLE payment");
+		return jdbcTemplate.queryForObject("""
+			SELECT AUTO_INCREMENT FROM information_schema.tables
+			WHERE table_schema = DATABASE() AND table_name = 'payment'
+			""", Long.class);
+	}
+
+	private Result run(LongFunction<Object> rowFactory) {
+		Statistics statistics = entityManager.getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+		statistics.clear();
+
+		long started = System.nanoTime();
+		for (long i = 0; i < ROWS; i++) {
+			entityManager.persist(rowFactory.apply(i));
+		}
+		entityManager.flush();
+		entityManager.clear();
+		long elapsedNanos = System.nanoTime() - started;
+
+		return new Result(
+			ROWS * 1_000_000_000L / Math.max(elapsedNanos, 1),
+			statistics.getPrepareStatementCount()
+		);
+	}
+
+	private record Result(long rowsPerSecond, long statements) {
+	}
+
+	@Entity
+	@Table(name = "bench_identity_row")
+	static class IdentityRow {
+
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		@Column(name = "payload")
+		private String payload;
+
+		protected IdentityRow() {
+		}
+
+		IdentityRow(long sequence) {
+			this.payload = "row-" + sequence;
+		}
+	}
+
+	@Entity
+	@Table(name = "bench_pooled_row")
+	static class PooledRow {
+
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_pooled_row")
+		@TableGenerator(
+			name = "bench_pooled_row",
+			table = PooledIds.TABLE,
+			pkColumnName = PooledIds.PK_COLUMN,
+			valueColumnName = PooledIds.VALUE_COLUMN,
+			pkColumnValue = "bench_pooled_row",
+			allocationSize = PooledIds.ALLOCATION_SIZE
+		)
+		private Long id;
+
+		@Column(name = "payload")
+		private String payload;
+
+		protected PooledRow() {
+		}
+
+		PooledRow(long sequence) {
+			this.payload = "row-" + sequence;
+		}
+	}
+}
@@ -0,0 +1,285 @@
+package com.tradingpt.tpt_api.global.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import com.tradingpt.tpt_api.global.common.dto.CreatedAtCursor;
+import com.tradingpt.tpt_api.global.config.QueryDslConfig;
+import com.tradingpt.tpt_api.support.MySqlContainerTest;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 커스텀 QueryDSL 리포지토리 인덱스 검증
+ *
+ * <p>모든 {@code *RepositoryCustom} 메서드를 더미 인자로 호출하고, 실행된 SELECT 를
+ * MySQL general log 에서 꺼내 {@code EXPLAIN} 한다.
+ * 사용 가능한 인덱스가 하나도 없는 풀 스캔(type = ALL, possible_keys = NULL)이 있으면 실패한다.
+ * 테이블 크기와 무관하게 판별되므로 빈 스키마에서도 인덱스 누락을 잡아낸다.
+ *
+ * <p>Docker 가 없거나 데이터소스에 연결할 수 없으면 건너뛰고, 그 외 호출 예외는 실패로 처리한다.
+ */
+@Import(QueryDslConfig.class)
+class SchemaIndexExplainTest extends MySqlContainerTest {
+
+	private static final Logger log = LoggerFactory.getLogger(SchemaIndexExplainTest.class);
+
+	/**
+	 * 전체 목록 조회가 의도된 메서드 (어드민/트레이너 목록 등 소규모 테이블)
+	 */
+	private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+		"AdminRepositoryCustom.findAdminListRows",
+		"TrainerRepositoryCustom.findTrainerListRows"
+	);
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@BeforeEach
+	void clearGeneralLog() throws Exception {
+		execute("TRUNCATE TABLE mysql.general_log");
+	}
+
+	@Test
+	@DisplayName("모든 커스텀 QueryDSL 조회는 인덱스를 사용할 수 있어야 한다")
+	void customQueriesUseIndexes() throws Exception {
+		List<String> violations = new ArrayList<>();
+		List<String> failures = new ArrayList<>();
+
+		for (Class<?> customInterface : customRepositoryInterfaces()) {
+			// 리포지토리 프록시와 Impl 빈이 모두 구현하므로 아무 쪽이나 사용 (동일한 SQL)
+			Object repository = applicationContext.getBeansOfType(customInterface).values().iterator().next();
+
+			List<Method> methods = Arrays.stream(customInterface.getDeclaredMethods())
+				.filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+				.sorted(Comparator.comparing(Method::getName))
+				.toList();
+
+			for (Method method : methods) {
+				String methodName = customInterface.getSimpleName() + "." + method.getName();
+
+				Object[] args = dummyArguments(method);
+				if (args == null) {
+					log.info("[index-check] 더미 인자를 만들 수 없어 건너뜀: {}", methodName);
+					continue;
+				}
+
+				execute("TRUNCATE TABLE mysql.general_log");
+				try {
+					method.invoke(repository, args);
+					entityManager.flush();
+				} catch (Exception e) {
+					Assumptions.assumeFalse(isConnectionFailure(e), "데이터소스에 연결할 수 없음: " + rootMessage(e));
+					failures.add(methodName + " (" + rootMessage(e) + ")");
+					continue;
+				} finally {
+					entityManager.clear();
+				}
+
+				if (FULL_SCAN_ALLOWED.contains(methodName)) {
+					continue;
+				}
+
+				for (String sql : capturedSelects()) {
+					violations.addAll(explainFullScans(methodName, sql));
+				}
+			}
+		}
+
+		assertThat(failures)
+			.as("더미 인자로 호출에 실패한 쿼리")
+			.isEmpty();
+		assertThat(violations)
+			.as("인덱스 없이 풀 스캔하는 쿼리")
+			.isEmpty();
+	}
+
+	private List<Class<?>> customRepositoryInterfaces() {
+		Set<Class<?>> interfaces = new LinkedHashSet<>();
+		for (String beanName : applicationContext.getBeanDefinitionNames()) {
+			Class<?> type = applicationContext.getType(beanName);
+			if (type == null) {
+				continue;
+			}
+			collectCustomInterfaces(type, interfaces);
+		}
+		return interfaces.stream()
+			.sorted(Comparator.comparing(Class::getSimpleName))
+			.toList();
+	}
+
+	private void collectCustomInterfaces(Class<?> type, Set<Class<?>> result) {
+		for (Class<?> candidate : type.getInterfaces()) {
+			if (candidate.getName().startsWith("com.tradingpt.tpt_api")
+				&& candidate.getSimpleName().endsWith("RepositoryCustom")) {
+				result.add(candidate);
+			}
+			collectCustomInterfaces(candidate, result);
+		}
+	}
+
+	/**
+	 * 파라미터 타입별 더미 인자 생성
+	 *
+	 * @return 생성할 수 없는 타입이 있으면 null
+	 */
+	private Object[] dummyArguments(Method method) {
+		Class<?>[] types = method.getParameterTypes();
+		Object[] args = new Object[types.length];
+		for (int i = 0; i < types.length; i++) {
+			Object value = dummyValue(types[i]);
+			if (value == null) {
+				return null;
+			}
+			args[i] = value;
+		}
+		return args;
+	}
+
+	private Object dummyValue(Class<?> type) {
+		if (type == Long.class || type == long.class) {
+			return 1L;
+		}
+		if (type == Integer.class || type == int.class) {
+			return 1;
+		}
+		if (type == Boolean.class || type == boolean.class) {
+			return Boolean.TRUE;
+		}
+		if (type == Double.class || type == double.class) {
+			return 1.0;
+		}
+		if (type == String.class) {
+			return "INDEX_CHECK";
+		}
+		if (type == BigDecimal.class) {
+			return BigDecimal.ONE;
+		}
+		if (type == LocalDate.class) {
+			return LocalDate.of(2025, 1, 1);
+		}
+		if (type == LocalDateTime.class) {
+			return LocalDateTime.of(2025, 1, 1, 0, 0);
+		}
+		if (type == Pageable.class) {
+			return PageRequest.of(0, 20);
+		}
+		if (type == CreatedAtCursor.class) {
+			// 커서 seek 조건(created_at, id)이 포함된 다음 페이지 쿼리를 검증
+			return new CreatedAtCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 1L);
+		}
+		if (type == Set.class) {
+			return Set.of(1L);
+		}
+		if (type == List.class) {
+			return List.of(1L);
+		}
+		if (type.isEnum() && type.getEnumConstants().length > 0) {
+			return type.getEnumConstants()[0];
+		}
+		return null;
+	}
+
+	private List<String> capturedSelects() throws Exception {
+		List<String> selects = new ArrayList<>();
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery(
+				 "SELECT argument FROM mysql.general_log WHERE command_type = 'Query' ORDER BY event_time")) {
+			while (rs.next()) {
+				String sql = new String(rs.getBytes(1), StandardCharsets.UTF_8).trim();
+				String lower = sql.toLowerCase(Locale.ROOT);
+				if ((lower.startsWith("select") || lower.startsWith("with"))
+					&& !lower.contains("mysql.general_log")
+					&& !lower.startsWith("select @@")) {
+					selects.add(sql);
+				}
+			}
+		}
+		return selects;
+	}
+
+	private List<String> explainFullScans(String methodName, String sql) throws Exception {
+		List<String> violations = new ArrayList<>();
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+			while (rs.next()) {
+				String table = rs.getString("table");
+				String accessType = rs.getString("type");
+				String possibleKeys = rs.getString("possible_keys");
+
+				boolean derived = table == null || table.startsWith("<");
+				if (!derived && "ALL".equals(accessType) && possibleKeys == null) {
+					violations.add(methodName + " -> " + table + " : " + sql);
+				}
+			}
+		}
+		return violations;
+	}
+
+	private void execute(String sql) throws Exception {
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	private boolean isConnectionFailure(Throwable throwable) {
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+			if (cause instanceof CannotGetJdbcConnectionException
+				|| cause instanceof SQLTransientConnectionException
+				|| cause instanceof ConnectException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String rootMessage(Throwable throwable) {
+		Throwable root = throwable;
+		while (root.getCause() != null) {
+			root = root.getCause();
+		}
+		return root.getClass().getSimpleName() + ": " + root.getMessage();
+	}
+}
@@ -0,0 +1,63 @@
+package com.tradingpt.tpt_api.global.infrastructure.job.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobStatus;
+import com.tradingpt.tpt_api.global.infrastructure.job.enums.AsyncJobType;
+import com.tradingpt.tpt_api.global.infrastructure.queue.RetryPolicy;
+
+class AsyncJobTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+	private static final RetryPolicy RETRY_POLICY =
+		new RetryPolicy(2, Duration.ofSeconds(30), Duration.ofMinutes(30));
+
+	@Test
+	@DisplayName("점유하면 시도 횟수를 올리고 점유 만료 시각을 다음 실행 시각으로 둔다")
+	void claimSetsLease() {
+		AsyncJob job = AsyncJob.pending(AsyncJobType.LEVEL_TEST_GRADING, "42");
+
+		job.claim("token", NOW, NOW.plusMinutes(5));
+
+		assertThat(job.getStatus()).isEqualTo(AsyncJobStatus.RUNNING);
+		assertThat(job.getAttemptCount()).isEqualTo(1);
+		assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(5));
+		assertThat(job.getClaimToken()).isEqualTo("token");
+	}
+
+	@Test
+	@DisplayName("실패하면 backoff 후 재시도하고, 최대 시도 횟수에 도달하면 FAILED 로 끝난다")
+	void failureRetriesUntilMaxAttempts() {
+		AsyncJob job = AsyncJob.pending(AsyncJobType.LEVEL_TEST_GRADING, "42");
+
+		job.claim("t1", NOW, NOW.plusMinutes(5));
+		assertThat(job.markFailed("boom", NOW, RETRY_POLICY)).isTrue();
+		assertThat(job.getStatus()).isEqualTo(AsyncJobStatus.PENDING);
+		assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+		assertThat(job.getClaimToken()).isNull();
+
+		job.claim("t2", NOW, NOW.plusMinutes(5));
+		assertThat(job.markFailed("boom", NOW, RETRY_POLICY)).isFalse();
+		assertThat(job.getStatus()).isEqualTo(AsyncJobStatus.FAILED);
+		assertThat(job.getLastError()).isEqualTo("boom");
+	}
+
+	@Test
+	@DisplayName("실행하지 못하고 점유를 해제하면 시도 횟수를 되돌리고 바로 다시 점유 대상이 된다")
+	void releaseRestoresAttempt() {
+		AsyncJob job = AsyncJob.pending(AsyncJobType.LEVEL_TEST_GRADING, "42");
+		job.claim("token", NOW, NOW.plusMinutes(5));
+
+		job.release(NOW);
+
+		assertThat(job.getStatus()).isEqualTo(AsyncJobStatus.PENDING);
+		assertThat(job.getAttemptCount()).isZero();
+		assertThat(job.getNextAttemptAt()).isEqualTo(NOW);
+	}
+}
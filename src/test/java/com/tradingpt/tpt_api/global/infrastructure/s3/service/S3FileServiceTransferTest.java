@@ -0,0 +1,140 @@
+package com.tradingpt.tpt_api.global.infrastructure.s3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.tradingpt.tpt_api.global.config.S3Config;
+import com.tradingpt.tpt_api.global.infrastructure.s3.response.S3UploadResult;
+
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+
+/**
+ * S3 병렬 전송 검증 (LocalStack)
+ *
+ * <p>멀티파트 임계값을 넘는 파일이 파트 단위로 나뉘어 올라간 뒤 원본과 같은 바이트로 복원되는지,
+ * 여러 파일의 비동기 업로드를 한 번에 기다릴 수 있는지 확인한다.
+ *
+ * <p>Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3FileServiceTransferTest {
+
+	@Container
+	static final LocalStackContainer LOCALSTACK = new LocalStackContainer(
+		DockerImageName.parse("localstack/localstack:3.4"))
+		.withServices(LocalStackContainer.Service.S3);
+
+	private static final String PUBLIC_BUCKET = "tpt-public";
+	private static final String PRIVATE_BUCKET = "tpt-private";
+
+	private static S3Client s3Client;
+	private static S3AsyncClient s3AsyncClient;
+	private static S3TransferManager transferManager;
+	private static ThreadPoolTaskExecutor uploadExecutor;
+	private static S3FileServiceImpl s3FileService;
+
+	@BeforeAll
+	static void setUp() {
+		S3Config config = new S3Config();
+		ReflectionTestUtils.setField(config, "accessKey", LOCALSTACK.getAccessKey());
+		ReflectionTestUtils.setField(config, "secretKey", LOCALSTACK.getSecretKey());
+		ReflectionTestUtils.setField(config, "region", LOCALSTACK.getRegion());
+		ReflectionTestUtils.setField(config, "endpoint", LOCALSTACK.getEndpoint().toString());
+		ReflectionTestUtils.setField(config, "partSizeBytes", 5L * 1024 * 1024);
+		ReflectionTestUtils.setField(config, "targetThroughputGbps", 1.0);
+
+		s3Client = config.s3Client();
+		s3AsyncClient = config.s3AsyncClient();
+		transferManager = config.s3TransferManager(s3AsyncClient);
+
+		uploadExecutor = new ThreadPoolTaskExecutor();
+		uploadExecutor.setCorePoolSize(4);
+		uploadExecutor.setThreadNamePrefix("s3-upload-test-");
+		uploadExecutor.initialize();
+
+		s3FileService = new S3FileServiceImpl(s3Client, config.s3Presigner(), transferManager, uploadExecutor);
+		ReflectionTestUtils.setField(s3FileService, "publicBucket", PUBLIC_BUCKET);
+		ReflectionTestUtils.setField(s3FileService, "privateBucket", PRIVATE_BUCKET);
+
+		s3Client.createBucket(builder -> builder.bucket(PUBLIC_BUCKET));
+		s3Client.createBucket(builder -> builder.bucket(PRIVATE_BUCKET));
+	}
+
+	@AfterAll
+	static void tearDown() {
+		if (transferManager != null) {
+			transferManager.close();
+			s3AsyncClient.close();
+			s3Client.close();
+			uploadExecutor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("임계값 이상 파일은 멀티파트로 올라가고 원본 바이트와 같다")
+	void largeFileUploadedInParts() {
+		byte[] content = randomBytes(23 * 1024 * 1024); // 5MB 파트 5개
+		MockMultipartFile file = new MockMultipartFile("file", "lecture.mp4", "video/mp4", content);
+
+		S3UploadResult result = s3FileService.upload(file, "lectures");
+
+		byte[] stored = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+			.bucket(PUBLIC_BUCKET)
+			.key(result.key())
+			.build()).asByteArray();
+		assertThat(stored).isEqualTo(content);
+		assertThat(s3Client.headObject(builder -> builder.bucket(PUBLIC_BUCKET).key(result.key())).eTag())
+			.as("멀티파트 업로드 ETag 는 '-파트수' 접미사를 가진다")
+			.contains("-");
+	}
+
+	@Test
+	@DisplayName("여러 파일의 비동기 업로드를 모아서 기다릴 수 있다")
+	void uploadsAwaitedTogether() {
+		List<byte[]> contents = List.of(
+			randomBytes(512 * 1024),
+			randomBytes(17 * 1024 * 1024),
+			randomBytes(3 * 1024 * 1024)
+		);
+
+		List<CompletableFuture<S3UploadResult>> futures = contents.stream()
+			.map(content -> s3FileService.uploadToPrivateAsync(
+				new MockMultipartFile("file", "assignment.pdf", "application/pdf", content), "assignments/1/1"))
+			.toList();
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+		for (int i = 0; i < contents.size(); i++) {
+			String key = futures.get(i).join().key();
+			assertThat(key).startsWith("assignments/1/1/");
+			byte[] stored = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+				.bucket(PRIVATE_BUCKET)
+				.key(key)
+				.build()).asByteArray();
+			assertThat(stored).isEqualTo(contents.get(i));
+		}
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+}
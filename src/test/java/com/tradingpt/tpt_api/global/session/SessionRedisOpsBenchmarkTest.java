@@ -0,0 +1,180 @@
+package com.tradingpt.tpt_api.global.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.FlushMode;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.tradingpt.tpt_api.domain.auth.security.AuthSessionUser;
+import com.tradingpt.tpt_api.domain.user.enums.CourseStatus;
+import com.tradingpt.tpt_api.domain.user.enums.InvestmentType;
+import com.tradingpt.tpt_api.domain.user.enums.MembershipLevel;
+
+/**
+ * 세션 저장 방식별 요청당 Redis 명령 수 비교
+ *
+ * <p>로그인 1회 + 1초 간격 인증 요청 {@value #REQUESTS}회를 같은 순서로 실행하고
+ * Redis 서버의 total_commands_processed 증가량과 세션 해시 크기를 비교한다.
+ * <ul>
+ *   <li>기존: IMMEDIATE + JDK 직렬화 + 매 요청 접근 시각 기록</li>
+ *   <li>변경: ON_SAVE + 압축 코덱 + 접근 시각 60초 간격 기록</li>
+ * </ul>
+ *
+ * <p>Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SessionRedisOpsBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(SessionRedisOpsBenchmarkTest.class);
+
+	private static final int REQUESTS = 300;
+
+	@Container
+	static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7.2-alpine")
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	private static final AuthSessionUser PRINCIPAL = new AuthSessionUser(
+		42L, "customer42", "ROLE_CUSTOMER",
+		MembershipLevel.PREMIUM, CourseStatus.AFTER_COMPLETION, InvestmentType.DAY, 7L);
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		totalCommands();  // 공유 커넥션 초기화 명령(HELLO 등)이 측정에 섞이지 않도록 미리 연결
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("ON_SAVE + 압축 코덱 + 접근 시각 제한은 기존 방식보다 Redis 명령 수와 세션 크기가 작다")
+	void compareRedisOpsPerRequest() {
+		Result legacy = run("legacy",
+			new JdkSerializationRedisSerializer(getClass().getClassLoader()), FlushMode.IMMEDIATE, Duration.ZERO);
+		Result optimized = run("optimized",
+			new CompactSessionSerializer(getClass().getClassLoader(), true), FlushMode.ON_SAVE, Duration.ofSeconds(60));
+
+		log.info("[session-bench] legacy:    commands={}, per-request={}, session-bytes={}",
+			legacy.commands(), legacy.perRequest(), legacy.sessionBytes());
+		log.info("[session-bench] optimized: commands={}, per-request={}, session-bytes={}",
+			optimized.commands(), optimized.perRequest(), optimized.sessionBytes());
+
+		assertThat(optimized.commands()).isLessThan(legacy.commands());
+		assertThat(optimized.sessionBytes()).isLessThan(legacy.sessionBytes());
+	}
+
+	@Test
+	@DisplayName("압축 코덱으로 기록한 세션은 기존 JDK 직렬화 값과 함께 읽을 수 있다")
+	void compactCodecReadsBothFormats() {
+		CompactSessionSerializer compact = new CompactSessionSerializer(getClass().getClassLoader(), true);
+		JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer(getClass().getClassLoader());
+		SecurityContextImpl context = securityContext();
+
+		SecurityContextImpl fromCompact = (SecurityContextImpl)compact.deserialize(compact.serialize(context));
+		SecurityContextImpl fromJdk = (SecurityContextImpl)compact.deserialize(jdk.serialize(context));
+
+		assertThat(fromCompact.getAuthentication().getPrincipal()).isEqualTo(PRINCIPAL);
+		assertThat(fromCompact.getAuthentication().getDetails()).isEqualTo(context.getAuthentication().getDetails());
+		assertThat(fromCompact.getAuthentication().getAuthorities())
+			.containsExactlyElementsOf(context.getAuthentication().getAuthorities());
+		assertThat(fromJdk.getAuthentication().getPrincipal()).isEqualTo(PRINCIPAL);
+		assertThat(compact.deserialize(compact.serialize(1_700_000_000_000L))).isEqualTo(1_700_000_000_000L);
+		assertThat(compact.deserialize(compact.serialize(86400))).isEqualTo(86400);
+	}
+
+	private Result run(String namespace, RedisSerializer<Object> serializer, FlushMode flushMode,
+		Duration accessTimeWriteInterval) {
+		RedisTemplate<String, Object> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.setKeySerializer(RedisSerializer.string());
+		template.setHashKeySerializer(RedisSerializer.string());
+		template.setDefaultSerializer(serializer);
+		template.afterPropertiesSet();
+
+		RedisIndexedSessionRepository redisRepository = new RedisIndexedSessionRepository(template);
+		redisRepository.setRedisKeyNamespace("bench:" + namespace);
+		redisRepository.setDefaultSerializer(serializer);
+		redisRepository.setFlushMode(flushMode);
+		AccessTimeThrottlingSessionRepository repository =
+			new AccessTimeThrottlingSessionRepository(redisRepository, accessTimeWriteInterval);
+
+		long before = totalCommands();
+
+		// 로그인 요청
+		AccessTimeThrottlingSessionRepository.ThrottledSession login = repository.createSession();
+		login.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext());
+		repository.save(login);
+		String sessionId = login.getId();
+
+		// 1초 간격 인증 요청 (SessionRepositoryFilter 와 같은 순서: 조회 → 접근 시각 갱신 → 저장)
+		Instant now = login.getLastAccessedTime();
+		for (int i = 1; i <= REQUESTS; i++) {
+			AccessTimeThrottlingSessionRepository.ThrottledSession session = repository.findById(sessionId);
+			session.setLastAccessedTime(now.plusSeconds(i));
+			SecurityContextImpl context = session.getAttribute(
+				HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+			assertThat(context.getAuthentication().getPrincipal()).isEqualTo(PRINCIPAL);
+			repository.save(session);
+		}
+
+		long commands = totalCommands() - before - 1;  // 측정용 INFO 1회 제외
+		return new Result(commands, (double)commands / (REQUESTS + 1),
+			sessionBytes("bench:" + namespace + ":sessions:" + sessionId));
+	}
+
+	private static SecurityContextImpl securityContext() {
+		UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+			PRINCIPAL, null, List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+		authentication.setDetails(new WebAuthenticationDetails("10.0.0.1", null));
+		return new SecurityContextImpl(authentication);
+	}
+
+	private static long totalCommands() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			return Long.parseLong(connection.serverCommands().info("stats").getProperty("total_commands_processed"));
+		}
+	}
+
+	private long sessionBytes(String key) {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			Map<byte[], byte[]> hash = connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8));
+			return hash.entrySet().stream()
+				.mapToLong(entry -> entry.getKey().length + entry.getValue().length)
+				.sum();
+		}
+	}
+
+	private record Result(long commands, double perRequest, long sessionBytes) {
+	}
+}
@@ -0,0 +1,42 @@
+package com.tradingpt.tpt_api.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL 컨테이너 기반 JPA 슬라이스 테스트 공통 설정
+ *
+ * <p>테스트 클래스마다 컨테이너를 새로 띄우지 않도록 JVM 안에서 MySQL 컨테이너 하나를 공유한다.
+ * (종료는 JVM 종료 시 Testcontainers 가 정리)
+ * <ul>
+ *   <li>general log(TABLE): 실행된 SQL 을 mysql.general_log 에서 꺼내 EXPLAIN 할 수 있도록</li>
+ *   <li>rewriteBatchedStatements: 운영 데이터소스와 같이 JDBC 배치를 다건 INSERT 로 묶어 보냄</li>
+ * </ul>
+ *
+ * <p>application.yml 의 {@code spring.profiles.active: ${SPRING_PROFILES_ACTIVE}} 는 기본값이 없어
+ * 환경 변수가 없으면 컨텍스트가 뜨지 않는다. 프로필 파일이 없는 index-test 로 채워 application.yml 공통 설정만 쓰고,
+ * 데이터소스는 컨테이너({@link ServiceConnection})로 대체한다.
+ *
+ * <p>추가 속성은 하위 클래스에서 {@code @TestPropertySource} 로 지정한다. Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+	"SPRING_PROFILES_ACTIVE=index-test",
+	"spring.jpa.hibernate.ddl-auto=create"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public abstract class MySqlContainerTest {
+
+	@ServiceConnection
+	protected static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36")
+		.withUsername("root")
+		.withUrlParam("rewriteBatchedStatements", "true")
+		.withCommand("--general-log=1", "--log-output=TABLE");
+
+	static {
+		MYSQL.start();
+	}
+}